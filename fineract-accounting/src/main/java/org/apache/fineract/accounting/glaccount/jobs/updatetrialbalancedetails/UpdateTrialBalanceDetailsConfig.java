@@ -18,7 +18,8 @@
  */
 package org.apache.fineract.accounting.glaccount.jobs.updatetrialbalancedetails;
 
-import org.apache.fineract.accounting.glaccount.domain.TrialBalanceRepositoryWrapper;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
 import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceServiceFactory;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.springframework.batch.core.Job;
@@ -30,6 +31,8 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -42,7 +45,9 @@ public class UpdateTrialBalanceDetailsConfig {
     @Autowired
     private RoutingDataSourceServiceFactory dataSourceServiceFactory;
     @Autowired
-    private TrialBalanceRepositoryWrapper trialBalanceRepositoryWrapper;
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     protected Step updateTrialBalanceDetailsStep() {
@@ -58,6 +63,19 @@ public class UpdateTrialBalanceDetailsConfig {
 
     @Bean
     public UpdateTrialBalanceDetailsTasklet updateTrialBalanceDetailsTasklet() {
-        return new UpdateTrialBalanceDetailsTasklet(dataSourceServiceFactory, trialBalanceRepositoryWrapper);
+        return new UpdateTrialBalanceDetailsTasklet(dataSourceServiceFactory, jdbcTemplate, updateTrialBalanceDetailsTaskExecutor());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor updateTrialBalanceDetailsTaskExecutor() {
+        // every office is submitted at once, so the queue is unbounded and the pool size limits the parallel calculations
+        int poolSize = Math.max(1, fineractProperties.getJob().getTrialBalanceThreads());
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("update-trial-balance-");
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        VirtualThreadSupport.configure(taskExecutor, fineractProperties, "update-trial-balance-");
+        return taskExecutor;
     }
 }
@@ -20,80 +20,169 @@ package org.apache.fineract.accounting.glaccount.jobs.updatetrialbalancedetails;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.glaccount.domain.TrialBalance;
-import org.apache.fineract.accounting.glaccount.domain.TrialBalanceRepositoryWrapper;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceServiceFactory;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.util.CollectionUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/**
+ * Builds the trial balance rows of every pending transaction date set-based: the journal entries of an office are
+ * aggregated with one query, and the closing balances are calculated as a running sum on top of the last closing balance
+ * of the office and account. The offices can be calculated on the threads of the job's executor, the rows are written with batch inserts
+ * in the transaction of the step, so either the rows of all offices are written or none of them.
+ * <p>
+ * Every office resumes after its own last trial balance date, so an office is not skipped if an earlier run wrote the
+ * rows of the other offices only.
+ * <p>
+ * The closing balances of the rows written before the running sum was introduced are recalculated by the
+ * {@code 0176_recalculate_trial_balance_closing_balance} changeset, so they can be used as opening balances.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class UpdateTrialBalanceDetailsTasklet implements Tasklet {
 
+    public static final String OFFICES_TOTAL = "trialBalanceOfficesTotal";
+    public static final String OFFICES_PROCESSED = "trialBalanceOfficesProcessed";
+    public static final String ROWS_WRITTEN = "trialBalanceRowsWritten";
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    private static final LocalDate FIRST_TRANSACTION_DATE = LocalDate.of(2010, 1, 1);
+
+    private static final String PENDING_OFFICES_SQL = """
+                SELECT je.office_id, COALESCE(tb.last_transaction_date, ?) AS last_transaction_date
+                FROM acc_gl_journal_entry je
+                LEFT JOIN (SELECT office_id, MAX(created_date) AS last_transaction_date FROM m_trial_balance GROUP BY office_id) tb
+                    ON tb.office_id = je.office_id
+                WHERE je.transaction_date > COALESCE(tb.last_transaction_date, ?) AND je.transaction_date < ?
+                GROUP BY je.office_id, tb.last_transaction_date
+            """;
+
+    // rows of the last transaction date of every account, ordered so the row of the latest entry date is read last
+    private static final String CLOSING_BALANCES_SQL = """
+                SELECT tb.account_id, tb.closing_balance
+                FROM m_trial_balance tb
+                INNER JOIN (SELECT account_id, MAX(created_date) AS created_date FROM m_trial_balance
+                        WHERE office_id = ? AND created_date <= ? GROUP BY account_id) lt
+                    ON lt.account_id = tb.account_id AND lt.created_date = tb.created_date
+                WHERE tb.office_id = ?
+                ORDER BY tb.account_id, tb.entry_date
+            """;
+
+    private static final String NEW_TRIAL_BALANCES_SQL = """
+                SELECT je.office_id, je.account_id, SUM(CASE WHEN je.type_enum = 1 THEN (-1) * je.amount ELSE je.amount END) AS amount,
+                    DATE(je.entry_date) AS entry_date, je.transaction_date AS created_date
+                FROM acc_gl_journal_entry je
+                WHERE je.office_id = ? AND je.transaction_date > ? AND je.transaction_date < ?
+                GROUP BY je.office_id, je.account_id, je.transaction_date, DATE(je.entry_date)
+                ORDER BY je.account_id, je.transaction_date, DATE(je.entry_date)
+            """;
+
+    private static final String INSERT_TRIAL_BALANCE_SQL = """
+                INSERT INTO m_trial_balance (office_id, account_id, amount, entry_date, created_date, closing_balance) VALUES (?,?,?,?,?,?)
+            """;
+
     private final RoutingDataSourceServiceFactory dataSourceServiceFactory;
-    private final TrialBalanceRepositoryWrapper trialBalanceRepositoryWrapper;
+    // bound to the transaction of the step, the tenant data source is only used for the reads of the calculating threads
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor taskExecutor;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSourceServiceFactory.determineDataSourceService().retrieveDataSource());
-        final StringBuilder tbGapSqlBuilder = new StringBuilder(500);
-        tbGapSqlBuilder.append("select distinct(je.transaction_date) ").append("from acc_gl_journal_entry je ")
-                .append("where je.transaction_date > (select coalesce(MAX(created_date),'2010-01-01') from m_trial_balance)");
-        final List<LocalDate> tbGaps = jdbcTemplate.queryForList(tbGapSqlBuilder.toString(), LocalDate.class);
-        for (LocalDate tbGap : tbGaps) {
-            int days = DateUtils.getExactDifferenceInDays(tbGap, DateUtils.getBusinessLocalDate());
-            if (days < 1) {
-                continue;
+        final JdbcTemplate tenantJdbcTemplate = new JdbcTemplate(
+                dataSourceServiceFactory.determineDataSourceService().retrieveDataSource());
+        // transactions of the current business date are not closed yet
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final Map<Long, LocalDate> lastTransactionDates = new LinkedHashMap<>();
+        jdbcTemplate.query(PENDING_OFFICES_SQL, rs -> {
+            lastTransactionDates.put(rs.getLong("office_id"), rs.getObject("last_transaction_date", LocalDate.class));
+        }, FIRST_TRANSACTION_DATE, FIRST_TRANSACTION_DATE, businessDate);
+        final List<Long> officeIds = new ArrayList<>(lastTransactionDates.keySet());
+
+        final ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        executionContext.putInt(OFFICES_TOTAL, officeIds.size());
+        final long startedAt = System.nanoTime();
+        long rowsWritten = 0;
+
+        final List<Future<List<TrialBalance>>> officeTrialBalances = new ArrayList<>(officeIds.size());
+        try {
+            for (Long officeId : officeIds) {
+                final LocalDate lastTransactionDate = lastTransactionDates.get(officeId);
+                officeTrialBalances.add(taskExecutor
+                        .submit(() -> calculateTrialBalances(tenantJdbcTemplate, officeId, lastTransactionDate, businessDate)));
             }
-            final StringBuilder sqlBuilder = new StringBuilder(600);
-            sqlBuilder.append("Insert Into m_trial_balance(office_id, account_id, Amount, entry_date, created_date,closing_balance) ")
-                    .append("Select je.office_id, je.account_id, SUM(CASE WHEN je.type_enum=1 THEN (-1) * je.amount ELSE je.amount END) ")
-                    .append("as Amount, Date(je.entry_date) as Entry_Date, je.transaction_date as Created_Date,sum(je.amount) as closing_balance ")
-                    .append("from acc_gl_journal_entry je WHERE je.transaction_date = ? ")
-                    .append("group by je.account_id, je.office_id, je.transaction_date, Date(je.entry_date)");
-            final int result = jdbcTemplate.update(sqlBuilder.toString(), tbGap);
-            log.debug("{}: Records affected by updateTrialBalanceDetails: {}", ThreadLocalContextUtil.getTenant().getName(), result);
-        }
-        String distinctOfficeQuery = "select distinct(office_id) from m_trial_balance where closing_balance is null group by office_id";
-        final List<Long> officeIds = jdbcTemplate.queryForList(distinctOfficeQuery, Long.class);
-        for (Long officeId : officeIds) {
-            String distinctAccountQuery = "select distinct(account_id) from m_trial_balance where office_id=? and closing_balance is null group by account_id";
-            final List<Long> accountIds = jdbcTemplate.queryForList(distinctAccountQuery, Long.class, officeId);
-            for (Long accountId : accountIds) {
-                final String closingBalanceQuery = "select closing_balance from m_trial_balance where office_id=? and account_id=? and closing_balance "
-                        + "is not null order by created_date desc, entry_date desc limit 1";
-                List<BigDecimal> closingBalanceData = jdbcTemplate.queryForList(closingBalanceQuery, BigDecimal.class, officeId, accountId);
-                List<TrialBalance> tbRows = trialBalanceRepositoryWrapper.findNewByOfficeAndAccount(officeId, accountId);
-                BigDecimal closingBalance = null;
-                if (!CollectionUtils.isEmpty(closingBalanceData)) {
-                    closingBalance = closingBalanceData.get(0);
-                }
-                if (CollectionUtils.isEmpty(closingBalanceData)) {
-                    closingBalance = BigDecimal.ZERO;
-                    for (TrialBalance row : tbRows) {
-                        closingBalance = closingBalance.add(row.getAmount());
-                        row.setClosingBalance(closingBalance);
-                    }
-                } else {
-                    for (TrialBalance tbRow : tbRows) {
-                        if (closingBalance != null) {
-                            closingBalance = closingBalance.add(tbRow.getAmount());
-                        }
-                        tbRow.setClosingBalance(closingBalance);
-                    }
-                }
-                trialBalanceRepositoryWrapper.save(tbRows);
+            // rows are written from this thread only, as soon as the office is calculated
+            for (int i = 0; i < officeTrialBalances.size(); i++) {
+                final List<TrialBalance> trialBalances = officeTrialBalances.get(i).get();
+                write(trialBalances);
+                rowsWritten += trialBalances.size();
+                contribution.incrementWriteCount(trialBalances.size());
+                executionContext.putInt(OFFICES_PROCESSED, i + 1);
+                executionContext.putLong(ROWS_WRITTEN, rowsWritten);
             }
+        } finally {
+            // no-op for the offices already written, stops the calculation of the others if the step fails
+            officeTrialBalances.forEach(officeTrialBalance -> officeTrialBalance.cancel(true));
         }
+
+        final long millis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), 1L);
+        log.info("{}: Trial balance updated for {} offices with {} rows in {} ms ({} rows/s)", ThreadLocalContextUtil.getTenant().getName(),
+                officeIds.size(), rowsWritten, millis, rowsWritten * 1000 / millis);
         return RepeatStatus.FINISHED;
     }
+
+    private List<TrialBalance> calculateTrialBalances(final JdbcTemplate jdbcTemplate, final Long officeId,
+            final LocalDate lastTransactionDate, final LocalDate businessDate) {
+        final Map<Long, BigDecimal> closingBalances = new HashMap<>();
+        jdbcTemplate.query(CLOSING_BALANCES_SQL, rs -> {
+            closingBalances.put(rs.getLong("account_id"), rs.getBigDecimal("closing_balance"));
+        }, officeId, lastTransactionDate, officeId);
+        final List<TrialBalance> trialBalances = jdbcTemplate.query(NEW_TRIAL_BALANCES_SQL,
+                (rs, rowNum) -> TrialBalance.getInstance(rs.getLong("office_id"), rs.getLong("account_id"), rs.getBigDecimal("amount"),
+                        rs.getObject("entry_date", LocalDate.class), rs.getObject("created_date", LocalDate.class)),
+                officeId, lastTransactionDate, businessDate);
+        return calculateClosingBalances(trialBalances, closingBalances);
+    }
+
+    /**
+     * Sets the closing balances of the new rows of an office, ordered by account, transaction date and entry date, as the
+     * running sum of their amounts on top of the last closing balance of the account.
+     */
+    static List<TrialBalance> calculateClosingBalances(final List<TrialBalance> trialBalances,
+            final Map<Long, BigDecimal> closingBalances) {
+        for (TrialBalance trialBalance : trialBalances) {
+            final BigDecimal closingBalance = closingBalances.getOrDefault(trialBalance.getGlAccountId(), BigDecimal.ZERO)
+                    .add(trialBalance.getAmount());
+            closingBalances.put(trialBalance.getGlAccountId(), closingBalance);
+            trialBalance.setClosingBalance(closingBalance);
+        }
+        return trialBalances;
+    }
+
+    private void write(final List<TrialBalance> trialBalances) {
+        jdbcTemplate.batchUpdate(INSERT_TRIAL_BALANCE_SQL, trialBalances, WRITE_BATCH_SIZE, (ps, trialBalance) -> {
+            ps.setLong(1, trialBalance.getOfficeId());
+            ps.setLong(2, trialBalance.getGlAccountId());
+            ps.setBigDecimal(3, trialBalance.getAmount());
+            ps.setObject(4, trialBalance.getEntryDate());
+            ps.setObject(5, trialBalance.getTransactionDate());
+            ps.setBigDecimal(6, trialBalance.getClosingBalance());
+        });
+    }
 }
@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+
+/**
+ * Sets up the static and thread-local state the domain classes expect without starting the Spring context.
+ *
+ * JMH runs the benchmark methods on its own worker threads, so the states using this helper must be
+ * {@link org.openjdk.jmh.annotations.Scope#Thread} scoped and call {@link #initialize(LocalDate)} from their setup.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {}
+
+    public static void initialize(final LocalDate businessDate) {
+        initializeMoneyHelper(RoundingMode.HALF_EVEN);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "UTC", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate,
+                BusinessDateType.COB_DATE, businessDate.minusDays(1))));
+    }
+
+    public static void reset() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    private static void initializeMoneyHelper(final RoundingMode roundingMode) {
+        final ConfigurationDomainService configurationDomainService = (ConfigurationDomainService) Proxy.newProxyInstance(
+                BenchmarkContext.class.getClassLoader(), new Class<?>[] { ConfigurationDomainService.class }, (proxy, method, args) -> {
+                    if ("getRoundingMode".equals(method.getName())) {
+                        return roundingMode.ordinal();
+                    }
+                    throw new UnsupportedOperationException("Configuration is not available in benchmarks: " + method.getName());
+                });
+        try {
+            final MoneyHelper moneyHelper = new MoneyHelper();
+            final Field field = MoneyHelper.class.getDeclaredField("configurationDomainService");
+            field.setAccessible(true);
+            field.set(moneyHelper, configurationDomainService);
+            moneyHelper.initialize();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to initialize MoneyHelper", e);
+        }
+    }
+}
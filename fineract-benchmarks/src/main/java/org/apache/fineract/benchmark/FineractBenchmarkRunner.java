@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler and compares throughput and allocation rate with a previous run.
+ *
+ * Arguments:
+ * <ul>
+ * <li>--include &lt;regexp&gt; - benchmarks to run, all of them by default</li>
+ * <li>--baseline &lt;file&gt; - results of a previous run to compare with</li>
+ * <li>--output &lt;file&gt; - where to store the results of this run, so it can be used as the next baseline</li>
+ * </ul>
+ */
+@Slf4j
+public final class FineractBenchmarkRunner {
+
+    private static final String OPS = "ops";
+    private static final String ALLOC_RATE = "alloc.rate";
+    private static final String ALLOC_RATE_NORM = "alloc.rate.norm";
+
+    private FineractBenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = ".*";
+        Path baseline = null;
+        Path output = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--include" -> include = args[i + 1];
+                case "--baseline" -> baseline = Path.of(args[i + 1]);
+                case "--output" -> output = Path.of(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder().include(include).addProfiler(GCProfiler.class);
+        final Collection<RunResult> results = new Runner(options.build()).run();
+        final Properties current = toProperties(results);
+
+        if (output != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                current.store(writer, "Fineract JMH results");
+            }
+            log.info("Benchmark results are stored in {}", output);
+        }
+        final Properties previous = new Properties();
+        if (baseline != null) {
+            try (Reader reader = Files.newBufferedReader(baseline, StandardCharsets.UTF_8)) {
+                previous.load(reader);
+            }
+        }
+        report(previous, current);
+    }
+
+    private static Properties toProperties(final Collection<RunResult> results) {
+        final Properties properties = new Properties();
+        for (RunResult result : results) {
+            final String label = label(result.getParams());
+            properties.setProperty(label + "." + OPS, String.valueOf(result.getPrimaryResult().getScore()));
+            final Result<?> allocRate = result.getSecondaryResults().get("gc." + ALLOC_RATE);
+            if (allocRate != null) {
+                properties.setProperty(label + "." + ALLOC_RATE, String.valueOf(allocRate.getScore()));
+            }
+            final Result<?> allocRateNorm = result.getSecondaryResults().get("gc." + ALLOC_RATE_NORM);
+            if (allocRateNorm != null) {
+                properties.setProperty(label + "." + ALLOC_RATE_NORM, String.valueOf(allocRateNorm.getScore()));
+            }
+        }
+        return properties;
+    }
+
+    private static String label(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark().substring(FineractBenchmarkRunner.class.getPackageName().length() + 1);
+        if (params.getParamsKeys().isEmpty()) {
+            return benchmark;
+        }
+        return benchmark + params.getParamsKeys().stream().map(key -> key + "=" + params.getParam(key))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static void report(final Properties baseline, final Properties current) {
+        log.info(String.format("%-100s %18s %18s %10s", "Benchmark", "Baseline", "Current", "Change"));
+        new TreeMap<>(current).forEach((key, value) -> {
+            final double currentScore = Double.parseDouble((String) value);
+            final String baselineValue = baseline.getProperty((String) key);
+            if (baselineValue == null) {
+                log.info(String.format("%-100s %18s %18.2f %10s", key, "-", currentScore, "-"));
+                return;
+            }
+            final double baselineScore = Double.parseDouble(baselineValue);
+            final double change = baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore * 100;
+            log.info(String.format("%-100s %18.2f %18.2f %+9.1f%%", key, baselineScore, currentScore, change));
+        });
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.loan;
+
+import static org.apache.fineract.portfolio.common.domain.DayOfWeekType.INVALID;
+import static org.apache.fineract.portfolio.common.domain.PeriodFrequencyType.MONTHS;
+import static org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType.CUMULATIVE;
+import static org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod.SAME_AS_REPAYMENT_PERIOD;
+import static org.apache.fineract.portfolio.loanproduct.domain.LoanPreCloseInterestCalculationStrategy.NONE;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmark.BenchmarkContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.AbstractCumulativeLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.CumulativeDecliningBalanceInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.CumulativeFlatInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultPaymentPeriodsInOneYearCalculator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModel;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleProcessingType;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.RepaymentStartDateType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Schedule generation through {@link AbstractCumulativeLoanScheduleGenerator} for declining balance and flat loans.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CumulativeLoanScheduleBenchmark {
+
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "US Dollar", 2, null, "USD", "$");
+    private static final LocalDate DISBURSED_ON = LocalDate.of(2024, 1, 1);
+
+    @Param({ "12", "360" })
+    public int installments;
+
+    @Param({ "DECLINING_BALANCE", "FLAT" })
+    public InterestMethod interestMethod;
+
+    private MathContext mc;
+    private HolidayDetailDTO holidayDetailDTO;
+    private AbstractCumulativeLoanScheduleGenerator scheduleGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkContext.initialize(DISBURSED_ON);
+        mc = new MathContext(12, RoundingMode.HALF_EVEN);
+        final WorkingDays workingDays = new WorkingDays("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR,SA,SU",
+                RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+        holidayDetailDTO = new HolidayDetailDTO(false, new ArrayList<>(), workingDays, false, false);
+        scheduleGenerator = interestMethod.isDecliningBalance()
+                ? new CumulativeDecliningBalanceInterestLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                        new DefaultPaymentPeriodsInOneYearCalculator())
+                : new CumulativeFlatInterestLoanScheduleGenerator(new DefaultScheduledDateGenerator(),
+                        new DefaultPaymentPeriodsInOneYearCalculator());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.reset();
+    }
+
+    @Benchmark
+    public LoanScheduleModel generateSchedule() {
+        // the terms are mutated during generation (loan end date, total interest), so they are assembled for every run
+        return scheduleGenerator.generate(mc, loanApplicationTerms(), Set.of(), holidayDetailDTO);
+    }
+
+    private LoanApplicationTerms loanApplicationTerms() {
+        final Money principal = Money.of(CURRENCY, BigDecimal.valueOf(100_000L), mc);
+        final BigDecimal interestRatePerPeriod = BigDecimal.valueOf(0.8325);
+        final BigDecimal annualNominalInterestRate = BigDecimal.valueOf(9.99);
+        return LoanApplicationTerms.assembleFrom(CURRENCY, installments, MONTHS, installments, 1, MONTHS, null, INVALID,
+                AmortizationMethod.EQUAL_INSTALLMENTS, interestMethod, interestRatePerPeriod, MONTHS, annualNominalInterestRate,
+                SAME_AS_REPAYMENT_PERIOD, false, principal, DISBURSED_ON, null, DISBURSED_ON.plusMonths(1), null, null, null, null, null,
+                Money.zero(CURRENCY, mc), false, null, new ArrayList<>(), principal.getAmount(), null, DaysInMonthType.ACTUAL,
+                DaysInYearType.ACTUAL, false, null, null, null, null, null, BigDecimal.ZERO, null, NONE, null, principal.getAmount(),
+                new ArrayList<>(), true, 0, false, holidayDetailDTO, false, false, false, null, false, false, null, false,
+                RepaymentStartDateType.DISBURSEMENT_DATE, DISBURSED_ON, CUMULATIVE, LoanScheduleProcessingType.HORIZONTAL, null, false,
+                null, null, false);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.loan;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmark.BenchmarkContext;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recalculation of the loan summary totals through {@link LoanSummary#updateSummary}, which runs after every
+ * transaction processed on a loan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoanSummaryBenchmark {
+
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+    private static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2024, 1, 1);
+
+    @Param({ "12", "360" })
+    public int installments;
+
+    private Money principal;
+    private List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments;
+    private LoanSummary loanSummary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkContext.initialize(DISBURSEMENT_DATE.plusMonths(installments));
+        principal = Money.of(CURRENCY, BigDecimal.valueOf(installments * 1_000L));
+        repaymentScheduleInstallments = new ArrayList<>(installments);
+        for (int i = 1; i <= installments; i++) {
+            LoanRepaymentScheduleInstallment installment = new LoanRepaymentScheduleInstallment(null, i,
+                    DISBURSEMENT_DATE.plusMonths(i - 1L), DISBURSEMENT_DATE.plusMonths(i), BigDecimal.valueOf(1_000L),
+                    BigDecimal.valueOf(83_33L + i, 2), BigDecimal.valueOf(5L), BigDecimal.ZERO, false, new HashSet<>());
+            installment.setCreditedPrincipal(BigDecimal.valueOf(i % 7, 2));
+            repaymentScheduleInstallments.add(installment);
+        }
+        loanSummary = LoanSummary.create(BigDecimal.ZERO);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.reset();
+    }
+
+    @Benchmark
+    public LoanSummary updateSummary() {
+        loanSummary.updateSummary(CURRENCY, principal, repaymentScheduleInstallments, null);
+        return loanSummary;
+    }
+}
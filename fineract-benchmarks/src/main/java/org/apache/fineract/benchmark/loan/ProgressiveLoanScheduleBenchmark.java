@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.loan;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmark.BenchmarkContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePlan;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanRepaymentScheduleModelData;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ProgressiveLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.calc.data.PeriodDueDetails;
+import org.apache.fineract.portfolio.loanproduct.calc.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.calc.data.RepaymentPeriod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Progressive loan schedule generation and the repayment processing done on the interest model by
+ * {@link ProgressiveEMICalculator}.
+ *
+ * The repayment benchmarks drive the same EMI calculator calls the AdvancedPaymentScheduleTransactionProcessor
+ * issues for every repayment (due amount lookup, interest and principal payment, EMI recalculation), without the
+ * need of a managed Loan aggregate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgressiveLoanScheduleBenchmark {
+
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "US Dollar", 2, null, "USD", "$");
+    private static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2024, 1, 1);
+
+    @Param({ "12", "360" })
+    public int installments;
+
+    private MathContext mc;
+    private ProgressiveEMICalculator emiCalculator;
+    private ProgressiveLoanScheduleGenerator scheduleGenerator;
+    private LoanRepaymentScheduleModelData modelData;
+    private ProgressiveLoanInterestScheduleModel disbursedModel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkContext.initialize(DISBURSEMENT_DATE.plusMonths(installments));
+        mc = new MathContext(12, RoundingMode.HALF_EVEN);
+        emiCalculator = new ProgressiveEMICalculator();
+        final DefaultScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+        scheduleGenerator = new ProgressiveLoanScheduleGenerator(scheduledDateGenerator, emiCalculator);
+        modelData = new LoanRepaymentScheduleModelData(DISBURSEMENT_DATE, CURRENCY, BigDecimal.valueOf(100_000L), DISBURSEMENT_DATE,
+                installments, 1, "MONTHS", BigDecimal.valueOf(9.99), false, DaysInMonthType.ACTUAL, DaysInYearType.ACTUAL, BigDecimal.ZERO,
+                null, null, false);
+
+        final LoanApplicationTerms loanApplicationTerms = LoanApplicationTerms.assembleFrom(modelData, mc);
+        final List<LoanScheduleModelRepaymentPeriod> periods = scheduledDateGenerator.generateRepaymentPeriods(mc, DISBURSEMENT_DATE,
+                loanApplicationTerms, null);
+        disbursedModel = emiCalculator.generatePeriodInterestScheduleModel(periods,
+                loanApplicationTerms.toLoanProductRelatedDetailMinimumData(), null, null, mc);
+        emiCalculator.addDisbursement(disbursedModel, DISBURSEMENT_DATE, Money.of(CURRENCY, modelData.disbursementAmount(), mc));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.reset();
+    }
+
+    @Benchmark
+    public LoanSchedulePlan generateSchedule() {
+        return scheduleGenerator.generate(mc, modelData);
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel repayOnDueDates() {
+        final ProgressiveLoanInterestScheduleModel model = disbursedModel.deepCopy(mc);
+        for (RepaymentPeriod repaymentPeriod : List.copyOf(model.repaymentPeriods())) {
+            final LocalDate dueDate = repaymentPeriod.getDueDate();
+            final PeriodDueDetails dueAmounts = emiCalculator.getDueAmounts(model, dueDate, dueDate);
+            emiCalculator.payInterest(model, dueDate, dueDate, dueAmounts.getDueInterest());
+            emiCalculator.payPrincipal(model, dueDate, dueDate, dueAmounts.getDuePrincipal());
+        }
+        return model;
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel repayEarlyWithEmiRecalculation() {
+        final ProgressiveLoanInterestScheduleModel model = disbursedModel.deepCopy(mc);
+        for (RepaymentPeriod repaymentPeriod : List.copyOf(model.repaymentPeriods())) {
+            final LocalDate dueDate = repaymentPeriod.getDueDate();
+            final LocalDate transactionDate = repaymentPeriod.getFromDate().plusDays(10);
+            final PeriodDueDetails dueAmounts = emiCalculator.getDueAmounts(model, dueDate, transactionDate);
+            emiCalculator.payInterest(model, dueDate, transactionDate, dueAmounts.getDueInterest());
+            emiCalculator.payPrincipal(model, dueDate, transactionDate, dueAmounts.getDuePrincipal());
+        }
+        return model;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.monetary;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmark.BenchmarkContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.FastMoney;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link Money} operations used in the inner loops of schedule generation and repayment processing, and the
+ * {@link FastMoney} accumulation used instead of them in the calculators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "US Dollar", 2, null, "USD", "$");
+
+    @Param({ "1000", "100000" })
+    public int operations;
+
+    private MathContext mc;
+    private Money[] amounts;
+    private BigDecimal rate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkContext.initialize(LocalDate.of(2024, 1, 1));
+        mc = new MathContext(12, RoundingMode.HALF_EVEN);
+        rate = new BigDecimal("0.0078333333");
+        amounts = new Money[operations];
+        for (int i = 0; i < operations; i++) {
+            amounts[i] = Money.of(CURRENCY, BigDecimal.valueOf(100_00L + i * 37L, 2), mc);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.reset();
+    }
+
+    @Benchmark
+    public Money plus() {
+        Money total = Money.zero(CURRENCY, mc);
+        for (Money amount : amounts) {
+            total = total.plus(amount, mc);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money plusAndMinus() {
+        Money balance = Money.of(CURRENCY, BigDecimal.valueOf(1_000_000L), mc);
+        for (int i = 0; i < amounts.length; i++) {
+            balance = (i & 1) == 0 ? balance.minus(amounts[i], mc) : balance.plus(amounts[i], mc);
+        }
+        return balance;
+    }
+
+    @Benchmark
+    public Money plusFastMoney() {
+        FastMoney total = FastMoney.zero(CURRENCY);
+        for (Money amount : amounts) {
+            total = total.plus(amount);
+        }
+        return total.toMoney(mc);
+    }
+
+    @Benchmark
+    public Money plusAndMinusFastMoney() {
+        FastMoney balance = FastMoney.of(CURRENCY, BigDecimal.valueOf(1_000_000L));
+        for (int i = 0; i < amounts.length; i++) {
+            balance = (i & 1) == 0 ? balance.minus(amounts[i]) : balance.plus(amounts[i]);
+        }
+        return balance.toMoney(mc);
+    }
+
+    @Benchmark
+    public Money interestAccrual() {
+        Money interest = Money.zero(CURRENCY, mc);
+        for (Money amount : amounts) {
+            interest = interest.plus(amount.multiplyRetainScale(rate, mc), mc);
+        }
+        return interest;
+    }
+
+    @Benchmark
+    public Money installmentSplit() {
+        Money total = Money.zero(CURRENCY, mc);
+        for (Money amount : amounts) {
+            total = total.plus(amount.dividedBy(12L, mc).multipliedBy(12L, mc), mc);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int comparisons() {
+        final Money zero = Money.zero(CURRENCY, mc);
+        int positive = 0;
+        for (Money amount : amounts) {
+            if (amount.isGreaterThan(zero) && !amount.isZero(mc)) {
+                positive++;
+            }
+        }
+        return positive;
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.savings;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.benchmark.BenchmarkContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
+import org.apache.fineract.portfolio.savings.DepositAccountType;
+import org.apache.fineract.portfolio.savings.SavingsAccountTransactionType;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationDaysInYearType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationMode;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountApplicationTimelineData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountSummaryData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountSubStatusEnum;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionDataSummaryWrapper;
+import org.apache.fineract.portfolio.savings.domain.SavingsHelper;
+import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountInterestPostingServiceImpl;
+import org.apache.fineract.portfolio.savings.service.SavingsEnumerations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Interest calculation of a savings account through {@link SavingsAccountInterestPostingServiceImpl#calculateInterestUsing}
+ * with daily compounding and monthly posting.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SavingsInterestPostingBenchmark {
+
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "US Dollar", 2, null, "USD", "$");
+    private static final LocalDate ACTIVATED_ON = LocalDate.of(2020, 1, 1);
+
+    @Param({ "500", "5000" })
+    public int transactions;
+
+    @Param({ "STANDARD", "SCALED" })
+    public SavingsInterestCalculationMode mode;
+
+    private MathContext mc;
+    private LocalDate interestPostingUpToDate;
+    private SavingsAccountInterestPostingServiceImpl interestPostingService;
+    private SavingsAccountData savingsAccountData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mc = new MathContext(12, RoundingMode.HALF_EVEN);
+        // one transaction every day, the account is posted up to the last transaction date
+        interestPostingUpToDate = ACTIVATED_ON.plusDays(transactions);
+        BenchmarkContext.initialize(interestPostingUpToDate);
+
+        final SavingsHelper savingsHelper = new SavingsHelper(accountTransfersReadPlatformService());
+        interestPostingService = new SavingsAccountInterestPostingServiceImpl(savingsHelper, mode);
+        savingsAccountData = savingsAccount(savingsHelper);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.reset();
+    }
+
+    @Benchmark
+    public List<PostingPeriod> calculateInterest() {
+        savingsAccountData.setStartInterestCalculationDate(ACTIVATED_ON);
+        return interestPostingService.calculateInterestUsing(mc, interestPostingUpToDate, false, false, 1, null, false,
+                savingsAccountData);
+    }
+
+    private SavingsAccountData savingsAccount(final SavingsHelper savingsHelper) {
+        final Long accountId = 1L;
+        final String accountNo = "000000001";
+        final SavingsAccountApplicationTimelineData timeline = new SavingsAccountApplicationTimelineData(ACTIVATED_ON, null, null, null,
+                null, null, null, null, null, null, null, null, ACTIVATED_ON, null, null, null, ACTIVATED_ON, null, null, null, null, null,
+                null, null);
+        final SavingsAccountSummaryData summary = new SavingsAccountSummaryData(CURRENCY, null, null, null, null, null, BigDecimal.ZERO,
+                BigDecimal.ZERO, null, null, BigDecimal.ZERO, null, BigDecimal.ZERO, null, BigDecimal.ZERO, null);
+        final SavingsAccountData account = SavingsAccountData.instance(accountId, accountNo,
+                SavingsEnumerations.depositType(DepositAccountType.SAVINGS_DEPOSIT), null, null, null, null, null, 1L, null, null, null,
+                SavingsEnumerations.status(SavingsAccountStatusType.ACTIVE),
+                SavingsEnumerations.subStatus(SavingsAccountSubStatusEnum.NONE), null, timeline, CURRENCY, BigDecimal.valueOf(5.5),
+                SavingsEnumerations.compoundingInterestPeriodType(SavingsCompoundingInterestPeriodType.DAILY),
+                SavingsEnumerations.interestPostingPeriodType(SavingsPostingInterestPeriodType.MONTHLY),
+                SavingsEnumerations.interestCalculationType(SavingsInterestCalculationType.DAILY_BALANCE),
+                SavingsEnumerations.interestCalculationDaysInYearType(SavingsInterestCalculationDaysInYearType.DAYS_365), null, null, null,
+                false, summary, false, null, null, false, null, false, null, null, null, null, false, null, null, false, null, null, null,
+                null);
+        account.setHelpers(new SavingsAccountTransactionDataSummaryWrapper(), savingsHelper);
+
+        // alternating deposits and smaller withdrawals, so the balance keeps growing and never goes negative
+        for (int i = 0; i < transactions; i++) {
+            final boolean deposit = i % 3 != 2;
+            final SavingsAccountTransactionType type = deposit ? SavingsAccountTransactionType.DEPOSIT
+                    : SavingsAccountTransactionType.WITHDRAWAL;
+            final BigDecimal amount = deposit ? BigDecimal.valueOf(250_00L + (i % 17) * 100L, 2) : BigDecimal.valueOf(120_00L, 2);
+            final LocalDate transactionDate = ACTIVATED_ON.plusDays(i);
+            account.setSavingsAccountTransactionData(SavingsAccountTransactionData.create((long) i + 1,
+                    SavingsEnumerations.transactionType(type), null, accountId, accountNo, transactionDate, CURRENCY, amount, null,
+                    BigDecimal.ZERO, false, transactionDate, false, BigDecimal.ZERO, transactionDate));
+        }
+        return account;
+    }
+
+    private static AccountTransfersReadPlatformService accountTransfersReadPlatformService() {
+        // interest transfers are not part of the benchmark, every lookup returns an empty result
+        return (AccountTransfersReadPlatformService) Proxy.newProxyInstance(SavingsInterestPostingBenchmark.class.getClassLoader(),
+                new Class<?>[] { AccountTransfersReadPlatformService.class }, (proxy, method, args) -> {
+                    if (Collection.class.isAssignableFrom(method.getReturnType())) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException("Account transfers are not available in benchmarks: " + method.getName());
+                });
+    }
+}
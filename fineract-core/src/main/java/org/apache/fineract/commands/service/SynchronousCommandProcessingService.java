@@ -58,6 +58,8 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Slf4j
@@ -141,7 +143,9 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             }
             // must not throw any exception; must persist in new transaction as the current transaction was already
             // marked as rollback
-            publishHookErrorEvent(wrapper, command, errorInfo);
+            if (!BatchRequestContextHolder.isReplayedOnFailure()) { // the replay of the command reports the error
+                publishHookErrorEvent(wrapper, command, errorInfo);
+            }
             throw mappable;
         }
 
@@ -153,8 +157,19 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         storeCommandIdInContext(commandSource); // Store command id as a request attribute
 
         result.setRollbackTransaction(null);
-        publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result); // TODO must be performed in a
-                                                                                       // new transaction
+        if (BatchRequestContextHolder.isReplayedOnFailure() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // the chunk may still be rolled back by a later command and replayed, which publishes the event again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result);
+                }
+            });
+        } else {
+            publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result); // TODO must be performed in a
+                                                                                           // new transaction
+        }
         return result;
     }
 
@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Near cache decorator: reads and writes are served by the local cache, evictions are applied locally and broadcast to the
+ * other nodes so they drop their copies as well.
+ */
+@RequiredArgsConstructor
+public class InvalidationBroadcastingCache implements Cache {
+
+    private final Cache localCache;
+    private final String nodeId;
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return localCache.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return localCache.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return localCache.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        // values are loaded from the database on every node, only removals need to be propagated
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key);
+        broadcastEviction(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = localCache.evictIfPresent(key);
+        broadcastEviction(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        broadcast(new CacheInvalidationMessage(nodeId, getName(), null));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = localCache.invalidate();
+        broadcast(new CacheInvalidationMessage(nodeId, getName(), null));
+        return invalidated;
+    }
+
+    private void broadcastEviction(Object key) {
+        // keys which cannot be sent as text are cleared on the other nodes as a whole
+        String broadcastKey = key instanceof String stringKey ? stringKey : null;
+        broadcast(new CacheInvalidationMessage(nodeId, getName(), broadcastKey));
+    }
+
+    private void broadcast(CacheInvalidationMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // other nodes must not reload the entry before the change is visible to them
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    broadcaster.broadcast(message);
+                }
+            });
+        } else {
+            broadcaster.broadcast(message);
+        }
+    }
+}
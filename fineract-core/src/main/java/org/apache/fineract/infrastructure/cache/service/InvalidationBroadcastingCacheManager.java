@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * {@link CacheManager} of the multi node cache mode. Every node keeps its own local (near) caches, evictions are broadcast
+ * through the {@link CacheInvalidationBroadcaster} and the ones received from other nodes are applied by
+ * {@link #onInvalidation(CacheInvalidationMessage)}.
+ * <p>
+ * A node recognizes its own invalidations by a random id generated when the JVM starts, {@code fineract.node-id} cannot
+ * be used for that because it defaults to the same value on every node.
+ */
+@Slf4j
+public class InvalidationBroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    @Getter
+    private final String nodeId;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param broadcaster
+     *            {@code null} when no invalidation channel is configured, the multi node cache cannot be activated then
+     */
+    public InvalidationBroadcastingCacheManager(final CacheManager localCacheManager, final CacheInvalidationBroadcaster broadcaster) {
+        this(localCacheManager, UUID.randomUUID().toString(), broadcaster);
+    }
+
+    InvalidationBroadcastingCacheManager(final CacheManager localCacheManager, final String nodeId,
+            final CacheInvalidationBroadcaster broadcaster) {
+        this.localCacheManager = localCacheManager;
+        this.nodeId = nodeId;
+        this.broadcaster = broadcaster;
+    }
+
+    public boolean isBroadcasting() {
+        return broadcaster != null;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        final Cache localCache = localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new InvalidationBroadcastingCache(localCache, nodeId, broadcaster));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    public void onInvalidation(final CacheInvalidationMessage message) {
+        if (Objects.equals(nodeId, message.getNodeId())) {
+            return;
+        }
+        final Cache localCache = localCacheManager.getCache(message.getCacheName());
+        if (localCache == null) {
+            log.warn("Cache invalidation received for unknown cache {}", message.getCacheName());
+            return;
+        }
+        log.debug("Applying cache invalidation {} from node {}", message, message.getNodeId());
+        if (message.isClear()) {
+            localCache.clear();
+        } else {
+            localCache.evict(message.getKey());
+        }
+    }
+}
@@ -53,6 +53,8 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
     private final CacheManager ehCacheManager;
     @Qualifier("defaultCacheManager")
     private final CacheManager defaultCacheManager;
+    @Qualifier("distributedCacheManager")
+    private final InvalidationBroadcastingCacheManager distributedCacheManager;
     private CacheManager currentCacheManager;
 
     @Override
@@ -74,21 +76,25 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
 
         final boolean noCacheEnabled = currentCacheManager == defaultCacheManager;
         final boolean ehCacheEnabled = currentCacheManager == ehCacheManager;
+        final boolean distributedCacheEnabled = currentCacheManager == distributedCacheManager;
 
         final EnumOptionData noCacheType = CacheEnumerations.cacheType(CacheType.NO_CACHE);
         final EnumOptionData singleNodeCacheType = CacheEnumerations.cacheType(CacheType.SINGLE_NODE);
+        final EnumOptionData multiNodeCacheType = CacheEnumerations.cacheType(CacheType.MULTI_NODE);
 
         final CacheData noCache = CacheData.instance(noCacheType, noCacheEnabled);
         final CacheData singleNodeCache = CacheData.instance(singleNodeCacheType, ehCacheEnabled);
+        final CacheData multiNodeCache = CacheData.instance(multiNodeCacheType, distributedCacheEnabled);
 
-        return Arrays.asList(noCache, singleNodeCache);
+        return Arrays.asList(noCache, singleNodeCache, multiNodeCache);
     }
 
-    public Map<String, Object> switchToCache(final boolean ehcacheEnabled, final CacheType toCacheType) {
+    public Map<String, Object> switchToCache(final boolean ehcacheEnabled, final boolean distributedCacheEnabled,
+            final CacheType toCacheType) {
 
         final Map<String, Object> changes = new HashMap<>();
 
-        final boolean noCacheEnabled = !ehcacheEnabled;
+        final boolean noCacheEnabled = !ehcacheEnabled && !distributedCacheEnabled;
 
         switch (toCacheType) {
             case INVALID -> {
@@ -111,7 +117,20 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
                     log.error("No caches configured for activated CacheManager {}", currentCacheManager);
                 }
             }
-            case MULTI_NODE -> throw new UnsupportedOperationException("Multi node cache is not supported");
+            case MULTI_NODE -> {
+                if (!distributedCacheManager.isBroadcasting()) {
+                    log.error("Multi node cache requires fineract.cache.invalidation.jms or fineract.cache.invalidation.kafka to be "
+                            + "enabled, caching stays disabled on this node");
+                    currentCacheManager = defaultCacheManager;
+                    return changes;
+                }
+                if (!distributedCacheEnabled) {
+                    changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
+                    // entries cached while running as a single node were never invalidated by the other nodes
+                    clearEhCache();
+                }
+                currentCacheManager = distributedCacheManager;
+            }
         }
 
         return changes;
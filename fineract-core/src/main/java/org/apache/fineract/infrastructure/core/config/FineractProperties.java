@@ -27,6 +27,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @Getter
@@ -75,12 +76,30 @@ public class FineractProperties {
 
     private FineractLoanProperties loan;
 
+    private FineractSavingsProperties savings;
+
     private FineractSamplingProperties sampling;
 
     private FineractModulesProperties module;
 
     private FineractSqlValidationProperties sqlValidation;
 
+    private FineractCacheProperties cache;
+
+    private FineractSearchProperties search;
+
+    private FineractHooksProperties hooks;
+
+    private FineractBulkImportProperties bulkImport;
+
+    private FineractInlineLoanCobProperties inlineLoanCob;
+
+    private FineractLoanCobProperties loanCob;
+
+    private FineractVirtualThreadsProperties virtualThreads;
+
+    private FineractDelinquencyProperties delinquency;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -167,7 +186,10 @@ public class FineractProperties {
         private Integer threadPoolMaxPoolSize;
         private Integer threadPoolQueueCapacity;
         private Integer retryLimit;
+        private Integer skipLimit;
         private Integer pollInterval;
+        private Boolean costBalancedPartitioning;
+        private Boolean prefetchEnabled;
 
     }
 
@@ -297,6 +319,16 @@ public class FineractProperties {
         private int threadPoolCorePoolSize;
         private int threadPoolMaxPoolSize;
         private int threadPoolQueueCapacity;
+        private FineractExternalEventsStreamingProperties streaming;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsStreamingProperties {
+
+        private boolean enabled;
+        private int inFlightWindow;
+        private int maxDurationInSeconds;
     }
 
     @Getter
@@ -381,6 +413,7 @@ public class FineractProperties {
     public static class FineractExportProperties {
 
         private FineractExportS3Properties s3;
+        private int streamingFetchSize = 1000;
     }
 
     @Getter
@@ -397,6 +430,10 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private int trialBalanceThreads = 1;
+        private int standingInstructionThreads = 1;
+        private boolean arrearsAgeingIncrementalEnabled;
+        private int arrearsAgeingReconciliationIntervalDays = 7;
     }
 
     @Getter
@@ -464,6 +501,20 @@ public class FineractProperties {
         private String statusChangeHistoryStatuses;
     }
 
+    @Getter
+    @Setter
+    public static class FineractSavingsProperties {
+
+        private FineractSavingsInterestProperties interest;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSavingsInterestProperties {
+
+        private SavingsInterestCalculationMode calculationMode = SavingsInterestCalculationMode.STANDARD;
+    }
+
     @Getter
     @Setter
     public static class FineractTransactionProcessorProperties {
@@ -545,6 +596,151 @@ public class FineractProperties {
 
     }
 
+    @Getter
+    @Setter
+    public static class FineractSearchProperties {
+
+        private FineractSearchIndexProperties index;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchIndexProperties {
+
+        private boolean enabled;
+        private int candidateLimit = 500;
+        private int rebuildBatchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHooksProperties {
+
+        private FineractHooksDeliveryProperties delivery;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHooksDeliveryProperties {
+
+        private int threadPoolSize = 4;
+        private int queueCapacity = 1000;
+        private int batchSize = 50;
+        private int maxAttempts = 10;
+        private int initialBackoffInSeconds = 30;
+        private int maxBackoffInSeconds = 3600;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        /**
+         * Number of threads executing the row groups of an import, 0 uses the number of available processors capped at 4.
+         */
+        private int threadPoolSize = 0;
+        private int chunkSize = 50;
+        /**
+         * Whether every imported row is recorded as its own command source, otherwise one command source is recorded per chunk.
+         */
+        private boolean auditEachRow = true;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractInlineLoanCobProperties {
+
+        private int threadPoolSize = 4;
+        private int chunkSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanCobProperties {
+
+        private boolean multiDateCatchUpEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractVirtualThreadsProperties {
+
+        private boolean enabled;
+        private int maxConcurrentRequestsPerPool;
+        private long admissionTimeoutMillis = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractDelinquencyProperties {
+
+        private boolean incrementalStateEnabled;
+        private int stateVerificationIntervalDays = 7;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheProperties {
+
+        private int defaultMaxEntries = 10000;
+        private long defaultTimeToLiveInSeconds;
+        private boolean statisticsEnabled;
+        private Map<String, FineractCacheSpecProperties> caches = new HashMap<>();
+        private FineractCacheInvalidationProperties invalidation;
+
+        public int getMaxEntries(String cacheName) {
+            FineractCacheSpecProperties spec = caches.get(cacheName);
+            return spec == null || spec.getMaxEntries() == null ? defaultMaxEntries : spec.getMaxEntries();
+        }
+
+        public long getTimeToLiveInSeconds(String cacheName) {
+            FineractCacheSpecProperties spec = caches.get(cacheName);
+            return spec == null || spec.getTimeToLiveInSeconds() == null ? defaultTimeToLiveInSeconds : spec.getTimeToLiveInSeconds();
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheSpecProperties {
+
+        private Integer maxEntries;
+        private Long timeToLiveInSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheInvalidationProperties {
+
+        private FineractCacheInvalidationJmsProperties jms;
+        private FineractCacheInvalidationKafkaProperties kafka;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheInvalidationJmsProperties {
+
+        private boolean enabled;
+        private String topicName;
+        private String brokerUrl;
+        private String brokerUsername;
+        private String brokerPassword;
+
+        public boolean isBrokerPasswordProtected() {
+            return StringUtils.isNotBlank(brokerUsername) || StringUtils.isNotBlank(brokerPassword);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheInvalidationKafkaProperties {
+
+        private boolean enabled;
+        private String bootstrapServers;
+        private String topicName;
+        private KafkaConsumerProperties consumer;
+        private KafkaProperties producer;
+    }
+
     @Getter
     @Setter
     public static class FineractSqlValidationProperties {
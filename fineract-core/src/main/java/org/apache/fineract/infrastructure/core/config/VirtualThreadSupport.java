@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Switches the internal thread pools to virtual threads when {@code fineract.virtual-threads.enabled} is set. The pool
+ * sizes are kept, so the number of tasks running at once, and the database connections they hold, stay bounded.
+ */
+public final class VirtualThreadSupport {
+
+    private VirtualThreadSupport() {}
+
+    public static void configure(ThreadPoolTaskExecutor threadPoolTaskExecutor, FineractProperties fineractProperties,
+            String threadNamePrefix) {
+        if (isEnabled(fineractProperties)) {
+            // fails with an UnsupportedOperationException below Java 21
+            threadPoolTaskExecutor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        }
+    }
+
+    public static boolean isEnabled(FineractProperties fineractProperties) {
+        return fineractProperties.getVirtualThreads() != null && fineractProperties.getVirtualThreads().isEnabled();
+    }
+}
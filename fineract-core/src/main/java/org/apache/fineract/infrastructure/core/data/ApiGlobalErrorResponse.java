@@ -106,6 +106,11 @@ public class ApiGlobalErrorResponse {
         return create(SC_CONFLICT, "error.msg.loan.locked", msg, msg);
     }
 
+    public static ApiGlobalErrorResponse savingsAccountIsLocked(final Long savingsAccountId) {
+        String msg = "Savings account is locked by the COB job. Savings account ID: " + savingsAccountId;
+        return create(SC_CONFLICT, "error.msg.savings.account.locked", msg, msg);
+    }
+
     public static ApiGlobalErrorResponse conflict(String type, String identifier) {
         String details = "";
         if (type == null) {
@@ -38,6 +38,8 @@ public final class BatchRequestContextHolder {
     };
     private static final ThreadLocal<Boolean> isEnclosingTransaction = new NamedThreadLocal<>("isEnclosingTransaction");
 
+    private static final ThreadLocal<Boolean> isReplayedOnFailure = new NamedThreadLocal<>("isReplayedOnFailure");
+
     /**
      * True if the batch attributes are set
      *
@@ -95,6 +97,30 @@ public final class BatchRequestContextHolder {
         isEnclosingTransaction.remove();
     }
 
+    /**
+     * True if the commands of the enclosing transaction are executed again one by one when one of them fails, so a failing
+     * command is reported by its replay only and hook events are published once the enclosing transaction is committed. Set
+     * by the bulk import only, enclosing batch API requests are not replayed.
+     *
+     * @return true if the failing commands are replayed
+     */
+    public static boolean isReplayedOnFailure() {
+        return Boolean.TRUE.equals(isReplayedOnFailure.get());
+    }
+
+    /**
+     * Set the isReplayedOnFailure flag for the current thread.
+     *
+     * @param isReplayedOnFailure
+     */
+    public static void setIsReplayedOnFailure(boolean isReplayedOnFailure) {
+        BatchRequestContextHolder.isReplayedOnFailure.set(isReplayedOnFailure);
+    }
+
+    public static void resetIsReplayedOnFailure() {
+        isReplayedOnFailure.remove();
+    }
+
     /**
      * Return the transaction
      *
@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.filters;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.data.ApiGlobalErrorResponse;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceService;
+import org.apache.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control for the virtual thread execution mode. Platform request threads were bounded by the Tomcat thread
+ * pool, virtual threads are not, so every request would queue on the tenant connection pool and fail with a connection
+ * timeout under load. The number of requests running at once is limited per connection pool instead, to the maximum pool
+ * size unless configured otherwise, and requests waiting longer than the admission timeout are rejected.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TenantConnectionAdmissionFilter extends OncePerRequestFilter {
+
+    private final FineractProperties fineractProperties;
+    private final RoutingDataSourceService routingDataSourceService;
+
+    private final Map<DataSource, Semaphore> permitsByDataSource = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Semaphore permits = ThreadLocalContextUtil.getTenant() == null ? null
+                : permitsByDataSource.computeIfAbsent(routingDataSourceService.retrieveDataSource(), this::createPermits);
+        if (permits == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!tryAcquire(permits)) {
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Semaphore createPermits(DataSource dataSource) {
+        int maxConcurrentRequests = fineractProperties.getVirtualThreads().getMaxConcurrentRequestsPerPool();
+        if (maxConcurrentRequests <= 0 && dataSource instanceof HikariDataSource hikariDataSource) {
+            maxConcurrentRequests = hikariDataSource.getMaximumPoolSize();
+        }
+        // a non pooled data source has nothing to protect, the permits never run out
+        return new Semaphore(maxConcurrentRequests > 0 ? maxConcurrentRequests : Integer.MAX_VALUE, true);
+    }
+
+    private boolean tryAcquire(Semaphore permits) {
+        try {
+            return permits.tryAcquire(fineractProperties.getVirtualThreads().getAdmissionTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        log.warn("Request rejected, no database connection became available for tenant {} within {} ms",
+                ThreadLocalContextUtil.getTenant().getTenantIdentifier(), fineractProperties.getVirtualThreads().getAdmissionTimeoutMillis());
+        response.setStatus(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(ApiGlobalErrorResponse.serviceUnavailable("error.msg.platform.connection.pool.busy",
+                "All database connections of the tenant are busy, please try after some time.").toJson());
+    }
+}
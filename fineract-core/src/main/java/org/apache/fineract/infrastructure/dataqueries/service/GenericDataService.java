@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service;
 
+import java.io.IOException;
 import java.util.List;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
@@ -27,12 +28,20 @@ public interface GenericDataService {
 
     GenericResultsetData fillGenericResultSet(String sql);
 
+    /**
+     * Same as {@link #fillGenericResultSet(String)}, but the rows are read with a forward-only cursor and passed to the
+     * handler one by one instead of being collected in memory.
+     */
+    void streamGenericResultSet(String sql, int fetchSize, GenericResultsetStreamHandler handler) throws IOException;
+
     List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(String tableName);
 
     List<ResultsetRowData> fillResultsetRowData(String sql, List<ResultsetColumnHeaderData> columnHeaders);
 
     String generateJsonFromGenericResultsetData(GenericResultsetData grs);
 
+    String generateJsonFromResultsetRow(List<ResultsetColumnHeaderData> columnHeaders, List<Object> row);
+
     String replace(String str, String pattern, String replace);
 
     String wrapSQL(String sql);
@@ -52,4 +52,10 @@ public interface BusinessEventNotifierService {
     void stopExternalEventRecording();
 
     void resetEventRecording();
+
+    /**
+     * Method writes the external events raised so far in the current transaction right away instead of at commit, so they
+     * are serialized from the current state of the entities
+     */
+    void flushTransactionalBusinessEvents();
 }
@@ -18,14 +18,17 @@
  */
 package org.apache.fineract.infrastructure.event.business.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Stack;
-import lombok.Getter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
@@ -33,6 +36,7 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.business.domain.NoExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.springframework.beans.factory.InitializingBean;
@@ -51,6 +55,10 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     private final Map<Class, List<BusinessEventListener>> preListeners = new HashMap<>();
     private final Map<Class, List<BusinessEventListener>> postListeners = new HashMap<>();
 
+    // listeners resolved per concrete event class, built lazily and replaced whenever a listener registers
+    private volatile Map<Class, ListenerDispatch> preDispatchIndex = new ConcurrentHashMap<>();
+    private volatile Map<Class, ListenerDispatch> postDispatchIndex = new ConcurrentHashMap<>();
+
     private final ThreadLocal<Boolean> eventRecordingEnabled = ThreadLocal.withInitial(() -> false);
     private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = ThreadLocal.withInitial(ArrayList::new);
 
@@ -59,6 +67,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     private final ThreadLocal<Stack<List<BusinessEventWithContext>>> transactionBusinessEvents = ThreadLocal.withInitial(Stack::new);
     private final TransactionHelper transactionHelper;
     private final ExternalBusinessEventConfigurationService externalBusinessEventConfigurationService;
+    private final Optional<MeterRegistry> meterRegistry;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -72,20 +81,19 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     @Override
     public void notifyPreBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(preListeners, businessEvent.getClass());
-        for (BusinessEventListener eventListener : businessEventListeners) {
-            eventListener.onBusinessEvent(businessEvent);
-        }
+        findListenerDispatch(preDispatchIndex, preListeners, "pre", businessEvent).dispatch(businessEvent);
     }
 
     @Override
-    public <T extends BusinessEvent<?>> void addPreBusinessEventListener(Class<T> eventType, BusinessEventListener<T> listener) {
+    public synchronized <T extends BusinessEvent<?>> void addPreBusinessEventListener(Class<T> eventType,
+            BusinessEventListener<T> listener) {
         List<BusinessEventListener> businessEventListeners = preListeners.get(eventType);
         if (businessEventListeners == null) {
             businessEventListeners = new ArrayList<>();
             preListeners.put(eventType, businessEventListeners);
         }
         businessEventListeners.add(listener);
+        preDispatchIndex = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -93,10 +101,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     public void notifyPostBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
         boolean isExternalEvent = !(businessEvent instanceof NoExternalEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(postListeners, businessEvent.getClass());
-        for (BusinessEventListener eventListener : businessEventListeners) {
-            eventListener.onBusinessEvent(businessEvent);
-        }
+        findListenerDispatch(postDispatchIndex, postListeners, "post", businessEvent).dispatch(businessEvent);
         if (isExternalEvent && isExternalEventPostingEnabled()) {
             // we only want to create external events for operations that were successful, hence the post listener
             if (externalBusinessEventConfigurationService.isExternalEventConfiguredForPosting(businessEvent)) {
@@ -113,7 +118,22 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
-    private List<BusinessEventListener> findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners, Class<?> eventClazz) {
+    private ListenerDispatch findListenerDispatch(Map<Class, ListenerDispatch> dispatchIndex,
+            Map<Class, List<BusinessEventListener>> listeners, String phase, BusinessEvent<?> businessEvent) {
+        Class<?> eventClazz = businessEvent.getClass();
+        ListenerDispatch listenerDispatch = dispatchIndex.get(eventClazz);
+        if (listenerDispatch == null) {
+            // a registration in the meantime replaces the index, so a stale entry only ends up in the discarded one
+            BusinessEventListener[] suitableListeners = findSuitableListeners(listeners, eventClazz);
+            Timer dispatchTimer = suitableListeners.length == 0 ? null : createDispatchTimer(phase, eventClazz);
+            listenerDispatch = new ListenerDispatch(suitableListeners, dispatchTimer);
+            dispatchIndex.put(eventClazz, listenerDispatch);
+        }
+        return listenerDispatch;
+    }
+
+    private synchronized BusinessEventListener[] findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners,
+            Class<?> eventClazz) {
         List<BusinessEventListener> result = new ArrayList<>();
         for (Map.Entry<Class, List<BusinessEventListener>> entry : listeners.entrySet()) {
             Class<?> registeredClazz = entry.getKey();
@@ -121,17 +141,28 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
                 result.addAll(entry.getValue());
             }
         }
-        return result;
+        return result.toArray(new BusinessEventListener[0]);
+    }
+
+    private Timer createDispatchTimer(String phase, Class<?> eventClazz) {
+        return meterRegistry.map(registry -> Timer.builder("fineract.events.business.dispatch") //
+                .description("Business event listener dispatch time") //
+                .tag("type", eventClazz.getSimpleName()) //
+                .tag("phase", phase) //
+                .publishPercentileHistogram() //
+                .register(registry)).orElse(null);
     }
 
     @Override
-    public <T extends BusinessEvent<?>> void addPostBusinessEventListener(Class<T> eventType, BusinessEventListener<T> listener) {
+    public synchronized <T extends BusinessEvent<?>> void addPostBusinessEventListener(Class<T> eventType,
+            BusinessEventListener<T> listener) {
         List<BusinessEventListener> businessEventListeners = postListeners.get(eventType);
         if (businessEventListeners == null) {
             businessEventListeners = new ArrayList<>();
             postListeners.put(eventType, businessEventListeners);
         }
         businessEventListeners.add(listener);
+        postDispatchIndex = new ConcurrentHashMap<>();
     }
 
     private boolean isExternalEventRecordingEnabled() {
@@ -154,6 +185,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void stopExternalEventRecording() {
         eventRecordingEnabled.set(false);
         try {
@@ -164,10 +196,10 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
                 } else {
                     if (recordedBusinessEvents.size() == 1) {
                         log.debug("Posting a singular event instead of a BulkBusinessEvent since there was only a single event recorded");
-                        externalEventService.postEvent(recordedBusinessEvents.get(0));
+                        postRecordedEvent(recordedBusinessEvents.get(0));
                     } else {
                         log.debug("Posting the BulkBusinessEvent for the recorded {} events", recordedBusinessEvents.size());
-                        externalEventService.postEvent(new BulkBusinessEvent(recordedBusinessEvents));
+                        postRecordedEvent(new BulkBusinessEvent(recordedBusinessEvents));
                     }
                 }
             }
@@ -176,12 +208,33 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
+    private void postRecordedEvent(BusinessEvent<?> businessEvent) {
+        // within a transaction the event is written at commit, in one batch with the other events of the transaction
+        if (transactionHelper.hasTransaction()) {
+            storeTransactionalBusinessEvent(businessEvent);
+        } else {
+            externalEventService.postEvent(businessEvent);
+        }
+    }
+
     @Override
     public void resetEventRecording() {
         eventRecordingEnabled.set(false);
         recordedEvents.remove();
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void flushTransactionalBusinessEvents() {
+        Stack<List<BusinessEventWithContext>> businessEventStack = transactionBusinessEvents.get();
+        if (businessEventStack.isEmpty() || businessEventStack.peek().isEmpty()) {
+            return;
+        }
+        List<BusinessEventWithContext> businessEvents = businessEventStack.peek();
+        externalEventService.postEvents(new ArrayList<>(businessEvents));
+        businessEvents.clear();
+    }
+
     private void storeTransactionalBusinessEvent(BusinessEvent<?> businessEvent) {
         List<BusinessEventWithContext> businessEvents = transactionBusinessEvents.get().peek();
         FineractContext fineractContext = ThreadLocalContextUtil.getContext();
@@ -201,15 +254,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     public void beforeCommit(TransactionExecution transaction) {
         List<BusinessEventWithContext> businessEventWithContexts = transactionBusinessEvents.get().peek();
         if (!businessEventWithContexts.isEmpty()) {
-            FineractContext originalContext = ThreadLocalContextUtil.getContext();
-            try {
-                for (BusinessEventWithContext businessEventWithContext : businessEventWithContexts) {
-                    ThreadLocalContextUtil.init(businessEventWithContext.getFineractContext());
-                    externalEventService.postEvent(businessEventWithContext.getEvent());
-                }
-            } finally {
-                ThreadLocalContextUtil.init(originalContext);
-            }
+            externalEventService.postEvents(businessEventWithContexts);
         }
     }
 
@@ -223,16 +268,27 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         cleanup();
     }
 
-    @Getter
-    @Setter
-    private static final class BusinessEventWithContext {
+    private static final class ListenerDispatch {
+
+        private final BusinessEventListener[] listeners;
+        private final Timer timer;
 
-        private BusinessEvent<?> event;
-        private FineractContext fineractContext;
+        ListenerDispatch(BusinessEventListener[] listeners, Timer timer) {
+            this.listeners = listeners;
+            this.timer = timer;
+        }
 
-        BusinessEventWithContext(BusinessEvent<?> event, FineractContext fineractContext) {
-            this.event = event;
-            this.fineractContext = fineractContext;
+        void dispatch(BusinessEvent<?> businessEvent) {
+            if (listeners.length == 0) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            for (BusinessEventListener eventListener : listeners) {
+                eventListener.onBusinessEvent(businessEvent);
+            }
+            if (timer != null) {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
         }
     }
 }
@@ -20,6 +20,7 @@ package org.apache.fineract.infrastructure.event.external.config;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -37,6 +38,7 @@ public class EventTaskExecutorConfig {
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getEvents().getExternal().getThreadPoolMaxPoolSize());
         threadPoolTaskExecutor.setQueueCapacity(fineractProperties.getEvents().getExternal().getThreadPoolQueueCapacity());
         threadPoolTaskExecutor.setThreadNamePrefix("external-events-");
+        VirtualThreadSupport.configure(threadPoolTaskExecutor, fineractProperties, "external-events-");
         threadPoolTaskExecutor.initialize();
 
         return threadPoolTaskExecutor;
@@ -23,19 +23,28 @@ import static java.util.stream.Collectors.toMap;
 import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
 
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractExternalEventsStreamingProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -71,14 +80,19 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     private final TransactionTemplate transactionTemplate;
     @Qualifier(TaskExecutorConstant.EVENT_MARKS_AS_SENT_EXECUTOR_BEAN_NAME)
     private final ThreadPoolTaskExecutor threadPoolTaskExecutor;
+    private final Optional<MeterRegistry> meterRegistry;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
             if (isDownstreamChannelEnabled()) {
-                List<ExternalEventView> events = getQueuedEventsBatch();
-                log.debug("Queued events size: {}", events.size());
-                sendEvents(events);
+                if (isStreamingEnabled()) {
+                    drainEvents();
+                } else {
+                    List<ExternalEventView> events = getQueuedEventsBatch();
+                    log.debug("Queued events size: {}", events.size());
+                    sendEvents(events);
+                }
             }
         } catch (Exception e) {
             log.error("Error occurred while processing events: ", e);
@@ -91,6 +105,11 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
                 || fineractProperties.getEvents().getExternal().getProducer().getKafka().isEnabled();
     }
 
+    private boolean isStreamingEnabled() {
+        FineractExternalEventsStreamingProperties streaming = fineractProperties.getEvents().getExternal().getStreaming();
+        return streaming != null && streaming.isEnabled();
+    }
+
     private List<ExternalEventView> getQueuedEventsBatch() {
         int readBatchSize = getBatchSize();
         Pageable batchSize = PageRequest.ofSize(readBatchSize);
@@ -98,18 +117,82 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
                 (events, timeTaken) -> log.debug("Loaded {} events in {}ms", events.size(), timeTaken.toMillis()));
     }
 
+    private List<ExternalEventView> getQueuedEventsBatchAfter(ExternalEventView lastEvent, int readBatchSize) {
+        Pageable batchSize = PageRequest.ofSize(readBatchSize);
+        return measure(() -> repository.findByStatusAfterKeyOrderByBusinessDateAscIdAsc(ExternalEventStatus.TO_BE_SENT,
+                lastEvent.getBusinessDate(), lastEvent.getId(), batchSize),
+                (events, timeTaken) -> log.debug("Loaded {} events in {}ms", events.size(), timeTaken.toMillis()));
+    }
+
     private void sendEvents(List<ExternalEventView> queuedEvents) {
         Map<Long, List<byte[]>> partitions = generatePartitions(queuedEvents);
         List<Long> eventIds = queuedEvents.stream().map(ExternalEventView::getId).toList();
         sendEventsToProducer(partitions);
-        markEventsAsSent(eventIds);
+        awaitMarkEventsAsSent(markEventsAsSent(eventIds));
+        countSentEvents(eventIds.size());
+    }
+
+    /**
+     * Sends the queued events until the queue is drained or the configured maximum duration is reached.
+     *
+     * The pages are read by the (business date, id) key of the last read event instead of the status only, because the
+     * events of the previous pages might still be waiting to be marked as sent. The events are serialized on the event
+     * executor and sent in the order they were read, while marking the sent events is done in the background. At most
+     * {@code in-flight-window} batches can be sent but not yet marked as sent. If sending fails, the draining stops and the
+     * not marked events are picked up again by the next execution.
+     */
+    private void drainEvents() {
+        FineractExternalEventsStreamingProperties streaming = fineractProperties.getEvents().getExternal().getStreaming();
+        int readBatchSize = getBatchSize();
+        int inFlightWindow = Math.max(1, streaming.getInFlightWindow());
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(streaming.getMaxDurationInSeconds());
+        Deque<List<Future<?>>> inFlightBatches = new ArrayDeque<>();
+        long sentEvents = 0;
+        try {
+            List<ExternalEventView> events = getQueuedEventsBatch();
+            while (!events.isEmpty()) {
+                Map<Long, List<byte[]>> partitions = generatePartitionsInParallel(events);
+                List<Long> eventIds = events.stream().map(ExternalEventView::getId).toList();
+                sendEventsToProducer(partitions);
+                inFlightBatches.add(markEventsAsSent(eventIds));
+                sentEvents += eventIds.size();
+                countSentEvents(eventIds.size());
+                while (inFlightBatches.size() >= inFlightWindow) {
+                    awaitMarkEventsAsSent(inFlightBatches.poll());
+                }
+                if (events.size() < readBatchSize || System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                events = getQueuedEventsBatchAfter(events.get(events.size() - 1), readBatchSize);
+            }
+        } finally {
+            inFlightBatches.forEach(this::awaitMarkEventsAsSent);
+            long timeTakenInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            log.debug("Sent {} events in {}ms ({} events/s)", sentEvents, timeTakenInMillis,
+                    timeTakenInMillis == 0 ? sentEvents : sentEvents * 1000 / timeTakenInMillis);
+        }
     }
 
     private void sendEventsToProducer(Map<Long, List<byte[]>> partitions) {
-        eventProducer.sendEvents(partitions);
+        if (meterRegistry.isPresent()) {
+            Timer.builder("fineract.events.external.send").description("External event batch send time") //
+                    .tag("tenant", ThreadLocalContextUtil.getTenant().getTenantIdentifier()) //
+                    .register(meterRegistry.get()) //
+                    .record(() -> eventProducer.sendEvents(partitions));
+        } else {
+            eventProducer.sendEvents(partitions);
+        }
     }
 
-    private void markEventsAsSent(List<Long> eventIds) {
+    private void countSentEvents(int count) {
+        meterRegistry.ifPresent(registry -> Counter.builder("fineract.events.external.sent").description("Sent external events") //
+                .tag("tenant", ThreadLocalContextUtil.getTenant().getTenantIdentifier()) //
+                .register(registry) //
+                .increment(count));
+    }
+
+    private List<Future<?>> markEventsAsSent(List<Long> eventIds) {
         OffsetDateTime sentAt = DateUtils.getAuditOffsetDateTime();
 
         // Partitioning dataset to avoid exception: PreparedStatement can have at most 65,535 parameters
@@ -121,16 +204,24 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
                 .forEach(partitionedEventIds -> {
                     tasks.add(threadPoolTaskExecutor.submit(() -> {
                         ThreadLocalContextUtil.init(context);
-                        transactionTemplate.execute((status) -> {
-                            measure(() -> {
-                                repository.markEventsSent(partitionedEventIds, sentAt);
-                            }, timeTaken -> {
-                                log.debug("Took {}ms to update {} events", timeTaken.toMillis(), partitionedEventIds.size());
+                        try {
+                            transactionTemplate.execute((status) -> {
+                                measure(() -> {
+                                    repository.markEventsSent(partitionedEventIds, sentAt);
+                                }, timeTaken -> {
+                                    log.debug("Took {}ms to update {} events", timeTaken.toMillis(), partitionedEventIds.size());
+                                });
+                                return null;
                             });
-                            return null;
-                        });
+                        } finally {
+                            ThreadLocalContextUtil.reset();
+                        }
                     }));
                 });
+        return tasks;
+    }
+
+    private void awaitMarkEventsAsSent(List<Future<?>> tasks) {
         for (Future<?> task : tasks) {
             try {
                 task.get();
@@ -143,13 +234,7 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     }
 
     private Map<Long, List<byte[]>> generatePartitions(List<ExternalEventView> queuedEvents) {
-        Map<Long, List<ExternalEventView>> initialPartitions = queuedEvents.stream().collect(groupingBy(externalEvent -> {
-            Long aggregateRootId = externalEvent.getAggregateRootId();
-            if (aggregateRootId == null) {
-                aggregateRootId = -1L;
-            }
-            return aggregateRootId;
-        }));
+        Map<Long, List<ExternalEventView>> initialPartitions = groupByAggregateRoot(queuedEvents);
         Map<Long, List<byte[]>> partitions = measure(
                 () -> initialPartitions.entrySet().stream().collect(toMap(Map.Entry::getKey, e -> createMessages(e.getValue()))),
                 timeTaken -> {
@@ -158,6 +243,51 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         return partitions;
     }
 
+    private Map<Long, List<ExternalEventView>> groupByAggregateRoot(List<ExternalEventView> queuedEvents) {
+        return queuedEvents.stream().collect(groupingBy(externalEvent -> {
+            Long aggregateRootId = externalEvent.getAggregateRootId();
+            if (aggregateRootId == null) {
+                aggregateRootId = -1L;
+            }
+            return aggregateRootId;
+        }));
+    }
+
+    private Map<Long, List<byte[]>> generatePartitionsInParallel(List<ExternalEventView> queuedEvents) {
+        Map<Long, List<ExternalEventView>> initialPartitions = groupByAggregateRoot(queuedEvents);
+        List<Map.Entry<Long, List<ExternalEventView>>> entries = new ArrayList<>(initialPartitions.entrySet());
+        int slices = Math.max(1, threadPoolTaskExecutor.getCorePoolSize());
+        int sliceSize = (entries.size() + slices - 1) / slices;
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        return measure(() -> {
+            List<Future<Map<Long, List<byte[]>>>> tasks = new ArrayList<>();
+            for (List<Map.Entry<Long, List<ExternalEventView>>> slice : Lists.partition(entries, sliceSize)) {
+                tasks.add(threadPoolTaskExecutor.submit(() -> {
+                    ThreadLocalContextUtil.init(context);
+                    try {
+                        return slice.stream().collect(toMap(Map.Entry::getKey, e -> createMessages(e.getValue())));
+                    } finally {
+                        ThreadLocalContextUtil.reset();
+                    }
+                }));
+            }
+            Map<Long, List<byte[]>> partitions = new HashMap<>();
+            for (Future<Map<Long, List<byte[]>>> task : tasks) {
+                try {
+                    partitions.putAll(task.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while serializing the messages", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Error while serializing the messages", e.getCause());
+                }
+            }
+            return partitions;
+        }, timeTaken -> {
+            log.debug("Took {}ms to create message partitions", timeTaken.toMillis());
+        });
+    }
+
     private List<byte[]> createMessages(List<ExternalEventView> events) {
         try {
             List<byte[]> messages = new ArrayList<>();
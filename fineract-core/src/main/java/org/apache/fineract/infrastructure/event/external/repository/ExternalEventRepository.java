@@ -35,6 +35,10 @@ public interface ExternalEventRepository extends JpaRepository<ExternalEvent, Lo
 
     List<ExternalEventView> findByStatusOrderByBusinessDateAscIdAsc(ExternalEventStatus status, Pageable batchSize);
 
+    @Query("select e from ExternalEvent e where e.status = :status and (e.businessDate > :businessDate or (e.businessDate = :businessDate and e.id > :id)) order by e.businessDate asc, e.id asc")
+    List<ExternalEventView> findByStatusAfterKeyOrderByBusinessDateAscIdAsc(@Param("status") ExternalEventStatus status,
+            @Param("businessDate") LocalDate businessDate, @Param("id") Long id, Pageable batchSize);
+
     @Modifying(flushAutomatically = true)
     @Query("delete from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria")
     void deleteOlderEventsWithSentStatus(@Param("status") ExternalEventStatus status,
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes external events with a single JDBC batch insert instead of one JPA insert per event.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalEventBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    public void insert(final List<ExternalEvent> externalEvents) {
+        if (externalEvents.isEmpty()) {
+            return;
+        }
+        final String sql = "INSERT INTO m_external_event (type, category, " + sqlGenerator.escape("schema")
+                + ", data, created_at, status, sent_at, idempotency_key, business_date, aggregate_root_id)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        final List<Object[]> params = new ArrayList<>(externalEvents.size());
+        for (ExternalEvent externalEvent : externalEvents) {
+            params.add(new Object[] { externalEvent.getType(), externalEvent.getCategory(), externalEvent.getSchema(),
+                    externalEvent.getData(), externalEvent.getCreatedAt(), externalEvent.getStatus().name(), externalEvent.getSentAt(),
+                    externalEvent.getIdempotencyKey(), externalEvent.getBusinessDate(), externalEvent.getAggregateRootId() });
+        }
+        jdbcTemplate.batchUpdate(sql, params);
+    }
+}
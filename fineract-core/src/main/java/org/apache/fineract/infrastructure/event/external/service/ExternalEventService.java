@@ -29,9 +29,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.avro.BulkMessageItemV1;
 import org.apache.fineract.avro.BulkMessagePayloadV1;
 import org.apache.fineract.avro.generator.ByteBufferSerializable;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
@@ -54,6 +57,7 @@ public class ExternalEventService {
     private final ByteBufferConverter byteBufferConverter;
     private final BulkMessageItemFactory bulkMessageItemFactory;
     private final DataEnricherProcessor dataEnricherProcessor;
+    private final ExternalEventBatchWriter batchWriter;
 
     private EntityManager entityManager;
 
@@ -62,21 +66,55 @@ public class ExternalEventService {
             throw new IllegalArgumentException("event cannot be null");
         }
 
+        flushChangesBeforeSerialization();
+        ExternalEvent externalEvent = createExternalEvent(event);
+        repository.save(externalEvent);
+        log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
+                externalEvent.getType(), externalEvent.getCategory());
+    }
+
+    /**
+     * Posts the events collected during a transaction: the changes are flushed once, every event is serialized within the
+     * context it was raised in and all of them are written with one batch insert.
+     */
+    public void postEvents(List<BusinessEventWithContext> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (events.size() == 1) {
+            BusinessEventWithContext eventWithContext = events.get(0);
+            runInContext(eventWithContext.getFineractContext(), () -> postEvent(eventWithContext.getEvent()));
+            return;
+        }
+
+        flushChangesBeforeSerialization();
+        List<ExternalEvent> externalEvents = new ArrayList<>(events.size());
+        for (BusinessEventWithContext eventWithContext : events) {
+            runInContext(eventWithContext.getFineractContext(), () -> externalEvents.add(createExternalEvent(eventWithContext.getEvent())));
+        }
+        batchWriter.insert(externalEvents);
+        log.debug("Saved {} messages with one batch insert", externalEvents.size());
+    }
+
+    private void runInContext(FineractContext fineractContext, Runnable runnable) {
+        FineractContext originalContext = ThreadLocalContextUtil.getContext();
+        try {
+            ThreadLocalContextUtil.init(fineractContext);
+            runnable.run();
+        } finally {
+            ThreadLocalContextUtil.init(originalContext);
+        }
+    }
+
+    private ExternalEvent createExternalEvent(BusinessEvent<?> event) {
         try {
-            flushChangesBeforeSerialization();
-            ExternalEvent externalEvent;
             if (event instanceof BulkBusinessEvent) {
-                externalEvent = handleBulkBusinessEvent((BulkBusinessEvent) event);
-            } else {
-                externalEvent = handleRegularBusinessEvent(event);
+                return handleBulkBusinessEvent((BulkBusinessEvent) event);
             }
-            repository.save(externalEvent);
-            log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
-                    externalEvent.getType(), externalEvent.getCategory());
+            return handleRegularBusinessEvent(event);
         } catch (IOException e) {
             throw new RuntimeException("Error while serializing event " + event.getClass().getSimpleName(), e);
         }
-
     }
 
     private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
@@ -58,6 +58,9 @@ public enum JobName {
     PURGE_EXTERNAL_EVENTS("Purge External Events"), //
     PURGE_PROCESSED_COMMANDS("Purge Processed Commands"), //
     ACCRUAL_ACTIVITY_POSTING("Accrual Activity Posting"), //
+    SAVINGS_COB("Savings COB"), //
+    REBUILD_SEARCH_INDEX("Rebuild Search Index"), //
+    RETRY_WEBHOOK_DELIVERIES("Retry Webhook Deliveries"), //
     ;
 
     private final String name;
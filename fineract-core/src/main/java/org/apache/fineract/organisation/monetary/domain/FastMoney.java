@@ -0,0 +1,199 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+
+/**
+ * Immutable monetary amount for the inner loops of calculators, where a {@link Money} would be created for every
+ * intermediate result.
+ * <p>
+ * The amount is kept in minor units (the currency decimal places) in a <code>long</code> and falls back to a
+ * {@link BigDecimal} when it does not fit into 18 digits. Amounts are rounded to the currency decimal places when they
+ * enter, additions and subtractions are exact, and the rounding to multiples of the currency is applied only when the
+ * result is converted back with {@link #toMoney()}.
+ */
+public final class FastMoney implements Comparable<FastMoney> {
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final CurrencyData currency;
+    private final long units;
+    // only set when the amount does not fit into minor units
+    private final BigDecimal amount;
+
+    private FastMoney(final CurrencyData currency, final long units, final BigDecimal amount) {
+        this.currency = currency;
+        this.units = units;
+        this.amount = amount;
+    }
+
+    public static FastMoney zero(final CurrencyData currency) {
+        return new FastMoney(currency, 0L, null);
+    }
+
+    public static FastMoney zero(final MonetaryCurrency currency) {
+        return zero(currency.toData());
+    }
+
+    public static FastMoney of(final Money money) {
+        return ofScaled(money.getCurrencyData(), money.getAmount());
+    }
+
+    public static FastMoney of(final CurrencyData currency, final BigDecimal amount) {
+        return ofScaled(currency, scale(currency, amount));
+    }
+
+    private static FastMoney ofScaled(final CurrencyData currency, final BigDecimal scaledAmount) {
+        final BigDecimal minorUnits = scaledAmount.scaleByPowerOfTen(currency.getDecimalPlaces());
+        if (minorUnits.scale() <= 0 && minorUnits.precision() - minorUnits.scale() <= MAX_LONG_DIGITS) {
+            return new FastMoney(currency, minorUnits.longValue(), null);
+        }
+        return new FastMoney(currency, 0L, scaledAmount);
+    }
+
+    private static BigDecimal scale(final CurrencyData currency, final BigDecimal amount) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        if (isRoundedToMultiples(currency)) {
+            // same rounding as a Money created from the amount
+            return Money.of(currency, amount).getAmount();
+        }
+        if (amount.scale() <= currency.getDecimalPlaces()) {
+            return amount;
+        }
+        return amount.setScale(currency.getDecimalPlaces(), MoneyHelper.getRoundingMode());
+    }
+
+    private static boolean isRoundedToMultiples(final CurrencyData currency) {
+        return currency.getInMultiplesOf() != null && currency.getDecimalPlaces() == 0 && currency.getInMultiplesOf() > 0;
+    }
+
+    public FastMoney plus(final FastMoney other) {
+        checkCurrencyEqual(other.currency.getCode());
+        if (this.amount == null && other.amount == null) {
+            final long result = this.units + other.units;
+            // overflow only when both operands have the same sign and the result has a different one
+            if (((this.units ^ result) & (other.units ^ result)) >= 0) {
+                return new FastMoney(this.currency, result, null);
+            }
+        }
+        return ofScaled(this.currency, getAmount().add(other.getAmount()));
+    }
+
+    public FastMoney plus(final Money money) {
+        if (money == null) {
+            return this;
+        }
+        return plus(of(money));
+    }
+
+    public FastMoney plus(final BigDecimal amountToAdd) {
+        if (amountToAdd == null || amountToAdd.signum() == 0) {
+            return this;
+        }
+        return plus(of(this.currency, amountToAdd));
+    }
+
+    public FastMoney minus(final FastMoney other) {
+        return plus(other.negated());
+    }
+
+    public FastMoney minus(final Money money) {
+        if (money == null) {
+            return this;
+        }
+        return minus(of(money));
+    }
+
+    public FastMoney minus(final BigDecimal amountToSubtract) {
+        if (amountToSubtract == null || amountToSubtract.signum() == 0) {
+            return this;
+        }
+        return minus(of(this.currency, amountToSubtract));
+    }
+
+    public FastMoney negated() {
+        if (this.amount == null && this.units != Long.MIN_VALUE) {
+            return new FastMoney(this.currency, -this.units, null);
+        }
+        return ofScaled(this.currency, getAmount().negate());
+    }
+
+    public int signum() {
+        return this.amount == null ? Long.signum(this.units) : this.amount.signum();
+    }
+
+    public boolean isZero() {
+        return signum() == 0;
+    }
+
+    public boolean isGreaterThanZero() {
+        return signum() > 0;
+    }
+
+    public boolean isLessThanZero() {
+        return signum() < 0;
+    }
+
+    @Override
+    public int compareTo(final FastMoney other) {
+        checkCurrencyEqual(other.currency.getCode());
+        if (this.amount == null && other.amount == null) {
+            return Long.compare(this.units, other.units);
+        }
+        return getAmount().compareTo(other.getAmount());
+    }
+
+    public CurrencyData getCurrencyData() {
+        return this.currency;
+    }
+
+    /**
+     * @return the amount with the currency decimal places, not rounded to multiples of the currency
+     */
+    public BigDecimal getAmount() {
+        if (this.amount != null) {
+            return this.amount.setScale(this.currency.getDecimalPlaces());
+        }
+        return BigDecimal.valueOf(this.units, this.currency.getDecimalPlaces());
+    }
+
+    public Money toMoney() {
+        return Money.of(this.currency, getAmount());
+    }
+
+    public Money toMoney(final MathContext mc) {
+        return Money.of(this.currency, getAmount(), mc);
+    }
+
+    private void checkCurrencyEqual(final String currencyCode) {
+        if (!this.currency.getCode().equals(currencyCode)) {
+            throw new UnsupportedOperationException("currencies are different.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.currency.getCode() + ' ' + getAmount().toPlainString();
+    }
+}
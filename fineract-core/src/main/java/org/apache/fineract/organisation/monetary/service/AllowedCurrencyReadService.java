@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.service;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reads the currencies allowed for the organisation through the cache. It does not check the caller, which is left to
+ * {@link CurrencyReadPlatformService#retrieveAllowedCurrencies()} so it happens on cache hits too.
+ */
+@RequiredArgsConstructor
+public class AllowedCurrencyReadService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CurrencyReadPlatformServiceImpl.CurrencyMapper currencyRowMapper = new CurrencyReadPlatformServiceImpl.CurrencyMapper();
+
+    @Cacheable(value = "currencies", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('oc')")
+    public Collection<CurrencyData> retrieveAll() {
+        final String sql = "select " + this.currencyRowMapper.schema() + " from m_organisation_currency c order by c.name";
+
+        return this.jdbcTemplate.query(sql, this.currencyRowMapper); // NOSONAR
+    }
+}
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -33,19 +34,20 @@ public class CurrencyReadPlatformServiceImpl implements CurrencyReadPlatformServ
 
     private final PlatformSecurityContext context;
     private final JdbcTemplate jdbcTemplate;
+    private final AllowedCurrencyReadService allowedCurrencyReadService;
     private final CurrencyMapper currencyRowMapper = new CurrencyMapper();
 
     @Override
     public Collection<CurrencyData> retrieveAllowedCurrencies() {
 
+        // checked before the cached lookup, so cache hits are authenticated too
         this.context.authenticatedUser();
 
-        final String sql = "select " + this.currencyRowMapper.schema() + " from m_organisation_currency c order by c.name";
-
-        return this.jdbcTemplate.query(sql, this.currencyRowMapper); // NOSONAR
+        return this.allowedCurrencyReadService.retrieveAll();
     }
 
     @Override
+    @Cacheable(value = "currencies", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('cu')")
     public Collection<CurrencyData> retrieveAllPlatformCurrencies() {
 
         final String sql = "select " + this.currencyRowMapper.schema() + " from m_currency c order by c.name";
@@ -54,6 +56,7 @@ public class CurrencyReadPlatformServiceImpl implements CurrencyReadPlatformServ
     }
 
     @Override
+    @Cacheable(value = "currencies", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#code + 'cu')")
     public CurrencyData retrieveCurrency(final String code) {
 
         final String sql = "select " + this.currencyRowMapper.schema() + " from m_currency c  where c.code = ? order by c.name";
@@ -61,7 +64,7 @@ public class CurrencyReadPlatformServiceImpl implements CurrencyReadPlatformServ
         return this.jdbcTemplate.queryForObject(sql, this.currencyRowMapper, new Object[] { code }); // NOSONAR
     }
 
-    private static final class CurrencyMapper implements RowMapper<CurrencyData> {
+    static final class CurrencyMapper implements RowMapper<CurrencyData> {
 
         @Override
         public CurrencyData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
@@ -0,0 +1,40 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings;
+
+/**
+ * How the posting periods of a savings account are built when interest is calculated from the account data.
+ */
+public enum SavingsInterestCalculationMode {
+
+    /**
+     * End of day balances are {@link org.apache.fineract.organisation.monetary.domain.Money} objects created per transaction
+     * and posting period.
+     */
+    STANDARD, //
+    /**
+     * End of day balances are threaded through scaled longs in the minor unit of the currency, falling back to
+     * {@link #STANDARD} for accounts whose amounts can not be represented that way.
+     */
+    SCALED, //
+    /**
+     * Both are calculated, differences are logged and the {@link #STANDARD} result is used.
+     */
+    VERIFY
+}
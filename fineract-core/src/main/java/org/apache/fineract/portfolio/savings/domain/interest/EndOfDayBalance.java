@@ -54,8 +54,12 @@ public class EndOfDayBalance {
     }
 
     public BigDecimal cumulativeBalance(final BigDecimal interestToCompound) {
-        final BigDecimal daysAsBigDecimal = BigDecimal.valueOf(this.numberOfDays);
-        final BigDecimal realBalanceForInterestCalculation = this.endOfDayBalance.getAmount().add(interestToCompound);
+        return cumulativeBalance(this.endOfDayBalance.getAmount(), this.numberOfDays, interestToCompound);
+    }
+
+    static BigDecimal cumulativeBalance(final BigDecimal endOfDayBalance, final int numberOfDays, final BigDecimal interestToCompound) {
+        final BigDecimal daysAsBigDecimal = BigDecimal.valueOf(numberOfDays);
+        final BigDecimal realBalanceForInterestCalculation = endOfDayBalance.add(interestToCompound);
         return realBalanceForInterestCalculation.multiply(daysAsBigDecimal, MathContext.DECIMAL64).setScale(9,
                 MoneyHelper.getRoundingMode());
     }
@@ -63,14 +67,22 @@ public class EndOfDayBalance {
     public BigDecimal calculateInterestOnBalance(final BigDecimal interestToCompound, final BigDecimal interestRateAsFraction,
             final long daysInYear, final BigDecimal minBalanceForInterestCalculation, final BigDecimal overdraftInterestRateAsFraction,
             final BigDecimal minOverdraftForInterestCalculation) {
+        return calculateInterestOnBalance(this.endOfDayBalance.getAmount(), this.numberOfDays, interestToCompound, interestRateAsFraction,
+                daysInYear, minBalanceForInterestCalculation, overdraftInterestRateAsFraction, minOverdraftForInterestCalculation);
+    }
+
+    static BigDecimal calculateInterestOnBalance(final BigDecimal endOfDayBalance, final int numberOfDays,
+            final BigDecimal interestToCompound, final BigDecimal interestRateAsFraction, final long daysInYear,
+            final BigDecimal minBalanceForInterestCalculation, final BigDecimal overdraftInterestRateAsFraction,
+            final BigDecimal minOverdraftForInterestCalculation) {
 
         BigDecimal interest = BigDecimal.ZERO.setScale(9, MoneyHelper.getRoundingMode());
-        final BigDecimal realBalanceForInterestCalculation = this.endOfDayBalance.getAmount().add(interestToCompound);
+        final BigDecimal realBalanceForInterestCalculation = endOfDayBalance.add(interestToCompound);
         if (realBalanceForInterestCalculation.compareTo(BigDecimal.ZERO) >= 0) {
             if (realBalanceForInterestCalculation.compareTo(minBalanceForInterestCalculation) >= 0) {
                 final BigDecimal multiplicand = BigDecimal.ONE.divide(BigDecimal.valueOf(daysInYear), MathContext.DECIMAL64);
                 final BigDecimal dailyInterestRate = interestRateAsFraction.multiply(multiplicand, MathContext.DECIMAL64);
-                final BigDecimal periodicInterestRate = dailyInterestRate.multiply(BigDecimal.valueOf(this.numberOfDays),
+                final BigDecimal periodicInterestRate = dailyInterestRate.multiply(BigDecimal.valueOf(numberOfDays),
                         MathContext.DECIMAL64);
                 interest = realBalanceForInterestCalculation.multiply(periodicInterestRate, MathContext.DECIMAL64).setScale(9,
                         MoneyHelper.getRoundingMode());
@@ -79,7 +91,7 @@ public class EndOfDayBalance {
             if (realBalanceForInterestCalculation.compareTo(minOverdraftForInterestCalculation.negate()) < 0) {
                 final BigDecimal multiplicand = BigDecimal.ONE.divide(BigDecimal.valueOf(daysInYear), MathContext.DECIMAL64);
                 final BigDecimal dailyInterestRate = overdraftInterestRateAsFraction.multiply(multiplicand, MathContext.DECIMAL64);
-                final BigDecimal periodicInterestRate = dailyInterestRate.multiply(BigDecimal.valueOf(this.numberOfDays),
+                final BigDecimal periodicInterestRate = dailyInterestRate.multiply(BigDecimal.valueOf(numberOfDays),
                         MathContext.DECIMAL64);
                 interest = realBalanceForInterestCalculation.multiply(periodicInterestRate, MathContext.DECIMAL64).setScale(9,
                         MoneyHelper.getRoundingMode());
@@ -97,9 +109,18 @@ public class EndOfDayBalance {
     public BigDecimal calculateInterestOnBalanceAndInterest(final BigDecimal interestToCompound, final BigDecimal interestRateAsFraction,
             final long daysInYear, final BigDecimal minBalanceForInterestCalculation, final BigDecimal overdraftInterestRateAsFraction,
             final BigDecimal minOverdraftForInterestCalculation) {
+        return calculateInterestOnBalanceAndInterest(this.endOfDayBalance.getAmount(), this.numberOfDays, interestToCompound,
+                interestRateAsFraction, daysInYear, minBalanceForInterestCalculation, overdraftInterestRateAsFraction,
+                minOverdraftForInterestCalculation);
+    }
+
+    static BigDecimal calculateInterestOnBalanceAndInterest(final BigDecimal endOfDayBalance, final int numberOfDays,
+            final BigDecimal interestToCompound, final BigDecimal interestRateAsFraction, final long daysInYear,
+            final BigDecimal minBalanceForInterestCalculation, final BigDecimal overdraftInterestRateAsFraction,
+            final BigDecimal minOverdraftForInterestCalculation) {
         final BigDecimal multiplicand = BigDecimal.ONE.divide(BigDecimal.valueOf(daysInYear), MathContext.DECIMAL64);
 
-        final BigDecimal presentValue = this.endOfDayBalance.getAmount().add(interestToCompound);
+        final BigDecimal presentValue = endOfDayBalance.add(interestToCompound);
         BigDecimal futureValue = presentValue.setScale(9, MoneyHelper.getRoundingMode());
 
         if (presentValue.compareTo(BigDecimal.ZERO) >= 0) {
@@ -109,7 +130,7 @@ public class EndOfDayBalance {
                 final BigDecimal interestRateForCompoundingPeriodPlusOne = BigDecimal.ONE.add(r);
 
                 final double interestRateForCompoundingPeriodPowered = Math.pow(interestRateForCompoundingPeriodPlusOne.doubleValue(),
-                        Integer.valueOf(this.numberOfDays).doubleValue());
+                        Integer.valueOf(numberOfDays).doubleValue());
                 futureValue = presentValue.multiply(BigDecimal.valueOf(interestRateForCompoundingPeriodPowered), MathContext.DECIMAL64)
                         .setScale(9, MoneyHelper.getRoundingMode());
             }
@@ -120,7 +141,7 @@ public class EndOfDayBalance {
                 final BigDecimal interestRateForCompoundingPeriodPlusOne = BigDecimal.ONE.add(r);
 
                 final double interestRateForCompoundingPeriodPowered = Math.pow(interestRateForCompoundingPeriodPlusOne.doubleValue(),
-                        Integer.valueOf(this.numberOfDays).doubleValue());
+                        Integer.valueOf(numberOfDays).doubleValue());
                 futureValue = presentValue.multiply(BigDecimal.valueOf(interestRateForCompoundingPeriodPowered), MathContext.DECIMAL64)
                         .setScale(9, MoneyHelper.getRoundingMode());
             }
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.function.BiFunction;
 import org.apache.fineract.infrastructure.core.domain.LocalDateInterval;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
@@ -148,7 +149,9 @@ public final class PostingPeriod {
         }
 
         final List<CompoundingPeriod> compoundingPeriods = compoundingPeriodsInPostingPeriod(periodInterval, interestCompoundingPeriodType,
-                accountEndOfDayBalances, upToInterestCalculationDate, financialYearBeginningMonth);
+                upToInterestCalculationDate, financialYearBeginningMonth,
+                (compoundingPeriodType, compoundingPeriodInterval) -> endOfDayBalanceCompoundingPeriod(compoundingPeriodType,
+                        compoundingPeriodInterval, accountEndOfDayBalances, upToInterestCalculationDate));
 
         return new PostingPeriod(periodInterval, currency, periodStartingBalance, openingDayBalance, interestCompoundingPeriodType,
                 interestCalculationType, interestRateAsFraction, daysInYear, compoundingPeriods, interestTransfered,
@@ -222,7 +225,9 @@ public final class PostingPeriod {
         }
 
         final List<CompoundingPeriod> compoundingPeriods = compoundingPeriodsInPostingPeriod(periodInterval, interestCompoundingPeriodType,
-                accountEndOfDayBalances, upToInterestCalculationDate, financialYearBeginningMonth);
+                upToInterestCalculationDate, financialYearBeginningMonth,
+                (compoundingPeriodType, compoundingPeriodInterval) -> endOfDayBalanceCompoundingPeriod(compoundingPeriodType,
+                        compoundingPeriodInterval, accountEndOfDayBalances, upToInterestCalculationDate));
 
         return new PostingPeriod(periodInterval, currency, periodStartingBalance, openingDayBalance, interestCompoundingPeriodType,
                 interestCalculationType, interestRateAsFraction, daysInYear, compoundingPeriods, interestTransfered,
@@ -230,6 +235,126 @@ public final class PostingPeriod {
                 minOverdraftForInterestCalculation, isUserPosting, financialYearBeginningMonth);
     }
 
+    /**
+     * Same posting period as {@link #createFromDTO} for the transactions behind <code>dayBalances</code>, but the balance of
+     * the period is threaded through scaled longs and only the transactions overlapping the period are visited. Money is
+     * created for the opening and closing balance of the period only.
+     */
+    public static PostingPeriod createFromScaledDayBalances(final LocalDateInterval periodInterval, final Money periodStartingBalance,
+            final ScaledDayBalances dayBalances, final MonetaryCurrency currency,
+            final SavingsCompoundingInterestPeriodType interestCompoundingPeriodType,
+            final SavingsInterestCalculationType interestCalculationType, final BigDecimal interestRateAsFraction, final long daysInYear,
+            final LocalDate upToInterestCalculationDate, boolean isInterestTransfer, final Money minBalanceForInterestCalculation,
+            final boolean isSavingsInterestPostingAtCurrentPeriodEnd, final BigDecimal overdraftInterestRateAsFraction,
+            final Money minOverdraftForInterestCalculation, boolean isUserPosting, int financialYearBeginningMonth,
+            final boolean isAllowOverdraft) {
+
+        final int periodStartDay = Math.toIntExact(periodInterval.startDate().toEpochDay());
+        final int periodEndDay = Math.toIntExact(periodInterval.endDate().toEpochDay());
+        final int upToDay = Math.toIntExact(upToInterestCalculationDate.toEpochDay());
+
+        // transactions before 'from' have no balance in this period, transactions from 'to' on start after it
+        final int from = dayBalances.firstIndexWithBalanceUntil(periodStartDay);
+        final int to = dayBalances.firstIndexAfter(periodEndDay);
+        final int capacity = Math.max(to - from, 0) + 1;
+        final int[] balanceStartDays = new int[capacity];
+        final int[] balanceDays = new int[capacity];
+        final long[] closingBalances = new long[capacity];
+        int balanceCount = 0;
+
+        long openingDayBalance = dayBalances.toScaled(periodStartingBalance);
+        long closeOfDayBalance = openingDayBalance;
+
+        for (int i = from; i < to; i++) {
+            final int transactionDay = dayBalances.transactionDay(i);
+            final int balanceEndDay = dayBalances.balanceEndDay(i);
+
+            if (transactionDay >= periodStartDay && transactionDay <= periodEndDay && balanceEndDay >= periodStartDay
+                    && balanceEndDay <= periodEndDay) {
+                // see SavingsAccountTransactionData#toEndOfDayBalance
+                final long closingBalance = closingBalance(dayBalances, i, openingDayBalance, false);
+                balanceStartDays[balanceCount] = transactionDay;
+                balanceDays[balanceCount] = dayBalances.balanceDays(i);
+                closingBalances[balanceCount++] = closingBalance;
+
+                openingDayBalance = closingBalance;
+
+            } else if ((transactionDay <= periodStartDay && periodStartDay <= balanceEndDay)
+                    || (transactionDay <= periodEndDay && periodEndDay <= balanceEndDay)) {
+                // see SavingsAccountTransactionData#toEndOfDayBalanceBoundedBy
+                int balanceStartDay = transactionDay;
+                int numberOfDaysOfBalance = dayBalances.balanceDays(i);
+                long closingBalance = openingDayBalance;
+                if (periodStartDay > transactionDay) {
+                    balanceStartDay = periodStartDay;
+                    numberOfDaysOfBalance = balanceEndDay - balanceStartDay + 1;
+                } else {
+                    closingBalance = closingBalance(dayBalances, i, openingDayBalance, isAllowOverdraft);
+                }
+                if (balanceEndDay > periodEndDay) {
+                    numberOfDaysOfBalance = periodEndDay - balanceStartDay + 1;
+                }
+                balanceStartDays[balanceCount] = balanceStartDay;
+                balanceDays[balanceCount] = numberOfDaysOfBalance;
+                closingBalances[balanceCount++] = closingBalance;
+
+                closeOfDayBalance = closingBalance;
+                openingDayBalance = closeOfDayBalance;
+            }
+        }
+
+        // this check is to make sure to add interest if withdrawal is
+        // happened for already
+        boolean interestTransfered = false;
+        for (int i = to; i < dayBalances.size() && dayBalances.transactionDay(i) == periodEndDay + 1; i++) {
+            if (!dayBalances.isPersisted(i)) {
+                interestTransfered = isInterestTransfer;
+            } else if (dayBalances.isInterestPostTransaction(i)) {
+                interestTransfered = true;
+            }
+        }
+
+        if (balanceCount == 0) {
+            int numberOfDaysOfBalance = periodEndDay - periodStartDay + 1;
+            if (periodEndDay > upToDay) {
+                numberOfDaysOfBalance = upToDay - periodStartDay + 1;
+            }
+            balanceStartDays[0] = periodStartDay;
+            balanceDays[0] = numberOfDaysOfBalance;
+            closingBalances[0] = closeOfDayBalance;
+            balanceCount = 1;
+
+            openingDayBalance = closeOfDayBalance;
+        }
+
+        final ScaledBalanceCompoundingPeriod.Balances periodBalances = new ScaledBalanceCompoundingPeriod.Balances(dayBalances,
+                balanceStartDays, balanceDays, closingBalances, balanceCount, upToDay);
+        final List<CompoundingPeriod> compoundingPeriods = compoundingPeriodsInPostingPeriod(periodInterval, interestCompoundingPeriodType,
+                upToInterestCalculationDate, financialYearBeginningMonth,
+                (compoundingPeriodType, compoundingPeriodInterval) -> new ScaledBalanceCompoundingPeriod(compoundingPeriodInterval,
+                        SavingsCompoundingInterestPeriodType.DAILY.equals(compoundingPeriodType), periodBalances));
+
+        return new PostingPeriod(periodInterval, currency, periodStartingBalance, dayBalances.toMoney(currency, openingDayBalance),
+                interestCompoundingPeriodType, interestCalculationType, interestRateAsFraction, daysInYear, compoundingPeriods,
+                interestTransfered, minBalanceForInterestCalculation, isSavingsInterestPostingAtCurrentPeriodEnd,
+                overdraftInterestRateAsFraction, minOverdraftForInterestCalculation, isUserPosting, financialYearBeginningMonth);
+    }
+
+    private static long closingBalance(final ScaledDayBalances dayBalances, final int index, final long openingBalance,
+            final boolean isAllowOverdraft) {
+        switch (dayBalances.kind(index)) {
+            case ScaledDayBalances.CREDIT:
+                return Math.addExact(openingBalance, dayBalances.amount(index));
+            case ScaledDayBalances.DEBIT:
+                if (openingBalance > 0 || isAllowOverdraft) {
+                    return Math.subtractExact(openingBalance, dayBalances.amount(index));
+                }
+                return dayBalances.runningBalance(index);
+            default:
+                return openingBalance;
+        }
+    }
+
     private PostingPeriod(final LocalDateInterval periodInterval, final MonetaryCurrency currency, final Money openingBalance,
             final Money closingBalance, final SavingsCompoundingInterestPeriodType interestCompoundingType,
             final SavingsInterestCalculationType interestCalculationType, final BigDecimal interestRateAsFraction, final long daysInYear,
@@ -313,9 +438,29 @@ public final class PostingPeriod {
         return this.interestEarnedRounded;
     }
 
+    private static CompoundingPeriod endOfDayBalanceCompoundingPeriod(final SavingsCompoundingInterestPeriodType interestPeriodType,
+            final LocalDateInterval compoundingPeriodInterval, final List<EndOfDayBalance> allEndOfDayBalances,
+            final LocalDate upToInterestCalculationDate) {
+        switch (interestPeriodType) {
+            case DAILY:
+                return DailyCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances, upToInterestCalculationDate);
+            case MONTHLY:
+                return MonthlyCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances, upToInterestCalculationDate);
+            case QUATERLY:
+                return QuarterlyCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances, upToInterestCalculationDate);
+            case BI_ANNUAL:
+                return BiAnnualCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances, upToInterestCalculationDate);
+            case ANNUAL:
+                return AnnualCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances, upToInterestCalculationDate);
+            default:
+                throw new IllegalArgumentException("No compounding period for " + interestPeriodType);
+        }
+    }
+
     private static List<CompoundingPeriod> compoundingPeriodsInPostingPeriod(final LocalDateInterval postingPeriodInterval,
-            final SavingsCompoundingInterestPeriodType interestPeriodType, final List<EndOfDayBalance> allEndOfDayBalances,
-            final LocalDate upToInterestCalculationDate, int financialYearBeginningMonth) {
+            final SavingsCompoundingInterestPeriodType interestPeriodType, final LocalDate upToInterestCalculationDate,
+            int financialYearBeginningMonth,
+            final BiFunction<SavingsCompoundingInterestPeriodType, LocalDateInterval, CompoundingPeriod> compoundingPeriodFactory) {
 
         final List<CompoundingPeriod> compoundingPeriods = new ArrayList<>();
 
@@ -324,7 +469,7 @@ public final class PostingPeriod {
             case INVALID:
             break;
             case DAILY:
-                compoundingPeriod = DailyCompoundingPeriod.create(postingPeriodInterval, allEndOfDayBalances, upToInterestCalculationDate);
+                compoundingPeriod = compoundingPeriodFactory.apply(interestPeriodType, postingPeriodInterval);
                 compoundingPeriods.add(compoundingPeriod);
             break;
             case MONTHLY:
@@ -343,8 +488,7 @@ public final class PostingPeriod {
 
                     final LocalDateInterval compoundingPeriodInterval = LocalDateInterval.create(periodStartDate, periodEndDate);
                     if (postingPeriodInterval.contains(compoundingPeriodInterval)) {
-                        compoundingPeriod = MonthlyCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances,
-                                upToInterestCalculationDate);
+                        compoundingPeriod = compoundingPeriodFactory.apply(interestPeriodType, compoundingPeriodInterval);
                         compoundingPeriods.add(compoundingPeriod);
                     }
 
@@ -372,8 +516,7 @@ public final class PostingPeriod {
 
                     final LocalDateInterval compoundingPeriodInterval = LocalDateInterval.create(periodStartDate, periodEndDate);
                     if (postingPeriodInterval.contains(compoundingPeriodInterval)) {
-                        compoundingPeriod = QuarterlyCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances,
-                                upToInterestCalculationDate);
+                        compoundingPeriod = compoundingPeriodFactory.apply(interestPeriodType, compoundingPeriodInterval);
                         compoundingPeriods.add(compoundingPeriod);
                     }
 
@@ -398,8 +541,7 @@ public final class PostingPeriod {
                     final LocalDateInterval compoundingPeriodInterval = LocalDateInterval.create(periodStartDate, periodEndDate);
                     if (postingPeriodInterval.contains(compoundingPeriodInterval)) {
 
-                        compoundingPeriod = BiAnnualCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances,
-                                upToInterestCalculationDate);
+                        compoundingPeriod = compoundingPeriodFactory.apply(interestPeriodType, compoundingPeriodInterval);
                         compoundingPeriods.add(compoundingPeriod);
                     }
 
@@ -425,8 +567,7 @@ public final class PostingPeriod {
                     final LocalDateInterval compoundingPeriodInterval = LocalDateInterval.create(periodStartDate, periodEndDate);
                     if (postingPeriodInterval.contains(compoundingPeriodInterval)) {
 
-                        compoundingPeriod = AnnualCompoundingPeriod.create(compoundingPeriodInterval, allEndOfDayBalances,
-                                upToInterestCalculationDate);
+                        compoundingPeriod = compoundingPeriodFactory.apply(interestPeriodType, compoundingPeriodInterval);
                         compoundingPeriods.add(compoundingPeriod);
                     }
 
@@ -0,0 +1,220 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain.interest;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.apache.fineract.infrastructure.core.domain.LocalDateInterval;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+
+/**
+ * Compounding period over the scaled end of day balances of a posting period. Selects and caps the balances the same way
+ * as {@link DailyCompoundingPeriod} and {@link MonthlyCompoundingPeriod} (and its quarterly, bi-annual and annual
+ * siblings) do with {@link EndOfDayBalance#upTo}, and calculates interest with the {@link EndOfDayBalance} formulas.
+ * Balances of zero earn no interest and are skipped without creating any {@link BigDecimal}.
+ */
+public final class ScaledBalanceCompoundingPeriod implements CompoundingPeriod {
+
+    /**
+     * End of day balances of one posting period, shared by its compounding periods.
+     */
+    record Balances(ScaledDayBalances dayBalances, int[] startDays, int[] numberOfDays, long[] closingBalances, int count,
+            int upToDay) {
+    }
+
+    private final LocalDateInterval periodInterval;
+    private final int periodStartDay;
+    private final int periodEndDay;
+    private final boolean dailyCompounding;
+    private final Balances balances;
+
+    ScaledBalanceCompoundingPeriod(final LocalDateInterval periodInterval, final boolean dailyCompounding, final Balances balances) {
+        this.periodInterval = periodInterval;
+        this.periodStartDay = Math.toIntExact(periodInterval.startDate().toEpochDay());
+        this.periodEndDay = Math.toIntExact(periodInterval.endDate().toEpochDay());
+        this.dailyCompounding = dailyCompounding;
+        this.balances = balances;
+    }
+
+    @Override
+    public BigDecimal calculateInterest(final SavingsCompoundingInterestPeriodType compoundingInterestPeriodType,
+            final SavingsInterestCalculationType interestCalculationType, final BigDecimal interestToCompound,
+            final BigDecimal interestRateAsFraction, final long daysInYear, final BigDecimal minBalanceForInterestCalculation,
+            final BigDecimal overdraftInterestRateAsFraction, final BigDecimal minOverdraftForInterestCalculation) {
+        if (this.dailyCompounding) {
+            // see DailyCompoundingPeriod, which ignores the interest calculation type
+            return calculateUsingDailyCompounding(interestToCompound, interestRateAsFraction, daysInYear, minBalanceForInterestCalculation,
+                    overdraftInterestRateAsFraction, minOverdraftForInterestCalculation);
+        }
+        switch (interestCalculationType) {
+            case DAILY_BALANCE:
+                return calculateUsingDailyBalanceMethod(compoundingInterestPeriodType, interestToCompound, interestRateAsFraction,
+                        daysInYear, minBalanceForInterestCalculation, overdraftInterestRateAsFraction, minOverdraftForInterestCalculation);
+            case AVERAGE_DAILY_BALANCE:
+                return calculateUsingAverageDailyBalanceMethod(interestToCompound, interestRateAsFraction, daysInYear,
+                        minBalanceForInterestCalculation, overdraftInterestRateAsFraction, minOverdraftForInterestCalculation);
+            default:
+                return BigDecimal.ZERO;
+        }
+    }
+
+    private BigDecimal calculateUsingDailyCompounding(final BigDecimal interestFromPreviousPostingPeriod,
+            final BigDecimal interestRateAsFraction, final long daysInYear, final BigDecimal minBalanceForInterestCalculation,
+            final BigDecimal overdraftInterestRateAsFraction, final BigDecimal minOverdraftForInterestCalculation) {
+        BigDecimal interestEarned = BigDecimal.ZERO;
+
+        BigDecimal interestToCompound = interestFromPreviousPostingPeriod;
+        for (int i = 0; i < this.balances.count(); i++) {
+            final long closingBalance = this.balances.closingBalances()[i];
+            if (closingBalance == 0L && interestToCompound.signum() == 0) {
+                continue;
+            }
+            final int numberOfDays = overlapsPeriod(i) ? daysWithin(i, this.periodEndDay) : daysWithin(i, this.balances.upToDay());
+            final BigDecimal interestOnBalanceUnrounded = EndOfDayBalance.calculateInterestOnBalanceAndInterest(
+                    this.balances.dayBalances().toAmount(closingBalance), numberOfDays, interestToCompound, interestRateAsFraction,
+                    daysInYear, minBalanceForInterestCalculation, overdraftInterestRateAsFraction, minOverdraftForInterestCalculation);
+            interestToCompound = interestToCompound.add(interestOnBalanceUnrounded, MathContext.DECIMAL64).setScale(9);
+            interestEarned = interestEarned.add(interestOnBalanceUnrounded);
+        }
+
+        return interestEarned;
+    }
+
+    private BigDecimal calculateUsingDailyBalanceMethod(final SavingsCompoundingInterestPeriodType compoundingInterestPeriodType,
+            final BigDecimal interestToCompound, final BigDecimal interestRateAsFraction, final long daysInYear,
+            final BigDecimal minBalanceForInterestCalculation, final BigDecimal overdraftInterestRateAsFraction,
+            final BigDecimal minOverdraftForInterestCalculation) {
+        if (SavingsCompoundingInterestPeriodType.INVALID.equals(compoundingInterestPeriodType)) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal interestEarned = BigDecimal.ZERO;
+        final boolean noInterestToCompound = interestToCompound.signum() == 0;
+        for (int i = 0; i < this.balances.count(); i++) {
+            final long closingBalance = this.balances.closingBalances()[i];
+            if (!overlapsPeriod(i) || (closingBalance == 0L && noInterestToCompound)) {
+                continue;
+            }
+            final int numberOfDays = daysWithin(i, this.periodEndDay);
+            final BigDecimal balance = this.balances.dayBalances().toAmount(closingBalance);
+            if (SavingsCompoundingInterestPeriodType.DAILY.equals(compoundingInterestPeriodType)) {
+                interestEarned = interestEarned.add(EndOfDayBalance.calculateInterestOnBalanceAndInterest(balance, numberOfDays,
+                        interestToCompound, interestRateAsFraction, daysInYear, minBalanceForInterestCalculation,
+                        overdraftInterestRateAsFraction, minOverdraftForInterestCalculation));
+            } else {
+                interestEarned = interestEarned.add(EndOfDayBalance.calculateInterestOnBalance(balance, numberOfDays, interestToCompound,
+                        interestRateAsFraction, daysInYear, minBalanceForInterestCalculation, overdraftInterestRateAsFraction,
+                        minOverdraftForInterestCalculation));
+            }
+        }
+        return interestEarned;
+    }
+
+    private BigDecimal calculateUsingAverageDailyBalanceMethod(final BigDecimal interestToCompound, final BigDecimal interestRateAsFraction,
+            final long daysInYear, final BigDecimal minBalanceForInterestCalculation, final BigDecimal overdraftInterestRateAsFraction,
+            final BigDecimal minOverdraftForInterestCalculation) {
+
+        BigDecimal cumulativeBalance = BigDecimal.ZERO;
+        int numberOfDays = 0;
+        final boolean noInterestToCompound = interestToCompound.signum() == 0;
+
+        for (int i = 0; i < this.balances.count(); i++) {
+            if (!overlapsPeriod(i)) {
+                continue;
+            }
+            final long closingBalance = this.balances.closingBalances()[i];
+            final int balanceExistsForNumberOfDays = daysWithin(i, this.periodEndDay);
+            if (closingBalance != 0L || !noInterestToCompound) {
+                cumulativeBalance = cumulativeBalance.add(EndOfDayBalance.cumulativeBalance(
+                        this.balances.dayBalances().toAmount(closingBalance), balanceExistsForNumberOfDays, interestToCompound));
+            }
+            numberOfDays = numberOfDays + balanceExistsForNumberOfDays;
+        }
+
+        BigDecimal interestEarned = BigDecimal.ZERO;
+        if (cumulativeBalance.compareTo(BigDecimal.ZERO) != 0 && numberOfDays > 0) {
+            final BigDecimal averageDailyBalance = cumulativeBalance.divide(BigDecimal.valueOf(numberOfDays), MathContext.DECIMAL64)
+                    .setScale(9, MoneyHelper.getRoundingMode());
+
+            if (averageDailyBalance.compareTo(BigDecimal.ZERO) >= 0) {
+                if (averageDailyBalance.compareTo(minBalanceForInterestCalculation) >= 0) {
+                    final BigDecimal multiplicand = BigDecimal.ONE.divide(BigDecimal.valueOf(daysInYear), MathContext.DECIMAL64);
+                    final BigDecimal dailyInterestRate = interestRateAsFraction.multiply(multiplicand, MathContext.DECIMAL64);
+                    final BigDecimal periodicInterestRate = dailyInterestRate.multiply(BigDecimal.valueOf(numberOfDays),
+                            MathContext.DECIMAL64);
+                    interestEarned = averageDailyBalance.multiply(periodicInterestRate, MathContext.DECIMAL64).setScale(9,
+                            MoneyHelper.getRoundingMode());
+                }
+            } else {
+                if (averageDailyBalance.compareTo(minOverdraftForInterestCalculation.negate()) < 0) {
+                    final BigDecimal multiplicand = BigDecimal.ONE.divide(BigDecimal.valueOf(daysInYear), MathContext.DECIMAL64);
+                    final BigDecimal dailyInterestRate = overdraftInterestRateAsFraction.multiply(multiplicand, MathContext.DECIMAL64);
+                    final BigDecimal periodicInterestRate = dailyInterestRate.multiply(BigDecimal.valueOf(numberOfDays),
+                            MathContext.DECIMAL64);
+                    interestEarned = averageDailyBalance.multiply(periodicInterestRate, MathContext.DECIMAL64).setScale(9,
+                            MoneyHelper.getRoundingMode());
+                }
+            }
+        }
+
+        return interestEarned;
+    }
+
+    /**
+     * @see LocalDateInterval#contains(java.time.LocalDate)
+     * @see EndOfDayBalance#contains(LocalDateInterval)
+     */
+    private boolean overlapsPeriod(final int index) {
+        final int startDay = this.balances.startDays()[index];
+        final int endDay = startDay + this.balances.numberOfDays()[index] - 1;
+        return (startDay >= this.periodStartDay && startDay <= this.periodEndDay)
+                || (this.periodStartDay >= startDay && this.periodStartDay <= endDay)
+                || (this.periodEndDay >= startDay && this.periodEndDay <= endDay);
+    }
+
+    /**
+     * @see EndOfDayBalance#upTo(LocalDateInterval, java.time.LocalDate)
+     */
+    private int daysWithin(final int index, final int capDay) {
+        int balanceStartDay = this.balances.startDays()[index];
+        int daysOfBalance = this.balances.numberOfDays()[index];
+        final int oldBalanceEndDay = balanceStartDay + daysOfBalance - 1;
+
+        if (balanceStartDay < this.periodStartDay) {
+            balanceStartDay = this.periodStartDay;
+            daysOfBalance = oldBalanceEndDay - balanceStartDay + 1;
+        }
+
+        int balanceEndDay = balanceStartDay + daysOfBalance - 1;
+        if (balanceEndDay > capDay) {
+            balanceEndDay = capDay;
+            daysOfBalance = balanceEndDay - balanceStartDay + 1;
+        }
+        if (balanceEndDay > this.balances.upToDay()) {
+            daysOfBalance = this.balances.upToDay() - balanceStartDay + 1;
+        }
+        return daysOfBalance;
+    }
+
+    @Override
+    public LocalDateInterval getPeriodInterval() {
+        return this.periodInterval;
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain.interest;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
+
+/**
+ * Balance related columns of the ordered, non interest posting transactions of a savings account: dates as epoch days and
+ * amounts as scaled longs in the minor unit of the account currency.
+ *
+ * {@link PostingPeriod#createFromScaledDayBalances} threads the running balance of each posting period through these arrays
+ * instead of creating {@link Money} and {@link EndOfDayBalance} objects for every transaction of every posting period.
+ */
+public final class ScaledDayBalances {
+
+    static final byte NEUTRAL = 0;
+    static final byte CREDIT = 1;
+    static final byte DEBIT = 2;
+
+    private final int decimalPlaces;
+    private final int size;
+    private final int[] transactionDay;
+    private final int[] balanceEndDay;
+    private final int[] balanceDays;
+    // highest balance end day of the transactions from the index on, to skip transactions ending before a posting period
+    private final int[] maxBalanceEndDayFrom;
+    private final long[] amount;
+    private final long[] runningBalance;
+    private final byte[] kind;
+    private final boolean[] persisted;
+    private final boolean[] interestPostTransaction;
+
+    private ScaledDayBalances(final int decimalPlaces, final int size) {
+        this.decimalPlaces = decimalPlaces;
+        this.size = size;
+        this.transactionDay = new int[size];
+        this.balanceEndDay = new int[size];
+        this.balanceDays = new int[size];
+        this.maxBalanceEndDayFrom = new int[size];
+        this.amount = new long[size];
+        this.runningBalance = new long[size];
+        this.kind = new byte[size];
+        this.persisted = new boolean[size];
+        this.interestPostTransaction = new boolean[size];
+    }
+
+    /**
+     * @param orderedTransactions
+     *            non interest posting transactions ordered by transaction date
+     * @param interestPostTransactions
+     *            ids of the transactions transferring posted interest
+     * @return the scaled balances or <code>null</code> when an amount can not be represented exactly in minor units or
+     *         the balance fields of a transaction are not calculated yet; the caller has to use {@link EndOfDayBalance}
+     *         based posting periods in that case
+     */
+    public static ScaledDayBalances from(final List<SavingsAccountTransactionData> orderedTransactions, final MonetaryCurrency currency,
+            final Collection<Long> interestPostTransactions) {
+        final Integer inMultiplesOf = currency.getCurrencyInMultiplesOf();
+        if (currency.getDigitsAfterDecimal() == 0 && inMultiplesOf != null && inMultiplesOf > 0) {
+            // Money rounds positive amounts into multiples, which is not a minor unit operation
+            return null;
+        }
+        final ScaledDayBalances balances = new ScaledDayBalances(currency.getDigitsAfterDecimal(), orderedTransactions.size());
+        try {
+            for (int i = 0; i < balances.size; i++) {
+                final SavingsAccountTransactionData transaction = orderedTransactions.get(i);
+                if (transaction.getBalanceEndDate() == null || transaction.getBalanceNumberOfDays() == null) {
+                    return null;
+                }
+                balances.transactionDay[i] = Math.toIntExact(transaction.getTransactionDate().toEpochDay());
+                balances.balanceEndDay[i] = Math.toIntExact(transaction.getBalanceEndDate().toEpochDay());
+                balances.balanceDays[i] = transaction.getBalanceNumberOfDays();
+                balances.amount[i] = balances.toScaledExact(transaction.getAmount());
+                balances.runningBalance[i] = balances.toScaledRounded(transaction.getRunningBalance());
+                if (transaction.isDeposit() || transaction.isDividendPayoutAndNotReversed()) {
+                    balances.kind[i] = CREDIT;
+                } else if (transaction.isWithdrawal() || transaction.isChargeTransactionAndNotReversed()) {
+                    balances.kind[i] = DEBIT;
+                } else {
+                    balances.kind[i] = NEUTRAL;
+                }
+                balances.persisted[i] = transaction.getId() != null;
+                balances.interestPostTransaction[i] = transaction.getId() != null && interestPostTransactions.contains(transaction.getId());
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        int maxBalanceEndDay = Integer.MIN_VALUE;
+        for (int i = balances.size - 1; i >= 0; i--) {
+            maxBalanceEndDay = Math.max(maxBalanceEndDay, balances.balanceEndDay[i]);
+            balances.maxBalanceEndDayFrom[i] = maxBalanceEndDay;
+        }
+        return balances;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int transactionDay(final int index) {
+        return this.transactionDay[index];
+    }
+
+    int balanceEndDay(final int index) {
+        return this.balanceEndDay[index];
+    }
+
+    int balanceDays(final int index) {
+        return this.balanceDays[index];
+    }
+
+    long amount(final int index) {
+        return this.amount[index];
+    }
+
+    long runningBalance(final int index) {
+        return this.runningBalance[index];
+    }
+
+    byte kind(final int index) {
+        return this.kind[index];
+    }
+
+    boolean isPersisted(final int index) {
+        return this.persisted[index];
+    }
+
+    boolean isInterestPostTransaction(final int index) {
+        return this.interestPostTransaction[index];
+    }
+
+    /**
+     * @return the index of the first transaction whose balance, or the balance of a later transaction, lasts until
+     *         <code>day</code> or later
+     */
+    int firstIndexWithBalanceUntil(final int day) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.maxBalanceEndDayFrom[middle] >= day) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first transaction made after <code>day</code>
+     */
+    int firstIndexAfter(final int day) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.transactionDay[middle] <= day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    long toScaled(final Money money) {
+        return toScaledExact(money.getAmount());
+    }
+
+    BigDecimal toAmount(final long scaled) {
+        return BigDecimal.valueOf(scaled, this.decimalPlaces);
+    }
+
+    Money toMoney(final MonetaryCurrency currency, final long scaled) {
+        return Money.of(currency, toAmount(scaled));
+    }
+
+    private long toScaledExact(final BigDecimal value) {
+        // Money#plus and Money#minus ignore null amounts
+        return value == null ? 0L : value.setScale(this.decimalPlaces).unscaledValue().longValueExact();
+    }
+
+    private long toScaledRounded(final BigDecimal value) {
+        // same rounding as Money#of
+        return value == null ? 0L
+                : value.setScale(this.decimalPlaces, MoneyHelper.getMathContext().getRoundingMode()).unscaledValue().longValueExact();
+    }
+}
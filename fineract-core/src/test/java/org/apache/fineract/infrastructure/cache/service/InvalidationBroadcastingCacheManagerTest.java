@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class InvalidationBroadcastingCacheManagerTest {
+
+    private final List<CacheInvalidationMessage> broadcast = new ArrayList<>();
+    private ConcurrentMapCacheManager localCacheManager;
+    private InvalidationBroadcastingCacheManager underTest;
+
+    @BeforeEach
+    void setUp() {
+        broadcast.clear();
+        localCacheManager = new ConcurrentMapCacheManager("charges", "tenantsById");
+        underTest = new InvalidationBroadcastingCacheManager(localCacheManager, "node-1", broadcast::add);
+    }
+
+    @Test
+    void putIsNotBroadcast() {
+        underTest.getCache("charges").put("defaultch", "value");
+
+        assertEquals("value", localCacheManager.getCache("charges").get("defaultch").get());
+        assertTrue(broadcast.isEmpty());
+    }
+
+    @Test
+    void evictIsAppliedLocallyAndBroadcast() {
+        Cache cache = underTest.getCache("charges");
+        cache.put("defaultch", "value");
+
+        cache.evict("defaultch");
+
+        assertNull(localCacheManager.getCache("charges").get("defaultch"));
+        assertEquals(List.of(new CacheInvalidationMessage("node-1", "charges", "defaultch")), broadcast);
+    }
+
+    @Test
+    void evictOfNonTextKeyIsBroadcastAsClear() {
+        underTest.getCache("tenantsById").evict(1L);
+
+        assertEquals(1, broadcast.size());
+        assertTrue(broadcast.get(0).isClear());
+    }
+
+    @Test
+    void clearIsBroadcast() {
+        underTest.getCache("charges").clear();
+
+        assertEquals(List.of(new CacheInvalidationMessage("node-1", "charges", null)), broadcast);
+    }
+
+    @Test
+    void invalidationFromOtherNodeEvictsLocallyWithoutRebroadcast() {
+        Cache localCache = localCacheManager.getCache("charges");
+        localCache.put("defaultch", "value");
+        localCache.put("otherch", "other");
+
+        underTest.onInvalidation(new CacheInvalidationMessage("node-2", "charges", "defaultch"));
+
+        assertNull(localCache.get("defaultch"));
+        assertNotNull(localCache.get("otherch"));
+        assertTrue(broadcast.isEmpty());
+
+        underTest.onInvalidation(new CacheInvalidationMessage("node-2", "charges", null));
+
+        assertNull(localCache.get("otherch"));
+        assertTrue(broadcast.isEmpty());
+    }
+
+    @Test
+    void invalidationFromOwnNodeIsIgnored() {
+        Cache localCache = localCacheManager.getCache("charges");
+        localCache.put("defaultch", "value");
+
+        underTest.onInvalidation(new CacheInvalidationMessage("node-1", "charges", "defaultch"));
+
+        assertNotNull(localCache.get("defaultch"));
+    }
+
+    @Test
+    void nodesWithDefaultConfigurationApplyEachOthersInvalidations() {
+        List<CacheInvalidationMessage> peerBroadcast = new ArrayList<>();
+        ConcurrentMapCacheManager peerLocalCacheManager = new ConcurrentMapCacheManager("charges");
+        InvalidationBroadcastingCacheManager node = new InvalidationBroadcastingCacheManager(localCacheManager, broadcast::add);
+        InvalidationBroadcastingCacheManager peer = new InvalidationBroadcastingCacheManager(peerLocalCacheManager, peerBroadcast::add);
+        peerLocalCacheManager.getCache("charges").put("defaultch", "value");
+
+        node.getCache("charges").evict("defaultch");
+        peer.onInvalidation(broadcast.get(0));
+
+        assertNotEquals(node.getNodeId(), peer.getNodeId());
+        assertNull(peerLocalCacheManager.getCache("charges").get("defaultch"));
+    }
+
+    @Test
+    void broadcastingRequiresChannel() {
+        assertTrue(underTest.isBroadcasting());
+        assertFalse(new InvalidationBroadcastingCacheManager(localCacheManager, "node-1", null).isBroadcasting());
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+class FastMoneyTest {
+
+    private static final CurrencyData USD = new CurrencyData("USD", "US Dollar", 2, null, "USD", "$");
+    private static final CurrencyData IN_MULTIPLES_OF_100 = new CurrencyData("XAF", "CFA Franc", 0, 100, "XAF", "F");
+    private static final MathContext MC = new MathContext(19, RoundingMode.HALF_EVEN);
+
+    private static MockedStatic<MoneyHelper> moneyHelper;
+
+    @BeforeAll
+    public static void init() {
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(MC);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        moneyHelper.close();
+    }
+
+    @Test
+    public void testSumIsEqualToMoneySum() {
+        String[] amounts = { "100.25", "-35.5", "0.01", "1234567.89", "10.005", "10.015", "-0.125", "7" };
+        Money expected = Money.zero(USD, MC);
+        FastMoney actual = FastMoney.zero(USD);
+        for (String amount : amounts) {
+            expected = expected.plus(Money.of(USD, new BigDecimal(amount), MC), MC);
+            actual = actual.plus(new BigDecimal(amount));
+        }
+
+        assertMoneyEquals(expected, actual.toMoney(MC));
+    }
+
+    @Test
+    public void testPlusAndMinusOfMoney() {
+        Money hundred = Money.of(USD, new BigDecimal("100.10"), MC);
+        Money fifty = Money.of(USD, new BigDecimal("50.05"), MC);
+
+        FastMoney result = FastMoney.of(hundred).minus(fifty).minus(fifty).minus(fifty);
+
+        assertEquals(new BigDecimal("-50.05"), result.getAmount());
+        assertTrue(result.isLessThanZero());
+        assertEquals(new BigDecimal("50.05"), result.negated().getAmount());
+    }
+
+    @Test
+    public void testOverflowFallsBackToBigDecimal() {
+        BigDecimal large = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+
+        FastMoney result = FastMoney.of(USD, large).plus(large).plus(new BigDecimal("0.01"));
+
+        assertEquals(large.add(large).add(new BigDecimal("0.01")), result.getAmount());
+        assertEquals(large, result.minus(large).minus(new BigDecimal("0.01")).getAmount());
+        assertTrue(result.compareTo(FastMoney.of(USD, large)) > 0);
+    }
+
+    @Test
+    public void testAmountsBeyondLongRangeAreKeptExactly() {
+        BigDecimal amount = new BigDecimal("123456789012345678901234.56");
+
+        FastMoney result = FastMoney.of(USD, amount).plus(FastMoney.of(USD, BigDecimal.ONE));
+
+        assertEquals(new BigDecimal("123456789012345678901235.56"), result.getAmount());
+    }
+
+    @Test
+    public void testMultiplesAreRoundedLikeMoney() {
+        Money expected = Money.zero(IN_MULTIPLES_OF_100, MC);
+        FastMoney actual = FastMoney.zero(IN_MULTIPLES_OF_100);
+        for (String amount : new String[] { "149", "151", "1049", "50" }) {
+            expected = expected.plus(Money.of(IN_MULTIPLES_OF_100, new BigDecimal(amount), MC), MC);
+            actual = actual.plus(new BigDecimal(amount));
+        }
+
+        assertMoneyEquals(expected, actual.toMoney(MC));
+    }
+
+    @Test
+    public void testDifferentCurrenciesCannotBeAdded() {
+        assertThrows(UnsupportedOperationException.class, () -> FastMoney.zero(USD).plus(FastMoney.zero(IN_MULTIPLES_OF_100)));
+    }
+
+    private static void assertMoneyEquals(Money expected, Money actual) {
+        assertEquals(expected.getCurrencyCode(), actual.getCurrencyCode());
+        assertEquals(expected.getAmount(), actual.getAmount());
+    }
+}
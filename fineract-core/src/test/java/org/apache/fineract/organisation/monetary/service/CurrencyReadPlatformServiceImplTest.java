@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.security.exception.NoAuthorizationException;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyReadPlatformServiceImplTest {
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private AllowedCurrencyReadService allowedCurrencyReadService;
+
+    @Test
+    void allowedCurrenciesAreReadAfterTheUserIsAuthenticated() {
+        List<CurrencyData> currencies = List.of(new CurrencyData("USD"));
+        when(allowedCurrencyReadService.retrieveAll()).thenReturn(currencies);
+        CurrencyReadPlatformServiceImpl underTest = new CurrencyReadPlatformServiceImpl(context, jdbcTemplate, allowedCurrencyReadService);
+
+        assertThat(underTest.retrieveAllowedCurrencies()).isEqualTo(currencies);
+
+        InOrder inOrder = inOrder(context, allowedCurrencyReadService);
+        inOrder.verify(context).authenticatedUser();
+        inOrder.verify(allowedCurrencyReadService).retrieveAll();
+    }
+
+    @Test
+    void allowedCurrenciesAreNotReadForUnauthenticatedCallers() {
+        when(context.authenticatedUser()).thenThrow(new NoAuthorizationException("not authenticated"));
+        CurrencyReadPlatformServiceImpl underTest = new CurrencyReadPlatformServiceImpl(context, jdbcTemplate, allowedCurrencyReadService);
+
+        assertThatThrownBy(underTest::retrieveAllowedCurrencies).isInstanceOf(NoAuthorizationException.class);
+        verifyNoInteractions(allowedCurrencyReadService);
+    }
+}
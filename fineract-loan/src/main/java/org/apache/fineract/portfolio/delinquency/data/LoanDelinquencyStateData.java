@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+
+/**
+ * The business date independent part of the delinquency of a loan. The overdue days, the grace on arrears ageing and
+ * the delinquency pauses are applied on top of it, so it stays valid until an installment becomes overdue or the loan
+ * changes.
+ */
+@ToString
+@AllArgsConstructor
+@Getter
+@Setter
+public class LoanDelinquencyStateData {
+
+    private Long loanId;
+    private LocalDate overdueSinceDate;
+    private BigDecimal delinquentAmount;
+    private BigDecimal delinquentPrincipal;
+    private BigDecimal delinquentInterest;
+    private BigDecimal delinquentFee;
+    private BigDecimal delinquentPenalty;
+    // keyed by installment number, only the installments with unmet obligations
+    private Map<Integer, LoanInstallmentDelinquencyStateData> installments;
+    private LocalDate calculatedOnDate;
+    // null if the state does not change by the passing of time
+    private LocalDate validUntilDate;
+    private LocalDate verifiedOnDate;
+
+    public boolean isValidOn(LocalDate businessDate) {
+        return !DateUtils.isBefore(businessDate, calculatedOnDate)
+                && (validUntilDate == null || !DateUtils.isAfter(businessDate, validUntilDate));
+    }
+
+    public boolean hasSameDelinquencyAs(LoanDelinquencyStateData other) {
+        boolean sameLoanDelinquency = Objects.equals(overdueSinceDate, other.overdueSinceDate)
+                && isSameAmount(delinquentAmount, other.delinquentAmount) && isSameAmount(delinquentPrincipal, other.delinquentPrincipal)
+                && isSameAmount(delinquentInterest, other.delinquentInterest) && isSameAmount(delinquentFee, other.delinquentFee)
+                && isSameAmount(delinquentPenalty, other.delinquentPenalty);
+        return sameLoanDelinquency && installments.keySet().equals(other.installments.keySet()) && installments.entrySet().stream()
+                .allMatch(entry -> entry.getValue().hasSameDelinquencyAs(other.installments.get(entry.getKey())));
+    }
+
+    static boolean isSameAmount(BigDecimal amount, BigDecimal otherAmount) {
+        // amounts read back from the database have a different scale
+        return amount.compareTo(otherAmount) == 0;
+    }
+}
@@ -51,6 +51,15 @@ public interface DelinquencyWritePlatformService {
     void applyDelinquencyTagToLoan(LoanScheduleDelinquencyData loanDelinquencyData,
             List<LoanDelinquencyActionData> effectiveDelinquencyList);
 
+    /**
+     * Calculates the delinquency of the loan once and sets or unsets the delinquency classification of the loan and of
+     * its installments accordingly. The stored delinquency state of the loan is used when it is still valid.
+     *
+     * @param loan
+     * @param effectiveDelinquencyList
+     */
+    void recalculateDelinquencyTagsOfLoan(Loan loan, List<LoanDelinquencyActionData> effectiveDelinquencyList);
+
     CommandProcessingResult createDelinquencyAction(Long loanId, JsonCommand command);
 
 }
@@ -52,6 +52,7 @@ public class DelinquencyWritePlatformServiceHelper {
     private final LoanDelinquencyTagHistoryRepository loanDelinquencyTagRepository;
     private final DelinquencyRangeRepository repositoryRange;
     private final LoanInstallmentDelinquencyTagRepository loanInstallmentDelinquencyTagRepository;
+    private final LoanInstallmentDelinquencyTagBatchWriter loanInstallmentDelinquencyTagBatchWriter;
 
     public Map<String, Object> applyDelinquencyForLoan(final Loan loan, final DelinquencyBucket delinquencyBucket, long overdueDays) {
         Map<String, Object> changes = new HashMap<>();
@@ -152,17 +153,34 @@ public class DelinquencyWritePlatformServiceHelper {
 
     public void applyDelinquencyForLoanInstallments(final Loan loan, final DelinquencyBucket delinquencyBucket,
             final Map<Long, CollectionData> installmentsCollectionData) {
+        // load the tags of the loan once instead of one lookup per installment
+        final Map<Long, LoanInstallmentDelinquencyTag> previousTagsByInstallment = new HashMap<>();
+        final List<Long> tagsOfNonExistingInstallments = new ArrayList<>();
+        for (LoanInstallmentDelinquencyTag tag : loanInstallmentDelinquencyTagRepository.findByLoanId(loan.getId())) {
+            if (tag.getInstallment() == null) {
+                // installment got deleted due to re-schedule
+                tagsOfNonExistingInstallments.add(tag.getId());
+            } else {
+                previousTagsByInstallment.put(tag.getInstallment().getId(), tag);
+            }
+        }
+
+        final InstallmentDelinquencyTagChanges tagChanges = new InstallmentDelinquencyTagChanges();
         boolean isDelinquencyRangeChangedForAnyOfInstallment = false;
         for (LoanRepaymentScheduleInstallment installment : loan.getRepaymentScheduleInstallments()) {
             if (installmentsCollectionData.containsKey(installment.getId())) {
                 boolean isDelinquencySetForInstallment = setInstallmentDelinquencyDetails(loan, installment, delinquencyBucket,
-                        installmentsCollectionData.get(installment.getId()));
+                        installmentsCollectionData.get(installment.getId()), previousTagsByInstallment.get(installment.getId()),
+                        tagChanges);
                 isDelinquencyRangeChangedForAnyOfInstallment = isDelinquencyRangeChangedForAnyOfInstallment
                         || isDelinquencySetForInstallment;
             }
         }
+        saveInstallmentDelinquencyTagChanges(tagChanges);
         // remove tags for non-existing installments that got deleted due to re-schedule
-        removeDelinquencyTagsForNonExistingInstallments(loan.getId());
+        if (!tagsOfNonExistingInstallments.isEmpty()) {
+            loanInstallmentDelinquencyTagRepository.deleteAllLoanInstallmentsTagsByIds(tagsOfNonExistingInstallments);
+        }
         // raise event if there is any change at installment level delinquency
         if (isDelinquencyRangeChangedForAnyOfInstallment) {
             businessEventNotifierService.notifyPostBusinessEvent(new LoanDelinquencyRangeChangeBusinessEvent(loan));
@@ -170,23 +188,22 @@ public class DelinquencyWritePlatformServiceHelper {
 
     }
 
-    private void removeDelinquencyTagsForNonExistingInstallments(Long loanId) {
-        List<LoanInstallmentDelinquencyTag> currentLoanInstallmentDelinquencyTags = loanInstallmentDelinquencyTagRepository
-                .findByLoanId(loanId);
-        if (currentLoanInstallmentDelinquencyTags != null && currentLoanInstallmentDelinquencyTags.size() > 0) {
-            List<Long> loanInstallmentTagsForDelete = currentLoanInstallmentDelinquencyTags.stream()
-                    .filter(tag -> tag.getInstallment() == null).map(tag -> tag.getId()).toList();
-            if (loanInstallmentTagsForDelete.size() > 0) {
-                loanInstallmentDelinquencyTagRepository.deleteAllLoanInstallmentsTagsByIds(loanInstallmentTagsForDelete);
-            }
+    private void saveInstallmentDelinquencyTagChanges(final InstallmentDelinquencyTagChanges tagChanges) {
+        if (!tagChanges.deleted.isEmpty() || !tagChanges.updated.isEmpty()) {
+            loanInstallmentDelinquencyTagRepository.deleteAll(tagChanges.deleted);
+            loanInstallmentDelinquencyTagRepository.saveAllAndFlush(tagChanges.updated);
         }
+        // new tags are written with one batch statement, the event raised afterwards reads them back from the database
+        loanInstallmentDelinquencyTagBatchWriter.insert(tagChanges.created);
     }
 
     private boolean setInstallmentDelinquencyDetails(final Loan loan, final LoanRepaymentScheduleInstallment installment,
-            final DelinquencyBucket delinquencyBucket, final CollectionData installmentDelinquencyData) {
+            final DelinquencyBucket delinquencyBucket, final CollectionData installmentDelinquencyData,
+            final LoanInstallmentDelinquencyTag previousInstallmentDelinquencyTag, final InstallmentDelinquencyTagChanges tagChanges) {
         DelinquencyRange delinquencyRangeForInstallment = getInstallmentDelinquencyRange(delinquencyBucket,
                 installmentDelinquencyData.getDelinquentDays());
-        return setDelinquencyDetailsForInstallment(loan, installment, installmentDelinquencyData, delinquencyRangeForInstallment);
+        return setDelinquencyDetailsForInstallment(loan, installment, installmentDelinquencyData, delinquencyRangeForInstallment,
+                previousInstallmentDelinquencyTag, tagChanges);
     }
 
     private DelinquencyRange getInstallmentDelinquencyRange(final DelinquencyBucket delinquencyBucket, Long overDueDays) {
@@ -213,56 +230,53 @@ public class DelinquencyWritePlatformServiceHelper {
     }
 
     private boolean setDelinquencyDetailsForInstallment(final Loan loan, final LoanRepaymentScheduleInstallment installment,
-            CollectionData installmentDelinquencyData, final DelinquencyRange delinquencyRangeForInstallment) {
-        List<LoanInstallmentDelinquencyTag> installmentDelinquencyTags = new ArrayList<>();
+            CollectionData installmentDelinquencyData, final DelinquencyRange delinquencyRangeForInstallment,
+            final LoanInstallmentDelinquencyTag previousInstallmentDelinquencyTag, final InstallmentDelinquencyTagChanges tagChanges) {
         LocalDate delinquencyCalculationDate = DateUtils.getBusinessLocalDate();
         boolean isDelinquencyRangeChanged = false;
 
-        LoanInstallmentDelinquencyTag previousInstallmentDelinquencyTag = loanInstallmentDelinquencyTagRepository
-                .findByLoanAndInstallment(loan, installment).orElse(null);
-
         if (delinquencyRangeForInstallment == null) {
             // if currentInstallmentDelinquencyTag exists and range is null, installment is out of delinquency, delete
             // delinquency details
             if (previousInstallmentDelinquencyTag != null) {
                 // event installment out of delinquency
-                loanInstallmentDelinquencyTagRepository.delete(previousInstallmentDelinquencyTag);
+                tagChanges.deleted.add(previousInstallmentDelinquencyTag);
                 isDelinquencyRangeChanged = true;
             }
         } else {
-            LoanInstallmentDelinquencyTag installmentDelinquency = null;
             if (previousInstallmentDelinquencyTag != null) {
                 if (!previousInstallmentDelinquencyTag.getDelinquencyRange().getId().equals(delinquencyRangeForInstallment.getId())) {
                     // if current delinquency range exists and there is range change, delete previous delinquency
                     // details and add new range details
-                    installmentDelinquency = new LoanInstallmentDelinquencyTag(delinquencyRangeForInstallment, loan, installment,
+                    tagChanges.created.add(new LoanInstallmentDelinquencyTag(delinquencyRangeForInstallment, loan, installment,
                             delinquencyCalculationDate, null, previousInstallmentDelinquencyTag.getFirstOverdueDate(),
-                            installmentDelinquencyData.getDelinquentAmount());
-                    loanInstallmentDelinquencyTagRepository.delete(previousInstallmentDelinquencyTag);
+                            installmentDelinquencyData.getDelinquentAmount()));
+                    tagChanges.deleted.add(previousInstallmentDelinquencyTag);
                     // event installment delinquency range change
                     isDelinquencyRangeChanged = true;
                 } else {
                     previousInstallmentDelinquencyTag.setOutstandingAmount(installmentDelinquencyData.getDelinquentAmount());
-                    installmentDelinquency = previousInstallmentDelinquencyTag;
+                    tagChanges.updated.add(previousInstallmentDelinquencyTag);
                 }
             } else {
                 // add new range, first time delinquent
-                installmentDelinquency = new LoanInstallmentDelinquencyTag(delinquencyRangeForInstallment, loan, installment,
+                tagChanges.created.add(new LoanInstallmentDelinquencyTag(delinquencyRangeForInstallment, loan, installment,
                         delinquencyCalculationDate, null, installmentDelinquencyData.getDelinquentDate(),
-                        installmentDelinquencyData.getDelinquentAmount());
+                        installmentDelinquencyData.getDelinquentAmount()));
                 // event installment delinquent
                 isDelinquencyRangeChanged = true;
             }
-
-            if (installmentDelinquency != null) {
-                installmentDelinquencyTags.add(installmentDelinquency);
-            }
-
-        }
-
-        if (installmentDelinquencyTags.size() > 0) {
-            loanInstallmentDelinquencyTagRepository.saveAllAndFlush(installmentDelinquencyTags);
         }
         return isDelinquencyRangeChanged;
     }
+
+    /**
+     * Installment delinquency tag changes of a loan, collected over all installments and written at once.
+     */
+    private static final class InstallmentDelinquencyTagChanges {
+
+        private final List<LoanInstallmentDelinquencyTag> created = new ArrayList<>();
+        private final List<LoanInstallmentDelinquencyTag> updated = new ArrayList<>();
+        private final List<LoanInstallmentDelinquencyTag> deleted = new ArrayList<>();
+    }
 }
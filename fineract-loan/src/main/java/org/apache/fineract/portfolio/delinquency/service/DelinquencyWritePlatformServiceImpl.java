@@ -62,6 +62,7 @@ import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleDelinquencyDat
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
 import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -84,6 +85,7 @@ public class DelinquencyWritePlatformServiceImpl implements DelinquencyWritePlat
     private final DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     private final BusinessEventNotifierService businessEventNotifierService;
     private final DelinquencyWritePlatformServiceHelper delinquencyHelper;
+    private final LoanDelinquencyStateService loanDelinquencyStateService;
 
     @Override
     public CommandProcessingResult createDelinquencyRange(JsonCommand command) {
@@ -129,6 +131,7 @@ public class DelinquencyWritePlatformServiceImpl implements DelinquencyWritePlat
     }
 
     @Override
+    @CacheEvict(value = "loanProducts", allEntries = true)
     public CommandProcessingResult updateDelinquencyBucket(Long delinquencyBucketId, JsonCommand command) {
         DelinquencyBucketData data = dataValidatorBucket.validateAndParseUpdate(command);
         DelinquencyBucket delinquencyBucket = this.repositoryBucket.getReferenceById(delinquencyBucketId);
@@ -140,6 +143,7 @@ public class DelinquencyWritePlatformServiceImpl implements DelinquencyWritePlat
     }
 
     @Override
+    @CacheEvict(value = "loanProducts", allEntries = true)
     public CommandProcessingResult deleteDelinquencyBucket(Long delinquencyBucketId, JsonCommand command) {
         final DelinquencyBucket delinquencyBucket = repositoryBucket.getReferenceById(delinquencyBucketId);
         if (delinquencyBucket != null) {
@@ -221,6 +225,24 @@ public class DelinquencyWritePlatformServiceImpl implements DelinquencyWritePlat
         }
     }
 
+    @Override
+    public void recalculateDelinquencyTagsOfLoan(final Loan loan, final List<LoanDelinquencyActionData> effectiveDelinquencyList) {
+        final LoanDelinquencyData loanDelinquencyData = loanDelinquencyStateService.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+        // loan delinquent data
+        final CollectionData collectionData = loanDelinquencyData.getLoanCollectionData();
+        log.debug("Processing Loan {} with {} overdue days since date {}", loan.getId(), collectionData.getDelinquentDays(),
+                collectionData.getDelinquentDate());
+        // Set or Unset the Delinquency Classification Tag
+        if (collectionData.getDelinquentDays() > 0) {
+            if (loan.hasDelinquencyBucket()) {
+                applyDelinquencyToLoanAndInstallments(loan, loan.getLoanProduct().getDelinquencyBucket(), collectionData,
+                        loanDelinquencyData.getLoanInstallmentsCollectionData());
+            }
+        } else {
+            removeDelinquencyTagToLoan(loan);
+        }
+    }
+
     private Map<String, Object> applyDelinquencyToLoanAndInstallments(Loan loan, DelinquencyBucket delinquencyBucket,
             CollectionData collectionData, Map<Long, CollectionData> installmentsCollectionData) {
         // Order is important: first calculate loan level delinquency, then the installment level
@@ -19,6 +19,7 @@
 package org.apache.fineract.portfolio.delinquency.service;
 
 import java.util.List;
+import org.apache.fineract.portfolio.delinquency.data.LoanDelinquencyStateData;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanDelinquencyData;
@@ -37,4 +38,34 @@ public interface LoanDelinquencyDomainService {
 
     LoanDelinquencyData getLoanDelinquencyData(Loan loan, List<LoanDelinquencyActionData> effectiveDelinquencyList);
 
+    /**
+     * Scans the repayment schedule of the loan and captures the business date independent part of its delinquency: the
+     * overdue since date and the delinquent amounts of the loan and of its not yet fully paid installments.
+     *
+     * @param loan
+     */
+    LoanDelinquencyStateData calculateDelinquencyState(Loan loan);
+
+    /**
+     * Same as {@link #getOverdueCollectionData(Loan, List)}, but derived from a previously calculated delinquency state
+     * without rescanning the repayment schedule.
+     *
+     * @param loan
+     * @param state
+     * @param effectiveDelinquencyList
+     */
+    CollectionData getOverdueCollectionData(Loan loan, LoanDelinquencyStateData state,
+            List<LoanDelinquencyActionData> effectiveDelinquencyList);
+
+    /**
+     * Same as {@link #getLoanDelinquencyData(Loan, List)}, but derived from a previously calculated delinquency state
+     * without rescanning the repayment schedule.
+     *
+     * @param loan
+     * @param state
+     * @param effectiveDelinquencyList
+     */
+    LoanDelinquencyData getLoanDelinquencyData(Loan loan, LoanDelinquencyStateData state,
+            List<LoanDelinquencyActionData> effectiveDelinquencyList);
+
 }
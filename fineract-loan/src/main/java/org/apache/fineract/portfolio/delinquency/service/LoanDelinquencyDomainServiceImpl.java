@@ -28,6 +28,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.portfolio.delinquency.data.LoanDelinquencyStateData;
+import org.apache.fineract.portfolio.delinquency.data.LoanInstallmentDelinquencyStateData;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
@@ -49,71 +51,27 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
     @Override
     @Transactional(readOnly = true)
     public CollectionData getOverdueCollectionData(final Loan loan, List<LoanDelinquencyActionData> effectiveDelinquencyList) {
-        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
-
-        final MonetaryCurrency loanCurrency = loan.getCurrency();
-        LocalDate overdueSinceDate = null;
-        CollectionData collectionData = CollectionData.template();
-        BigDecimal outstandingAmount = BigDecimal.ZERO;
-        boolean oldestOverdueInstallment = false;
-        boolean overdueSinceDateWasSet = false;
-        boolean firstNotYetDueInstallment = false;
-        log.debug("Loan id {} with {} installments", loan.getId(), loan.getRepaymentScheduleInstallments().size());
-
         // If the Loan is not Active yet, return template data
         // If the Loan is Rejected, Closed written-off, Withdrawn by Client, Closed with outstanding marked for
         // reschedule, Closed obligation met, Overpaid return template data
-        if (loan.isSubmittedAndPendingApproval() || loan.isApproved() || loan.isClosed() || loan.getStatus().isOverpaid()) {
+        if (isTemplateDelinquency(loan)) {
             return CollectionData.template();
         }
+        return getOverdueCollectionData(loan, calculateDelinquencyState(loan), effectiveDelinquencyList);
+    }
 
-        BigDecimal delinquentPrincipal = BigDecimal.ZERO;
-        BigDecimal delinquentInterest = BigDecimal.ZERO;
-        BigDecimal delinquentFee = BigDecimal.ZERO;
-        BigDecimal delinquentPenalty = BigDecimal.ZERO;
-
-        // Get the oldest overdue installment if exists one
-        for (LoanRepaymentScheduleInstallment installment : loan.getRepaymentScheduleInstallments()) {
-            if (!installment.isObligationsMet()) {
-                if (DateUtils.isBefore(installment.getDueDate(), businessDate)) {
-                    log.debug("Loan Id: {} with installment {} due date {}", loan.getId(), installment.getInstallmentNumber(),
-                            installment.getDueDate());
-                    outstandingAmount = outstandingAmount.add(installment.getTotalOutstanding(loanCurrency).getAmount());
-                    delinquentPrincipal = delinquentPrincipal.add(installment.getPrincipalOutstanding(loanCurrency).getAmount());
-                    delinquentInterest = delinquentInterest.add(installment.getInterestOutstanding(loanCurrency).getAmount());
-                    delinquentFee = delinquentFee.add(installment.getFeeChargesOutstanding(loanCurrency).getAmount());
-                    delinquentPenalty = delinquentPenalty.add(installment.getPenaltyChargesOutstanding(loanCurrency).getAmount());
-                    if (!oldestOverdueInstallment) {
-                        log.debug("Oldest installment {} {}", installment.getInstallmentNumber(), installment.getDueDate());
-                        CollectionData overDueInstallmentDelinquentData = calculateDelinquencyDataForOverdueInstallment(loan, installment);
-                        overdueSinceDate = overDueInstallmentDelinquentData.getDelinquentDate();
-                        oldestOverdueInstallment = true;
-                        overdueSinceDateWasSet = true;
-                    }
-                } else if (!firstNotYetDueInstallment) {
-                    log.debug("Loan Id: {} with installment {} due date {}", loan.getId(), installment.getInstallmentNumber(),
-                            installment.getDueDate());
-                    firstNotYetDueInstallment = true;
-                    CollectionData nonOverDueInstallmentDelinquentData = calculateDelinquencyDataForNonOverdueInstallment(loan,
-                            installment);
-                    outstandingAmount = outstandingAmount.add(nonOverDueInstallmentDelinquentData.getDelinquentAmount());
-                    delinquentPrincipal = delinquentPrincipal.add(nonOverDueInstallmentDelinquentData.getDelinquentPrincipal());
-                    delinquentInterest = delinquentInterest.add(nonOverDueInstallmentDelinquentData.getDelinquentInterest());
-                    delinquentFee = delinquentFee.add(nonOverDueInstallmentDelinquentData.getDelinquentFee());
-                    delinquentPenalty = delinquentPenalty.add(nonOverDueInstallmentDelinquentData.getDelinquentPenalty());
-                    if (!overdueSinceDateWasSet) {
-                        overdueSinceDate = nonOverDueInstallmentDelinquentData.getDelinquentDate();
-                        overdueSinceDateWasSet = true;
-                    }
-                }
-            }
-        }
-
-        Integer graceDays = 0;
-        if (loan.getLoanProductRelatedDetail().getGraceOnArrearsAgeing() != null) {
-            graceDays = loan.getLoanProductRelatedDetail().getGraceOnArrearsAgeing();
+    @Override
+    public CollectionData getOverdueCollectionData(final Loan loan, final LoanDelinquencyStateData state,
+            List<LoanDelinquencyActionData> effectiveDelinquencyList) {
+        if (isTemplateDelinquency(loan)) {
+            return CollectionData.template();
         }
-        log.debug("Loan id {} with overdue since date {} and outstanding amount {}", loan.getId(), overdueSinceDate, outstandingAmount);
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        CollectionData collectionData = CollectionData.template();
+        LocalDate overdueSinceDate = state.getOverdueSinceDate();
+        Integer graceDays = getGraceDays(loan);
+        log.debug("Loan id {} with overdue since date {} and outstanding amount {}", loan.getId(), overdueSinceDate,
+                state.getDelinquentAmount());
 
         Long overdueDays = 0L;
         if (overdueSinceDate != null) {
@@ -125,11 +83,11 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
             overdueSinceDate = overdueSinceDate.plusDays(graceDays.longValue());
             collectionData.setDelinquentDate(overdueSinceDate);
         }
-        collectionData.setDelinquentAmount(outstandingAmount);
-        collectionData.setDelinquentPrincipal(delinquentPrincipal);
-        collectionData.setDelinquentInterest(delinquentInterest);
-        collectionData.setDelinquentFee(delinquentFee);
-        collectionData.setDelinquentPenalty(delinquentPenalty);
+        collectionData.setDelinquentAmount(state.getDelinquentAmount());
+        collectionData.setDelinquentPrincipal(state.getDelinquentPrincipal());
+        collectionData.setDelinquentInterest(state.getDelinquentInterest());
+        collectionData.setDelinquentFee(state.getDelinquentFee());
+        collectionData.setDelinquentPenalty(state.getDelinquentPenalty());
 
         collectionData.setDelinquentDays(0L);
         Long delinquentDays = overdueDays - graceDays;
@@ -143,55 +101,40 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
 
     @Override
     public LoanDelinquencyData getLoanDelinquencyData(final Loan loan, List<LoanDelinquencyActionData> effectiveDelinquencyList) {
-
-        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
-        LocalDate overdueSinceDate = null;
-        CollectionData collectionData = CollectionData.template();
-        Map<Long, CollectionData> loanInstallmentsCollectionData = new HashMap<>();
-        BigDecimal outstandingAmount = BigDecimal.ZERO;
-        boolean oldestOverdueInstallment = false;
-        boolean overdueSinceDateWasSet = false;
-        boolean firstNotYetDueInstallment = false;
-        log.debug("Loan id {} with {} installments", loan.getId(), loan.getRepaymentScheduleInstallments().size());
-
         // If the Loan is not Active yet, return template data
         // If the Loan is Rejected, Closed written-off, Withdrawn by Client, Closed with outstanding marked for
         // reschedule, Closed obligation met, Overpaid, return template data
-        if (loan.isSubmittedAndPendingApproval() || loan.isApproved() || loan.isClosed() || loan.getStatus().isOverpaid()) {
-            return new LoanDelinquencyData(collectionData, loanInstallmentsCollectionData);
+        if (isTemplateDelinquency(loan)) {
+            return new LoanDelinquencyData(CollectionData.template(), new HashMap<>());
         }
+        return getLoanDelinquencyData(loan, calculateDelinquencyState(loan), effectiveDelinquencyList);
+    }
 
+    @Override
+    public LoanDelinquencyData getLoanDelinquencyData(final Loan loan, final LoanDelinquencyStateData state,
+            List<LoanDelinquencyActionData> effectiveDelinquencyList) {
+        CollectionData collectionData = CollectionData.template();
+        Map<Long, CollectionData> loanInstallmentsCollectionData = new HashMap<>();
+        if (isTemplateDelinquency(loan)) {
+            return new LoanDelinquencyData(collectionData, loanInstallmentsCollectionData);
+        }
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        LocalDate overdueSinceDate = state.getOverdueSinceDate();
+        BigDecimal outstandingAmount = BigDecimal.ZERO;
         for (LoanRepaymentScheduleInstallment installment : loan.getRepaymentScheduleInstallments()) {
             CollectionData installmentCollectionData = CollectionData.template();
-            if (!installment.isObligationsMet()) {
-                installmentCollectionData = getInstallmentOverdueCollectionData(loan, installment, effectiveDelinquencyList);
+            LoanInstallmentDelinquencyStateData installmentState = state.getInstallments().get(installment.getInstallmentNumber());
+            if (!installment.isObligationsMet() && installmentState != null) {
+                installmentCollectionData = getInstallmentOverdueCollectionData(installmentState, effectiveDelinquencyList);
                 outstandingAmount = outstandingAmount.add(installmentCollectionData.getDelinquentAmount());
-                // Get the oldest overdue installment if exists
-                if (DateUtils.isBefore(installment.getDueDate(), businessDate)) {
-                    if (!oldestOverdueInstallment) {
-                        overdueSinceDate = installmentCollectionData.getDelinquentDate();
-                        oldestOverdueInstallment = true;
-                        overdueSinceDateWasSet = true;
-                    }
-                } else if (!firstNotYetDueInstallment) {
-                    firstNotYetDueInstallment = true;
-                    if (!overdueSinceDateWasSet) {
-                        overdueSinceDate = installmentCollectionData.getDelinquentDate();
-                        overdueSinceDateWasSet = true;
-                    }
-                }
             }
             // if installment level delinquency enabled add delinquency data for installment
             if (loan.isEnableInstallmentLevelDelinquency()) {
                 loanInstallmentsCollectionData.put(installment.getId(), installmentCollectionData);
             }
-
         }
 
-        Integer graceDays = 0;
-        if (loan.getLoanProductRelatedDetail().getGraceOnArrearsAgeing() != null) {
-            graceDays = loan.getLoanProductRelatedDetail().getGraceOnArrearsAgeing();
-        }
+        Integer graceDays = getGraceDays(loan);
         log.debug("Loan id {} with overdue since date {} and outstanding amount {}", loan.getId(), overdueSinceDate, outstandingAmount);
 
         Long overdueDays = 0L;
@@ -213,6 +156,91 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
         return new LoanDelinquencyData(collectionData, loanInstallmentsCollectionData);
     }
 
+    @Override
+    public LoanDelinquencyStateData calculateDelinquencyState(final Loan loan) {
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final MonetaryCurrency loanCurrency = loan.getCurrency();
+        // fetched once for the loan instead of once per installment
+        final List<LoanTransaction> chargebackTransactions = loanTransactionReadService.fetchLoanTransactionsByType(loan.getId(), null,
+                LoanTransactionType.CHARGEBACK.getValue());
+        LocalDate overdueSinceDate = null;
+        LocalDate validUntilDate = null;
+        BigDecimal outstandingAmount = BigDecimal.ZERO;
+        BigDecimal delinquentPrincipal = BigDecimal.ZERO;
+        BigDecimal delinquentInterest = BigDecimal.ZERO;
+        BigDecimal delinquentFee = BigDecimal.ZERO;
+        BigDecimal delinquentPenalty = BigDecimal.ZERO;
+        Map<Integer, LoanInstallmentDelinquencyStateData> installments = new HashMap<>();
+        boolean oldestOverdueInstallment = false;
+        boolean overdueSinceDateWasSet = false;
+        boolean firstNotYetDueInstallment = false;
+        log.debug("Loan id {} with {} installments", loan.getId(), loan.getRepaymentScheduleInstallments().size());
+
+        // Get the oldest overdue installment if exists one
+        for (LoanRepaymentScheduleInstallment installment : loan.getRepaymentScheduleInstallments()) {
+            if (!installment.isObligationsMet()) {
+                CollectionData installmentDelinquentData;
+                if (DateUtils.isBefore(installment.getDueDate(), businessDate)) {
+                    log.debug("Loan Id: {} with installment {} due date {}", loan.getId(), installment.getInstallmentNumber(),
+                            installment.getDueDate());
+                    installmentDelinquentData = calculateDelinquencyDataForOverdueInstallment(loan, installment, chargebackTransactions);
+                    outstandingAmount = outstandingAmount.add(installment.getTotalOutstanding(loanCurrency).getAmount());
+                    delinquentPrincipal = delinquentPrincipal.add(installment.getPrincipalOutstanding(loanCurrency).getAmount());
+                    delinquentInterest = delinquentInterest.add(installment.getInterestOutstanding(loanCurrency).getAmount());
+                    delinquentFee = delinquentFee.add(installment.getFeeChargesOutstanding(loanCurrency).getAmount());
+                    delinquentPenalty = delinquentPenalty.add(installment.getPenaltyChargesOutstanding(loanCurrency).getAmount());
+                    if (!oldestOverdueInstallment) {
+                        log.debug("Oldest installment {} {}", installment.getInstallmentNumber(), installment.getDueDate());
+                        overdueSinceDate = installmentDelinquentData.getDelinquentDate();
+                        oldestOverdueInstallment = true;
+                        overdueSinceDateWasSet = true;
+                    }
+                } else {
+                    installmentDelinquentData = calculateDelinquencyDataForNonOverdueInstallment(loan, installment,
+                            chargebackTransactions);
+                    if (!firstNotYetDueInstallment) {
+                        log.debug("Loan Id: {} with installment {} due date {}", loan.getId(), installment.getInstallmentNumber(),
+                                installment.getDueDate());
+                        firstNotYetDueInstallment = true;
+                        // the delinquency changes when this installment becomes overdue
+                        validUntilDate = installment.getDueDate();
+                        outstandingAmount = outstandingAmount.add(installmentDelinquentData.getDelinquentAmount());
+                        delinquentPrincipal = delinquentPrincipal.add(installmentDelinquentData.getDelinquentPrincipal());
+                        delinquentInterest = delinquentInterest.add(installmentDelinquentData.getDelinquentInterest());
+                        delinquentFee = delinquentFee.add(installmentDelinquentData.getDelinquentFee());
+                        delinquentPenalty = delinquentPenalty.add(installmentDelinquentData.getDelinquentPenalty());
+                        if (!overdueSinceDateWasSet) {
+                            overdueSinceDate = installmentDelinquentData.getDelinquentDate();
+                            overdueSinceDateWasSet = true;
+                        }
+                    }
+                }
+                installments.put(installment.getInstallmentNumber(), new LoanInstallmentDelinquencyStateData(installmentDelinquentData.getDelinquentDate(),
+                        installmentDelinquentData.getDelinquentAmount()));
+            }
+        }
+        // chargebacks are counted for not yet due installments only from the next day on
+        boolean hasChargebackOnOrAfterBusinessDate = chargebackTransactions.stream()
+                .anyMatch(transaction -> !DateUtils.isBefore(transaction.getTransactionDate(), businessDate));
+        if (hasChargebackOnOrAfterBusinessDate) {
+            validUntilDate = businessDate;
+        }
+        return new LoanDelinquencyStateData(loan.getId(), overdueSinceDate, outstandingAmount, delinquentPrincipal, delinquentInterest,
+                delinquentFee, delinquentPenalty, installments, businessDate, validUntilDate, businessDate);
+    }
+
+    private static boolean isTemplateDelinquency(final Loan loan) {
+        return loan.isSubmittedAndPendingApproval() || loan.isApproved() || loan.isClosed() || loan.getStatus().isOverpaid();
+    }
+
+    private static Integer getGraceDays(final Loan loan) {
+        Integer graceDays = 0;
+        if (loan.getLoanProductRelatedDetail().getGraceOnArrearsAgeing() != null) {
+            graceDays = loan.getLoanProductRelatedDetail().getGraceOnArrearsAgeing();
+        }
+        return graceDays;
+    }
+
     private void calculateDelinquentDays(List<LoanDelinquencyActionData> effectiveDelinquencyList, LocalDate businessDate,
             CollectionData collectionData, Long delinquentDays) {
         Long pausedDays = delinquencyEffectivePauseHelper.getPausedDaysBeforeDate(effectiveDelinquencyList, businessDate);
@@ -220,25 +248,11 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
         collectionData.setDelinquentDays(calculatedDelinquentDays > 0 ? calculatedDelinquentDays : 0L);
     }
 
-    private CollectionData getInstallmentOverdueCollectionData(final Loan loan, final LoanRepaymentScheduleInstallment installment,
+    private CollectionData getInstallmentOverdueCollectionData(final LoanInstallmentDelinquencyStateData installmentState,
             List<LoanDelinquencyActionData> effectiveDelinquencyList) {
         final LocalDate businessDate = DateUtils.getBusinessLocalDate();
-        LocalDate overdueSinceDate = null;
+        LocalDate overdueSinceDate = installmentState.getOverdueSinceDate();
         CollectionData collectionData = CollectionData.template();
-        BigDecimal outstandingAmount = BigDecimal.ZERO;
-        if (DateUtils.isBefore(installment.getDueDate(), businessDate)) {
-            // checking overdue installment delinquency data
-            CollectionData overDueInstallmentDelinquentData = calculateDelinquencyDataForOverdueInstallment(loan, installment);
-            outstandingAmount = outstandingAmount.add(overDueInstallmentDelinquentData.getDelinquentAmount());
-            overdueSinceDate = overDueInstallmentDelinquentData.getDelinquentDate();
-
-        } else {
-            // checking non overdue installment for chargeback transactions before installment due date and before
-            // business date
-            CollectionData nonOverDueInstallmentDelinquentData = calculateDelinquencyDataForNonOverdueInstallment(loan, installment);
-            outstandingAmount = outstandingAmount.add(nonOverDueInstallmentDelinquentData.getDelinquentAmount());
-            overdueSinceDate = nonOverDueInstallmentDelinquentData.getDelinquentDate();
-        }
 
         // Grace days are not considered for installment level delinquency calculation currently.
 
@@ -251,7 +265,7 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
             collectionData.setPastDueDays(overdueDays);
             collectionData.setDelinquentDate(overdueSinceDate);
         }
-        collectionData.setDelinquentAmount(outstandingAmount);
+        collectionData.setDelinquentAmount(installmentState.getDelinquentAmount());
         collectionData.setDelinquentDays(0L);
         Long delinquentDays = overdueDays;
         if (delinquentDays > 0) {
@@ -262,11 +276,9 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
     }
 
     private CollectionData calculateDelinquencyDataForOverdueInstallment(final Loan loan,
-            final LoanRepaymentScheduleInstallment installment) {
+            final LoanRepaymentScheduleInstallment installment, final List<LoanTransaction> chargebackTransactions) {
         final MonetaryCurrency loanCurrency = loan.getCurrency();
         LoanRepaymentScheduleInstallment latestInstallment = loan.getLastLoanRepaymentScheduleInstallment();
-        List<LoanTransaction> chargebackTransactions = loanTransactionReadService.fetchLoanTransactionsByType(loan.getId(), null,
-                LoanTransactionType.CHARGEBACK.getValue());
         LocalDate overdueSinceDate = null;
         CollectionData collectionData = CollectionData.template();
         BigDecimal outstandingAmount = BigDecimal.ZERO;
@@ -311,7 +323,7 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
     }
 
     private CollectionData calculateDelinquencyDataForNonOverdueInstallment(final Loan loan,
-            final LoanRepaymentScheduleInstallment installment) {
+            final LoanRepaymentScheduleInstallment installment, final List<LoanTransaction> chargebackTransactions) {
         final LocalDate businessDate = DateUtils.getBusinessLocalDate();
         final MonetaryCurrency loanCurrency = loan.getCurrency();
 
@@ -323,8 +335,6 @@ public class LoanDelinquencyDomainServiceImpl implements LoanDelinquencyDomainSe
         BigDecimal delinquentFee = BigDecimal.ZERO;
         BigDecimal delinquentPenalty = BigDecimal.ZERO;
 
-        List<LoanTransaction> chargebackTransactions = loanTransactionReadService.fetchLoanTransactionsByType(loan.getId(), null,
-                LoanTransactionType.CHARGEBACK.getValue());
         BigDecimal amountAvailable = installment.getTotalPaid(loanCurrency).getAmount();
         for (LoanTransaction loanTransaction : chargebackTransactions) {
 
@@ -0,0 +1,53 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import java.util.List;
+import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanDelinquencyData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+
+public interface LoanDelinquencyStateService {
+
+    /**
+     * Same as {@link LoanDelinquencyDomainService#getLoanDelinquencyData(Loan, List)}, but if the incremental delinquency
+     * state is enabled the repayment schedule is only rescanned when the stored state of the loan is stale, expired or
+     * due for verification.
+     *
+     * @param loan
+     * @param effectiveDelinquencyList
+     */
+    LoanDelinquencyData getLoanDelinquencyData(Loan loan, List<LoanDelinquencyActionData> effectiveDelinquencyList);
+
+    /**
+     * Tells whether the COB has to classify the loan. A loan is skipped without reading its repayment schedule only if the
+     * incremental delinquency state is enabled and the stored state is not stale, not expired, not due for verification,
+     * the loan is not delinquent and has no delinquency actions.
+     *
+     * @param loan
+     */
+    boolean isClassificationRequired(Loan loan);
+
+    /**
+     * Marks the stored delinquency state of the loan as stale, so the next classification rescans the loan.
+     *
+     * @param loanId
+     */
+    void markStale(Long loanId);
+}
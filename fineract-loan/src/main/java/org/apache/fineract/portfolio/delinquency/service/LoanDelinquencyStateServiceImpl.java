@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.delinquency.data.LoanDelinquencyStateData;
+import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanDelinquencyData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoanDelinquencyStateServiceImpl implements LoanDelinquencyStateService {
+
+    private final LoanDelinquencyDomainService loanDelinquencyDomainService;
+    private final LoanDelinquencyStateStore loanDelinquencyStateStore;
+    private final FineractProperties fineractProperties;
+
+    @Override
+    public LoanDelinquencyData getLoanDelinquencyData(final Loan loan, final List<LoanDelinquencyActionData> effectiveDelinquencyList) {
+        if (!isIncrementalStateEnabled() || !loan.getStatus().isActive()) {
+            return loanDelinquencyDomainService.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+        }
+        return loanDelinquencyDomainService.getLoanDelinquencyData(loan, getDelinquencyState(loan), effectiveDelinquencyList);
+    }
+
+    @Override
+    public boolean isClassificationRequired(final Loan loan) {
+        if (!isIncrementalStateEnabled() || !loan.getStatus().isActive()) {
+            return true;
+        }
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final int verificationIntervalDays = fineractProperties.getDelinquency().getStateVerificationIntervalDays();
+        return !loanDelinquencyStateStore.hasCurrentStateWithoutDelinquency(loan.getId(), businessDate,
+                businessDate.minusDays(verificationIntervalDays));
+    }
+
+    @Override
+    public void markStale(final Long loanId) {
+        if (isIncrementalStateEnabled()) {
+            loanDelinquencyStateStore.markStale(loanId);
+        }
+    }
+
+    private LoanDelinquencyStateData getDelinquencyState(final Loan loan) {
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final Optional<LoanDelinquencyStateData> storedState = loanDelinquencyStateStore.find(loan.getId());
+        if (storedState.isPresent() && isUsable(loan, storedState.get(), businessDate)) {
+            if (!isVerificationDue(storedState.get(), businessDate)) {
+                return storedState.get();
+            }
+            // rolling consistency check, every state is compared with a full rescan once per verification interval
+            final LoanDelinquencyStateData calculatedState = loanDelinquencyDomainService.calculateDelinquencyState(loan);
+            if (!calculatedState.hasSameDelinquencyAs(storedState.get())) {
+                log.warn("Delinquency state of loan {} is inconsistent with the repayment schedule, stored: {}, calculated: {}",
+                        loan.getId(), storedState.get(), calculatedState);
+            }
+            loanDelinquencyStateStore.save(calculatedState);
+            return calculatedState;
+        }
+        final LoanDelinquencyStateData calculatedState = loanDelinquencyDomainService.calculateDelinquencyState(loan);
+        loanDelinquencyStateStore.save(calculatedState);
+        return calculatedState;
+    }
+
+    private boolean isUsable(final Loan loan, final LoanDelinquencyStateData state, final LocalDate businessDate) {
+        if (!state.isValidOn(businessDate)) {
+            return false;
+        }
+        // an installment which was paid off or added without a business event makes the state outdated as well
+        final Set<Integer> unpaidInstallmentNumbers = loan.getRepaymentScheduleInstallments().stream()
+                .filter(installment -> !installment.isObligationsMet()).map(LoanRepaymentScheduleInstallment::getInstallmentNumber)
+                .collect(Collectors.toSet());
+        return unpaidInstallmentNumbers.equals(state.getInstallments().keySet());
+    }
+
+    private boolean isVerificationDue(final LoanDelinquencyStateData state, final LocalDate businessDate) {
+        final int verificationIntervalDays = fineractProperties.getDelinquency().getStateVerificationIntervalDays();
+        return !DateUtils.isAfter(state.getVerifiedOnDate().plusDays(verificationIntervalDays), businessDate);
+    }
+
+    private boolean isIncrementalStateEnabled() {
+        return fineractProperties.getDelinquency() != null && fineractProperties.getDelinquency().isIncrementalStateEnabled();
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.portfolio.delinquency.data.LoanDelinquencyStateData;
+import org.apache.fineract.portfolio.delinquency.data.LoanInstallmentDelinquencyStateData;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists the delinquency state of the loans with plain JDBC statements. A state which was marked as stale by a change
+ * of the loan is not returned anymore, it is recalculated and overwritten on the next delinquency classification.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanDelinquencyStateStore {
+
+    private static final String SELECT_STATE = """
+                SELECT overdue_since_date, delinquent_amount, delinquent_principal, delinquent_interest, delinquent_fee, delinquent_penalty,
+                    calculated_on_date, valid_until_date, verified_on_date
+                FROM m_loan_delinquency_state
+                WHERE loan_id = ? AND is_stale = false
+            """;
+    private static final String SELECT_INSTALLMENTS = """
+                SELECT installment_number, overdue_since_date, delinquent_amount
+                FROM m_loan_delinquency_state_installment
+                WHERE loan_id = ?
+            """;
+    private static final String INSERT_STATE = """
+                INSERT INTO m_loan_delinquency_state (loan_id, overdue_since_date, delinquent_amount, delinquent_principal,
+                    delinquent_interest, delinquent_fee, delinquent_penalty, calculated_on_date, valid_until_date, verified_on_date,
+                    is_stale)
+                VALUES (?,?,?,?,?,?,?,?,?,?,?)
+            """;
+    private static final String INSERT_INSTALLMENT = """
+                INSERT INTO m_loan_delinquency_state_installment (loan_id, installment_number, overdue_since_date, delinquent_amount)
+                VALUES (?,?,?,?)
+            """;
+
+    // the loan is not delinquent, and neither the passing of time nor a delinquency action can change that
+    private static final String COUNT_CURRENT_STATE_WITHOUT_DELINQUENCY = """
+                SELECT COUNT(*)
+                FROM m_loan_delinquency_state s
+                WHERE s.loan_id = ? AND s.is_stale = false AND s.overdue_since_date IS NULL AND s.calculated_on_date <= ?
+                    AND (s.valid_until_date IS NULL OR s.valid_until_date >= ?) AND s.verified_on_date > ?
+                    AND NOT EXISTS (SELECT 1 FROM m_loan_delinquency_action a WHERE a.loan_id = s.loan_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LoanDelinquencyStateData> find(final Long loanId) {
+        final Map<Integer, LoanInstallmentDelinquencyStateData> installments = new HashMap<>();
+        final List<LoanDelinquencyStateData> states = jdbcTemplate.query(SELECT_STATE,
+                (rs, rowNum) -> new LoanDelinquencyStateData(loanId, JdbcSupport.getLocalDate(rs, "overdue_since_date"),
+                        rs.getBigDecimal("delinquent_amount"), rs.getBigDecimal("delinquent_principal"),
+                        rs.getBigDecimal("delinquent_interest"), rs.getBigDecimal("delinquent_fee"), rs.getBigDecimal("delinquent_penalty"),
+                        installments, JdbcSupport.getLocalDate(rs, "calculated_on_date"), JdbcSupport.getLocalDate(rs, "valid_until_date"),
+                        JdbcSupport.getLocalDate(rs, "verified_on_date")),
+                loanId);
+        if (states.isEmpty()) {
+            return Optional.empty();
+        }
+        jdbcTemplate.query(SELECT_INSTALLMENTS, rs -> {
+            installments.put(rs.getInt("installment_number"), new LoanInstallmentDelinquencyStateData(
+                    JdbcSupport.getLocalDate(rs, "overdue_since_date"), rs.getBigDecimal("delinquent_amount")));
+        }, loanId);
+        return Optional.of(states.get(0));
+    }
+
+    public boolean hasCurrentStateWithoutDelinquency(final Long loanId, final LocalDate businessDate, final LocalDate verifiedAfterDate) {
+        final Integer count = jdbcTemplate.queryForObject(COUNT_CURRENT_STATE_WITHOUT_DELINQUENCY, Integer.class, loanId, businessDate,
+                businessDate, verifiedAfterDate);
+        return count != null && count > 0;
+    }
+
+    public void save(final LoanDelinquencyStateData state) {
+        delete(state.getLoanId());
+        jdbcTemplate.update(INSERT_STATE, state.getLoanId(), state.getOverdueSinceDate(), state.getDelinquentAmount(),
+                state.getDelinquentPrincipal(), state.getDelinquentInterest(), state.getDelinquentFee(), state.getDelinquentPenalty(),
+                state.getCalculatedOnDate(), state.getValidUntilDate(), state.getVerifiedOnDate(), false);
+        if (state.getInstallments().isEmpty()) {
+            return;
+        }
+        final List<Object[]> params = new ArrayList<>(state.getInstallments().size());
+        for (Map.Entry<Integer, LoanInstallmentDelinquencyStateData> installment : state.getInstallments().entrySet()) {
+            params.add(new Object[] { state.getLoanId(), installment.getKey(), installment.getValue().getOverdueSinceDate(),
+                    installment.getValue().getDelinquentAmount() });
+        }
+        jdbcTemplate.batchUpdate(INSERT_INSTALLMENT, params);
+    }
+
+    public void markStale(final Long loanId) {
+        jdbcTemplate.update("UPDATE m_loan_delinquency_state SET is_stale = true WHERE loan_id = ?", loanId);
+    }
+
+    public void delete(final Long loanId) {
+        jdbcTemplate.update("DELETE FROM m_loan_delinquency_state_installment WHERE loan_id = ?", loanId);
+        jdbcTemplate.update("DELETE FROM m_loan_delinquency_state WHERE loan_id = ?", loanId);
+    }
+}
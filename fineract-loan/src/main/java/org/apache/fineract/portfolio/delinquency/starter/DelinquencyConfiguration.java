@@ -19,6 +19,7 @@
 package org.apache.fineract.portfolio.delinquency.starter;
 
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.portfolio.delinquency.domain.DelinquencyBucketMappingsRepository;
 import org.apache.fineract.portfolio.delinquency.domain.DelinquencyBucketRepository;
@@ -37,6 +38,9 @@ import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatfor
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformServiceImpl;
 import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyDomainService;
 import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyDomainServiceImpl;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateServiceImpl;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateStore;
 import org.apache.fineract.portfolio.delinquency.validator.DelinquencyActionParseAndValidator;
 import org.apache.fineract.portfolio.delinquency.validator.DelinquencyBucketParseAndValidator;
 import org.apache.fineract.portfolio.delinquency.validator.DelinquencyRangeParseAndValidator;
@@ -79,12 +83,13 @@ public class DelinquencyConfiguration {
             DelinquencyReadPlatformService delinquencyReadPlatformService, LoanDelinquencyActionRepository loanDelinquencyActionRepository,
             DelinquencyActionParseAndValidator delinquencyActionParseAndValidator,
             DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper,
-            DelinquencyWritePlatformServiceHelper delinquencyWritePlatformServiceHelper) {
+            DelinquencyWritePlatformServiceHelper delinquencyWritePlatformServiceHelper,
+            LoanDelinquencyStateService loanDelinquencyStateService) {
         return new DelinquencyWritePlatformServiceImpl(dataValidatorBucket, dataValidatorRange, repositoryRange, repositoryBucket,
                 repositoryBucketMappings, loanDelinquencyTagRepository, loanRepository, loanProductRepository, loanDelinquencyDomainService,
                 loanInstallmentDelinquencyTagRepository, delinquencyReadPlatformService, loanDelinquencyActionRepository,
                 delinquencyActionParseAndValidator, delinquencyEffectivePauseHelper, businessEventNotifierService,
-                delinquencyWritePlatformServiceHelper);
+                delinquencyWritePlatformServiceHelper, loanDelinquencyStateService);
     }
 
     @Bean
@@ -93,4 +98,11 @@ public class DelinquencyConfiguration {
             LoanTransactionReadService loanTransactionReadService) {
         return new LoanDelinquencyDomainServiceImpl(delinquencyEffectivePauseHelper, loanTransactionReadService);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(LoanDelinquencyStateService.class)
+    public LoanDelinquencyStateService loanDelinquencyStateService(LoanDelinquencyDomainService loanDelinquencyDomainService,
+            LoanDelinquencyStateStore loanDelinquencyStateStore, FineractProperties fineractProperties) {
+        return new LoanDelinquencyStateServiceImpl(loanDelinquencyDomainService, loanDelinquencyStateStore, fineractProperties);
+    }
 }
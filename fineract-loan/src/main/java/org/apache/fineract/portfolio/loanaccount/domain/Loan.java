@@ -457,6 +457,10 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
     @Column(name = "last_closed_business_date")
     private LocalDate lastClosedBusinessDate;
 
+    @Setter()
+    @Column(name = "last_cob_duration_millis")
+    private Long lastCobDurationMillis;
+
     @Column(name = "is_charged_off", nullable = false)
     private boolean chargedOff;
 
@@ -235,6 +235,11 @@ public class LoanRepositoryWrapper {
         return loans;
     }
 
+    public List<Long> findIdsByOfficeIdAndLoanStatusAndDueDateBetween(final Long officeId, final Collection<Integer> loanStatuses,
+            final LocalDate fromDate, final LocalDate toDate) {
+        return this.repository.findIdsByOfficeIdAndLoanStatusAndDueDateBetween(officeId, loanStatuses, fromDate, toDate);
+    }
+
     public List<Long> findActiveLoansLoanProductIdsByClient(@Param("clientId") Long clientId, @Param("loanStatus") Integer loanStatus) {
         return this.repository.findActiveLoansLoanProductIdsByClient(clientId, loanStatus);
     }
@@ -24,6 +24,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Set;
 import lombok.Getter;
+import org.apache.fineract.organisation.monetary.domain.FastMoney;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
 import org.apache.fineract.organisation.monetary.domain.Money;
 
@@ -296,101 +297,101 @@ public class LoanSummary {
 
     protected Money calculateTotalPrincipalRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPrincipalCompleted(currency));
+            total = total.plus(installment.getPrincipalCompleted());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPrincipalAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedPrincipal(currency));
+            total = total.plus(installment.getCreditedPrincipal());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedFee(currency));
+            total = total.plus(installment.getCreditedFee());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedPenalty(currency));
+            total = total.plus(installment.getCreditedPenalty());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPrincipalWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPrincipalWrittenOff(currency));
+            total = total.plus(installment.getPrincipalWrittenOff());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestCharged(currency));
+            total = total.plus(installment.getInterestCharged());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestPaid(currency));
+            total = total.plus(installment.getInterestPaid());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestWaived(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestWaived(currency));
+            total = total.plus(installment.getInterestWaived());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestWrittenOff(currency));
+            total = total.plus(installment.getInterestWrittenOff());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeChargesCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesCharged(currency));
+            total = total.plus(installment.getFeeChargesCharged());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeChargesRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesPaid(currency));
+            total = total.plus(installment.getFeeChargesPaid());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeChargesWaived(Set<LoanCharge> charges, final MonetaryCurrency currency) {
@@ -405,47 +406,47 @@ public class LoanSummary {
 
     protected Money calculateTotalFeeChargesWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesWrittenOff(currency));
+            total = total.plus(installment.getFeeChargesWrittenOff());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesCharged(currency));
+            total = total.plus(installment.getPenaltyCharges());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesPaid(currency));
+            total = total.plus(installment.getPenaltyChargesPaid());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesWaived(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesWaived(currency));
+            total = total.plus(installment.getPenaltyChargesWaived());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        FastMoney total = FastMoney.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesWrittenOff(currency));
+            total = total.plus(installment.getPenaltyChargesWrittenOff());
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalChargesRepaidAtDisbursement(Set<LoanCharge> charges, MonetaryCurrency currency) {
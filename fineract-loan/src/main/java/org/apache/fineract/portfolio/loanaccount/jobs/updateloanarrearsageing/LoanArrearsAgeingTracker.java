@@ -0,0 +1,155 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
+
+import com.google.common.collect.Lists;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of the loans which need their arrears ageing or their NPA flag to be recalculated, and of the business date
+ * the arrears ageing and NPA jobs last ran on. The loans are queued in append only tables, a job deletes exactly the
+ * queued entries it has read. An entry committed after the read, even with a lower id than the ones read, is picked up by
+ * the next run.
+ * <p>
+ * A job runs a full rebuild when the incremental mode is disabled, when it has not run yet, when the business date moved
+ * backwards and once every reconciliation interval days.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanArrearsAgeingTracker {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum PendingQueue {
+
+        ARREARS_AGEING("m_loan_arrears_aging_pending"), //
+        NPA("m_loan_npa_pending"); //
+
+        private final String tableName;
+    }
+
+    /**
+     * The queued entries read by a job, with the distinct ids of their loans.
+     */
+    public record PendingLoans(List<Long> ids, Set<Long> loanIds) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    public boolean isIncrementalEnabled() {
+        return fineractProperties.getJob().isArrearsAgeingIncrementalEnabled();
+    }
+
+    public void markPending(final PendingQueue queue, final Long loanId) {
+        if (isIncrementalEnabled()) {
+            jdbcTemplate.update("INSERT INTO " + queue.getTableName() + " (loan_id) VALUES (?)", loanId);
+        }
+    }
+
+    public void markPending(final PendingQueue queue, final Collection<Long> loanIds) {
+        if (!isIncrementalEnabled() || loanIds.isEmpty()) {
+            return;
+        }
+        final List<Object[]> params = new ArrayList<>(loanIds.size());
+        for (Long loanId : loanIds) {
+            params.add(new Object[] { loanId });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO " + queue.getTableName() + " (loan_id) VALUES (?)", params);
+    }
+
+    public PendingLoans findPending(final PendingQueue queue) {
+        final List<Long> ids = new ArrayList<>();
+        final Set<Long> loanIds = new TreeSet<>();
+        jdbcTemplate.query("SELECT id, loan_id FROM " + queue.getTableName(), rs -> {
+            ids.add(rs.getLong("id"));
+            loanIds.add(rs.getLong("loan_id"));
+        });
+        return new PendingLoans(ids, loanIds);
+    }
+
+    public void deletePending(final PendingQueue queue, final PendingLoans pendingLoans) {
+        final NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        for (List<Long> batch : Lists.partition(pendingLoans.ids(), fineractProperties.getQuery().getInClauseParameterSizeLimit())) {
+            namedParameterJdbcTemplate.update("DELETE FROM " + queue.getTableName() + " WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", batch));
+        }
+    }
+
+    /**
+     * Returns the business date of the last run of the job when the job can run incrementally on the given business
+     * date, and empty when a full rebuild is needed.
+     */
+    public Optional<LocalDate> findIncrementalStartDate(final JobName jobName, final LocalDate businessDate) {
+        if (!isIncrementalEnabled()) {
+            return Optional.empty();
+        }
+        final List<LocalDate[]> checkpoints = jdbcTemplate.query(
+                "SELECT last_business_date, last_full_business_date FROM m_loan_arrears_aging_checkpoint WHERE job_name = ?",
+                (rs, rowNum) -> new LocalDate[] { JdbcSupport.getLocalDate(rs, "last_business_date"),
+                        JdbcSupport.getLocalDate(rs, "last_full_business_date") },
+                jobName.name());
+        if (checkpoints.isEmpty()) {
+            return Optional.empty();
+        }
+        final LocalDate lastBusinessDate = checkpoints.get(0)[0];
+        final LocalDate lastFullBusinessDate = checkpoints.get(0)[1];
+        final int reconciliationIntervalDays = fineractProperties.getJob().getArrearsAgeingReconciliationIntervalDays();
+        if (lastBusinessDate.isAfter(businessDate) || !lastFullBusinessDate.plusDays(reconciliationIntervalDays).isAfter(businessDate)) {
+            return Optional.empty();
+        }
+        return Optional.of(lastBusinessDate);
+    }
+
+    public void saveCheckpoint(final JobName jobName, final LocalDate businessDate, final boolean fullRebuild) {
+        if (!isIncrementalEnabled()) {
+            // without the queued loans of the disabled period the next incremental run would miss changes
+            resetCheckpoint(jobName);
+            return;
+        }
+        if (fullRebuild) {
+            resetCheckpoint(jobName);
+            jdbcTemplate.update(
+                    "INSERT INTO m_loan_arrears_aging_checkpoint (job_name, last_business_date, last_full_business_date) VALUES (?,?,?)",
+                    jobName.name(), businessDate, businessDate);
+        } else {
+            jdbcTemplate.update("UPDATE m_loan_arrears_aging_checkpoint SET last_business_date = ? WHERE job_name = ?", businessDate,
+                    jobName.name());
+        }
+    }
+
+    public void resetCheckpoint(final JobName jobName) {
+        jdbcTemplate.update("DELETE FROM m_loan_arrears_aging_checkpoint WHERE job_name = ?", jobName.name());
+    }
+}
@@ -21,7 +21,6 @@ package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -54,11 +53,9 @@ public class LoanArrearsAgeingUpdateHandler {
         jdbcTemplate.execute("truncate table m_loan_arrears_aging");
     }
 
-    private void deleteLoanArrearsAgingDetails(List<Long> loanIds) {
-        // delete existing record for loan from m_loan_arrears_aging table
-        for (Long loanId : loanIds) {
-            jdbcTemplate.update("delete from m_loan_arrears_aging where loan_id=?", loanId);
-        }
+    private void deleteLoanArrearsAgingDetails(NamedParameterJdbcTemplate namedJdbcTemplate, SqlParameterSource parameters) {
+        // delete existing records for the loans from m_loan_arrears_aging table
+        namedJdbcTemplate.update("delete from m_loan_arrears_aging where loan_id IN (:loanIds)", parameters);
     }
 
     public void updateLoanArrearsAgeingDetailsForAllLoans() {
@@ -76,37 +73,43 @@ public class LoanArrearsAgeingUpdateHandler {
         }
     }
 
+    /**
+     * Recalculates the arrears ageing of the given loans with one delete and one insert statement, the caller is
+     * expected to limit the number of loans to the in clause parameter size limit.
+     */
     public void updateLoanArrearsAgeingDetails(List<Long> loanIdsForUpdate) {
-
-        deleteLoanArrearsAgingDetails(loanIdsForUpdate);
-        String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.FALSE);
-        List<Object[]> batch = new ArrayList<Object[]>();
-        if (!loanIdsForUpdate.isEmpty()) {
-            for (Long loanId : loanIdsForUpdate) {
-                Object[] values = new Object[] { loanId };
-                batch.add(values);
-            }
+        if (loanIdsForUpdate.isEmpty()) {
+            return;
         }
-        final int[] recordsUpdatedWithoutOriginalSchedule = this.jdbcTemplate.batchUpdate(insertSQLStatement, batch);
-        int[] recordsUpdatedWithOriginalSchedule = new int[0];
-        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalSchedule(loanIdsForUpdate);
+        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        final SqlParameterSource parameters = new MapSqlParameterSource("loanIds", loanIdsForUpdate);
+        deleteLoanArrearsAgingDetails(namedJdbcTemplate, parameters);
+        int result = namedJdbcTemplate.update(buildQueryForInsertAgeingDetails(Boolean.FALSE), parameters);
+        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalSchedule(namedJdbcTemplate, parameters);
         if (!insertStatements.isEmpty()) {
-            recordsUpdatedWithOriginalSchedule = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
-
-        }
-        if (log.isDebugEnabled()) {
-            int result = 0;
-            for (int recordWithoutOriginalSchedule : recordsUpdatedWithoutOriginalSchedule) {
-                result += recordWithoutOriginalSchedule;
-            }
-            if (recordsUpdatedWithOriginalSchedule.length > 0) {
-                for (int recordWithOriginalSchedule : recordsUpdatedWithOriginalSchedule) {
-                    result += recordWithOriginalSchedule;
-                }
+            for (int recordWithOriginalSchedule : this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]))) {
+                result += recordWithOriginalSchedule;
             }
-            log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
         }
+        log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
+    }
 
+    /**
+     * Returns the active loans having an installment which became overdue for arrears ageing after the given business
+     * date, on the current or, for the products ageing on the original schedule, on the original repayment schedule.
+     */
+    public List<Long> retrieveLoansBecomingOverdueSince(LocalDate lastBusinessDate) {
+        final String gracePeriodStart = sqlGenerator.subDate("?", "COALESCE(ml.grace_on_arrears_ageing, 0)", "day");
+        final String gracePeriodEnd = sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)",
+                "day");
+        final String sql = "select ml.id as loanId FROM m_loan ml INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id "
+                + "WHERE ml.loan_status_id = 300 and mr.completed_derived is false and mr.duedate < " + gracePeriodEnd
+                + " and mr.duedate >= " + gracePeriodStart //
+                + " UNION select ml.id as loanId FROM m_loan ml INNER JOIN m_loan_repayment_schedule_history mr on mr.loan_id = ml.id "
+                + "inner join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id "
+                + "and prd.arrears_based_on_original_schedule = true "
+                + "WHERE ml.loan_status_id = 300 and mr.duedate < " + gracePeriodEnd + " and mr.duedate >= " + gracePeriodStart;
+        return jdbcTemplate.queryForList(sql, Long.class, lastBusinessDate, lastBusinessDate);
     }
 
     private String buildQueryForInsertAgeingDetails(boolean isForAllLoans) {
@@ -135,7 +138,7 @@ public class LoanArrearsAgeingUpdateHandler {
         insertSqlStatementBuilder.append(" left join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id ");
         insertSqlStatementBuilder.append(" WHERE ml.loan_status_id = 300 ");// active
         if (!isForAllLoans) {
-            insertSqlStatementBuilder.append(" and ml.id IN (?)");
+            insertSqlStatementBuilder.append(" and ml.id IN (:loanIds)");
         }
         insertSqlStatementBuilder.append(" and mr.completed_derived is false ");
         insertSqlStatementBuilder.append(" and mr.duedate < ")
@@ -147,15 +150,11 @@ public class LoanArrearsAgeingUpdateHandler {
         return insertSqlStatementBuilder.toString();
     }
 
-    private List<String> updateLoanArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIdsForUpdate) {
+    private List<String> updateLoanArrearsAgeingDetailsWithOriginalSchedule(NamedParameterJdbcTemplate namedJdbcTemplate,
+            SqlParameterSource parameters) {
         List<String> insertStatement = new ArrayList<>();
         String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.FALSE);
-        List<Object> loanIdsForQuery = new ArrayList<>();
-        for (Long loanId : loanIdsForUpdate) {
-            loanIdsForQuery.add(loanId);
-        }
-        List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, loanIdsForQuery.toArray(), new int[] { Types.BIGINT },
-                Long.class);
+        List<Long> loanIds = namedJdbcTemplate.queryForList(sqlForLoanIdentifiers, parameters, Long.class);
         if (!loanIds.isEmpty()) {
             Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
             List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
@@ -188,7 +187,7 @@ public class LoanArrearsAgeingUpdateHandler {
                 "inner join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id and prd.arrears_based_on_original_schedule = true  ");
         loanIdentifier.append("WHERE ml.loan_status_id = 300 ");
         if (!isForAllLoans) {
-            loanIdentifier.append(" and ml.id IN (?)");
+            loanIdentifier.append(" and ml.id IN (:loanIds)");
         }
         loanIdentifier.append(" and mr.completed_derived is false  and mr.duedate < ")
                 .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
 
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -40,6 +41,10 @@ public class UpdateLoanArrearsAgeingConfig {
 
     @Autowired
     private LoanArrearsAgeingUpdateHandler updateLoanArrearsAgingService;
+    @Autowired
+    private LoanArrearsAgeingTracker loanArrearsAgeingTracker;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     protected Step updateLoanArrearsAgeingStep() {
@@ -55,6 +60,6 @@ public class UpdateLoanArrearsAgeingConfig {
 
     @Bean
     public UpdateLoanArrearsAgeingTasklet updateLoanArrearsAgeingTasklet() {
-        return new UpdateLoanArrearsAgeingTasklet(updateLoanArrearsAgingService);
+        return new UpdateLoanArrearsAgeingTasklet(updateLoanArrearsAgingService, loanArrearsAgeingTracker, fineractProperties);
     }
 }
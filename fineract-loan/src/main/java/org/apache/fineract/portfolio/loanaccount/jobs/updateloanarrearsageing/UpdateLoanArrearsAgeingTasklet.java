@@ -18,8 +18,18 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
 
+import com.google.common.collect.Lists;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingLoans;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingQueue;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
@@ -30,10 +40,30 @@ import org.springframework.batch.repeat.RepeatStatus;
 public class UpdateLoanArrearsAgeingTasklet implements Tasklet {
 
     private final LoanArrearsAgeingUpdateHandler loanArrearsAgeingUpdateHandler;
+    private final LoanArrearsAgeingTracker loanArrearsAgeingTracker;
+    private final FineractProperties fineractProperties;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetailsForAllLoans();
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final PendingLoans pendingLoans = loanArrearsAgeingTracker.findPending(PendingQueue.ARREARS_AGEING);
+        final Optional<LocalDate> incrementalStartDate = loanArrearsAgeingTracker.findIncrementalStartDate(
+                JobName.UPDATE_LOAN_ARREARS_AGEING, businessDate);
+        if (incrementalStartDate.isEmpty()) {
+            loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetailsForAllLoans();
+            // every arrears ageing may have changed, the NPA flags are rebuilt on the next run as well
+            loanArrearsAgeingTracker.resetCheckpoint(JobName.UPDATE_NPA);
+        } else {
+            final TreeSet<Long> loanIds = new TreeSet<>(pendingLoans.loanIds());
+            loanIds.addAll(loanArrearsAgeingUpdateHandler.retrieveLoansBecomingOverdueSince(incrementalStartDate.get()));
+            for (List<Long> batch : Lists.partition(List.copyOf(loanIds), fineractProperties.getQuery().getInClauseParameterSizeLimit())) {
+                loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetails(batch);
+                loanArrearsAgeingTracker.markPending(PendingQueue.NPA, batch);
+            }
+            log.debug("Arrears ageing updated incrementally for {} loans since {}", loanIds.size(), incrementalStartDate.get());
+        }
+        loanArrearsAgeingTracker.deletePending(PendingQueue.ARREARS_AGEING, pendingLoans);
+        loanArrearsAgeingTracker.saveCheckpoint(JobName.UPDATE_LOAN_ARREARS_AGEING, businessDate, incrementalStartDate.isEmpty());
         return RepeatStatus.FINISHED;
     }
 
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service.listener;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanAccountCustomSnapshotBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanAccountSnapshotBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanDelinquencyRangeChangeBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.charge.LoanChargeBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanAccrualAdjustmentTransactionBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanAccrualTransactionCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanTransactionAccrualActivityPostBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanTransactionAccrualActivityPreBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanTransactionBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingQueue;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks the loans whose repayment schedule, paid amounts or status may have changed, whenever the loan, its
+ * transactions or its charges change. The stored delinquency state of the loan is marked stale, so the next delinquency
+ * classification rescans its repayment schedule, and the loan is queued for the next incremental arrears ageing run.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanChangeTrackingListener implements InitializingBean {
+
+    // Events which do not change the repayment schedule, the paid amounts of the installments or the status of the loan
+    private static final List<Class<? extends BusinessEvent<?>>> IGNORED_EVENT_TYPES = List.of(//
+            LoanDelinquencyRangeChangeBusinessEvent.class, //
+            LoanAccountSnapshotBusinessEvent.class, //
+            LoanAccountCustomSnapshotBusinessEvent.class, //
+            LoanAccrualTransactionCreatedBusinessEvent.class, //
+            LoanAccrualAdjustmentTransactionBusinessEvent.class, //
+            LoanTransactionAccrualActivityPreBusinessEvent.class, //
+            LoanTransactionAccrualActivityPostBusinessEvent.class //
+    );//
+
+    private final LoanDelinquencyStateService loanDelinquencyStateService;
+    private final LoanArrearsAgeingTracker loanArrearsAgeingTracker;
+    private final BusinessEventNotifierService businessEventNotifierService;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        businessEventNotifierService.addPostBusinessEventListener(LoanBusinessEvent.class, this::loanChanged);
+        businessEventNotifierService.addPostBusinessEventListener(LoanTransactionBusinessEvent.class, this::loanChanged);
+        businessEventNotifierService.addPostBusinessEventListener(LoanChargeBusinessEvent.class, this::loanChanged);
+    }
+
+    private void loanChanged(BusinessEvent<?> event) {
+        if (IGNORED_EVENT_TYPES.contains(event.getClass())) {
+            return;
+        }
+        Long loanId = event.getAggregateRootId();
+        if (loanId != null) {
+            loanDelinquencyStateService.markStale(loanId);
+            loanArrearsAgeingTracker.markPending(PendingQueue.ARREARS_AGEING, loanId);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.MathUtil;
+import org.apache.fineract.organisation.monetary.domain.FastMoney;
 import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
 import org.apache.fineract.portfolio.common.domain.DaysInYearType;
@@ -410,16 +411,20 @@ public final class ProgressiveEMICalculator implements EMICalculator {
 
     private void calculateLastUnpaidRepaymentPeriodEMI(ProgressiveLoanInterestScheduleModel scheduleModel) {
         MathContext mc = scheduleModel.mc();
-        Money totalDueInterest = scheduleModel.repaymentPeriods().stream().map(RepaymentPeriod::getDueInterest).reduce(scheduleModel.zero(),
-                (m1, m2) -> m1.plus(m2, mc)); // 1.46
-        Money totalEMI = scheduleModel.repaymentPeriods().stream().map(RepaymentPeriod::getEmiPlusChargeback).reduce(scheduleModel.zero(),
-                (m1, m2) -> m1.plus(m2, mc)); // 101.48
-        Money totalDisbursedAmount = scheduleModel.repaymentPeriods().stream()
-                .flatMap(rp -> rp.getInterestPeriods().stream().map(InterestPeriod::getDisbursementAmount))
-                .reduce(scheduleModel.zero(), (m1, m2) -> m1.plus(m2, mc)) // 100
-                .plus(scheduleModel.getTotalChargebackPrincipal(), mc); //
-
-        Money diff = totalDisbursedAmount.plus(totalDueInterest, mc).minus(totalEMI, mc);
+        // the totals are exact sums of currency scaled amounts, so they are accumulated without creating a Money per period
+        FastMoney totalDueInterest = FastMoney.zero(scheduleModel.zero().getCurrencyData());
+        FastMoney totalEMI = totalDueInterest;
+        FastMoney totalDisbursedAmount = totalDueInterest;
+        for (RepaymentPeriod repaymentPeriod : scheduleModel.repaymentPeriods()) {
+            totalDueInterest = totalDueInterest.plus(repaymentPeriod.getDueInterest());
+            totalEMI = totalEMI.plus(repaymentPeriod.getEmiPlusChargeback());
+            for (InterestPeriod interestPeriod : repaymentPeriod.getInterestPeriods()) {
+                totalDisbursedAmount = totalDisbursedAmount.plus(interestPeriod.getDisbursementAmount());
+            }
+        }
+        totalDisbursedAmount = totalDisbursedAmount.plus(scheduleModel.getTotalChargebackPrincipal());
+
+        Money diff = totalDisbursedAmount.plus(totalDueInterest).minus(totalEMI).toMoney(mc);
         Optional<RepaymentPeriod> findLastUnpaidRepaymentPeriod = scheduleModel.repaymentPeriods().stream().filter(rp -> !rp.isFullyPaid())
                 .reduce((first, second) -> second);
         findLastUnpaidRepaymentPeriod.ifPresent(repaymentPeriod -> {
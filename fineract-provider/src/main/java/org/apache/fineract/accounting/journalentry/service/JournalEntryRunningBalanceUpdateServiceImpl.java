@@ -22,38 +22,56 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.accounting.common.AccountingEnumerations;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
 import org.apache.fineract.accounting.journalentry.api.JournalEntryJsonInputParams;
-import org.apache.fineract.accounting.journalentry.data.JournalEntryData;
 import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
-import org.apache.fineract.infrastructure.core.data.EnumOptionData;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.exception.PlatformInternalServerException;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Calculates the office and organization running balances of the journal entries incrementally.
+ *
+ * The last calculated office running balance of every office and GL account is kept in
+ * {@code acc_gl_running_balance_checkpoint}, so the calculation of an account starts from the first not calculated entry
+ * instead of rebuilding the balances from the whole ledger. The GL accounts are calculated in parallel and the entries of
+ * an account are read page by page in (entry date, id) order, so the memory usage does not depend on the size of the
+ * ledger. Every page is written together with the checkpoints in one transaction, so an interrupted calculation
+ * continues from the last written page.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntryRunningBalanceUpdateService {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
 
     private final OfficeRepositoryWrapper officeRepositoryWrapper;
@@ -63,20 +81,27 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
     private final FromJsonHelper fromApiJsonHelper;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
 
-    private final GLJournalEntryMapper entryMapper = new GLJournalEntryMapper();
+    private final RunningBalanceEntryMapper entryMapper = new RunningBalanceEntryMapper();
 
     private final PlatformSecurityContext platformSecurityContext;
 
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier(TaskExecutorConstant.CONFIGURABLE_TASK_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor taskExecutor;
+
     @Override
     public void updateRunningBalance() {
-        String dateFinder = "select MIN(je.entry_date) as entityDate from acc_gl_journal_entry  je "
-                + "where je.is_running_balance_calculated=false ";
-        try {
-            LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class);
-            updateOrganizationRunningBalance(entityDate);
-        } catch (EmptyResultDataAccessException e) {
+        String accountFinder = "select je.account_id as accountId, MIN(je.entry_date) as entryDate, "
+                + "MIN(glAccount.classification_enum) as classification from acc_gl_journal_entry je "
+                + "join acc_gl_account glAccount on glAccount.id = je.account_id "
+                + "where je.is_running_balance_calculated=false group by je.account_id";
+        List<AccountPartition> partitions = this.jdbcTemplate.query(accountFinder, new AccountPartitionMapper());
+        if (partitions.isEmpty()) {
             log.debug("No results found for updation of running balance ");
+            return;
         }
+        updateRunningBalance(partitions);
     }
 
     @Override
@@ -90,195 +115,191 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
             updateRunningBalance();
         } else {
             this.officeRepositoryWrapper.findOneWithNotFoundDetection(officeId);
-            String dateFinder = "select MIN(je.entry_date) as entityDate " + "from acc_gl_journal_entry  je "
-                    + "where je.is_running_balance_calculated=false  and je.office_id=?";
-            try {
-                LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class, officeId);
-                updateRunningBalance(officeId, entityDate);
-            } catch (EmptyResultDataAccessException e) {
+            // the organization running balance of an account depends on every office, so the whole account is updated
+            String accountFinder = "select je.account_id as accountId, MIN(je.entry_date) as entryDate, "
+                    + "MIN(glAccount.classification_enum) as classification from acc_gl_journal_entry je "
+                    + "join acc_gl_account glAccount on glAccount.id = je.account_id "
+                    + "where je.is_running_balance_calculated=false and je.account_id in "
+                    + "(select ofe.account_id from acc_gl_journal_entry ofe where ofe.is_running_balance_calculated=false "
+                    + "and ofe.office_id=?) group by je.account_id";
+            List<AccountPartition> partitions = this.jdbcTemplate.query(accountFinder, new AccountPartitionMapper(), officeId);
+            if (partitions.isEmpty()) {
                 log.debug("No results found for updation of office running balance with office id: {}", officeId);
+            } else {
+                updateRunningBalance(partitions);
             }
             commandProcessingResultBuilder.withOfficeId(officeId);
         }
         return commandProcessingResultBuilder.build();
     }
 
-    private void updateOrganizationRunningBalance(LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-        Map<Long, Map<Long, BigDecimal>> officesRunningBalance = new HashMap<>();
-
-        final String organizationRunningBalanceQuery = "select je.organization_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(organizationRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-
-        for (Map<String, Object> entries : list) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString()); // Drizzle
-                                                                                  // is
-                                                                                  // returning
-                                                                                  // Big
-                                                                                  // Integer
-                                                                                  // where
-                                                                                  // as
-                                                                                  // MySQL
-                                                                                  // returns
-                                                                                  // Long.
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+    private void updateRunningBalance(List<AccountPartition> partitions) {
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        List<Future<?>> tasks = new ArrayList<>();
+        for (AccountPartition partition : partitions) {
+            tasks.add(taskExecutor.submit(() -> {
+                ThreadLocalContextUtil.init(context);
+                try {
+                    updateAccountRunningBalance(partition, userId);
+                } finally {
+                    ThreadLocalContextUtil.reset();
+                }
+            }));
+        }
+        List<Throwable> errors = new ArrayList<>();
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.add(e);
+            } catch (ExecutionException e) {
+                log.error("Exception while updating running balance", e.getCause());
+                errors.add(e.getCause());
             }
         }
+        if (!errors.isEmpty()) {
+            final String msg = "Running balance update failed for " + errors.size() + " of " + partitions.size() + " GL accounts";
+            throw new PlatformInternalServerException("error.msg.running.balance.update.failed", msg, errors.get(0));
+        }
+    }
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId,je.office_id as officeId "
-                + "from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by office_id,account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by office_id,account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+    private void updateAccountRunningBalance(AccountPartition partition, Long userId) {
+        final Map<Long, BigDecimal> officeRunningBalances = retrieveOfficeRunningBalances(partition);
+        BigDecimal organizationRunningBalance = officeRunningBalances.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        List<Map<String, Object>> officesRunningBalanceList = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-        for (Map<String, Object> entries : officesRunningBalanceList) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString());
-            Long officeId = Long.parseLong(entries.get("officeId").toString());
-            Map<Long, BigDecimal> runningBalance;
-            if (officesRunningBalance.containsKey(officeId)) {
-                runningBalance = officesRunningBalance.get(officeId);
-            } else {
-                runningBalance = new HashMap<>();
-                officesRunningBalance.put(officeId, runningBalance);
+        final String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
+                + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
+        LocalDate lastEntryDate = partition.entryDate();
+        Long lastEntryId = 0L;
+        List<RunningBalanceEntry> entries;
+        do {
+            entries = this.jdbcTemplate.query(entryMapper.schema() + sqlGenerator.limit(BATCH_SIZE), entryMapper, partition.accountId(),
+                    lastEntryDate, lastEntryDate, lastEntryId);
+            if (entries.isEmpty()) {
+                break;
             }
-            if (!runningBalance.containsKey(accountId)) {
-                runningBalance.put(accountId, (BigDecimal) entries.get("runningBalance"));
+            final OffsetDateTime auditTime = DateUtils.getAuditOffsetDateTime();
+            final List<Object[]> params = new ArrayList<>(entries.size());
+            final Map<Long, RunningBalanceEntry> lastEntryOfOffices = new HashMap<>();
+            for (RunningBalanceEntry entry : entries) {
+                BigDecimal amount = signedAmount(partition.accountType(), entry);
+                organizationRunningBalance = organizationRunningBalance.add(amount);
+                BigDecimal officeRunningBalance = officeRunningBalances.getOrDefault(entry.officeId(), BigDecimal.ZERO).add(amount);
+                officeRunningBalances.put(entry.officeId(), officeRunningBalance);
+                lastEntryOfOffices.put(entry.officeId(), entry);
+                params.add(new Object[] { Boolean.TRUE, organizationRunningBalance, officeRunningBalance, userId, auditTime, entry.id() });
             }
-        }
-
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema(), entryMapper, entityDate);
-        if (entryDataList.size() > 0) {
-            // run a batch update of 1000 SQL statements at a time
-            final int batchUpdateSize = 1000;
-            List<Object[]> params = new ArrayList<>();
-            int batchIndex = 0;
-            String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
-                    + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-            for (int index = 0; index < entryDataList.size(); index++) {
-                JournalEntryData entryData = entryDataList.get(index);
-                Map<Long, BigDecimal> officeRunningBalanceMap;
-                if (officesRunningBalance.containsKey(entryData.getOfficeId())) {
-                    officeRunningBalanceMap = officesRunningBalance.get(entryData.getOfficeId());
-                } else {
-                    officeRunningBalanceMap = new HashMap<>();
-                    officesRunningBalance.put(entryData.getOfficeId(), officeRunningBalanceMap);
-                }
-                BigDecimal officeRunningBalance = calculateRunningBalance(entryData, officeRunningBalanceMap);
-                BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
+            transactionTemplate.executeWithoutResult(status -> {
+                this.jdbcTemplate.batchUpdate(sql, params);
+                saveCheckpoints(partition.accountId(), lastEntryOfOffices, officeRunningBalances);
+            });
+            RunningBalanceEntry lastEntry = entries.get(entries.size() - 1);
+            lastEntryDate = lastEntry.entryDate();
+            lastEntryId = lastEntry.id();
+        } while (entries.size() == BATCH_SIZE);
+    }
 
-                params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance,
-                        platformSecurityContext.authenticatedUser().getId(), DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-                batchIndex++;
-                if (batchIndex == batchUpdateSize || index == entryDataList.size() - 1) {
-                    this.jdbcTemplate.batchUpdate(sql, params);
-                    // reset counter and string array
-                    batchIndex = 0;
-                    params.clear();
-                }
+    /**
+     * Retrieves the office running balances of the account right before the first not calculated entry. The checkpoint of
+     * an office can be used only if it is before that date, otherwise a back dated entry was posted and the balance is
+     * read from the last entry before that date.
+     */
+    private Map<Long, BigDecimal> retrieveOfficeRunningBalances(AccountPartition partition) {
+        final Map<Long, BigDecimal> officeRunningBalances = new HashMap<>();
+        final String checkpointQuery = "select office_id as officeId, entry_date as entryDate, office_running_balance as runningBalance "
+                + "from acc_gl_running_balance_checkpoint where account_id=?";
+        final String entryQuery = "select je.office_running_balance from acc_gl_journal_entry je "
+                + "where je.account_id=? and je.office_id=? and je.entry_date < ? order by je.entry_date DESC, je.id DESC "
+                + sqlGenerator.limit(1);
+        final List<RunningBalanceCheckpoint> checkpoints = this.jdbcTemplate.query(checkpointQuery,
+                (rs, rowNum) -> new RunningBalanceCheckpoint(rs.getLong("officeId"), JdbcSupport.getLocalDate(rs, "entryDate"),
+                        rs.getBigDecimal("runningBalance")),
+                partition.accountId());
+        for (RunningBalanceCheckpoint checkpoint : checkpoints) {
+            if (DateUtils.isBefore(checkpoint.entryDate(), partition.entryDate())) {
+                officeRunningBalances.put(checkpoint.officeId(), checkpoint.runningBalance());
+            } else {
+                List<BigDecimal> runningBalance = this.jdbcTemplate.queryForList(entryQuery, BigDecimal.class, partition.accountId(),
+                        checkpoint.officeId(), partition.entryDate());
+                officeRunningBalances.put(checkpoint.officeId(), runningBalance.isEmpty() ? BigDecimal.ZERO : runningBalance.get(0));
             }
         }
-
+        return officeRunningBalances;
     }
 
-    private void updateRunningBalance(Long officeId, LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where office_id=?  and entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where office_id=? and entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                officeId, entityDate, officeId, entityDate);
-        for (Map<String, Object> entries : list) {
-            Long accountId = (Long) entries.get("accountId");
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+    private void saveCheckpoints(Long accountId, Map<Long, RunningBalanceEntry> lastEntryOfOffices,
+            Map<Long, BigDecimal> officeRunningBalances) {
+        final String updateSql = "UPDATE acc_gl_running_balance_checkpoint SET journal_entry_id=?, entry_date=?, office_running_balance=? "
+                + "WHERE office_id=? and account_id=?";
+        final String insertSql = "INSERT INTO acc_gl_running_balance_checkpoint (office_id, account_id, journal_entry_id, entry_date, "
+                + "office_running_balance) VALUES (?, ?, ?, ?, ?)";
+        lastEntryOfOffices.forEach((officeId, entry) -> {
+            BigDecimal runningBalance = officeRunningBalances.get(officeId);
+            int updated = this.jdbcTemplate.update(updateSql, entry.id(), entry.entryDate(), runningBalance, officeId, accountId);
+            if (updated == 0) {
+                this.jdbcTemplate.update(insertSql, officeId, accountId, entry.id(), entry.entryDate(), runningBalance);
             }
-        }
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.officeRunningBalanceSchema(), entryMapper, officeId,
-                entityDate);
-        List<Object[]> params = new ArrayList<>();
-
-        String sql = "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?";
-        for (JournalEntryData entryData : entryDataList) {
-            BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-            params.add(new Object[] { runningBalance, platformSecurityContext.authenticatedUser().getId(),
-                    DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-        }
-        this.jdbcTemplate.batchUpdate(sql, params);
+        });
     }
 
-    private BigDecimal calculateRunningBalance(JournalEntryData entry, Map<Long, BigDecimal> runningBalanceMap) {
-        BigDecimal runningBalance = BigDecimal.ZERO;
-        if (runningBalanceMap.containsKey(entry.getGlAccountId())) {
-            runningBalance = runningBalanceMap.get(entry.getGlAccountId());
-        }
-        GLAccountType accountType = GLAccountType.fromInt(entry.getGlAccountType().getId().intValue());
-        JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType().getId().intValue());
+    private BigDecimal signedAmount(GLAccountType accountType, RunningBalanceEntry entry) {
         boolean isIncrease = false;
         switch (accountType) {
             case ASSET:
             case EXPENSE:
-                if (entryType.isDebitType()) {
+                if (entry.entryType().isDebitType()) {
                     isIncrease = true;
                 }
             break;
             case EQUITY:
             case INCOME:
             case LIABILITY:
-                if (entryType.isCreditType()) {
+                if (entry.entryType().isCreditType()) {
                     isIncrease = true;
                 }
             break;
         }
-        if (isIncrease) {
-            runningBalance = runningBalance.add(entry.getAmount());
-        } else {
-            runningBalance = runningBalance.subtract(entry.getAmount());
-        }
-        runningBalanceMap.put(entry.getGlAccountId(), runningBalance);
-        return runningBalance;
+        return isIncrease ? entry.amount() : entry.amount().negate();
     }
 
-    private static final class GLJournalEntryMapper implements RowMapper<JournalEntryData> {
+    private record AccountPartition(Long accountId, LocalDate entryDate, GLAccountType accountType) {
+    }
 
-        public String officeRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId,je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.office_id=? and je.entry_date >= ? order by je.entry_date,je.id";
+    private record RunningBalanceCheckpoint(Long officeId, LocalDate entryDate, BigDecimal runningBalance) {
+    }
+
+    private record RunningBalanceEntry(Long id, Long officeId, LocalDate entryDate, JournalEntryType entryType, BigDecimal amount) {
+    }
+
+    private static final class AccountPartitionMapper implements RowMapper<AccountPartition> {
+
+        @Override
+        public AccountPartition mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            final Long accountId = rs.getLong("accountId");
+            final LocalDate entryDate = JdbcSupport.getLocalDate(rs, "entryDate");
+            final GLAccountType accountType = GLAccountType.fromInt(JdbcSupport.getInteger(rs, "classification"));
+            return new AccountPartition(accountId, entryDate, accountType);
         }
+    }
+
+    private static final class RunningBalanceEntryMapper implements RowMapper<RunningBalanceEntry> {
 
-        public String organizationRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId," + "je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId  "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.entry_date >= ? order by je.entry_date,je.id";
+        public String schema() {
+            return "select je.id as id, je.office_id as officeId, je.entry_date as entryDate, je.type_enum as entryType, "
+                    + "je.amount as amount from acc_gl_journal_entry je where je.account_id = ? "
+                    + "and (je.entry_date > ? or (je.entry_date = ? and je.id > ?)) order by je.entry_date, je.id ";
         }
 
         @Override
-        public JournalEntryData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
-
+        public RunningBalanceEntry mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
             final Long id = rs.getLong("id");
-            final Long glAccountId = rs.getLong("glAccountId");
             final Long officeId = rs.getLong("officeId");
-            final int accountTypeId = JdbcSupport.getInteger(rs, "classification");
-            final EnumOptionData accountType = AccountingEnumerations.gLAccountType(accountTypeId);
+            final LocalDate entryDate = JdbcSupport.getLocalDate(rs, "entryDate");
+            final JournalEntryType entryType = JournalEntryType.fromInt(JdbcSupport.getInteger(rs, "entryType"));
             final BigDecimal amount = rs.getBigDecimal("amount");
-            final int entryTypeId = JdbcSupport.getInteger(rs, "entryType");
-            final EnumOptionData entryType = AccountingEnumerations.journalEntryType(entryTypeId);
-
-            return new JournalEntryData(id, officeId, null, null, glAccountId, null, accountType, null, entryType, amount, null, null, null,
-                    null, null, null, null, null, null, null, null, null, null, null, null);
+            return new RunningBalanceEntry(id, officeId, entryDate, entryType, amount);
         }
     }
 
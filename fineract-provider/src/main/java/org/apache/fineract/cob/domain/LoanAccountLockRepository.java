@@ -46,4 +46,6 @@ public interface LoanAccountLockRepository
     void removeLockByOwner();
 
     List<LoanAccountLock> findAllByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner);
+
+    List<LoanAccountLock> findAllByLoanIdBetweenAndLockOwnerOrderByLoanId(Long minLoanId, Long maxLoanId, LockOwner lockOwner);
 }
@@ -16,15 +16,14 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package org.apache.fineract.accounting.trialbalance.exception;
+package org.apache.fineract.cob.exceptions;
 
 import org.apache.fineract.infrastructure.core.exception.AbstractPlatformResourceNotFoundException;
 
-public class TrialBalanceNotFoundException extends AbstractPlatformResourceNotFoundException {
-
-    public TrialBalanceNotFoundException(final Long officeId, final Long accountId) {
-        super("error.msg.trial.balance.invalid",
-                "Trial balance with officeId " + officeId + "and accountId" + accountId + " does not exist");
+public class InlineLoanCOBExecutionNotFoundException extends AbstractPlatformResourceNotFoundException {
 
+    public InlineLoanCOBExecutionNotFoundException(Long executionId) {
+        super("error.msg.inline.loan.cob.execution.not.found", "Inline loan COB execution not found with the given id: " + executionId,
+                executionId);
     }
 }
@@ -0,0 +1,59 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.listener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * {@link StepExecutionListener} to publish the processing time and throughput of a COB partition, so the partitions
+ * produced by the cost balanced partitioning can be compared.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoanCOBPartitionTimingListener implements StepExecutionListener {
+
+    private final String partitionName;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getStartTime() == null) {
+            return null;
+        }
+        Duration duration = Duration.between(stepExecution.getStartTime(), LocalDateTime.now());
+        long loans = stepExecution.getWriteCount();
+        long millis = Math.max(duration.toMillis(), 1L);
+        log.info("Loan COB partition {} processed {} loans in {} ms ({} loans/s)", partitionName, loans, millis, loans * 1000 / millis);
+        meterRegistry.ifPresent(registry -> Timer.builder("fineract.cob.partition").description("Loan COB partition processing time") //
+                .tag("tenant", ThreadLocalContextUtil.getTenant().getTenantIdentifier()) //
+                .register(registry) //
+                .record(duration));
+        return null;
+    }
+}
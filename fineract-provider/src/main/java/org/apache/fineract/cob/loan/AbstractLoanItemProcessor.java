@@ -20,10 +20,13 @@ package org.apache.fineract.cob.loan;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +34,9 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.ExitStatus;
@@ -44,10 +50,13 @@ import org.springframework.batch.item.ItemProcessor;
 public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, Loan> {
 
     private final COBBusinessStepService cobBusinessStepService;
+    private final BusinessEventNotifierService businessEventNotifierService;
 
     @Setter(AccessLevel.PROTECTED)
     private ExecutionContext executionContext;
     private LocalDate businessDate;
+    @Setter(AccessLevel.PROTECTED)
+    private boolean catchUp;
 
     @SuppressWarnings({ "unchecked" })
     @Override
@@ -58,11 +67,51 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
         }
         TreeMap<Long, String> businessStepMap = getBusinessStepMap(businessSteps);
 
-        Loan alreadyProcessedLoan = cobBusinessStepService.run(businessStepMap, item);
+        long startedAt = System.nanoTime();
+        List<LocalDate> cobDates = getCOBDates(item);
+        Loan alreadyProcessedLoan = cobDates.size() == 1 ? cobBusinessStepService.run(businessStepMap, item)
+                : runForEachCOBDate(businessStepMap, item, cobDates);
         alreadyProcessedLoan.setLastClosedBusinessDate(businessDate);
+        // used as the cost of the loan by the cost balanced partitioning of the next COB
+        alreadyProcessedLoan.setLastCobDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) / cobDates.size());
         return alreadyProcessedLoan;
     }
 
+    /**
+     * A catch-up picks up loans lagging more than one day behind when the multi-date catch-up is enabled. Those loans are
+     * closed for every missed business date in this single pass instead of one COB job execution per date.
+     */
+    private List<LocalDate> getCOBDates(Loan loan) {
+        LocalDate lastClosedBusinessDate = loan.getLastClosedBusinessDate();
+        if (!catchUp || lastClosedBusinessDate == null || !lastClosedBusinessDate.isBefore(businessDate.minusDays(1))) {
+            return List.of(businessDate);
+        }
+        return lastClosedBusinessDate.plusDays(1).datesUntil(businessDate.plusDays(1)).toList();
+    }
+
+    /**
+     * Runs the business steps with the same COB and business dates a day by day catch-up would use for each date. The
+     * external events of a date are written before the next date is closed, so they carry the state of the loan as of
+     * that date, not the final one.
+     */
+    private Loan runForEachCOBDate(TreeMap<Long, String> businessStepMap, Loan loan, List<LocalDate> cobDates) {
+        HashMap<BusinessDateType, LocalDate> originalBusinessDates = ThreadLocalContextUtil.getBusinessDates();
+        try {
+            Loan processedLoan = loan;
+            for (LocalDate cobDate : cobDates) {
+                HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>(originalBusinessDates);
+                businessDates.put(BusinessDateType.COB_DATE, cobDate);
+                businessDates.put(BusinessDateType.BUSINESS_DATE, cobDate.plusDays(1));
+                ThreadLocalContextUtil.setBusinessDates(businessDates);
+                processedLoan = cobBusinessStepService.run(businessStepMap, processedLoan);
+                businessEventNotifierService.flushTransactionalBusinessEvents();
+            }
+            return processedLoan;
+        } finally {
+            ThreadLocalContextUtil.setBusinessDates(originalBusinessDates);
+        }
+    }
+
     private TreeMap<Long, String> getBusinessStepMap(Set<BusinessStepNameAndOrder> businessSteps) {
         Map<Long, String> businessStepMap = businessSteps.stream()
                 .collect(Collectors.toMap(BusinessStepNameAndOrder::getStepOrder, BusinessStepNameAndOrder::getStepName));
@@ -18,12 +18,22 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.exceptions.LoanReadException;
+import org.apache.fineract.infrastructure.core.diagnostics.jpa.StatementCounter;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.apache.fineract.portfolio.loanaccount.exception.LoanNotFoundException;
@@ -32,6 +42,8 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -42,22 +54,124 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
     @Setter(AccessLevel.PROTECTED)
     private LinkedBlockingQueue<Long> remainingData;
 
+    /**
+     * Number of loans loaded together when the buffer of the reading thread runs empty. With the default of 1 every loan
+     * is loaded on its own.
+     */
+    @Setter
+    private int prefetchSize = 1;
+
+    @Setter
+    private Optional<MeterRegistry> meterRegistry = Optional.empty();
+
+    private final ThreadLocal<Map<Long, Loan>> prefetchedLoans = ThreadLocal.withInitial(LinkedHashMap::new);
+
     @Override
     public Loan read() throws Exception {
+        if (prefetchSize > 1) {
+            return readPrefetched();
+        }
         final Long loanId = remainingData.poll();
         if (loanId != null) {
-            try {
-                return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
-            } catch (Exception e) {
-                throw new LoanReadException(loanId, e);
-            }
+            return readLoan(loanId);
         }
         return null;
     }
 
     @AfterStep
     public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        prefetchedLoans.remove();
         return ExitStatus.COMPLETED;
     }
 
+    private Loan readLoan(Long loanId) {
+        try {
+            return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+        } catch (Exception e) {
+            throw new LoanReadException(loanId, e);
+        }
+    }
+
+    private Loan readPrefetched() {
+        Map<Long, Loan> buffer = prefetchedLoans.get();
+        if (buffer.isEmpty()) {
+            prefetch(buffer);
+        }
+        Iterator<Map.Entry<Long, Loan>> iterator = buffer.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Map.Entry<Long, Loan> next = iterator.next();
+        iterator.remove();
+        // loans missing from the bulk result go through the regular path, so read errors still carry the loan id
+        return next.getValue() != null ? next.getValue() : readLoan(next.getKey());
+    }
+
+    private void prefetch(Map<Long, Loan> buffer) {
+        List<Long> loanIds = new ArrayList<>(prefetchSize);
+        remainingData.drainTo(loanIds, prefetchSize);
+        if (loanIds.isEmpty()) {
+            return;
+        }
+        loanIds.forEach(loanId -> buffer.put(loanId, null));
+        requeueUnreadOnCompletion(buffer);
+
+        long start = System.nanoTime();
+        long statementsBefore = StatementCounter.current();
+        int prefetched = 0;
+        try {
+            for (Loan loan : loanRepository.findAllByIdInForCOB(loanIds)) {
+                hydrate(loan);
+                buffer.put(loan.getId(), loan);
+                prefetched++;
+            }
+        } catch (Exception e) {
+            log.warn("Prefetching {} loans failed, falling back to loading them one by one", loanIds.size(), e);
+            buffer.replaceAll((loanId, loan) -> null);
+            return;
+        }
+        long durationNanos = System.nanoTime() - start;
+        long statements = StatementCounter.current() - statementsBefore;
+        log.debug("Prefetched {} of {} loans with {} queries in {} ms", prefetched, loanIds.size(), statements,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        // loans missing from the bulk result are loaded one by one later and are not counted as prefetched
+        final int loadedLoans = prefetched;
+        meterRegistry.ifPresent(registry -> {
+            registry.counter("fineract.cob.loan.prefetch.loans").increment(loadedLoans);
+            registry.counter("fineract.cob.loan.prefetch.queries").increment(statements);
+            Timer.builder("fineract.cob.loan.prefetch").register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    /**
+     * Touches the batched relations while the bulk query result is still current, so each relation is fetched with a
+     * single IN query for the whole chunk instead of lazily per loan in the processor.
+     */
+    private void hydrate(Loan loan) {
+        loan.getRepaymentScheduleInstallments().size();
+        loan.getLoanTransactions().size();
+        loan.getCharges().size();
+        loan.getLoanTermVariations().size();
+        loan.getAllDisbursementDetails().size();
+    }
+
+    /**
+     * Loans prefetched but not handed out before the chunk transaction ends (e.g. after a rollback) are put back, so
+     * they are neither lost nor processed with an entity detached from their transaction.
+     */
+    private void requeueUnreadOnCompletion(Map<Long, Loan> buffer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!buffer.isEmpty()) {
+                    remainingData.addAll(buffer.keySet());
+                    buffer.clear();
+                }
+            }
+        });
+    }
 }
@@ -18,19 +18,54 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.time.LocalDate;
+import java.util.HashMap;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 public class ContextAwareTaskDecorator implements TaskDecorator {
 
+    private final boolean propagateSecurityContext;
+
+    public ContextAwareTaskDecorator() {
+        this(false);
+    }
+
+    /**
+     * @param propagateSecurityContext
+     *            whether the tasks run as the user authenticated on the submitting thread, needed when the tasks write
+     *            audited entities
+     */
+    public ContextAwareTaskDecorator(boolean propagateSecurityContext) {
+        this.propagateSecurityContext = propagateSecurityContext;
+    }
+
     @Override
     public Runnable decorate(@NotNull Runnable runnable) {
         final FineractContext context = ThreadLocalContextUtil.getContext();
+        final HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>(context.getBusinessDateContext());
+        final SecurityContext securityContext = propagateSecurityContext ? SecurityContextHolder.getContext() : null;
         return () -> {
-            ThreadLocalContextUtil.init(context);
-            runnable.run();
+            try {
+                ThreadLocalContextUtil.init(context);
+                // each task gets its own copy, a task changing the business dates must not affect the submitter or other tasks
+                ThreadLocalContextUtil.setBusinessDates(new HashMap<>(businessDates));
+                if (securityContext != null) {
+                    SecurityContextHolder.setContext(securityContext);
+                }
+                runnable.run();
+            } finally {
+                // pooled threads are reused for other tenants, virtual threads are not, but both must not leak the context
+                ThreadLocalContextUtil.reset();
+                if (securityContext != null) {
+                    SecurityContextHolder.clearContext();
+                }
+            }
         };
     }
 
@@ -19,13 +19,15 @@
 package org.apache.fineract.cob.loan;
 
 import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.BeforeStep;
 
 public class InlineCOBLoanItemProcessor extends AbstractLoanItemProcessor {
 
-    public InlineCOBLoanItemProcessor(COBBusinessStepService cobBusinessStepService) {
-        super(cobBusinessStepService);
+    public InlineCOBLoanItemProcessor(COBBusinessStepService cobBusinessStepService,
+            BusinessEventNotifierService businessEventNotifierService) {
+        super(cobBusinessStepService, businessEventNotifierService);
     }
 
     @BeforeStep
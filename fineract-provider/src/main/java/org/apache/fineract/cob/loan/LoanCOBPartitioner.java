@@ -81,8 +81,12 @@ public class LoanCOBPartitioner implements Partitioner {
         }
         StopWatch sw = new StopWatch();
         sw.start();
-        List<LoanCOBPartition> loanCOBPartitions = new ArrayList<>(
-                retrieveLoanIdService.retrieveLoanCOBPartitions(numberOfDays, businessDate, isCatchUp != null && isCatchUp, partitionSize));
+        boolean costBalanced = Boolean.TRUE.equals(propertyService.getCostBalancedPartitioning(LoanCOBConstant.JOB_NAME));
+        List<LoanCOBPartition> loanCOBPartitions = new ArrayList<>(costBalanced
+                ? retrieveLoanIdService.retrieveCostBalancedLoanCOBPartitions(numberOfDays, businessDate, isCatchUp != null && isCatchUp,
+                        partitionSize)
+                : retrieveLoanIdService.retrieveLoanCOBPartitions(numberOfDays, businessDate, isCatchUp != null && isCatchUp,
+                        partitionSize));
         sw.stop();
         // if there is no loan to be closed, we still would like to create at least one partition
 
@@ -90,8 +94,8 @@ public class LoanCOBPartitioner implements Partitioner {
             loanCOBPartitions.add(new LoanCOBPartition(0L, 0L, 1L, 0L));
         }
         log.info(
-                "LoanCOBPartitioner found {} loans to be processed as part of COB. {} partitions were created using partition size {}. RetrieveLoanCOBPartitions was executed in {} ms.",
-                getLoanCount(loanCOBPartitions), loanCOBPartitions.size(), partitionSize, sw.getTotalTimeMillis());
+                "LoanCOBPartitioner found {} loans to be processed as part of COB. {} partitions were created using partition size {} (cost balanced: {}). RetrieveLoanCOBPartitions was executed in {} ms.",
+                getLoanCount(loanCOBPartitions), loanCOBPartitions.size(), partitionSize, costBalanced, sw.getTotalTimeMillis());
         return loanCOBPartitions.stream()
                 .collect(Collectors.toMap(l -> PARTITION_PREFIX + l.getPageNo(), l -> createNewPartition(cobBusinessSteps, l)));
     }
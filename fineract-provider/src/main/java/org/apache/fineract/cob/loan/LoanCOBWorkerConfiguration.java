@@ -18,13 +18,17 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.InitialisationTasklet;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.BatchWorkerCondition;
 import org.apache.fineract.cob.listener.ChunkProcessingLoanItemListener;
+import org.apache.fineract.cob.listener.LoanCOBPartitionTimingListener;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -70,6 +74,8 @@ public class LoanCOBWorkerConfiguration {
     @Autowired
     private COBBusinessStepService cobBusinessStepService;
     @Autowired
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Autowired
     private AppUserRepositoryWrapper userRepository;
     @Autowired
     private TransactionTemplate transactionTemplate;
@@ -84,6 +90,9 @@ public class LoanCOBWorkerConfiguration {
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
 
+    @Autowired
+    private Optional<MeterRegistry> meterRegistry;
+
     @Bean(name = LoanCOBConstant.LOAN_COB_WORKER_STEP)
     public Step loanCOBWorkerStep() {
         return stepBuilderFactory.get("Loan COB worker - Step").inputChannel(inboundRequests).flow(flow()).build();
@@ -132,6 +141,7 @@ public class LoanCOBWorkerConfiguration {
                 .skip(Exception.class) //
                 .skipLimit(propertyService.getChunkSize(LoanCOBConstant.JOB_NAME) + 1) //
                 .listener(loanItemListener()) //
+                .listener(new LoanCOBPartitionTimingListener(partitionName, meterRegistry)) //
                 .transactionManager(transactionManager);
 
         if (propertyService.getThreadPoolMaxPoolSize(LoanCOBConstant.JOB_NAME) > 1) {
@@ -177,13 +187,18 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        LoanItemReader reader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        if (Boolean.TRUE.equals(propertyService.getPrefetchEnabled(LoanCOBConstant.JOB_NAME))) {
+            reader.setPrefetchSize(propertyService.getChunkSize(LoanCOBConstant.JOB_NAME));
+            reader.setMeterRegistry(meterRegistry);
+        }
+        return reader;
     }
 
     @Bean
     @StepScope
     public LoanItemProcessor cobWorkerItemProcessor() {
-        return new LoanItemProcessor(cobBusinessStepService);
+        return new LoanItemProcessor(cobBusinessStepService, businessEventNotifierService);
     }
 
     @Bean
@@ -23,6 +23,10 @@ import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
 import org.apache.fineract.cob.listener.InlineCOBLoanItemListener;
+import org.apache.fineract.cob.service.InlineLoanCOBChunkedExecutor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.jobs.domain.CustomJobParameterRepository;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -41,6 +45,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -60,6 +65,8 @@ public class LoanInlineCOBConfig {
     @Autowired
     private COBBusinessStepService cobBusinessStepService;
     @Autowired
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Autowired
     private TransactionTemplate transactionTemplate;
     @Autowired
     private CustomJobParameterRepository customJobParameterRepository;
@@ -68,6 +75,8 @@ public class LoanInlineCOBConfig {
 
     @Autowired
     private LoanLockingService loanLockingService;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     public InlineLoanCOBBuildExecutionContextTasklet inlineLoanCOBBuildExecutionContextTasklet() {
@@ -106,7 +115,7 @@ public class LoanInlineCOBConfig {
     @JobScope
     @Bean
     public InlineCOBLoanItemProcessor inlineCobWorkerItemProcessor() {
-        return new InlineCOBLoanItemProcessor(cobBusinessStepService);
+        return new InlineCOBLoanItemProcessor(cobBusinessStepService, businessEventNotifierService);
     }
 
     @Bean
@@ -131,6 +140,18 @@ public class LoanInlineCOBConfig {
         return new ResetContextTasklet();
     }
 
+    @Bean(InlineLoanCOBChunkedExecutor.TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor inlineLoanCOBTaskExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(fineractProperties.getInlineLoanCob().getThreadPoolSize());
+        threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getInlineLoanCob().getThreadPoolSize());
+        threadPoolTaskExecutor.setThreadNamePrefix("inline-loan-cob-");
+        VirtualThreadSupport.configure(threadPoolTaskExecutor, fineractProperties, "inline-loan-cob-");
+        threadPoolTaskExecutor.initialize();
+
+        return threadPoolTaskExecutor;
+    }
+
     @Bean
     public ExecutionContextPromotionListener inlineCobPromotionListener() {
         ExecutionContextPromotionListener listener = new ExecutionContextPromotionListener();
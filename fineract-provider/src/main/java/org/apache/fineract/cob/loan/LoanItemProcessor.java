@@ -19,18 +19,21 @@
 package org.apache.fineract.cob.loan;
 
 import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.BeforeStep;
 
 public class LoanItemProcessor extends AbstractLoanItemProcessor {
 
-    public LoanItemProcessor(COBBusinessStepService cobBusinessStepService) {
-        super(cobBusinessStepService);
+    public LoanItemProcessor(COBBusinessStepService cobBusinessStepService, BusinessEventNotifierService businessEventNotifierService) {
+        super(cobBusinessStepService, businessEventNotifierService);
     }
 
     @BeforeStep
     public void beforeStep(StepExecution stepExecution) {
         setExecutionContext(stepExecution.getExecutionContext());
         setBusinessDate(stepExecution);
+        setCatchUp(Boolean.TRUE
+                .equals(stepExecution.getJobExecution().getExecutionContext().get(LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME)));
     }
 }
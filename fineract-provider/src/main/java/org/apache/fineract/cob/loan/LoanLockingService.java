@@ -34,5 +34,7 @@ public interface LoanLockingService {
 
     List<LoanAccountLock> findAllByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner);
 
+    List<LoanAccountLock> findAllByLoanIdBetweenAndLockOwner(Long minLoanId, Long maxLoanId, LockOwner lockOwner);
+
     void applyLock(List<Long> loanIds, LockOwner lockOwner);
 }
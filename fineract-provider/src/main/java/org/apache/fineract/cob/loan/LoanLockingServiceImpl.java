@@ -90,6 +90,11 @@ public class LoanLockingServiceImpl implements LoanLockingService {
         return loanAccountLockRepository.findAllByLoanIdInAndLockOwner(loanIds, lockOwner);
     }
 
+    @Override
+    public List<LoanAccountLock> findAllByLoanIdBetweenAndLockOwner(Long minLoanId, Long maxLoanId, LockOwner lockOwner) {
+        return loanAccountLockRepository.findAllByLoanIdBetweenAndLockOwnerOrderByLoanId(minLoanId, maxLoanId, lockOwner);
+    }
+
     @Override
     public void applyLock(List<Long> loanIds, LockOwner lockOwner) {
         LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
@@ -36,6 +36,9 @@ public class ResolveLoanCOBCustomJobParametersTasklet implements Tasklet {
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         customJobParameterResolver.resolve(contribution, chunkContext, LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME,
                 LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME);
+        customJobParameterResolver.getCustomJobParameterById(contribution.getStepExecution(), LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME)
+                .map(Boolean::parseBoolean).ifPresent(isCatchUp -> contribution.getStepExecution().getExecutionContext()
+                        .put(LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME, isCatchUp));
         return RepeatStatus.FINISHED;
     }
 }
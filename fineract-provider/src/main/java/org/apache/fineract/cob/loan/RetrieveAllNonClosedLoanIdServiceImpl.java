@@ -28,7 +28,9 @@ import org.apache.fineract.cob.data.LoanCOBPartition;
 import org.apache.fineract.cob.data.LoanIdAndExternalIdAndAccountNo;
 import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -40,6 +42,10 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
 
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private final FineractProperties fineractProperties;
+
     @Override
     public List<LoanCOBPartition> retrieveLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
             int partitionSize) {
@@ -47,7 +53,9 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
         sql.append("  (select floor(((row_number() over(order by id))-1) / :pageSize) as page, t.* from ");
         sql.append("      (select id from m_loan where loan_status_id in (:statusIds) and ");
-        if (isCatchUp) {
+        if (isMultiDateCatchUp(isCatchUp)) {
+            sql.append("last_closed_business_date <= :businessDate ");
+        } else if (isCatchUp) {
             sql.append("last_closed_business_date = :businessDate ");
         } else {
             sql.append("(last_closed_business_date = :businessDate or last_closed_business_date is null) ");
@@ -63,6 +71,43 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
     }
 
+    /**
+     * Same number of partitions as {@link #retrieveLoanCOBPartitions}, but the id ranges are cut where the cumulative
+     * cost reaches the next multiple of the average partition cost. The cost of a loan is the duration of its last COB
+     * processing, or the average of the known durations if it was not processed yet. A multi-date catch-up processes every
+     * missed business date of a loan, so there the cost is multiplied by the number of missed dates.
+     */
+    @Override
+    public List<LoanCOBPartition> retrieveCostBalancedLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
+            int partitionSize) {
+        StringBuilder sql = new StringBuilder();
+        sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
+        sql.append("  (select floor((sum(cost) over(order by id) - cost) * ceil(count(id) over() * 1.0 / :pageSize) / sum(cost) over()) ");
+        sql.append("as page, c.id from ");
+        sql.append("      (select id, greatest(coalesce(last_cob_duration_millis, avg(last_cob_duration_millis) over(), 1), 1)");
+        if (isMultiDateCatchUp(isCatchUp)) {
+            sql.append(" * (").append(sqlGenerator.dateDiff(":businessDate", "last_closed_business_date")).append(" + 1)");
+        }
+        sql.append(" as cost ");
+        sql.append("from m_loan where loan_status_id in (:statusIds) and ");
+        if (isMultiDateCatchUp(isCatchUp)) {
+            sql.append("last_closed_business_date <= :businessDate ");
+        } else if (isCatchUp) {
+            sql.append("last_closed_business_date = :businessDate ");
+        } else {
+            sql.append("(last_closed_business_date = :businessDate or last_closed_business_date is null) ");
+        }
+        sql.append(") c) t ");
+        sql.append("group by page ");
+        sql.append("order by page");
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("pageSize", partitionSize);
+        parameters.addValue("statusIds", List.of(100, 200, 300, 303, 304));
+        parameters.addValue("businessDate", businessDate.minusDays(numberOfDays));
+        return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
+    }
+
     private static LoanCOBPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new LoanCOBPartition(rs.getLong("min"), rs.getLong("max"), rs.getLong("page"), rs.getLong("count"));
     }
@@ -85,7 +130,11 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
     @Override
     public List<Long> retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(LoanCOBParameter loanCOBParameter,
             boolean isCatchUp) {
-        if (isCatchUp) {
+        if (isMultiDateCatchUp(isCatchUp)) {
+            return loanRepository.findAllNonClosedLoansByLastClosedBusinessDateUpToAndMinAndMaxLoanId(loanCOBParameter.getMinLoanId(),
+                    loanCOBParameter.getMaxLoanId(), ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)
+                            .minusDays(LoanCOBConstant.NUMBER_OF_DAYS_BEHIND));
+        } else if (isCatchUp) {
             return loanRepository.findAllNonClosedLoansByLastClosedBusinessDateNotNullAndMinAndMaxLoanId(loanCOBParameter.getMinLoanId(),
                     loanCOBParameter.getMaxLoanId(), ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE)
                             .minusDays(LoanCOBConstant.NUMBER_OF_DAYS_BEHIND));
@@ -101,4 +150,11 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         return loanRepository.findAllStayedLockedByCobBusinessDate(cobBusinessDate);
     }
 
+    /**
+     * A multi-date catch-up picks up every loan lagging behind the business date, not only the ones exactly one day behind.
+     */
+    private boolean isMultiDateCatchUp(boolean isCatchUp) {
+        return isCatchUp && fineractProperties.getLoanCob().isMultiDateCatchUpEnabled();
+    }
+
 }
@@ -35,6 +35,7 @@ import org.apache.fineract.infrastructure.event.business.service.BusinessEventNo
 import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanAccountDomainService;
@@ -49,6 +50,7 @@ public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
     private final DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     private final DelinquencyReadPlatformService delinquencyReadPlatformService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final LoanDelinquencyStateService loanDelinquencyStateService;
 
     @Override
     public Loan execute(Loan loan) {
@@ -73,6 +75,11 @@ public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
                     // current date and not the previous (COB) date.
                     ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
 
+                    if (!loanDelinquencyStateService.isClassificationRequired(loan)) {
+                        log.debug("Delinquency state of loan with ID [{}] is up to date", loan.getId());
+                        return;
+                    }
+
                     final List<LoanDelinquencyAction> savedDelinquencyList = delinquencyReadPlatformService
                             .retrieveLoanDelinquencyActions(loan.getId());
                     List<LoanDelinquencyActionData> effectiveDelinquencyList = delinquencyEffectivePauseHelper
@@ -21,6 +21,8 @@ package org.apache.fineract.cob.loan;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingQueue;
 import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingUpdateHandler;
 import org.springframework.stereotype.Component;
 
@@ -29,11 +31,14 @@ import org.springframework.stereotype.Component;
 public class UpdateLoanArrearsAgingBusinessStep implements LoanCOBBusinessStep {
 
     private final LoanArrearsAgeingUpdateHandler loanArrearsAgeingUpdateHandler;
+    private final LoanArrearsAgeingTracker loanArrearsAgeingTracker;
 
     @Override
     public Loan execute(Loan loan) {
         Long loanId = loan.getId();
         loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetails(Arrays.asList(loanId));
+        // the arrears ageing is up to date, only the NPA flag of the loan is left for the next incremental run
+        loanArrearsAgeingTracker.markPending(PendingQueue.NPA, loanId);
         return loan;
     }
 
@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import com.google.common.collect.Lists;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.data.SavingsCOBParameter;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.exceptions.SavingsLockCannotBeAppliedException;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ApplySavingsLockTasklet implements Tasklet {
+
+    private static final long NUMBER_OF_RETRIES = 3;
+    private final FineractProperties fineractProperties;
+    private final SavingsLockingService savingsLockingService;
+    private final RetrieveSavingsIdService retrieveSavingsIdService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @SuppressFBWarnings("SLF4J_SIGN_ONLY_FORMAT")
+    public RepeatStatus execute(@NotNull StepContribution contribution, @NotNull ChunkContext chunkContext)
+            throws SavingsLockCannotBeAppliedException {
+        ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+        long numberOfExecutions = contribution.getStepExecution().getCommitCount();
+        SavingsCOBParameter savingsCOBParameter = (SavingsCOBParameter) executionContext.get(SavingsCOBConstant.SAVINGS_COB_PARAMETER);
+        List<Long> savingsAccountIds;
+        if (isEmptyPartition(savingsCOBParameter)) {
+            savingsAccountIds = Collections.emptyList();
+        } else {
+            savingsAccountIds = new ArrayList<>(
+                    retrieveSavingsIdService.retrieveAllActiveSavingsAccountIdsByMinAndMaxId(savingsCOBParameter));
+        }
+        List<List<Long>> savingsAccountIdPartitions = Lists.partition(savingsAccountIds, getInClauseParameterSizeLimit());
+        List<SavingsAccountLock> accountLocks = new ArrayList<>();
+        savingsAccountIdPartitions
+                .forEach(idPartition -> accountLocks.addAll(savingsLockingService.findAllBySavingsAccountIdIn(idPartition)));
+
+        List<Long> toBeProcessedSavingsAccountIds = new ArrayList<>(savingsAccountIds);
+        List<Long> alreadyLockedAccountIds = accountLocks.stream().map(SavingsAccountLock::getSavingsAccountId).toList();
+
+        toBeProcessedSavingsAccountIds.removeAll(alreadyLockedAccountIds);
+        try {
+            applyLocks(toBeProcessedSavingsAccountIds);
+        } catch (Exception e) {
+            if (numberOfExecutions > NUMBER_OF_RETRIES) {
+                String message = "There was an error applying lock to savings accounts.";
+                log.error("{}", message, e);
+                throw new SavingsLockCannotBeAppliedException(message, e);
+            } else {
+                return RepeatStatus.CONTINUABLE;
+            }
+        }
+
+        return RepeatStatus.FINISHED;
+    }
+
+    static boolean isEmptyPartition(SavingsCOBParameter savingsCOBParameter) {
+        return Objects.isNull(savingsCOBParameter)
+                || (Objects.isNull(savingsCOBParameter.getMinSavingsAccountId())
+                        && Objects.isNull(savingsCOBParameter.getMaxSavingsAccountId()))
+                || (savingsCOBParameter.getMinSavingsAccountId().equals(0L) && savingsCOBParameter.getMaxSavingsAccountId().equals(0L));
+    }
+
+    private void applyLocks(List<Long> toBeProcessedSavingsAccountIds) {
+        transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+
+            @Override
+            protected void doInTransactionWithoutResult(@NotNull TransactionStatus status) {
+                savingsLockingService.applyLock(toBeProcessedSavingsAccountIds, LockOwner.SAVINGS_COB_CHUNK_PROCESSING);
+            }
+        });
+    }
+
+    private int getInClauseParameterSizeLimit() {
+        return fineractProperties.getQuery().getInClauseParameterSizeLimit();
+    }
+}
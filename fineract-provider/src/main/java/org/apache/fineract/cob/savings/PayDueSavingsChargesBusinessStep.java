@@ -0,0 +1,59 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountCharge;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PayDueSavingsChargesBusinessStep implements SavingsCOBBusinessStep {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public SavingsAccount execute(SavingsAccount savingsAccount) {
+        // same selection as the Pay Due Savings Charges job, restricted to the given account
+        final Long[] dueChargeIds = savingsAccount.charges().stream().filter(PayDueSavingsChargesBusinessStep::isDue)
+                .map(SavingsAccountCharge::getId).sorted().toArray(Long[]::new);
+        for (Long savingsAccountChargeId : dueChargeIds) {
+            savingsAccountWritePlatformService.applyChargeDue(savingsAccountChargeId, savingsAccount.getId());
+        }
+        return savingsAccount;
+    }
+
+    private static boolean isDue(SavingsAccountCharge charge) {
+        return charge.isActive() && !charge.isWaived() && !charge.isPaid() && charge.getDueDate() != null
+                && !DateUtils.isAfterBusinessDate(charge.getDueDate());
+    }
+
+    @Override
+    public String getEnumStyledName() {
+        return "PAY_DUE_SAVINGS_CHARGES";
+    }
+
+    @Override
+    public String getHumanReadableName() {
+        return "Pay due savings charges";
+    }
+}
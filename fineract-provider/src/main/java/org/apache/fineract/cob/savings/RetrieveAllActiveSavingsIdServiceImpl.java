@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.data.SavingsCOBParameter;
+import org.apache.fineract.cob.data.SavingsCOBPartition;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@RequiredArgsConstructor
+public class RetrieveAllActiveSavingsIdServiceImpl implements RetrieveSavingsIdService {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<SavingsCOBPartition> retrieveSavingsCOBPartitions(int partitionSize) {
+        StringBuilder sql = new StringBuilder();
+        sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
+        sql.append("  (select floor(((row_number() over(order by id))-1) / :pageSize) as page, t.* from ");
+        sql.append("      (select id from m_savings_account where status_enum = :status order by id) t) t2 ");
+        sql.append("group by page ");
+        sql.append("order by page");
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("pageSize", partitionSize);
+        parameters.addValue("status", SavingsAccountStatusType.ACTIVE.getValue());
+        return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllActiveSavingsIdServiceImpl::mapRow);
+    }
+
+    @Override
+    public List<Long> retrieveAllActiveSavingsAccountIdsByMinAndMaxId(SavingsCOBParameter savingsCOBParameter) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("minId", savingsCOBParameter.getMinSavingsAccountId());
+        parameters.addValue("maxId", savingsCOBParameter.getMaxSavingsAccountId());
+        parameters.addValue("status", SavingsAccountStatusType.ACTIVE.getValue());
+        parameters.addValue("cobDate", ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE));
+        // the accounts already closed for the COB date, e.g. by a restarted or a repeated run, are skipped
+        return namedParameterJdbcTemplate.queryForList("select id from m_savings_account where id between :minId and :maxId "
+                + "and status_enum = :status and (last_closed_business_date is null or last_closed_business_date < :cobDate) order by id",
+                parameters, Long.class);
+    }
+
+    private static SavingsCOBPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new SavingsCOBPartition(rs.getLong("min"), rs.getLong("max"), rs.getLong("page"), rs.getLong("count"));
+    }
+}
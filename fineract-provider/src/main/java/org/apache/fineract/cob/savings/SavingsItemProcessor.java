@@ -0,0 +1,67 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+
+@RequiredArgsConstructor
+public class SavingsItemProcessor implements ItemProcessor<SavingsAccount, SavingsAccount> {
+
+    private final COBBusinessStepService cobBusinessStepService;
+
+    private ExecutionContext executionContext;
+
+    @BeforeStep
+    public void beforeStep(StepExecution stepExecution) {
+        this.executionContext = stepExecution.getExecutionContext();
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    @Override
+    public SavingsAccount process(@NotNull SavingsAccount item) throws Exception {
+        Set<BusinessStepNameAndOrder> businessSteps = (Set<BusinessStepNameAndOrder>) executionContext
+                .get(SavingsCOBConstant.BUSINESS_STEPS);
+        if (businessSteps == null) {
+            throw new IllegalStateException("No business steps found in the execution context");
+        }
+        SavingsAccount processedSavingsAccount = cobBusinessStepService.run(getBusinessStepMap(businessSteps), item);
+        processedSavingsAccount.setLastClosedBusinessDate(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE));
+        return processedSavingsAccount;
+    }
+
+    private TreeMap<Long, String> getBusinessStepMap(Set<BusinessStepNameAndOrder> businessSteps) {
+        Map<Long, String> businessStepMap = businessSteps.stream()
+                .collect(Collectors.toMap(BusinessStepNameAndOrder::getStepOrder, BusinessStepNameAndOrder::getStepName));
+        return new TreeMap<>(businessStepMap);
+    }
+}
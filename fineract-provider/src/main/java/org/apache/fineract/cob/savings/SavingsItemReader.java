@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.data.SavingsCOBParameter;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.exceptions.SavingsReadException;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepository;
+import org.apache.fineract.portfolio.savings.exception.SavingsAccountNotFoundException;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+
+@RequiredArgsConstructor
+public class SavingsItemReader implements ItemReader<SavingsAccount> {
+
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final RetrieveSavingsIdService retrieveSavingsIdService;
+    private final SavingsLockingService savingsLockingService;
+
+    private LinkedBlockingQueue<Long> remainingData;
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        SavingsCOBParameter savingsCOBParameter = (SavingsCOBParameter) executionContext.get(SavingsCOBConstant.SAVINGS_COB_PARAMETER);
+        List<Long> savingsAccountIds;
+        if (ApplySavingsLockTasklet.isEmptyPartition(savingsCOBParameter)) {
+            savingsAccountIds = Collections.emptyList();
+        } else {
+            savingsAccountIds = new ArrayList<>(
+                    retrieveSavingsIdService.retrieveAllActiveSavingsAccountIdsByMinAndMaxId(savingsCOBParameter));
+            if (!savingsAccountIds.isEmpty()) {
+                // only the accounts holding a savings COB lock are read
+                List<Long> lockedByCOBChunkProcessingAccountIds = savingsLockingService
+                        .findAllBySavingsAccountIdInAndLockOwner(savingsAccountIds, LockOwner.SAVINGS_COB_CHUNK_PROCESSING).stream()
+                        .map(SavingsAccountLock::getSavingsAccountId).toList();
+                savingsAccountIds.retainAll(lockedByCOBChunkProcessingAccountIds);
+            }
+        }
+        remainingData = new LinkedBlockingQueue<>(savingsAccountIds);
+    }
+
+    @Override
+    public SavingsAccount read() throws Exception {
+        Long savingsAccountId = remainingData.poll();
+        if (savingsAccountId == null) {
+            return null;
+        }
+        try {
+            return savingsAccountRepository.findById(savingsAccountId)
+                    .orElseThrow(() -> new SavingsAccountNotFoundException(savingsAccountId));
+        } catch (Exception e) {
+            throw new SavingsReadException(savingsAccountId, e);
+        }
+    }
+}
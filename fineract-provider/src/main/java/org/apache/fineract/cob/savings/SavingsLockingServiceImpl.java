@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.domain.SavingsAccountLockRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+@Slf4j
+public class SavingsLockingServiceImpl implements SavingsLockingService {
+
+    private static final String BATCH_SAVINGS_LOCK_INSERT = """
+                INSERT INTO m_savings_account_locks (savings_account_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date) VALUES (?,?,?,?,?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SavingsAccountLockRepository savingsAccountLockRepository;
+
+    @Override
+    public void applyLock(List<Long> savingsAccountIds, LockOwner lockOwner) {
+        LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+        jdbcTemplate.batchUpdate(BATCH_SAVINGS_LOCK_INSERT, savingsAccountIds, savingsAccountIds.size(),
+                (PreparedStatement ps, Long savingsAccountId) -> {
+                    ps.setLong(1, savingsAccountId);
+                    ps.setLong(2, 1);
+                    ps.setString(3, lockOwner.name());
+                    ps.setObject(4, DateUtils.getAuditOffsetDateTime());
+                    ps.setObject(5, cobBusinessDate);
+                });
+    }
+
+    @Override
+    public void deleteBySavingsAccountIdInAndLockOwner(List<Long> savingsAccountIds, LockOwner lockOwner) {
+        savingsAccountLockRepository.deleteBySavingsAccountIdInAndLockOwner(savingsAccountIds, lockOwner);
+    }
+
+    @Override
+    public List<SavingsAccountLock> findAllBySavingsAccountIdIn(List<Long> savingsAccountIds) {
+        return savingsAccountLockRepository.findAllBySavingsAccountIdIn(savingsAccountIds);
+    }
+
+    @Override
+    public SavingsAccountLock findBySavingsAccountIdAndLockOwner(Long savingsAccountId, LockOwner lockOwner) {
+        return savingsAccountLockRepository.findBySavingsAccountIdAndLockOwner(savingsAccountId, lockOwner).orElseGet(() -> {
+            log.warn("There is no lock for savings account with id: {}", savingsAccountId);
+            return null;
+        });
+    }
+
+    @Override
+    public List<SavingsAccountLock> findAllBySavingsAccountIdInAndLockOwner(List<Long> savingsAccountIds, LockOwner lockOwner) {
+        return savingsAccountLockRepository.findAllBySavingsAccountIdInAndLockOwner(savingsAccountIds, lockOwner);
+    }
+
+    @Override
+    public boolean isSavingsAccountHardLocked(Long savingsAccountId) {
+        return savingsAccountLockRepository.existsBySavingsAccountIdAndLockOwner(savingsAccountId, LockOwner.SAVINGS_COB_CHUNK_PROCESSING);
+    }
+
+    @Override
+    public boolean isLockOverrulable(Long savingsAccountId) {
+        return savingsAccountLockRepository.existsBySavingsAccountIdAndLockOwnerAndErrorIsNotNull(savingsAccountId,
+                LockOwner.SAVINGS_COB_CHUNK_PROCESSING);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountSubStatusEnum;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
+import org.apache.fineract.portfolio.savings.domain.SavingsProduct;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the account through the dormancy stages (none, inactive, dormant, escheat) based on the days passed since the
+ * last deposit or withdrawal, like the Update Savings Dormant Accounts job does for all accounts. The transitions are
+ * evaluated in sequence, so an account which passed several thresholds since the last run reaches its final stage.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpdateSavingsDormancyBusinessStep implements SavingsCOBBusinessStep {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public SavingsAccount execute(SavingsAccount savingsAccount) {
+        final SavingsProduct product = savingsAccount.savingsProduct();
+        if (product == null || !product.isDormancyTrackingActive()) {
+            return savingsAccount;
+        }
+        final long daysSinceLastActivity = DateUtils.getDifferenceInDays(getLastActivityDate(savingsAccount),
+                DateUtils.getBusinessLocalDate());
+        SavingsAccountSubStatusEnum subStatus = SavingsAccountSubStatusEnum.fromInt(savingsAccount.getSubStatus());
+        if (subStatus.isSubStatusNone() && reached(daysSinceLastActivity, product.getDaysToInactive())) {
+            savingsAccountWritePlatformService.setSubStatusInactive(savingsAccount.getId());
+            subStatus = SavingsAccountSubStatusEnum.INACTIVE;
+        }
+        if (subStatus.isSubStatusInactive() && reached(daysSinceLastActivity, product.getDaysToDormancy())) {
+            savingsAccountWritePlatformService.setSubStatusDormant(savingsAccount.getId());
+            subStatus = SavingsAccountSubStatusEnum.DORMANT;
+        }
+        if (subStatus.isSubStatusDormant() && reached(daysSinceLastActivity, product.getDaysToEscheat())) {
+            savingsAccountWritePlatformService.escheat(savingsAccount.getId());
+        }
+        return savingsAccount;
+    }
+
+    private static LocalDate getLastActivityDate(SavingsAccount savingsAccount) {
+        return savingsAccount.getTransactions().stream()
+                .filter(transaction -> !transaction.isReversed() && !transaction.isReversalTransaction())
+                .filter(transaction -> transaction.isDeposit() || transaction.isWithdrawal())
+                .map(SavingsAccountTransaction::getTransactionDate).max(LocalDate::compareTo).orElse(savingsAccount.getActivationDate());
+    }
+
+    private static boolean reached(long days, Long threshold) {
+        return threshold != null && days >= threshold;
+    }
+
+    @Override
+    public String getEnumStyledName() {
+        return "UPDATE_SAVINGS_DORMANCY";
+    }
+
+    @Override
+    public String getHumanReadableName() {
+        return "Update savings dormancy";
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.cob.loan.LoanCOBConstant;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -65,6 +66,7 @@ public class AsyncLoanCOBExecutorServiceImpl implements AsyncLoanCOBExecutorServ
     private final JobStarter jobStarter;
     private final JobParameterRepository jobParameterRepository;
     private final RetrieveLoanIdService retrieveLoanIdService;
+    private final FineractProperties fineractProperties;
 
     @Override
     @Async(TaskExecutorConstant.LOAN_COB_CATCH_UP_TASK_EXECUTOR_BEAN_NAME)
@@ -99,7 +101,9 @@ public class AsyncLoanCOBExecutorServiceImpl implements AsyncLoanCOBExecutorServ
             JobParametersInvalidException, JobRestartException, JobExecutionException {
         Job job = jobLocator.getJob(LoanCOBConstant.JOB_NAME);
         ScheduledJobDetail scheduledJobDetail = scheduledJobDetailRepository.findByJobName(LoanCOBConstant.JOB_HUMAN_READABLE_NAME);
-        LocalDate executingBusinessDate = oldestCOBProcessedDate.plusDays(1);
+        // the multi-date catch-up closes every missed business date of the lagging loans in a single job execution
+        LocalDate executingBusinessDate = fineractProperties.getLoanCob().isMultiDateCatchUpEnabled() ? cobBusinessDate
+                : oldestCOBProcessedDate.plusDays(1);
         while (!DateUtils.isAfter(executingBusinessDate, cobBusinessDate)) {
             // Need to reinitialize the thread-local tenant info because after running the job, it resets the thread
             ThreadLocalContextUtil.init(context);
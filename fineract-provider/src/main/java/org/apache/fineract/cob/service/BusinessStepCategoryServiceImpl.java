@@ -21,13 +21,14 @@ package org.apache.fineract.cob.service;
 import java.util.Map;
 import org.apache.fineract.cob.COBBusinessStep;
 import org.apache.fineract.cob.loan.LoanCOBBusinessStep;
+import org.apache.fineract.cob.savings.SavingsCOBBusinessStep;
 import org.springframework.stereotype.Service;
 
 @Service
 public class BusinessStepCategoryServiceImpl implements BusinessStepCategoryService {
 
     private static final Map<BusinessStepCategory, Class<? extends COBBusinessStep>> businessSteps = Map.of(BusinessStepCategory.LOAN,
-            LoanCOBBusinessStep.class);
+            LoanCOBBusinessStep.class, BusinessStepCategory.SAVINGS, SavingsCOBBusinessStep.class);
 
     @Override
     public Class<? extends COBBusinessStep> getBusinessStepByCategory(String category) {
@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
+import org.apache.fineract.cob.data.InlineLoanCOBLoanOutcomeData;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs an inline loan COB over an unbounded list of loans. The loans are split into chunks of
+ * {@code fineract.inline-loan-cob.chunk-size}, every chunk locks its own loans and is executed as a separate inline COB job on
+ * the inline COB task executor. The caller gets the id of the execution right away, the outcome of each loan is recorded in
+ * the {@link InlineLoanCOBExecutionTracker} as its chunk finishes.
+ */
+@Slf4j
+@Service
+@Conditional(LoanCOBEnabledCondition.class)
+public class InlineLoanCOBChunkedExecutor {
+
+    public static final String TASK_EXECUTOR_BEAN_NAME = "inlineLoanCOBTaskExecutor";
+
+    private final InlineLoanCOBExecutionTracker executionTracker;
+    private final TaskExecutor taskExecutor;
+    private final FineractProperties fineractProperties;
+
+    public InlineLoanCOBChunkedExecutor(InlineLoanCOBExecutionTracker executionTracker,
+            @Qualifier(TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor, FineractProperties fineractProperties) {
+        this.executionTracker = executionTracker;
+        this.taskExecutor = taskExecutor;
+        this.fineractProperties = fineractProperties;
+    }
+
+    /**
+     * Starts the execution of the loans.
+     *
+     * @param chunkExecution
+     *            executes the inline COB of a chunk and returns the error of each loan it could not close, keyed by loan id
+     * @return the id of the execution
+     */
+    public Long start(String jobName, List<Long> loanIds, Function<List<Long>, Map<Long, String>> chunkExecution) {
+        final List<Long> distinctLoanIds = loanIds.stream().distinct().toList();
+        final Long executionId = executionTracker.create(jobName, distinctLoanIds);
+        if (distinctLoanIds.isEmpty()) {
+            executionTracker.complete(executionId);
+            return executionId;
+        }
+
+        final List<List<Long>> chunks = Lists.partition(distinctLoanIds,
+                Math.max(1, fineractProperties.getInlineLoanCob().getChunkSize()));
+        final AtomicInteger remainingChunks = new AtomicInteger(chunks.size());
+        // the chunks run as the requesting user in the tenant of the request
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        for (List<Long> chunk : chunks) {
+            taskExecutor.execute(() -> {
+                ThreadLocalContextUtil.init(context);
+                // the inline COB job moves the COB date of its thread, every chunk needs its own copy of the business dates
+                ThreadLocalContextUtil.setBusinessDates(new HashMap<>(context.getBusinessDateContext()));
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    executeChunk(executionId, chunk, chunkExecution);
+                } catch (RuntimeException e) {
+                    log.error("Failed to record the outcome of inline loan COB execution {}", executionId, e);
+                } finally {
+                    if (remainingChunks.decrementAndGet() == 0) {
+                        complete(executionId);
+                    }
+                    SecurityContextHolder.clearContext();
+                    ThreadLocalContextUtil.reset();
+                }
+            });
+        }
+        return executionId;
+    }
+
+    private void executeChunk(Long executionId, List<Long> loanIds, Function<List<Long>, Map<Long, String>> chunkExecution) {
+        final List<InlineLoanCOBLoanOutcomeData> outcomes = new ArrayList<>(loanIds.size());
+        try {
+            final Map<Long, String> errorsByLoanId = chunkExecution.apply(loanIds);
+            for (Long loanId : loanIds) {
+                final String error = errorsByLoanId.get(loanId);
+                final String status = error == null ? InlineLoanCOBExecutionTracker.LOAN_STATUS_SUCCEEDED
+                        : InlineLoanCOBExecutionTracker.LOAN_STATUS_FAILED;
+                outcomes.add(new InlineLoanCOBLoanOutcomeData(loanId, status, error));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Inline loan COB execution {} failed for a chunk of {} loans", executionId, loanIds.size(), e);
+            for (Long loanId : loanIds) {
+                outcomes.add(new InlineLoanCOBLoanOutcomeData(loanId, InlineLoanCOBExecutionTracker.LOAN_STATUS_FAILED, e.getMessage()));
+            }
+        }
+        executionTracker.recordOutcomes(executionId, outcomes);
+    }
+
+    private void complete(Long executionId) {
+        try {
+            executionTracker.complete(executionId);
+        } catch (RuntimeException e) {
+            log.error("Failed to complete inline loan COB execution {}", executionId, e);
+        }
+    }
+}
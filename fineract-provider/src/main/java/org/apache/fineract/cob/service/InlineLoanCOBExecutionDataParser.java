@@ -41,6 +41,14 @@ public class InlineLoanCOBExecutionDataParser {
         return Arrays.stream(loanArray).map(Long::parseLong).toList();
     }
 
+    /**
+     * Whether the loans are to be executed in chunks in the background rather than within the request.
+     */
+    public boolean isChunkedExecution(JsonCommand command) {
+        JsonObject element = extractJsonObject(command);
+        return Boolean.TRUE.equals(jsonHelper.extractBooleanNamed("chunked", element));
+    }
+
     private JsonObject extractJsonObject(JsonCommand command) {
         String json = command.json();
         if (StringUtils.isBlank(json)) {
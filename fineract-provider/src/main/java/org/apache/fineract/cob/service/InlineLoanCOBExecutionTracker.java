@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.cob.data.InlineLoanCOBExecutionData;
+import org.apache.fineract.cob.data.InlineLoanCOBLoanOutcomeData;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps track of the chunked inline loan COB executions and the outcome of each of their loans.
+ */
+@Component
+@RequiredArgsConstructor
+public class InlineLoanCOBExecutionTracker {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String LOAN_STATUS_PENDING = "PENDING";
+    public static final String LOAN_STATUS_SUCCEEDED = "SUCCEEDED";
+    public static final String LOAN_STATUS_FAILED = "FAILED";
+
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000;
+
+    private static final RowMapper<InlineLoanCOBExecutionData> EXECUTION_MAPPER = (rs, rowNum) -> new InlineLoanCOBExecutionData(
+            rs.getLong("id"), rs.getString("job_name"), rs.getString("status"), rs.getObject("created_on", OffsetDateTime.class),
+            rs.getObject("completed_on", OffsetDateTime.class), rs.getInt("loan_count"), 0, 0, List.of());
+    private static final RowMapper<InlineLoanCOBLoanOutcomeData> LOAN_OUTCOME_MAPPER = (rs, rowNum) -> new InlineLoanCOBLoanOutcomeData(
+            rs.getLong("loan_id"), rs.getString("status"), rs.getString("error_message"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    /**
+     * Stores a new running execution with all of its loans pending. Committed on its own, so the chunks started afterwards
+     * always find their rows.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long create(String jobName, List<Long> loanIds) {
+        final MapSqlParameterSource params = new MapSqlParameterSource() //
+                .addValue("jobName", jobName) //
+                .addValue("status", STATUS_RUNNING) //
+                .addValue("loanCount", loanIds.size()) //
+                .addValue("createdOn", DateUtils.getAuditOffsetDateTime());
+        final GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.update("""
+                INSERT INTO m_inline_loan_cob_execution (job_name, status, loan_count, created_on)
+                VALUES (:jobName, :status, :loanCount, :createdOn)
+                """, params, keyHolder, new String[] { "id" });
+        final Long executionId = sqlGenerator.fetchPK(keyHolder);
+
+        final List<Object[]> batchArgs = new ArrayList<>(loanIds.size());
+        for (Long loanId : loanIds) {
+            batchArgs.add(new Object[] { executionId, loanId, LOAN_STATUS_PENDING });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO m_inline_loan_cob_execution_loan (execution_id, loan_id, status) VALUES (?, ?, ?)",
+                batchArgs);
+        return executionId;
+    }
+
+    public void recordOutcomes(Long executionId, List<InlineLoanCOBLoanOutcomeData> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        final List<Object[]> batchArgs = new ArrayList<>(outcomes.size());
+        for (InlineLoanCOBLoanOutcomeData outcome : outcomes) {
+            batchArgs.add(new Object[] { outcome.getStatus(), StringUtils.truncate(outcome.getErrorMessage(), ERROR_MESSAGE_MAX_LENGTH),
+                    executionId, outcome.getLoanId() });
+        }
+        jdbcTemplate.batchUpdate("""
+                UPDATE m_inline_loan_cob_execution_loan SET status = ?, error_message = ?
+                WHERE execution_id = ? AND loan_id = ?
+                """, batchArgs);
+    }
+
+    public void complete(Long executionId) {
+        jdbcTemplate.update("UPDATE m_inline_loan_cob_execution SET status = ?, completed_on = ? WHERE id = ?", STATUS_COMPLETED,
+                DateUtils.getAuditOffsetDateTime(), executionId);
+    }
+
+    public Optional<InlineLoanCOBExecutionData> retrieve(String jobName, Long executionId) {
+        final List<InlineLoanCOBExecutionData> executions = jdbcTemplate.query("""
+                SELECT id, job_name, status, loan_count, created_on, completed_on
+                FROM m_inline_loan_cob_execution
+                WHERE id = ? AND job_name = ?
+                """, EXECUTION_MAPPER, executionId, jobName);
+        if (executions.isEmpty()) {
+            return Optional.empty();
+        }
+        final InlineLoanCOBExecutionData execution = executions.get(0);
+        final List<InlineLoanCOBLoanOutcomeData> loans = jdbcTemplate.query("""
+                SELECT loan_id, status, error_message
+                FROM m_inline_loan_cob_execution_loan
+                WHERE execution_id = ?
+                ORDER BY loan_id
+                """, LOAN_OUTCOME_MAPPER, executionId);
+        execution.setLoans(loans);
+        execution.setSucceededCount((int) loans.stream().filter(loan -> LOAN_STATUS_SUCCEEDED.equals(loan.getStatus())).count());
+        execution.setFailedCount((int) loans.stream().filter(loan -> LOAN_STATUS_FAILED.equals(loan.getStatus())).count());
+        return Optional.of(execution);
+    }
+}
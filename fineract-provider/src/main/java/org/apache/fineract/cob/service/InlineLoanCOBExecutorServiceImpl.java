@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
@@ -73,6 +72,7 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.NoSuchJobException;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -81,11 +81,11 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 @Conditional(LoanCOBEnabledCondition.class)
 public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<Long> {
 
     private static final String JOB_EXECUTION_FAILED_MESSAGE = "Job execution failed for job with name: ";
+    private static final String HARD_LOCK_MESSAGE = "There is a hard lock on the loan account without any error, so it can't be overruled.";
     private final LoanAccountLockRepository loanAccountLockRepository;
     private final InlineLoanCOBExecutionDataParser dataParser;
     private final JobLauncher jobLauncher;
@@ -96,13 +96,38 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
     private final PlatformSecurityContext context;
     private final RetrieveLoanIdService retrieveLoanIdService;
     private final FineractProperties fineractProperties;
+    private final InlineLoanCOBChunkedExecutor chunkedExecutor;
 
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
 
+    public InlineLoanCOBExecutorServiceImpl(LoanAccountLockRepository loanAccountLockRepository,
+            InlineLoanCOBExecutionDataParser dataParser, JobLauncher jobLauncher, JobLocator jobLocator, JobExplorer jobExplorer,
+            PlatformTransactionManager transactionManager, CustomJobParameterRepository customJobParameterRepository,
+            PlatformSecurityContext context, RetrieveLoanIdService retrieveLoanIdService, FineractProperties fineractProperties,
+            InlineLoanCOBChunkedExecutor chunkedExecutor) {
+        this.loanAccountLockRepository = loanAccountLockRepository;
+        this.dataParser = dataParser;
+        this.jobLauncher = jobLauncher;
+        this.jobLocator = jobLocator;
+        this.jobExplorer = jobExplorer;
+        // the locks are committed before the job runs, chunks are locked from parallel threads so the template is not shared
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        this.customJobParameterRepository = customJobParameterRepository;
+        this.context = context;
+        this.retrieveLoanIdService = retrieveLoanIdService;
+        this.fineractProperties = fineractProperties;
+        this.chunkedExecutor = chunkedExecutor;
+    }
+
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommandProcessingResult executeInlineJob(JsonCommand command, String jobName) throws LoanAccountLockCannotBeOverruledException {
         List<Long> loanIds = dataParser.parseExecution(command);
+        if (dataParser.isChunkedExecution(command)) {
+            Long executionId = chunkedExecutor.start(jobName, loanIds, chunk -> executeChunk(chunk, jobName));
+            return new CommandProcessingResultBuilder().withCommandId(command.commandId()).withEntityId(executionId).build();
+        }
         validateLoanIdsListSize(loanIds);
         execute(loanIds, jobName);
         return new CommandProcessingResultBuilder().withCommandId(command.commandId()).build();
@@ -121,6 +146,27 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
         }
     }
 
+    /**
+     * Executes the inline COB of a chunk of a chunked execution. Loans with a hard lock are left out instead of failing the
+     * whole chunk.
+     *
+     * @return the error of each loan that could not be closed, keyed by loan id
+     */
+    private Map<Long, String> executeChunk(List<Long> loanIds, String jobName) {
+        Map<Long, String> errorsByLoanId = new HashMap<>();
+        loanAccountLockRepository.findAllByLoanIdIn(loanIds).stream().filter(loanAccountLock -> !isLockOverrulable(loanAccountLock))
+                .forEach(loanAccountLock -> errorsByLoanId.put(loanAccountLock.getLoanId(), HARD_LOCK_MESSAGE));
+        List<Long> loanIdsToBeProcessed = loanIds.stream().filter(loanId -> !errorsByLoanId.containsKey(loanId)).toList();
+        if (!loanIdsToBeProcessed.isEmpty()) {
+            execute(loanIdsToBeProcessed, jobName);
+            // the loans failed by the job keep their lock with the error of the failure
+            loanAccountLockRepository.findAllByLoanIdInAndLockOwner(loanIdsToBeProcessed, LockOwner.LOAN_INLINE_COB_PROCESSING).stream()
+                    .filter(loanAccountLock -> StringUtils.isNotBlank(loanAccountLock.getError()))
+                    .forEach(loanAccountLock -> errorsByLoanId.put(loanAccountLock.getLoanId(), loanAccountLock.getError()));
+        }
+        return errorsByLoanId;
+    }
+
     private List<Long> getLoanIdsToBeProcessed(List<LoanIdAndLastClosedBusinessDate> loansToBeProcessed, LocalDate executingBusinessDate) {
         List<Long> loanIdsToBeProcessed = new ArrayList<>();
         loansToBeProcessed.forEach(loan -> {
@@ -192,9 +238,8 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
             }
         });
         if (!alreadyLockedLoanIds.isEmpty()) {
-            String message = "There is a hard lock on the loan account without any error, so it can't be overruled.";
             String loanIdsMessage = " Locked loan IDs: " + alreadyLockedLoanIds;
-            throw new LoanAccountLockCannotBeOverruledException(message + loanIdsMessage);
+            throw new LoanAccountLockCannotBeOverruledException(HARD_LOCK_MESSAGE + loanIdsMessage);
         }
 
         return loanAccountLocks;
@@ -217,7 +262,6 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
     }
 
     private void lockLoanAccounts(List<Long> loanIds, LocalDate businessDate) {
-        transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
 
             @Override
@@ -46,7 +46,8 @@ public class LoanAccountLockServiceImpl implements LoanAccountLockService {
     @Override
     public boolean isLoanHardLocked(Long loanId) {
         return loanAccountLockRepository.existsByLoanIdAndLockOwner(loanId, LockOwner.LOAN_COB_CHUNK_PROCESSING) //
-                || loanAccountLockRepository.existsByLoanIdAndLockOwner(loanId, LockOwner.LOAN_INLINE_COB_PROCESSING);
+                || loanAccountLockRepository.existsByLoanIdAndLockOwner(loanId, LockOwner.LOAN_INLINE_COB_PROCESSING) //
+                || loanAccountLockRepository.existsByLoanIdAndLockOwner(loanId, LockOwner.LOAN_INTEREST_RECALCULATION);
     }
 
     @Override
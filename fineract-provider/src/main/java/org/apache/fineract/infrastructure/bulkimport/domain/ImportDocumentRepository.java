@@ -20,7 +20,16 @@ package org.apache.fineract.infrastructure.bulkimport.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ImportDocumentRepository extends JpaRepository<ImportDocument, Long>, JpaSpecificationExecutor<ImportDocument> {
-    // no added behaviour
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("update ImportDocument d set d.successCount = :successCount, d.failureCount = :failureCount where d.id = :id")
+    void updateProgress(@Param("id") Long id, @Param("successCount") Integer successCount, @Param("failureCount") Integer failureCount);
 }
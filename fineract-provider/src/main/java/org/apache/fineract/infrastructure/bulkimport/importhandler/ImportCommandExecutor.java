@@ -0,0 +1,304 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import static org.apache.http.HttpStatus.SC_OK;
+
+import com.google.gson.JsonArray;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.commands.domain.CommandProcessingResultType;
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.provider.CommandHandlerProvider;
+import org.apache.fineract.commands.service.CommandSourceService;
+import org.apache.fineract.commands.service.IdempotencyKeyGenerator;
+import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes the commands of an import. Commands sharing a group key, e.g. the repayments of one loan, are executed one after
+ * the other in row order, different groups are executed in parallel. The commands of a group are committed in chunks within
+ * one enclosing transaction, the same way as an enclosing batch API request; when a command of the chunk fails, the chunk is
+ * rolled back and executed again one command per transaction, so only the failing rows are reported as errors. Hook events
+ * of the chunk are published once it is committed, a failing row publishes its error hook event from the replay only. When
+ * {@code fineract.bulk-import.audit-each-row} is disabled, the rows of a chunk are executed by their command handlers
+ * directly and the chunk is recorded as one command source.
+ */
+@Slf4j
+@Component
+public class ImportCommandExecutor {
+
+    private static final int MAX_DEFAULT_THREAD_POOL_SIZE = 4;
+
+    private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final FineractProperties fineractProperties;
+    private final PlatformSecurityContext context;
+    private final ConfigurationDomainService configurationDomainService;
+    private final CommandHandlerProvider commandHandlerProvider;
+    private final CommandSourceService commandSourceService;
+    private final IdempotencyKeyGenerator idempotencyKeyGenerator;
+    private final FromJsonHelper fromJsonHelper;
+
+    public ImportCommandExecutor(PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
+            PlatformTransactionManager transactionManager, EntityManager entityManager, FineractProperties fineractProperties,
+            PlatformSecurityContext context, ConfigurationDomainService configurationDomainService,
+            CommandHandlerProvider commandHandlerProvider, CommandSourceService commandSourceService,
+            IdempotencyKeyGenerator idempotencyKeyGenerator, FromJsonHelper fromJsonHelper) {
+        this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.fineractProperties = fineractProperties;
+        this.context = context;
+        this.configurationDomainService = configurationDomainService;
+        this.commandHandlerProvider = commandHandlerProvider;
+        this.commandSourceService = commandSourceService;
+        this.idempotencyKeyGenerator = idempotencyKeyGenerator;
+        this.fromJsonHelper = fromJsonHelper;
+    }
+
+    public List<ImportCommandResult> execute(final List<ImportCommand> commands, final ImportProgressListener progressListener) {
+        final Map<Object, List<ImportCommand>> groups = new LinkedHashMap<>();
+        for (ImportCommand command : commands) {
+            groups.computeIfAbsent(command.groupKey(), key -> new ArrayList<>()).add(command);
+        }
+        final Progress progress = new Progress(progressListener);
+        final int threads = Math.max(1, Math.min(threadPoolSize(), groups.size()));
+        if (threads == 1) {
+            return executeGroups(groups.values(), progress);
+        }
+
+        // the workers run as the importing user in the tenant of the import
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final List<List<List<ImportCommand>>> partitions = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        int next = 0;
+        for (List<ImportCommand> group : groups.values()) {
+            partitions.get(next++ % threads).add(group);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<List<ImportCommandResult>>> futures = new ArrayList<>();
+            for (List<List<ImportCommand>> partition : partitions) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalContextUtil.init(context);
+                    SecurityContextHolder.setContext(securityContext);
+                    try {
+                        return executeGroups(partition, progress);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        ThreadLocalContextUtil.reset();
+                    }
+                }));
+            }
+            final List<ImportCommandResult> results = new ArrayList<>(commands.size());
+            for (Future<List<ImportCommandResult>> future : futures) {
+                results.addAll(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int threadPoolSize() {
+        final int configured = fineractProperties.getBulkImport().getThreadPoolSize();
+        if (configured > 0) {
+            return configured;
+        }
+        return Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_THREAD_POOL_SIZE);
+    }
+
+    private List<ImportCommandResult> executeGroups(final Collection<List<ImportCommand>> groups, final Progress progress) {
+        final int chunkSize = Math.max(1, fineractProperties.getBulkImport().getChunkSize());
+        final List<ImportCommandResult> results = new ArrayList<>();
+        for (List<ImportCommand> group : groups) {
+            for (int from = 0; from < group.size(); from += chunkSize) {
+                final List<ImportCommandResult> chunkResults = executeChunk(group.subList(from, Math.min(from + chunkSize, group.size())));
+                progress.add(chunkResults);
+                results.addAll(chunkResults);
+            }
+        }
+        return results;
+    }
+
+    private List<ImportCommandResult> executeChunk(final List<ImportCommand> chunk) {
+        if (chunk.size() > 1) {
+            try {
+                if (isAuditedPerChunk(chunk)) {
+                    executeAuditedPerChunk(chunk);
+                } else {
+                    executeInEnclosingTransaction(chunk);
+                }
+                return chunk.stream().map(command -> new ImportCommandResult(command.rowIndex(), null)).toList();
+            } catch (RuntimeException e) {
+                log.debug("Import chunk of {} rows failed, executing its rows one by one", chunk.size(), e);
+            }
+        }
+        final List<ImportCommandResult> results = new ArrayList<>(chunk.size());
+        for (ImportCommand command : chunk) {
+            try {
+                commandsSourceWritePlatformService.logCommandSource(command.commandWrapper());
+                results.add(new ImportCommandResult(command.rowIndex(), null));
+            } catch (RuntimeException e) {
+                results.add(new ImportCommandResult(command.rowIndex(), e));
+            }
+        }
+        return results;
+    }
+
+    private void executeInEnclosingTransaction(final List<ImportCommand> chunk) {
+        BatchRequestContextHolder.setIsEnclosingTransaction(true);
+        BatchRequestContextHolder.setIsReplayedOnFailure(true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BatchRequestContextHolder.setEnclosingTransaction(status);
+                try {
+                    for (ImportCommand command : chunk) {
+                        // the next command of the chunk must see the changes of the previous one, as in an enclosing batch request
+                        entityManager.flush();
+                        commandsSourceWritePlatformService.logCommandSource(command.commandWrapper());
+                    }
+                } finally {
+                    BatchRequestContextHolder.resetTransaction();
+                }
+            });
+        } finally {
+            BatchRequestContextHolder.resetIsReplayedOnFailure();
+            BatchRequestContextHolder.resetIsEnclosingTransaction();
+        }
+    }
+
+    private boolean isAuditedPerChunk(final List<ImportCommand> chunk) {
+        if (fineractProperties.getBulkImport().isAuditEachRow()) {
+            return false;
+        }
+        // commands waiting for a checker must be recorded one by one
+        return chunk.stream().map(command -> command.commandWrapper().taskPermissionName()).distinct()
+                .noneMatch(configurationDomainService::isMakerCheckerEnabledForTask);
+    }
+
+    private void executeAuditedPerChunk(final List<ImportCommand> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            final AppUser user = context.authenticatedUser();
+            chunk.stream().map(command -> command.commandWrapper().getTaskPermissionName()).distinct()
+                    .forEach(user::validateHasPermissionTo);
+
+            final CommandWrapper firstWrapper = chunk.get(0).commandWrapper();
+            final CommandSource commandSource = commandSourceService.getInitialCommandSource(firstWrapper, toJsonCommand(firstWrapper),
+                    user, idempotencyKeyGenerator.create());
+            final JsonArray commands = new JsonArray();
+            for (ImportCommand command : chunk) {
+                entityManager.flush();
+                final CommandWrapper wrapper = command.commandWrapper();
+                final JsonCommand jsonCommand = toJsonCommand(wrapper);
+                commandSourceService.processCommand(commandHandlerProvider.getHandler(wrapper.entityName(), wrapper.actionName()),
+                        jsonCommand, commandSource, user, false, false);
+                commands.add(jsonCommand.parsedJson());
+            }
+            commandSource.setCommandAsJson(commands.toString());
+            commandSource.setResultStatusCode(SC_OK);
+            commandSource.setStatus(CommandProcessingResultType.PROCESSED.getValue());
+            commandSourceService.saveResultSameTransaction(commandSource);
+        });
+    }
+
+    private JsonCommand toJsonCommand(final CommandWrapper wrapper) {
+        final String json = wrapper.getJson();
+        return JsonCommand.from(json, fromJsonHelper.parse(json), fromJsonHelper, wrapper.getEntityName(), wrapper.getEntityId(),
+                wrapper.getSubentityId(), wrapper.getGroupId(), wrapper.getClientId(), wrapper.getLoanId(), wrapper.getSavingsId(),
+                wrapper.getTransactionId(), wrapper.getHref(), wrapper.getProductId(), wrapper.getCreditBureauId(),
+                wrapper.getOrganisationCreditBureauId(), wrapper.getJobName(), wrapper.getLoanExternalId());
+    }
+
+    /**
+     * A command created from the row {@code rowIndex} of the imported sheet.
+     */
+    public record ImportCommand(int rowIndex, Object groupKey, CommandWrapper commandWrapper) {
+    }
+
+    /**
+     * Outcome of the command of a row, {@code error} is {@code null} when the row was imported.
+     */
+    public record ImportCommandResult(int rowIndex, RuntimeException error) {
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    private static final class Progress {
+
+        private final ImportProgressListener listener;
+        private int successCount;
+        private int errorCount;
+
+        private Progress(ImportProgressListener listener) {
+            this.listener = listener;
+        }
+
+        private synchronized void add(List<ImportCommandResult> results) {
+            for (ImportCommandResult result : results) {
+                if (result.isSuccess()) {
+                    successCount++;
+                } else {
+                    errorCount++;
+                }
+            }
+            try {
+                listener.onProgress(successCount, errorCount);
+            } catch (RuntimeException e) {
+                log.warn("Failed to report import progress", e);
+            }
+        }
+    }
+}
@@ -19,20 +19,26 @@
 package org.apache.fineract.infrastructure.bulkimport.importhandler.loanrepayment;
 
 import com.google.common.base.Splitter;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
-import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
 import org.apache.fineract.infrastructure.bulkimport.constants.LoanRepaymentConstants;
 import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportCommandExecutor;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportCommandExecutor.ImportCommand;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportCommandExecutor.ImportCommandResult;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportProgressListener;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
 import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
@@ -55,43 +61,54 @@ public class LoanRepaymentImportHandler implements ImportHandler {
     private static final Logger LOG = LoggerFactory.getLogger(LoanRepaymentImportHandler.class);
     private final LoanReadPlatformService loanReadPlatformService;
 
-    private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final ImportCommandExecutor importCommandExecutor;
 
     @Autowired
-    public LoanRepaymentImportHandler(final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
+    public LoanRepaymentImportHandler(final ImportCommandExecutor importCommandExecutor,
             final LoanReadPlatformService loanReadPlatformService) {
-        this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
+        this.importCommandExecutor = importCommandExecutor;
         this.loanReadPlatformService = loanReadPlatformService;
     }
 
     @Override
     public Count process(final Workbook workbook, final String locale, final String dateFormat) {
+        return process(workbook, locale, dateFormat, ImportProgressListener.NONE);
+    }
+
+    @Override
+    public Count process(final Workbook workbook, final String locale, final String dateFormat,
+            final ImportProgressListener progressListener) {
 
         List<LoanTransactionData> loanRepayments = readExcelFile(workbook, locale, dateFormat);
-        return importEntity(workbook, loanRepayments, dateFormat);
+        return importEntity(workbook, loanRepayments, dateFormat, progressListener);
     }
 
     private List<LoanTransactionData> readExcelFile(final Workbook workbook, final String locale, final String dateFormat) {
         List<LoanTransactionData> loanRepayments = new ArrayList<>();
         Sheet loanRepaymentSheet = workbook.getSheet(TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME);
         Integer noOfEntries = ImportHandlerUtils.getNumberOfRows(loanRepaymentSheet, LoanRepaymentConstants.AMOUNT_COL);
+        // the same loans and payment types repeat across the rows, each is only looked up once per import
+        Map<String, Long> loanIdsByAccountNumber = new HashMap<>();
+        Map<String, Long> paymentTypeIdsByName = new HashMap<>();
         Long loanAccountId = null;
         for (int rowIndex = 1; rowIndex <= noOfEntries; rowIndex++) {
             Row row;
             row = loanRepaymentSheet.getRow(rowIndex);
             if (ImportHandlerUtils.isNotImported(row, LoanRepaymentConstants.STATUS_COL)) {
-                loanRepayments.add(readLoanRepayment(workbook, loanAccountId, row, locale, dateFormat));
+                loanRepayments.add(readLoanRepayment(workbook, loanAccountId, row, locale, dateFormat, loanIdsByAccountNumber,
+                        paymentTypeIdsByName));
             }
         }
         return loanRepayments;
     }
 
     private LoanTransactionData readLoanRepayment(final Workbook workbook, Long loanAccountId, final Row row, final String locale,
-            final String dateFormat) {
+            final String dateFormat, final Map<String, Long> loanIdsByAccountNumber, final Map<String, Long> paymentTypeIdsByName) {
         String loanaccountInfo = ImportHandlerUtils.readAsString(LoanRepaymentConstants.LOAN_ACCOUNT_NO_COL, row);
         if (loanaccountInfo != null) {
             List<String> loanAccountAr = Splitter.on(SEPARATOR).splitToList(loanaccountInfo);
-            loanAccountId = this.loanReadPlatformService.retrieveLoanIdByAccountNumber(loanAccountAr.get(0));
+            loanAccountId = loanIdsByAccountNumber.computeIfAbsent(loanAccountAr.get(0),
+                    this.loanReadPlatformService::retrieveLoanIdByAccountNumber);
         }
         BigDecimal repaymentAmount = null;
         if (ImportHandlerUtils.readAsDouble(LoanRepaymentConstants.AMOUNT_COL, row) != null) {
@@ -99,8 +116,9 @@ public class LoanRepaymentImportHandler implements ImportHandler {
         }
         LocalDate repaymentDate = ImportHandlerUtils.readAsDate(LoanRepaymentConstants.REPAID_ON_DATE_COL, row);
         String repaymentType = ImportHandlerUtils.readAsString(LoanRepaymentConstants.REPAYMENT_TYPE_COL, row);
-        Long repaymentTypeId = ImportHandlerUtils.getIdByName(workbook.getSheet(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME),
-                repaymentType);
+        Long repaymentTypeId = repaymentType == null ? null
+                : paymentTypeIdsByName.computeIfAbsent(repaymentType, name -> ImportHandlerUtils
+                        .getIdByName(workbook.getSheet(TemplatePopulateImportConstants.EXTRAS_SHEET_NAME), name));
         String accountNumber = ImportHandlerUtils.readAsString(LoanRepaymentConstants.ACCOUNT_NO_COL, row);
         Integer checkNumber = ImportHandlerUtils.readAsInt(LoanRepaymentConstants.CHECK_NO_COL, row);
         Integer routingCode = ImportHandlerUtils.readAsInt(LoanRepaymentConstants.ROUTING_CODE_COL, row);
@@ -110,37 +128,44 @@ public class LoanRepaymentImportHandler implements ImportHandler {
                 receiptNumber, bankNumber, loanAccountId, EMPTY_STR, row.getRowNum(), locale, dateFormat);
     }
 
-    private Count importEntity(final Workbook workbook, final List<LoanTransactionData> loanRepayments, final String dateFormat) {
+    private Count importEntity(final Workbook workbook, final List<LoanTransactionData> loanRepayments, final String dateFormat,
+            final ImportProgressListener progressListener) {
         Sheet loanRepaymentSheet = workbook.getSheet(TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME);
         int successCount = 0;
         int errorCount = 0;
         String errorMessage;
         GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
         gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
+        Gson gson = gsonBuilder.create();
 
+        // the repayments of a loan are kept in row order, different loans are imported in parallel
+        List<ImportCommand> commands = new ArrayList<>(loanRepayments.size());
         for (LoanTransactionData loanRepayment : loanRepayments) {
-            try {
+            JsonObject loanRepaymentJsonob = gson.toJsonTree(loanRepayment).getAsJsonObject();
+            loanRepaymentJsonob.remove("manuallyReversed");
+            String payload = loanRepaymentJsonob.toString();
+            final CommandWrapper commandRequest = new CommandWrapperBuilder() //
+                    .loanRepaymentTransaction(loanRepayment.getAccountId()) //
+                    .withJson(payload) //
+                    .build(); //
+            Object groupKey = loanRepayment.getAccountId() != null ? loanRepayment.getAccountId() : "row-" + loanRepayment.getRowIndex();
+            commands.add(new ImportCommand(loanRepayment.getRowIndex(), groupKey, commandRequest));
+        }
 
-                JsonObject loanRepaymentJsonob = gsonBuilder.create().toJsonTree(loanRepayment).getAsJsonObject();
-                loanRepaymentJsonob.remove("manuallyReversed");
-                String payload = loanRepaymentJsonob.toString();
-                final CommandWrapper commandRequest = new CommandWrapperBuilder() //
-                        .loanRepaymentTransaction(loanRepayment.getAccountId()) //
-                        .withJson(payload) //
-                        .build(); //
-                commandsSourceWritePlatformService.logCommandSource(commandRequest);
+        // the sheet is not thread safe, the status of the rows is written once all commands were executed
+        for (ImportCommandResult result : importCommandExecutor.execute(commands, progressListener)) {
+            if (result.isSuccess()) {
                 successCount++;
-                Cell statusCell = loanRepaymentSheet.getRow(loanRepayment.getRowIndex()).createCell(LoanRepaymentConstants.STATUS_COL);
+                Cell statusCell = loanRepaymentSheet.getRow(result.rowIndex()).createCell(LoanRepaymentConstants.STATUS_COL);
                 statusCell.setCellValue(TemplatePopulateImportConstants.STATUS_CELL_IMPORTED);
                 statusCell.setCellStyle(ImportHandlerUtils.getCellStyle(workbook, IndexedColors.LIGHT_GREEN));
-            } catch (RuntimeException ex) {
+            } else {
                 errorCount++;
-                LOG.error("Problem occurred in importEntity function", ex);
-                errorMessage = ImportHandlerUtils.getErrorMessage(ex);
-                ImportHandlerUtils.writeErrorMessage(loanRepaymentSheet, loanRepayment.getRowIndex(), errorMessage,
+                LOG.error("Problem occurred in importEntity function", result.error());
+                errorMessage = ImportHandlerUtils.getErrorMessage(result.error());
+                ImportHandlerUtils.writeErrorMessage(loanRepaymentSheet, result.rowIndex(), errorMessage,
                         LoanRepaymentConstants.STATUS_COL);
             }
-
         }
         loanRepaymentSheet.setColumnWidth(LoanRepaymentConstants.STATUS_COL, TemplatePopulateImportConstants.SMALL_COL_SIZE);
         ImportHandlerUtils.writeString(LoanRepaymentConstants.STATUS_COL,
@@ -134,7 +134,8 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         }
 
         final Workbook workbook = event.getWorkbook();
-        final Count count = importHandler.process(workbook, event.getLocale(), event.getDateFormat());
+        final Count count = importHandler.process(workbook, event.getLocale(), event.getDateFormat(),
+                (successCount, errorCount) -> this.importRepository.updateProgress(importDocument.getId(), successCount, errorCount));
         importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount(), count.getErrorCount());
         this.importRepository.saveAndFlush(importDocument);
 
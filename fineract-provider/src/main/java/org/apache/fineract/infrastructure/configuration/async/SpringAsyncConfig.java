@@ -18,8 +18,11 @@
  */
 package org.apache.fineract.infrastructure.configuration.async;
 
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -30,10 +33,14 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class SpringAsyncConfig implements AsyncConfigurer {
 
+    @Autowired
+    private FineractProperties fineractProperties;
+
     @Bean(name = TaskExecutorConstant.LOAN_COB_CATCH_UP_TASK_EXECUTOR_BEAN_NAME)
     public ThreadPoolTaskExecutor loanCOBCatchUpThreadPoolTaskExecutor() {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
         threadPoolTaskExecutor.setMaxPoolSize(1);
+        VirtualThreadSupport.configure(threadPoolTaskExecutor, fineractProperties, "loan-cob-catch-up-");
         return threadPoolTaskExecutor;
     }
 
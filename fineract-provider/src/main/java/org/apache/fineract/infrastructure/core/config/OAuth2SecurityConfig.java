@@ -30,7 +30,9 @@ import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadP
 import org.apache.fineract.infrastructure.cache.service.CacheWritePlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.exceptionmapper.OAuth2ExceptionEntryPoint;
+import org.apache.fineract.infrastructure.core.filters.TenantConnectionAdmissionFilter;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
+import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceService;
 import org.apache.fineract.infrastructure.security.data.FineractJwtAuthenticationToken;
 import org.apache.fineract.infrastructure.security.data.PlatformRequestLog;
 import org.apache.fineract.infrastructure.security.filter.InsecureTwoFactorAuthenticationFilter;
@@ -94,6 +96,8 @@ public class OAuth2SecurityConfig {
     private BusinessDateReadPlatformService businessDateReadPlatformService;
     @Autowired
     private ApplicationContext applicationContext;
+    @Autowired
+    private RoutingDataSourceService routingDataSourceService;
 
     private static final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
 
@@ -117,6 +121,9 @@ public class OAuth2SecurityConfig {
                         .authenticationEntryPoint(new OAuth2ExceptionEntryPoint())) //
                 .sessionManagement((smc) -> smc.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) //
                 .addFilterAfter(tenantAwareTenantIdentifierFilter(), SecurityContextHolderFilter.class);
+        if (VirtualThreadSupport.isEnabled(fineractProperties)) {
+            http.addFilterAfter(tenantConnectionAdmissionFilter(), TenantAwareTenantIdentifierFilter.class);
+        }
 
         if (fineractProperties.getSecurity().getTwoFactor().isEnabled()) {
             http.addFilterAfter(twoFactorAuthenticationFilter(), BasicAuthenticationFilter.class);
@@ -136,6 +143,10 @@ public class OAuth2SecurityConfig {
                 cacheWritePlatformService, businessDateReadPlatformService);
     }
 
+    public TenantConnectionAdmissionFilter tenantConnectionAdmissionFilter() {
+        return new TenantConnectionAdmissionFilter(fineractProperties, routingDataSourceService);
+    }
+
     public TwoFactorAuthenticationFilter twoFactorAuthenticationFilter() {
         TwoFactorService twoFactorService = applicationContext.getBean(TwoFactorService.class);
         return new TwoFactorAuthenticationFilter(twoFactorService);
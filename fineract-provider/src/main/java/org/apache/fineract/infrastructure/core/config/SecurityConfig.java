@@ -36,11 +36,15 @@ import org.apache.fineract.infrastructure.core.filters.CorrelationHeaderFilter;
 import org.apache.fineract.infrastructure.core.filters.IdempotencyStoreFilter;
 import org.apache.fineract.infrastructure.core.filters.IdempotencyStoreHelper;
 import org.apache.fineract.infrastructure.core.filters.RequestResponseFilter;
+import org.apache.fineract.infrastructure.core.filters.TenantConnectionAdmissionFilter;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.core.service.MDCWrapper;
+import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceService;
 import org.apache.fineract.infrastructure.instancemode.filter.FineractInstanceModeApiFilter;
 import org.apache.fineract.infrastructure.jobs.filter.LoanCOBApiFilter;
 import org.apache.fineract.infrastructure.jobs.filter.LoanCOBFilterHelper;
+import org.apache.fineract.infrastructure.jobs.filter.SavingsCOBApiFilter;
+import org.apache.fineract.infrastructure.jobs.filter.SavingsCOBFilterHelper;
 import org.apache.fineract.infrastructure.security.data.PlatformRequestLog;
 import org.apache.fineract.infrastructure.security.filter.InsecureTwoFactorAuthenticationFilter;
 import org.apache.fineract.infrastructure.security.filter.TenantAwareBasicAuthenticationFilter;
@@ -115,9 +119,13 @@ public class SecurityConfig {
     @Autowired(required = false)
     private LoanCOBFilterHelper loanCOBFilterHelper;
     @Autowired
+    private SavingsCOBFilterHelper savingsCOBFilterHelper;
+    @Autowired
     private PlatformSecurityContext context;
     @Autowired
     private IdempotencyStoreHelper idempotencyStoreHelper;
+    @Autowired
+    private RoutingDataSourceService routingDataSourceService;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -142,11 +150,15 @@ public class SecurityConfig {
                 .addFilterAfter(requestResponseFilter(), ExceptionTranslationFilter.class) //
                 .addFilterAfter(correlationHeaderFilter(), RequestResponseFilter.class) //
                 .addFilterAfter(fineractInstanceModeApiFilter(), CorrelationHeaderFilter.class); //
+        if (VirtualThreadSupport.isEnabled(fineractProperties)) {
+            http.addFilterAfter(tenantConnectionAdmissionFilter(), FineractInstanceModeApiFilter.class);
+        }
+        http.addFilterAfter(savingsCOBApiFilter(), FineractInstanceModeApiFilter.class); //
         if (!Objects.isNull(loanCOBFilterHelper)) {
-            http.addFilterAfter(loanCOBApiFilter(), FineractInstanceModeApiFilter.class) //
+            http.addFilterAfter(loanCOBApiFilter(), SavingsCOBApiFilter.class) //
                     .addFilterAfter(idempotencyStoreFilter(), LoanCOBApiFilter.class); //
         } else {
-            http.addFilterAfter(idempotencyStoreFilter(), FineractInstanceModeApiFilter.class); //
+            http.addFilterAfter(idempotencyStoreFilter(), SavingsCOBApiFilter.class); //
         }
 
         if (fineractProperties.getSecurity().getTwoFactor().isEnabled()) {
@@ -169,6 +181,10 @@ public class SecurityConfig {
         return new LoanCOBApiFilter(loanCOBFilterHelper);
     }
 
+    public SavingsCOBApiFilter savingsCOBApiFilter() {
+        return new SavingsCOBApiFilter(savingsCOBFilterHelper);
+    }
+
     public TwoFactorAuthenticationFilter twoFactorAuthenticationFilter() {
         TwoFactorService twoFactorService = applicationContext.getBean(TwoFactorService.class);
         return new TwoFactorAuthenticationFilter(twoFactorService);
@@ -182,6 +198,10 @@ public class SecurityConfig {
         return new FineractInstanceModeApiFilter(fineractProperties);
     }
 
+    public TenantConnectionAdmissionFilter tenantConnectionAdmissionFilter() {
+        return new TenantConnectionAdmissionFilter(fineractProperties, routingDataSourceService);
+    }
+
     public IdempotencyStoreFilter idempotencyStoreFilter() {
         return new IdempotencyStoreFilter(fineractRequestContextHolder, idempotencyStoreHelper, fineractProperties);
     }
@@ -36,6 +36,7 @@ public class TaskExecutorConfig {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
         threadPoolTaskExecutor.setCorePoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorCorePoolSize());
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
+        VirtualThreadSupport.configure(threadPoolTaskExecutor, fineractProperties, "fineract-default-");
         return threadPoolTaskExecutor;
     }
 
@@ -45,6 +46,7 @@ public class TaskExecutorConfig {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
         threadPoolTaskExecutor.setCorePoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorCorePoolSize());
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
+        VirtualThreadSupport.configure(threadPoolTaskExecutor, fineractProperties, "fineract-configurable-");
         return threadPoolTaskExecutor;
     }
 }
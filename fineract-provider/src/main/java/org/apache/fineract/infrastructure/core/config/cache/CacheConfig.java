@@ -20,13 +20,20 @@
 package org.apache.fineract.infrastructure.core.config.cache;
 
 import java.time.Duration;
+import java.util.List;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationBroadcaster;
+import org.apache.fineract.infrastructure.cache.service.InvalidationBroadcastingCacheManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCacheProperties;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -36,6 +43,11 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfig {
 
     public static final String CONFIG_BY_NAME_CACHE_NAME = "configByName";
+    public static final String USER_TF_ACCESS_TOKEN_CACHE_NAME = "userTFAccessToken";
+
+    private static final List<String> CACHE_NAMES = List.of("users", "usersByUsername", "tenantsById", "offices", "officesForDropdown",
+            "officesById", "charges", "funds", "code_values", "codes", "hooks", "tfConfig", CONFIG_BY_NAME_CACHE_NAME, "payment_types",
+            "paymentTypesWithCode", "tellers", "externalAssetOwnerLoanProductAttributes", "loanProducts", "savingsProducts", "currencies");
 
     @Bean
     public TransactionBoundCacheManager defaultCacheManager(JCacheCacheManager ehCacheManager) {
@@ -47,68 +59,48 @@ public class CacheConfig {
     }
 
     @Bean
-    public JCacheCacheManager ehCacheManager() {
+    public JCacheCacheManager ehCacheManager(FineractProperties fineractProperties) {
         JCacheCacheManager jCacheCacheManager = new JCacheCacheManager();
-        jCacheCacheManager.setCacheManager(getInternalEhCacheManager());
+        jCacheCacheManager.setCacheManager(getInternalEhCacheManager(fineractProperties.getCache()));
         return jCacheCacheManager;
     }
 
-    private CacheManager getInternalEhCacheManager() {
+    @Bean
+    public InvalidationBroadcastingCacheManager distributedCacheManager(JCacheCacheManager ehCacheManager,
+            ObjectProvider<CacheInvalidationBroadcaster> cacheInvalidationBroadcaster) {
+        return new InvalidationBroadcastingCacheManager(ehCacheManager, cacheInvalidationBroadcaster.getIfAvailable());
+    }
+
+    private CacheManager getInternalEhCacheManager(FineractCacheProperties cacheProperties) {
         CachingProvider provider = Caching.getCachingProvider();
         CacheManager cacheManager = provider.getCacheManager();
 
-        javax.cache.configuration.Configuration<Object, Object> defaultTemplate = Eh107Configuration.fromEhcacheCacheConfiguration(
-                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(10000))
-                        .withExpiry(ExpiryPolicyBuilder.noExpiration()).build());
-
-        if (cacheManager.getCache("users") == null) {
-            cacheManager.createCache("users", defaultTemplate);
-        }
-        if (cacheManager.getCache("usersByUsername") == null) {
-            cacheManager.createCache("usersByUsername", defaultTemplate);
-        }
-        if (cacheManager.getCache("tenantsById") == null) {
-            cacheManager.createCache("tenantsById", defaultTemplate);
-        }
-        if (cacheManager.getCache("offices") == null) {
-            cacheManager.createCache("offices", defaultTemplate);
-        }
-        if (cacheManager.getCache("officesForDropdown") == null) {
-            cacheManager.createCache("officesForDropdown", defaultTemplate);
-        }
-        if (cacheManager.getCache("officesById") == null) {
-            cacheManager.createCache("officesById", defaultTemplate);
-        }
-        if (cacheManager.getCache("charges") == null) {
-            cacheManager.createCache("charges", defaultTemplate);
-        }
-        if (cacheManager.getCache("funds") == null) {
-            cacheManager.createCache("funds", defaultTemplate);
-        }
-        if (cacheManager.getCache("code_values") == null) {
-            cacheManager.createCache("code_values", defaultTemplate);
-        }
-        if (cacheManager.getCache("codes") == null) {
-            cacheManager.createCache("codes", defaultTemplate);
-        }
-        if (cacheManager.getCache("hooks") == null) {
-            cacheManager.createCache("hooks", defaultTemplate);
-        }
-        if (cacheManager.getCache("tfConfig") == null) {
-            cacheManager.createCache("tfConfig", defaultTemplate);
-        }
-        if (cacheManager.getCache(CONFIG_BY_NAME_CACHE_NAME) == null) {
-            cacheManager.createCache(CONFIG_BY_NAME_CACHE_NAME, defaultTemplate);
+        for (String cacheName : CACHE_NAMES) {
+            long timeToLive = cacheProperties.getTimeToLiveInSeconds(cacheName);
+            ExpiryPolicy<Object, Object> expiry = timeToLive > 0 ? ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(timeToLive))
+                    : ExpiryPolicyBuilder.noExpiration();
+            createCache(cacheManager, cacheProperties, cacheName, expiry);
         }
+        createCache(cacheManager, cacheProperties, USER_TF_ACCESS_TOKEN_CACHE_NAME,
+                ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofHours(2)));
 
-        javax.cache.configuration.Configuration<Object, Object> accessTokenTemplate = Eh107Configuration.fromEhcacheCacheConfiguration(
-                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(10000))
-                        .withExpiry(ExpiryPolicyBuilder.timeToIdleExpiration(Duration.ofHours(2))).build());
+        return cacheManager;
+    }
 
-        if (cacheManager.getCache("userTFAccessToken") == null) {
-            cacheManager.createCache("userTFAccessToken", accessTokenTemplate);
+    private void createCache(CacheManager cacheManager, FineractCacheProperties cacheProperties, String cacheName,
+            ExpiryPolicy<Object, Object> expiry) {
+        if (cacheManager.getCache(cacheName) != null) {
+            return;
+        }
+        javax.cache.configuration.Configuration<Object, Object> configuration = Eh107Configuration
+                .fromEhcacheCacheConfiguration(CacheConfigurationBuilder
+                        .newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(cacheProperties.getMaxEntries(cacheName)))
+                        .withExpiry(expiry).build());
+        cacheManager.createCache(cacheName, configuration);
+        if (cacheProperties.isStatisticsEnabled()) {
+            // hit, miss and eviction counts of the actuator cache metrics are read from the JCache statistics
+            cacheManager.enableStatistics(cacheName, true);
         }
-
-        return cacheManager;
     }
 }
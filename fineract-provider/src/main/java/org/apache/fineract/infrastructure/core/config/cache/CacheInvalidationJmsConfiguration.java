@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import jakarta.jms.MessageListener;
+import jakarta.jms.ObjectMessage;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.command.ActiveMQTopic;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationBroadcaster;
+import org.apache.fineract.infrastructure.cache.service.InvalidationBroadcastingCacheManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCacheInvalidationJmsProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(value = "fineract.cache.invalidation.jms.enabled", havingValue = "true")
+@Slf4j
+public class CacheInvalidationJmsConfiguration {
+
+    @Autowired
+    private FineractProperties fineractProperties;
+
+    @Bean(name = "cacheInvalidationConnectionFactory")
+    public CachingConnectionFactory cacheInvalidationConnectionFactory() {
+        FineractCacheInvalidationJmsProperties jmsProps = fineractProperties.getCache().getInvalidation().getJms();
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory();
+        connectionFactory.setBrokerURL(jmsProps.getBrokerUrl());
+        connectionFactory.setTrustedPackages(List.of(CacheInvalidationMessage.class.getPackageName(), "java.lang"));
+        if (jmsProps.isBrokerPasswordProtected()) {
+            connectionFactory.setUserName(jmsProps.getBrokerUsername());
+            connectionFactory.setPassword(jmsProps.getBrokerPassword());
+        }
+        CachingConnectionFactory cachingConnectionFactory = new CachingConnectionFactory();
+        cachingConnectionFactory.setReconnectOnException(true);
+        cachingConnectionFactory.setTargetConnectionFactory(connectionFactory);
+        return cachingConnectionFactory;
+    }
+
+    @Bean(name = "cacheInvalidationDestination")
+    public ActiveMQTopic cacheInvalidationDestination() {
+        return new ActiveMQTopic(fineractProperties.getCache().getInvalidation().getJms().getTopicName());
+    }
+
+    @Bean
+    public CacheInvalidationBroadcaster jmsCacheInvalidationBroadcaster(
+            @Qualifier("cacheInvalidationConnectionFactory") CachingConnectionFactory connectionFactory,
+            @Qualifier("cacheInvalidationDestination") ActiveMQTopic destination) {
+        JmsTemplate jmsTemplate = new JmsTemplate(connectionFactory);
+        jmsTemplate.setPubSubDomain(true);
+        jmsTemplate.setDefaultDestination(destination);
+        return message -> {
+            try {
+                jmsTemplate.convertAndSend(message);
+            } catch (RuntimeException e) {
+                // the change itself is already committed, the other nodes catch up when the entries expire
+                log.error("Failed to broadcast cache invalidation {}", message, e);
+            }
+        };
+    }
+
+    @Bean
+    public DefaultMessageListenerContainer cacheInvalidationListenerContainer(
+            @Qualifier("cacheInvalidationConnectionFactory") CachingConnectionFactory connectionFactory,
+            @Qualifier("cacheInvalidationDestination") ActiveMQTopic destination,
+            InvalidationBroadcastingCacheManager distributedCacheManager) {
+        DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setDestination(destination);
+        container.setPubSubDomain(true);
+        container.setConcurrentConsumers(1);
+        MessageListener listener = message -> {
+            try {
+                if (message instanceof ObjectMessage objectMessage
+                        && objectMessage.getObject() instanceof CacheInvalidationMessage invalidation) {
+                    distributedCacheManager.onInvalidation(invalidation);
+                } else {
+                    log.warn("Unexpected message on the cache invalidation topic: {}", message);
+                }
+            } catch (Exception e) {
+                log.error("Failed to apply cache invalidation", e);
+            }
+        };
+        container.setMessageListener(listener);
+        return container;
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
+import static org.springframework.kafka.support.serializer.JsonDeserializer.TRUSTED_PACKAGES;
+import static org.springframework.kafka.support.serializer.JsonDeserializer.USE_TYPE_INFO_HEADERS;
+import static org.springframework.kafka.support.serializer.JsonDeserializer.VALUE_DEFAULT_TYPE;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationBroadcaster;
+import org.apache.fineract.infrastructure.cache.service.InvalidationBroadcastingCacheManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCacheInvalidationKafkaProperties;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+@Configuration
+@ConditionalOnProperty(value = "fineract.cache.invalidation.kafka.enabled", havingValue = "true")
+@Slf4j
+public class CacheInvalidationKafkaConfiguration {
+
+    @Autowired
+    private FineractProperties fineractProperties;
+
+    @Bean
+    public CacheInvalidationBroadcaster kafkaCacheInvalidationBroadcaster() {
+        FineractCacheInvalidationKafkaProperties kafkaProps = fineractProperties.getCache().getInvalidation().getKafka();
+        Map<String, Object> props = new HashMap<>(kafkaProps.getProducer().getExtraPropertiesMap());
+        props.put(BOOTSTRAP_SERVERS_CONFIG, kafkaProps.getBootstrapServers());
+        props.put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        KafkaTemplate<String, CacheInvalidationMessage> kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+        return message -> kafkaTemplate.send(kafkaProps.getTopicName(), message.getCacheName(), message).whenComplete((result, e) -> {
+            if (e != null) {
+                // the change itself is already committed, the other nodes catch up when the entries expire
+                log.error("Failed to broadcast cache invalidation {}", message, e);
+            }
+        });
+    }
+
+    @Bean
+    public ConcurrentMessageListenerContainer<String, CacheInvalidationMessage> cacheInvalidationKafkaListenerContainer(
+            InvalidationBroadcastingCacheManager distributedCacheManager) {
+        FineractCacheInvalidationKafkaProperties kafkaProps = fineractProperties.getCache().getInvalidation().getKafka();
+        Map<String, Object> props = new HashMap<>(kafkaProps.getConsumer().getExtraPropertiesMap());
+        props.put(BOOTSTRAP_SERVERS_CONFIG, kafkaProps.getBootstrapServers());
+        // every node has to see every invalidation, so each one consumes the topic in its own group; the random node id
+        // of the cache manager is used because fineract.node-id is the same on every node by default
+        props.put(GROUP_ID_CONFIG, kafkaProps.getConsumer().getGroupId() + "-" + distributedCacheManager.getNodeId());
+        props.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(VALUE_DEFAULT_TYPE, CacheInvalidationMessage.class.getName());
+        props.put(USE_TYPE_INFO_HEADERS, false);
+        props.put(TRUSTED_PACKAGES, CacheInvalidationMessage.class.getPackageName());
+        // invalidations sent while the node was down are irrelevant, its local caches started empty
+        props.put(AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        ContainerProperties containerProperties = new ContainerProperties(kafkaProps.getTopicName());
+        MessageListener<String, CacheInvalidationMessage> listener = consumerRecord -> {
+            try {
+                distributedCacheManager.onInvalidation(consumerRecord.value());
+            } catch (Exception e) {
+                log.error("Failed to apply cache invalidation", e);
+            }
+        };
+        containerProperties.setMessageListener(listener);
+        return new ConcurrentMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(props), containerProperties);
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jpa;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.condition.PropertiesCondition;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+
+/**
+ * Matches when at least one partitioned job has prefetching enabled, the only reader of the {@link StatementCounter}.
+ */
+public class PrefetchEnabledCondition extends PropertiesCondition {
+
+    @Override
+    protected boolean matches(FineractProperties properties) {
+        return Optional.ofNullable(properties.getPartitionedJob()) //
+                .map(FineractProperties.FineractPartitionedJob::getPartitionedJobProperties) //
+                .orElse(List.of()) //
+                .stream() //
+                .anyMatch(jobProperty -> Boolean.TRUE.equals(jobProperty.getPrefetchEnabled()));
+    }
+}
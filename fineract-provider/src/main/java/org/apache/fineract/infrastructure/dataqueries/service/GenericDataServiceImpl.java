@@ -27,7 +27,15 @@ import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColum
 import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.INTEGER;
 import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.TIME;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -50,6 +58,7 @@ import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoundException;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
@@ -92,6 +101,93 @@ public class GenericDataServiceImpl implements GenericDataService {
         }
     }
 
+    @Override
+    public void streamGenericResultSet(final String sql, final int fetchSize, final GenericResultsetStreamHandler handler)
+            throws IOException {
+        try {
+            this.jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                streamGenericResultSet(connection, sql, fetchSize, handler);
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw ErrorHandler.getMappable(e, "error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), null, e);
+        }
+    }
+
+    private void streamGenericResultSet(final Connection connection, final String sql, final int fetchSize,
+            final GenericResultsetStreamHandler handler) throws SQLException {
+        // PostgreSQL uses a server side cursor for the fetch size only outside of auto-commit mode
+        final boolean switchAutoCommit = databaseTypeResolver.isPostgreSQL() && connection.getAutoCommit();
+        if (switchAutoCommit) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, // NOSONAR
+                ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(resolveStreamingFetchSize(connection, fetchSize));
+            try (ResultSet rs = statement.executeQuery()) {
+                final ResultSetMetaData rsmd = rs.getMetaData();
+                final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+                for (int i = 0; i < rsmd.getColumnCount(); i++) {
+                    columnHeaders.add(ResultsetColumnHeaderData.basic(rsmd.getColumnName(i + 1), rsmd.getColumnTypeName(i + 1),
+                            databaseTypeResolver.databaseType()));
+                }
+                handler.handleColumnHeaders(columnHeaders);
+                while (rs.next()) {
+                    handler.handleRow(readRow(rs, columnHeaders));
+                }
+            } catch (IOException e) {
+                // the client disconnected, closing an unfinished streaming resultset would read all of its remaining rows
+                cancelQuietly(statement);
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                cancelQuietly(statement);
+                throw e;
+            }
+        } finally {
+            if (switchAutoCommit) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static int resolveStreamingFetchSize(final Connection connection, final int fetchSize) throws SQLException {
+        // MySQL Connector/J streams the rows only with this special value, the MariaDB and PostgreSQL drivers fetch in batches
+        if (connection.getMetaData().getDriverName().startsWith("MySQL")) {
+            return Integer.MIN_VALUE;
+        }
+        return fetchSize;
+    }
+
+    private static void cancelQuietly(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.warn("Could not cancel the report query: {}", e.getMessage());
+        }
+    }
+
+    private static List<Object> readRow(final ResultSet rs, final List<ResultsetColumnHeaderData> columnHeaders) throws SQLException {
+        final List<Object> columnValues = new ArrayList<>(columnHeaders.size());
+        for (int i = 0; i < columnHeaders.size(); i++) {
+            final JdbcJavaType colType = columnHeaders.get(i).getColumnType();
+            if (colType == DATE) {
+                Date tmpDate = rs.getDate(i + 1);
+                columnValues.add(tmpDate == null ? null : tmpDate.toLocalDate());
+            } else if (colType == DATETIME || colType == TIMESTAMP) {
+                Object tmpDate = rs.getObject(i + 1);
+                columnValues
+                        .add(tmpDate == null ? null : (tmpDate instanceof Timestamp ? ((Timestamp) tmpDate).toLocalDateTime() : tmpDate));
+            } else {
+                columnValues.add(rs.getObject(i + 1));
+            }
+        }
+        return columnValues;
+    }
+
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
@@ -204,62 +300,67 @@ public class GenericDataServiceImpl implements GenericDataService {
         final List<ResultsetColumnHeaderData> columnHeaders = grs.getColumnHeaders();
 
         final List<ResultsetRowData> data = grs.getData();
-        List<Object> row;
-        Integer rSize;
+        for (int i = 0; i < data.size(); i++) {
+            appendJsonRow(writer, columnHeaders, data.get(i).getRow());
+            if (i < (data.size() - 1)) {
+                writer.append(",");
+            }
+        }
+
+        writer.append("\n]");
+        return writer.toString();
+    }
+
+    @Override
+    public String generateJsonFromResultsetRow(final List<ResultsetColumnHeaderData> columnHeaders, final List<Object> row) {
+        final StringBuilder writer = new StringBuilder();
+        appendJsonRow(writer, columnHeaders, row);
+        return writer.toString();
+    }
+
+    private void appendJsonRow(final StringBuilder writer, final List<ResultsetColumnHeaderData> columnHeaders, final List<Object> row) {
         final String doubleQuote = "\"";
         final String slashDoubleQuote = "\\\"";
         ResultsetColumnHeaderData.DisplayType colDisplayType;
         Object currVal;
 
-        for (int i = 0; i < data.size(); i++) {
-            writer.append("\n{");
-
-            row = data.get(i).getRow();
-            rSize = row.size();
-            for (int j = 0; j < rSize; j++) {
-                ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
-                writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
-                colDisplayType = columnHeader.getColumnDisplayType();
-                final JdbcJavaType colType = columnHeader.getColumnType();
-                if (colDisplayType == null) {
-                    colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
-                }
-                currVal = row.get(j);
-                if (currVal != null && colDisplayType != null) {
-                    if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
-                        final LocalDate localDate = (LocalDate) currVal;
-                        writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
-                    } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
-                        final LocalDateTime localDateTime = (LocalDateTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
-                                localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(),
-                                localDateTime.getSecond(), localDateTime.getNano()));
-                    } else if (colDisplayType == TIME) {
-                        final LocalTime localTime = (LocalTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
-                                localTime.getNano()));
-                    } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
-                        writer.append(currVal);
-                    } else {
-                        writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
-                    }
+        writer.append("\n{");
+        final int rSize = row.size();
+        for (int j = 0; j < rSize; j++) {
+            ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
+            writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
+            colDisplayType = columnHeader.getColumnDisplayType();
+            final JdbcJavaType colType = columnHeader.getColumnType();
+            if (colDisplayType == null) {
+                colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
+            }
+            currVal = row.get(j);
+            if (currVal != null && colDisplayType != null) {
+                if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
+                    final LocalDate localDate = (LocalDate) currVal;
+                    writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
+                } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
+                    final LocalDateTime localDateTime = (LocalDateTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
+                            localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                            localDateTime.getNano()));
+                } else if (colDisplayType == TIME) {
+                    final LocalTime localTime = (LocalTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
+                            localTime.getNano()));
+                } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
+                    writer.append(currVal);
                 } else {
-                    writer.append("null");
-                }
-                if (j < (rSize - 1)) {
-                    writer.append(",\n");
+                    writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
                 }
-            }
-
-            if (i < (data.size() - 1)) {
-                writer.append("},");
             } else {
-                writer.append("}");
+                writer.append("null");
+            }
+            if (j < (rSize - 1)) {
+                writer.append(",\n");
             }
         }
-
-        writer.append("\n]");
-        return writer.toString();
+        writer.append("}");
     }
 
     private boolean isExplicitlyUnique(String tableName, String columnName, List<IndexDetail> indexDefinitions) {
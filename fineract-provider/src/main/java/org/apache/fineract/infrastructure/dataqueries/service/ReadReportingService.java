@@ -20,6 +20,7 @@ package org.apache.fineract.infrastructure.dataqueries.service;
 
 import jakarta.ws.rs.core.StreamingOutput;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
@@ -47,6 +48,13 @@ public interface ReadReportingService {
     GenericResultsetData retrieveGenericResultset(String name, String type, Map<String, String> extractedQueryParams,
             boolean isSelfServiceUserReport);
 
+    /**
+     * Runs the report with a forward-only database cursor and passes its rows to the handler without collecting them in
+     * memory, for exports of large reports.
+     */
+    void streamGenericResultset(String name, String type, Map<String, String> extractedQueryParams, boolean isSelfServiceUserReport,
+            GenericResultsetStreamHandler handler) throws IOException;
+
     // TODO This is weird, could they not be using the retrieveGenericResultset() above after all?
     // needed for smsCampaign and emailCampaign jobs where securityContext is null
     GenericResultsetData retrieveGenericResultSetForSmsEmailCampaign(String name, String type, Map<String, String> extractedQueryParams);
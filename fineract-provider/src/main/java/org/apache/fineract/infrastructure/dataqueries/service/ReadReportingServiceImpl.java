@@ -23,11 +23,11 @@ import com.lowagie.text.PageSize;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
@@ -81,27 +81,51 @@ public class ReadReportingServiceImpl implements ReadReportingService {
     public StreamingOutput retrieveReportCSV(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
         return out -> {
-            try {
-                final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
-                generateCsvFileBuffer(result, out);
+            try (CSVPrinter printer = new CSVPrinter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)),
+                    CSVFormat.EXCEL)) {
+                streamGenericResultset(name, type, queryParams, isSelfServiceUserReport, new GenericResultsetStreamHandler() {
+
+                    @Override
+                    public void handleColumnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+                        final List<String> header = new ArrayList<>();
+                        for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+                            header.add(columnHeader.getColumnName());
+                        }
+                        printer.printRecord(header);
+                    }
+
+                    @Override
+                    public void handleRow(final List<Object> row) throws IOException {
+                        printer.printRecord(row);
+                    }
+                });
+            } catch (final IOException e) {
+                // the client disconnected, the query was already cancelled
+                throw e;
             } catch (final Exception e) {
                 throw ErrorHandler.getMappable(e);
             }
         };
     }
 
-    private void generateCsvFileBuffer(final GenericResultsetData result, OutputStream out) throws IOException {
-        try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
-            final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
-            final List<ResultsetRowData> data = result.getData();
-            final List<String> header = new ArrayList<>();
-            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
-                header.add(columnHeader.getColumnName());
-            }
-            printer.printRecord(header);
-            for (final ResultsetRowData row : data) {
-                printer.printRecord(row.getRow());
-            }
+    @Override
+    public void streamGenericResultset(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final GenericResultsetStreamHandler handler) throws IOException {
+        final long startTime = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("STARTING STREAMED REPORT: {}   Type: {}", LogParameterEscapeUtil.escapeLogParameter(name),
+                    LogParameterEscapeUtil.escapeLogParameter(type));
+        }
+
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+        final int fetchSize = fineractProperties.getReport().getExport().getStreamingFetchSize();
+
+        this.genericDataService.streamGenericResultSet(sql, fetchSize, handler);
+
+        final long elapsed = System.currentTimeMillis() - startTime;
+        if (log.isDebugEnabled()) {
+            log.debug("FINISHING Streamed Report/Request Name: {} - {}     Elapsed Time: {}",
+                    LogParameterEscapeUtil.escapeLogParameter(name), type.replaceAll("[\n\r\t]", "_"), elapsed);
         }
     }
 
@@ -18,54 +18,144 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service.export;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.api.ApiParameterHelper;
-import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
-import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
-import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
+import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableExportTargetParameter;
 import org.apache.fineract.infrastructure.dataqueries.service.GenericDataService;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetStreamHandler;
 import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
 import org.springframework.stereotype.Service;
 
+/**
+ * Writes the report rows to the response while they are read from the database, in the same JSON formats as the
+ * serialized generic resultset and the plain row objects.
+ */
 @Service
 @RequiredArgsConstructor
 public class JsonDatatableReportExportService implements DatatableReportExportService {
 
+    private static final Type COLUMN_HEADERS_TYPE = new TypeToken<List<ResultsetColumnHeaderData>>() {}.getType();
+
     private final ReadReportingService readExtraDataAndReportingService;
-    private final ToApiJsonSerializer<ReportData> toApiJsonSerializer;
     private final GenericDataService genericDataService;
 
     @Override
     public ResponseHolder export(String reportName, MultivaluedMap<String, String> queryParams, Map<String, String> reportParams,
             boolean isSelfServiceUserReport, String parameterTypeValue) {
-
-        final GenericResultsetData result = this.readExtraDataAndReportingService.retrieveGenericResultset(reportName, parameterTypeValue,
-                reportParams, isSelfServiceUserReport);
         DatatableExportTargetParameter exportMode = DatatableExportTargetParameter.resolverExportTarget(queryParams);
         boolean prettyPrint = exportMode == DatatableExportTargetParameter.PRETTY_JSON;
-        String json;
         final boolean genericResultSetIsPassed = ApiParameterHelper.genericResultSetPassed(queryParams);
         final boolean genericResultSet = ApiParameterHelper.genericResultSet(queryParams);
-        if (genericResultSetIsPassed) {
-            if (genericResultSet) {
-                json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
-            } else {
-                json = this.genericDataService.generateJsonFromGenericResultsetData(result);
-            }
-        } else {
-            json = this.toApiJsonSerializer.serializePretty(prettyPrint, result);
-        }
-        return new ResponseHolder(Response.Status.OK).entity(json).contentType(MediaType.APPLICATION_JSON);
+        final boolean plainRows = genericResultSetIsPassed && !genericResultSet;
 
+        final StreamingOutput result = out -> {
+            try {
+                final JsonStreamHandler handler = plainRows ? new PlainRowsJsonHandler(out)
+                        : new GenericResultsetJsonHandler(out, prettyPrint);
+                this.readExtraDataAndReportingService.streamGenericResultset(reportName, parameterTypeValue, reportParams,
+                        isSelfServiceUserReport, handler);
+                handler.finish();
+            } catch (final IOException e) {
+                // the client disconnected, the query was already cancelled
+                throw e;
+            } catch (final Exception e) {
+                throw ErrorHandler.getMappable(e);
+            }
+        };
+        return new ResponseHolder(Response.Status.OK).entity(result).contentType(MediaType.APPLICATION_JSON);
     }
 
     @Override
     public boolean supports(DatatableExportTargetParameter exportType) {
         return exportType == DatatableExportTargetParameter.JSON || exportType == DatatableExportTargetParameter.PRETTY_JSON;
     }
+
+    private interface JsonStreamHandler extends GenericResultsetStreamHandler {
+
+        void finish() throws IOException;
+    }
+
+    private static final class GenericResultsetJsonHandler implements JsonStreamHandler {
+
+        private final Gson gson;
+        private final JsonWriter jsonWriter;
+
+        private GenericResultsetJsonHandler(final OutputStream out, final boolean prettyPrint) throws IOException {
+            this.gson = GoogleGsonSerializerHelper.createGsonBuilder(prettyPrint).create();
+            this.jsonWriter = gson.newJsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public void handleColumnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            jsonWriter.beginObject();
+            jsonWriter.name("columnHeaders");
+            gson.toJson(columnHeaders, COLUMN_HEADERS_TYPE, jsonWriter);
+            jsonWriter.name("data");
+            jsonWriter.beginArray();
+        }
+
+        @Override
+        public void handleRow(final List<Object> row) throws IOException {
+            gson.toJson(ResultsetRowData.create(row), ResultsetRowData.class, jsonWriter);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            jsonWriter.endArray();
+            jsonWriter.endObject();
+            jsonWriter.close();
+        }
+    }
+
+    private final class PlainRowsJsonHandler implements JsonStreamHandler {
+
+        private final Writer writer;
+        private List<ResultsetColumnHeaderData> columnHeaders;
+        private boolean firstRow = true;
+
+        private PlainRowsJsonHandler(final OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void handleColumnHeaders(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            this.columnHeaders = columnHeaders;
+            writer.write("[");
+        }
+
+        @Override
+        public void handleRow(final List<Object> row) throws IOException {
+            if (!firstRow) {
+                writer.write(",");
+            }
+            firstRow = false;
+            writer.write(genericDataService.generateJsonFromResultsetRow(columnHeaders, row));
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.write("\n]");
+            writer.close();
+        }
+    }
 }
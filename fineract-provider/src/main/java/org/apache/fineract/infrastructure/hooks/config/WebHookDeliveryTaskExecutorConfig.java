@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.config;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
+import org.apache.fineract.infrastructure.hooks.service.WebHookDeliveryService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebHookDeliveryTaskExecutorConfig {
+
+    private final FineractProperties fineractProperties;
+
+    @Bean(WebHookDeliveryService.DELIVERY_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor webHookDeliveryExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(fineractProperties.getHooks().getDelivery().getThreadPoolSize());
+        threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getHooks().getDelivery().getThreadPoolSize());
+        threadPoolTaskExecutor.setThreadNamePrefix("web-hook-delivery-");
+        VirtualThreadSupport.configure(threadPoolTaskExecutor, fineractProperties, "web-hook-delivery-");
+        threadPoolTaskExecutor.initialize();
+
+        return threadPoolTaskExecutor;
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.data;
+
+import java.time.OffsetDateTime;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A web hook request stored in the {@code m_hook_delivery} outbox until the endpoint accepted it. {@code nextAttemptAt} is the
+ * stored next attempt the delivery was read with, a sender has to claim the delivery with it before sending.
+ */
+public record WebHookDelivery(Long id, Long hookId, String url, String contentType, String entityName, String actionName, String payload,
+        int attempts, OffsetDateTime createdOn, OffsetDateTime nextAttemptAt) {
+
+    public boolean isJson() {
+        return StringUtils.containsIgnoreCase(contentType, "json");
+    }
+
+    public WebHookDelivery withNextAttemptAt(OffsetDateTime nextAttemptAt) {
+        return new WebHookDelivery(id, hookId, url, contentType, entityName, actionName, payload, attempts, createdOn, nextAttemptAt);
+    }
+}
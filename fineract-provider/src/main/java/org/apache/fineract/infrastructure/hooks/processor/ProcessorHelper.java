@@ -75,7 +75,7 @@ public final class ProcessorHelper {
         }
     }
 
-    private OkHttpClient createClient() {
+    public OkHttpClient createClient() {
         var okBuilder = new OkHttpClient.Builder();
         if (insecureHttpClient) {
             configureInsecureClient(okBuilder);
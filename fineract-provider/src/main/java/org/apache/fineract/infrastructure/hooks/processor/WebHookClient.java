@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.processor;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Map;
+import okhttp3.FormBody;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.hooks.data.WebHookDelivery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends web hook deliveries through one HTTP client shared by all hooks, so connections to an endpoint are pooled and kept
+ * alive between deliveries instead of building a new client for every request.
+ */
+@Component
+public class WebHookClient {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final Type FORM_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private final Gson gson = new Gson();
+    private final OkHttpClient httpClient;
+
+    public WebHookClient(ProcessorHelper processorHelper, FineractProperties fineractProperties) {
+        this.httpClient = processorHelper.createClient().newBuilder() //
+                .connectTimeout(Duration.ofSeconds(fineractProperties.getClientConnectTimeout())) //
+                .readTimeout(Duration.ofSeconds(fineractProperties.getClientReadTimeout())) //
+                .writeTimeout(Duration.ofSeconds(fineractProperties.getClientWriteTimeout())) //
+                .build();
+    }
+
+    /**
+     * @throws IOException
+     *             when the endpoint could not be reached or did not answer with a successful status
+     */
+    public void send(final WebHookDelivery delivery, final String tenantIdentifier, final String fineractEndpointUrl) throws IOException {
+        final Request.Builder request = new Request.Builder().url(delivery.url()) //
+                .header(WebHookService.ENTITY_HEADER, delivery.entityName()) //
+                .header(WebHookService.ACTION_HEADER, delivery.actionName()) //
+                .header(WebHookService.TENANT_HEADER, tenantIdentifier);
+        if (fineractEndpointUrl != null) {
+            request.header(WebHookService.ENDPOINT_HEADER, fineractEndpointUrl);
+        }
+        request.post(createBody(delivery));
+
+        try (Response response = httpClient.newCall(request.build()).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("Web hook endpoint " + delivery.url() + " answered with status " + response.code());
+            }
+        }
+    }
+
+    private RequestBody createBody(final WebHookDelivery delivery) {
+        if (delivery.isJson()) {
+            // the payload is already the serialized JSON, it is sent as is without parsing it again
+            return RequestBody.create(delivery.payload(), JSON);
+        }
+        final Map<String, Object> fields = gson.fromJson(delivery.payload(), FORM_TYPE);
+        final FormBody.Builder form = new FormBody.Builder();
+        if (fields != null) {
+            fields.forEach((name, value) -> form.add(name, String.valueOf(value)));
+        }
+        return form.build();
+    }
+}
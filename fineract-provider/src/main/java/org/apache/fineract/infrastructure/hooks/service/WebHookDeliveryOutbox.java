@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.hooks.data.WebHookDelivery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Durable store of the web hook deliveries not yet accepted by their endpoint. A delivery is deleted once it was sent, so the
+ * table only holds pending deliveries and the ones that ran out of attempts.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebHookDeliveryOutbox {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final RowMapper<WebHookDelivery> MAPPER = (rs, rowNum) -> new WebHookDelivery(rs.getLong("id"), rs.getLong("hook_id"),
+            rs.getString("url"), rs.getString("content_type"), rs.getString("entity_name"), rs.getString("action_name"),
+            rs.getString("payload"), rs.getInt("attempts"), rs.getObject("created_on", OffsetDateTime.class),
+            rs.getObject("next_attempt_at", OffsetDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    /**
+     * Stores a new delivery. It only becomes due at {@code nextAttemptAt}, until then it is left to the in-memory queue it is
+     * handed to. The delivery is stored in its own transaction: error hooks are raised while the transaction of the failed
+     * command is already marked for rollback.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public WebHookDelivery insert(Long hookId, String url, String contentType, String entityName, String actionName, String payload,
+            OffsetDateTime createdOn, OffsetDateTime nextAttemptAt) {
+        final String sql = """
+                INSERT INTO m_hook_delivery (hook_id, url, content_type, entity_name, action_name, payload, status, attempts,
+                next_attempt_at, created_on)
+                VALUES (:hookId, :url, :contentType, :entityName, :actionName, :payload, :status, 0, :nextAttemptAt, :createdOn)
+                """;
+        final MapSqlParameterSource params = new MapSqlParameterSource() //
+                .addValue("hookId", hookId) //
+                .addValue("url", url) //
+                .addValue("contentType", contentType) //
+                .addValue("entityName", entityName) //
+                .addValue("actionName", actionName) //
+                .addValue("payload", payload) //
+                .addValue("status", STATUS_PENDING) //
+                .addValue("nextAttemptAt", nextAttemptAt) //
+                .addValue("createdOn", createdOn);
+        final GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        namedParameterJdbcTemplate.update(sql, params, keyHolder, new String[] { "id" });
+        return new WebHookDelivery(sqlGenerator.fetchPK(keyHolder), hookId, url, contentType, entityName, actionName, payload, 0,
+                createdOn, nextAttemptAt);
+    }
+
+    /**
+     * Claims the pending deliveries due at {@code now} by moving their next attempt to {@code leaseUntil}, so they are not picked
+     * up again while being sent. Deliveries claimed concurrently by another sender are left out.
+     */
+    public List<WebHookDelivery> claimDue(OffsetDateTime now, OffsetDateTime leaseUntil, int limit) {
+        final List<WebHookDelivery> dueDeliveries = jdbcTemplate.query("""
+                SELECT id, hook_id, url, content_type, entity_name, action_name, payload, attempts, created_on, next_attempt_at
+                FROM m_hook_delivery
+                WHERE status = ? AND next_attempt_at <= ?
+                ORDER BY next_attempt_at, id
+                """ + sqlGenerator.limit(limit), MAPPER, STATUS_PENDING, now);
+        final List<WebHookDelivery> claimed = new ArrayList<>(dueDeliveries.size());
+        for (WebHookDelivery delivery : dueDeliveries) {
+            if (claim(delivery, leaseUntil)) {
+                claimed.add(delivery.withNextAttemptAt(leaseUntil));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Moves the next attempt of a pending delivery to {@code leaseUntil}, provided it is still the one the delivery was read
+     * with. Of the senders claiming the same attempt only one updates the row, the others have to skip the delivery.
+     *
+     * @return whether the delivery was claimed, {@code false} when it was claimed by another sender, failed or already sent
+     */
+    public boolean claim(WebHookDelivery delivery, OffsetDateTime leaseUntil) {
+        return jdbcTemplate.update("UPDATE m_hook_delivery SET next_attempt_at = ? WHERE id = ? AND status = ? AND next_attempt_at = ?",
+                leaseUntil, delivery.id(), STATUS_PENDING, delivery.nextAttemptAt()) == 1;
+    }
+
+    public void deleteDelivered(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        final List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            batchArgs.add(new Object[] { id });
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM m_hook_delivery WHERE id = ?", batchArgs);
+    }
+
+    public void updateFailed(List<FailedAttempt> failedAttempts) {
+        if (failedAttempts.isEmpty()) {
+            return;
+        }
+        final List<Object[]> batchArgs = new ArrayList<>(failedAttempts.size());
+        for (FailedAttempt failed : failedAttempts) {
+            batchArgs.add(new Object[] { failed.status(), failed.attempts(), failed.nextAttemptAt(), failed.error(), failed.id() });
+        }
+        jdbcTemplate.batchUpdate("UPDATE m_hook_delivery SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ? WHERE id = ?",
+                batchArgs);
+    }
+
+    public record FailedAttempt(Long id, String status, int attempts, OffsetDateTime nextAttemptAt, String error) {
+    }
+}
@@ -0,0 +1,284 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.data.WebHookDelivery;
+import org.apache.fineract.infrastructure.hooks.processor.WebHookClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Delivers web hook requests asynchronously. Every delivery is first stored in the {@link WebHookDeliveryOutbox}, then, once
+ * the transaction of the caller is committed, handed to a bounded in-memory queue per hook which is drained in batches by the
+ * delivery thread pool, at most one drain per hook at a time. A full queue does not block the caller: the delivery stays in the
+ * outbox and is picked up by the retry job, the same way as deliveries of callers whose transaction was rolled back, failed
+ * deliveries which are retried with exponential backoff and deliveries left over by a restart.
+ */
+@Slf4j
+@Service
+public class WebHookDeliveryService {
+
+    public static final String DELIVERY_EXECUTOR_BEAN_NAME = "webHookDeliveryExecutor";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final WebHookDeliveryOutbox outbox;
+    private final WebHookClient webHookClient;
+    private final TaskExecutor deliveryExecutor;
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final Map<String, HookQueue> hookQueues = new ConcurrentHashMap<>();
+
+    public WebHookDeliveryService(WebHookDeliveryOutbox outbox, WebHookClient webHookClient,
+            @Qualifier(DELIVERY_EXECUTOR_BEAN_NAME) TaskExecutor deliveryExecutor, FineractProperties fineractProperties,
+            Optional<MeterRegistry> meterRegistry) {
+        this.outbox = outbox;
+        this.webHookClient = webHookClient;
+        this.deliveryExecutor = deliveryExecutor;
+        this.fineractProperties = fineractProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void enqueue(final Long hookId, final String url, final String contentType, final String entityName, final String actionName,
+            final String payload, final FineractContext context) {
+        final OffsetDateTime now = now();
+        // the retry job only takes over once the in-memory delivery had the time of a first backoff to finish
+        final WebHookDelivery delivery = outbox.insert(hookId, url, contentType, entityName, actionName, payload, now, leaseUntil(now));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // the endpoint must not be called before the data the hook is about is committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    offer(hookId, delivery, context);
+                }
+            });
+        } else {
+            offer(hookId, delivery, context);
+        }
+    }
+
+    private void offer(final Long hookId, final WebHookDelivery delivery, final FineractContext context) {
+        final String tenantIdentifier = context.getTenantContext().getTenantIdentifier();
+        final HookQueue hookQueue = hookQueues.computeIfAbsent(tenantIdentifier + ":" + hookId,
+                key -> createHookQueue(tenantIdentifier, hookId));
+        if (hookQueue.queue.offer(new QueuedDelivery(delivery, context))) {
+            scheduleDrain(hookQueue);
+        } else {
+            log.debug("Delivery queue of hook {} is full, delivery {} is left to the retry job", hookId, delivery.id());
+            meterRegistry.ifPresent(registry -> Counter.builder("fineract.hooks.delivery.deferred") //
+                    .description("Web hook deliveries deferred to the retry job because the hook queue was full") //
+                    .tag("tenant", tenantIdentifier) //
+                    .tag("hook", String.valueOf(hookId)) //
+                    .register(registry) //
+                    .increment());
+        }
+    }
+
+    /**
+     * Sends the deliveries of the current tenant which are due, either because a previous attempt failed or because they never
+     * made it through the in-memory queue.
+     *
+     * @return number of delivered requests
+     */
+    public int deliverDue() {
+        final int batchSize = getDeliveryProperties().getBatchSize();
+        int delivered = 0;
+        while (true) {
+            final OffsetDateTime now = now();
+            final List<WebHookDelivery> deliveries = outbox.claimDue(now, leaseUntil(now), batchSize);
+            if (deliveries.isEmpty()) {
+                return delivered;
+            }
+            delivered += deliver(deliveries);
+        }
+    }
+
+    private HookQueue createHookQueue(final String tenantIdentifier, final Long hookId) {
+        final HookQueue hookQueue = new HookQueue(new ArrayBlockingQueue<>(getDeliveryProperties().getQueueCapacity()));
+        meterRegistry.ifPresent(registry -> Gauge.builder("fineract.hooks.delivery.queue.depth", hookQueue.queue, BlockingQueue::size) //
+                .description("Web hook deliveries waiting in the in-memory queue of a hook") //
+                .tag("tenant", tenantIdentifier) //
+                .tag("hook", String.valueOf(hookId)) //
+                .register(registry));
+        return hookQueue;
+    }
+
+    private void scheduleDrain(final HookQueue hookQueue) {
+        if (hookQueue.draining.compareAndSet(false, true)) {
+            try {
+                deliveryExecutor.execute(() -> drain(hookQueue));
+            } catch (RuntimeException e) {
+                // rejected by the pool, the deliveries stay in the outbox for the retry job
+                hookQueue.draining.set(false);
+                log.warn("Web hook delivery could not be scheduled", e);
+            }
+        }
+    }
+
+    private void drain(final HookQueue hookQueue) {
+        try {
+            final List<QueuedDelivery> batch = new ArrayList<>();
+            while (hookQueue.queue.drainTo(batch, getDeliveryProperties().getBatchSize()) > 0) {
+                ThreadLocalContextUtil.init(batch.get(0).context());
+                try {
+                    deliver(claim(batch));
+                } catch (RuntimeException e) {
+                    log.error("Web hook delivery batch failed, it is left to the retry job", e);
+                } finally {
+                    ThreadLocalContextUtil.reset();
+                }
+                batch.clear();
+            }
+        } finally {
+            hookQueue.draining.set(false);
+        }
+        // a delivery offered between the last drain and the reset of the flag would otherwise wait for the retry job
+        if (!hookQueue.queue.isEmpty()) {
+            scheduleDrain(hookQueue);
+        }
+    }
+
+    /**
+     * Claims the queued deliveries in the outbox, a delivery which waited in the queue past its first backoff may already be
+     * sent by the retry job.
+     */
+    private List<WebHookDelivery> claim(final List<QueuedDelivery> batch) {
+        final OffsetDateTime leaseUntil = leaseUntil(now());
+        final List<WebHookDelivery> claimed = new ArrayList<>(batch.size());
+        for (QueuedDelivery queued : batch) {
+            if (outbox.claim(queued.delivery(), leaseUntil)) {
+                claimed.add(queued.delivery().withNextAttemptAt(leaseUntil));
+            } else {
+                log.debug("Web hook delivery {} was taken over by the retry job", queued.delivery().id());
+            }
+        }
+        return claimed;
+    }
+
+    private int deliver(final List<WebHookDelivery> deliveries) {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        final String fineractEndpointUrl = System.getProperty("baseUrl");
+        final List<Long> delivered = new ArrayList<>();
+        final List<WebHookDeliveryOutbox.FailedAttempt> failed = new ArrayList<>();
+
+        for (WebHookDelivery delivery : deliveries) {
+            final long startedAt = System.nanoTime();
+            try {
+                webHookClient.send(delivery, tenantIdentifier, fineractEndpointUrl);
+                delivered.add(delivery.id());
+                recordRequest(tenantIdentifier, "success", startedAt);
+                recordLatency(tenantIdentifier, delivery);
+            } catch (Exception e) {
+                log.warn("Web hook {} delivery {} to {} failed on attempt {}: {}", delivery.hookId(), delivery.id(), delivery.url(),
+                        delivery.attempts() + 1, e.getMessage());
+                failed.add(failedAttempt(delivery, e));
+                recordRequest(tenantIdentifier, "failure", startedAt);
+            }
+        }
+        outbox.deleteDelivered(delivered);
+        outbox.updateFailed(failed);
+        return delivered.size();
+    }
+
+    private WebHookDeliveryOutbox.FailedAttempt failedAttempt(final WebHookDelivery delivery, final Exception e) {
+        final FineractProperties.FineractHooksDeliveryProperties properties = getDeliveryProperties();
+        final int attempts = delivery.attempts() + 1;
+        final String error = StringUtils.abbreviate(e.getMessage(), MAX_ERROR_LENGTH);
+        if (attempts >= properties.getMaxAttempts()) {
+            return new WebHookDeliveryOutbox.FailedAttempt(delivery.id(), WebHookDeliveryOutbox.STATUS_FAILED, attempts, null, error);
+        }
+        return new WebHookDeliveryOutbox.FailedAttempt(delivery.id(), WebHookDeliveryOutbox.STATUS_PENDING, attempts,
+                now().plusSeconds(backoffInSeconds(attempts, properties)), error);
+    }
+
+    static long backoffInSeconds(final int attempts, final FineractProperties.FineractHooksDeliveryProperties properties) {
+        final long backoff = (long) properties.getInitialBackoffInSeconds() << Math.min(attempts - 1, 30);
+        return Math.min(backoff, properties.getMaxBackoffInSeconds());
+    }
+
+    private void recordRequest(final String tenantIdentifier, final String outcome, final long startedAt) {
+        meterRegistry.ifPresent(registry -> Timer.builder("fineract.hooks.delivery.request") //
+                .description("Web hook request time") //
+                .tag("tenant", tenantIdentifier) //
+                .tag("outcome", outcome) //
+                .register(registry) //
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    }
+
+    private void recordLatency(final String tenantIdentifier, final WebHookDelivery delivery) {
+        meterRegistry.ifPresent(registry -> Timer.builder("fineract.hooks.delivery.latency") //
+                .description("Time between storing a web hook delivery and its successful delivery") //
+                .tag("tenant", tenantIdentifier) //
+                .register(registry) //
+                .record(Duration.between(delivery.createdOn(), DateUtils.getAuditOffsetDateTime())));
+    }
+
+    private static OffsetDateTime now() {
+        // the claim compares the next attempt with the stored one, so it is kept within the precision of the column
+        return DateUtils.getAuditOffsetDateTime().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private OffsetDateTime leaseUntil(final OffsetDateTime now) {
+        return now.plusSeconds(getDeliveryProperties().getInitialBackoffInSeconds());
+    }
+
+    private FineractProperties.FineractHooksDeliveryProperties getDeliveryProperties() {
+        return fineractProperties.getHooks().getDelivery();
+    }
+
+    private record QueuedDelivery(WebHookDelivery delivery, FineractContext context) {
+    }
+
+    private static final class HookQueue {
+
+        private final BlockingQueue<QueuedDelivery> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private HookQueue(BlockingQueue<QueuedDelivery> queue) {
+            this.queue = queue;
+        }
+    }
+}
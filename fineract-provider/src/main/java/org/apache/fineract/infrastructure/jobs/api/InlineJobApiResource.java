@@ -27,18 +27,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.data.InlineLoanCOBExecutionData;
 import org.apache.fineract.cob.data.LoanIdsResponseDTO;
+import org.apache.fineract.cob.exceptions.InlineLoanCOBExecutionNotFoundException;
+import org.apache.fineract.cob.service.InlineLoanCOBExecutionTracker;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
 import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.serialization.DefaultToApiJsonSerializer;
+import org.apache.fineract.infrastructure.jobs.service.InlineJobType;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.springframework.stereotype.Component;
 
 @Path("/v1/jobs")
@@ -47,8 +53,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class InlineJobApiResource {
 
+    private static final String INLINE_JOB_RESOURCE_NAME = "INLINE_JOB";
+
     private final PortfolioCommandSourceWritePlatformService commandWritePlatformService;
     private final DefaultToApiJsonSerializer<LoanIdsResponseDTO> serializer;
+    private final DefaultToApiJsonSerializer<InlineLoanCOBExecutionData> executionSerializer;
+    private final PlatformSecurityContext context;
+    private final InlineLoanCOBExecutionTracker executionTracker;
 
     @POST
     @Path("{jobName}/inline")
@@ -66,4 +77,20 @@ public class InlineJobApiResource {
         CommandProcessingResult result = commandWritePlatformService.logCommandSource(commandRequest);
         return serializer.serialize(result);
     }
+
+    @GET
+    @Path("{jobName}/inline/executions/{executionId}")
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Operation(summary = "Retrieves an inline Job execution", description = "Retrieves the loan outcomes of a chunked inline Job")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = InlineJobResourceSwagger.InlineJobExecutionResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Execution not found") })
+    public String retrieveInlineJobExecution(@PathParam("jobName") @Parameter(description = "jobName") final String jobName,
+            @PathParam("executionId") @Parameter(description = "executionId") final Long executionId) {
+        context.authenticatedUser().validateHasReadPermission(INLINE_JOB_RESOURCE_NAME);
+        String inlineJobName = InlineJobType.getInlineJobType(jobName).getInlineJobName();
+        InlineLoanCOBExecutionData execution = executionTracker.retrieve(inlineJobName, executionId)
+                .orElseThrow(() -> new InlineLoanCOBExecutionNotFoundException(executionId));
+        return executionSerializer.serialize(execution);
+    }
 }
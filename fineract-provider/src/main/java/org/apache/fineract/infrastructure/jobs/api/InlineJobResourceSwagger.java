@@ -19,6 +19,7 @@
 package org.apache.fineract.infrastructure.jobs.api;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 final class InlineJobResourceSwagger {
@@ -31,6 +32,8 @@ final class InlineJobResourceSwagger {
         private InlineJobRequest() {}
 
         public List<Long> loanIds;
+        @Schema(description = "Executes the loans in chunks in the background, the response holds the id of the execution as resourceId")
+        public Boolean chunked;
     }
 
     @Schema(description = "InlineJobResponse")
@@ -41,4 +44,32 @@ final class InlineJobResourceSwagger {
         public List<Long> loanIds;
 
     }
+
+    @Schema(description = "InlineJobExecutionResponse")
+    public static final class InlineJobExecutionResponse {
+
+        private InlineJobExecutionResponse() {}
+
+        static final class InlineJobLoanOutcome {
+
+            private InlineJobLoanOutcome() {}
+
+            public Long loanId;
+            @Schema(example = "SUCCEEDED")
+            public String status;
+            public String errorMessage;
+        }
+
+        public Long executionId;
+        @Schema(example = "INLINE_LOAN_COB")
+        public String jobName;
+        @Schema(example = "RUNNING")
+        public String status;
+        public OffsetDateTime createdOn;
+        public OffsetDateTime completedOn;
+        public Integer loanCount;
+        public Integer succeededCount;
+        public Integer failedCount;
+        public List<InlineJobLoanOutcome> loans;
+    }
 }
@@ -0,0 +1,159 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import static org.apache.fineract.batch.command.CommandStrategyUtils.isRelativeUrlVersioned;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.batch.domain.BatchRequest;
+import org.apache.fineract.cob.savings.SavingsLockingService;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
+import org.apache.fineract.infrastructure.jobs.exception.SavingsAccountIdsHardLockedException;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepository;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the savings accounts changed by a request and rejects it while any of them is locked by the savings COB, like
+ * {@link LoanCOBFilterHelper} does for the loans.
+ */
+@RequiredArgsConstructor
+@Component
+public class SavingsCOBFilterHelper implements InitializingBean {
+
+    private final SavingsLockingService savingsLockingService;
+    private final PlatformSecurityContext context;
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final List<HttpMethod> HTTP_METHODS = List.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE);
+
+    public static final Pattern SAVINGS_PATH_PATTERN = Pattern
+            .compile("/v[1-9][0-9]*/(?:savingsaccounts|fixeddepositaccounts|recurringdepositaccounts)/(external-id/)?([^/?]+).*");
+
+    public boolean isOnApiList(BodyCachingHttpServletRequestWrapper request) throws IOException {
+        String pathInfo = request.getPathInfo();
+        String method = request.getMethod();
+        if (StringUtils.isBlank(pathInfo)) {
+            return false;
+        }
+        if (isBatchApi(pathInfo)) {
+            for (BatchRequest batchRequest : getBatchRequests(request)) {
+                if (isApiMatching(batchRequest.getMethod(), batchRequest.getRelativeUrl())) {
+                    return true;
+                }
+            }
+            return false;
+        } else {
+            return isApiMatching(method, pathInfo);
+        }
+    }
+
+    public boolean isBypassUser() {
+        return context.authenticatedUser().isBypassUser();
+    }
+
+    /**
+     * Checks the savings accounts referenced by the request.
+     *
+     * @throws SavingsAccountIdsHardLockedException
+     *             when one of them is locked by the savings COB and the lock is not left behind by a failed COB run
+     */
+    public void checkRelevantSavingsAccountsNotLocked(BodyCachingHttpServletRequestWrapper request) throws IOException {
+        String pathInfo = request.getPathInfo();
+        List<Long> savingsAccountIds = new ArrayList<>();
+        if (isBatchApi(pathInfo)) {
+            for (BatchRequest batchRequest : getBatchRequests(request)) {
+                String relativeUrl = batchRequest.getRelativeUrl();
+                // if resourceId reference is used, we don't know the resourceId without executing the requests first
+                if (isApiMatching(batchRequest.getMethod(), relativeUrl) && !relativeUrl.contains("$.resourceId")) {
+                    addSavingsAccountId(savingsAccountIds, getSavingsAccountId(relativeUrl));
+                }
+            }
+        } else {
+            addSavingsAccountId(savingsAccountIds, getSavingsAccountId(pathInfo));
+        }
+        for (Long savingsAccountId : savingsAccountIds) {
+            if (savingsLockingService.isSavingsAccountHardLocked(savingsAccountId)
+                    && !savingsLockingService.isLockOverrulable(savingsAccountId)) {
+                throw new SavingsAccountIdsHardLockedException(savingsAccountId);
+            }
+        }
+    }
+
+    private static void addSavingsAccountId(List<Long> savingsAccountIds, Long savingsAccountId) {
+        if (savingsAccountId != null) {
+            savingsAccountIds.add(savingsAccountId);
+        }
+    }
+
+    private Long getSavingsAccountId(String pathInfo) {
+        Matcher matcher = SAVINGS_PATH_PATTERN.matcher(pathInfo);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String id = matcher.group(2);
+        if (matcher.group(1) != null) {
+            return savingsAccountRepository.findIdByExternalId(new ExternalId(id));
+        } else if (StringUtils.isNumeric(id)) {
+            return Long.valueOf(id);
+        } else {
+            return null;
+        }
+    }
+
+    private List<BatchRequest> getBatchRequests(BodyCachingHttpServletRequestWrapper request) throws IOException {
+        List<BatchRequest> batchRequests = objectMapper.readValue(request.getInputStream(), new TypeReference<>() {});
+        // since we read body, we have to reset so the upcoming readings are successful
+        request.resetStream();
+        for (BatchRequest batchRequest : batchRequests) {
+            String pathInfo = "/" + batchRequest.getRelativeUrl();
+            if (!isRelativeUrlVersioned(batchRequest.getRelativeUrl())) {
+                pathInfo = "/v1/" + batchRequest.getRelativeUrl();
+            }
+            batchRequest.setRelativeUrl(pathInfo);
+        }
+        return batchRequests;
+    }
+
+    private static boolean isApiMatching(String method, String pathInfo) {
+        return HTTP_METHODS.contains(HttpMethod.valueOf(method)) && SAVINGS_PATH_PATTERN.matcher(pathInfo).matches();
+    }
+
+    private static boolean isBatchApi(String pathInfo) {
+        return pathInfo.startsWith("/v1/batches");
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+    }
+}
@@ -18,11 +18,13 @@
  */
 package org.apache.fineract.infrastructure.jobs.service.updatenpa;
 
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
 import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceServiceFactory;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -50,6 +52,10 @@ public class UpdateNpaConfig {
 
     @Autowired
     private PlatformSecurityContext platformSecurityContext;
+    @Autowired
+    private LoanArrearsAgeingTracker loanArrearsAgeingTracker;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     protected Step updateNpaStep() {
@@ -63,6 +69,7 @@ public class UpdateNpaConfig {
 
     @Bean
     public UpdateNpaTasklet updateNpaTasklet() {
-        return new UpdateNpaTasklet(dataSourceServiceFactory, databaseTypeResolver, sqlGenerator, platformSecurityContext);
+        return new UpdateNpaTasklet(dataSourceServiceFactory, databaseTypeResolver, sqlGenerator, platformSecurityContext,
+                loanArrearsAgeingTracker, fineractProperties);
     }
 }
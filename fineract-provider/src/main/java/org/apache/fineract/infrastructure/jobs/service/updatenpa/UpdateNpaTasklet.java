@@ -18,21 +18,37 @@
  */
 package org.apache.fineract.infrastructure.jobs.service.updatenpa;
 
+import com.google.common.collect.Lists;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
 import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceServiceFactory;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingLoans;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingQueue;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+/**
+ * Updates the NPA flag of the active loans. In incremental mode only the loans whose arrears ageing was recalculated
+ * since the last run and the loans whose overdue since date crossed the NPA threshold since the last run are updated.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class UpdateNpaTasklet implements Tasklet {
@@ -41,29 +57,66 @@ public class UpdateNpaTasklet implements Tasklet {
     private final DatabaseTypeResolver databaseTypeResolver;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final PlatformSecurityContext context;
+    private final LoanArrearsAgeingTracker loanArrearsAgeingTracker;
+    private final FineractProperties fineractProperties;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         AppUser user = context.getAuthenticatedUserIfPresent();
         final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSourceServiceFactory.determineDataSourceService().retrieveDataSource());
+        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final PendingLoans pendingLoans = loanArrearsAgeingTracker.findPending(PendingQueue.NPA);
+        final Optional<LocalDate> incrementalStartDate = loanArrearsAgeingTracker.findIncrementalStartDate(JobName.UPDATE_NPA,
+                businessDate);
+
+        int result = 0;
+        if (incrementalStartDate.isEmpty()) {
+            result = updateNpa(namedJdbcTemplate, user, null);
+        } else {
+            final TreeSet<Long> loanIds = new TreeSet<>(pendingLoans.loanIds());
+            loanIds.addAll(retrieveLoansReachingNpaSince(jdbcTemplate, incrementalStartDate.get()));
+            for (List<Long> batch : Lists.partition(List.copyOf(loanIds), fineractProperties.getQuery().getInClauseParameterSizeLimit())) {
+                result += updateNpa(namedJdbcTemplate, user, batch);
+            }
+        }
+        loanArrearsAgeingTracker.deletePending(PendingQueue.NPA, pendingLoans);
+        loanArrearsAgeingTracker.saveCheckpoint(JobName.UPDATE_NPA, businessDate, incrementalStartDate.isEmpty());
+
+        log.debug("{}: Records affected by updateNPA: {}", ThreadLocalContextUtil.getTenant().getName(), result);
+        return RepeatStatus.FINISHED;
+    }
+
+    private List<Long> retrieveLoansReachingNpaSince(final JdbcTemplate jdbcTemplate, final LocalDate lastBusinessDate) {
+        final String sql = "select laa.loan_id FROM m_loan_arrears_aging laa INNER JOIN m_loan loan on laa.loan_id = loan.id "
+                + "INNER JOIN m_product_loan mpl on mpl.id = loan.product_id AND mpl.overdue_days_for_npa is not null "
+                + "WHERE loan.loan_status_id = 300 and laa.overdue_since_date_derived < "
+                + sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(mpl.overdue_days_for_npa, 0)", "day")
+                + " and laa.overdue_since_date_derived >= " + sqlGenerator.subDate("?", "COALESCE(mpl.overdue_days_for_npa, 0)", "day");
+        return jdbcTemplate.queryForList(sql, Long.class, lastBusinessDate);
+    }
+
+    private int updateNpa(final NamedParameterJdbcTemplate namedJdbcTemplate, final AppUser user, final List<Long> loanIds) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("userId", user.getId())
+                .addValue("modifiedOn", DateUtils.getAuditOffsetDateTime()).addValue("loanIds", loanIds);
 
         final StringBuilder resetNPASqlBuilder = new StringBuilder();
         resetNPASqlBuilder.append("update m_loan loan ");
         String fromPart = " (SELECT loan2.* FROM m_loan loan2 left join m_loan_arrears_aging laa on laa.loan_id = loan2.id "
                 + "inner join m_product_loan mpl on mpl.id = loan2.product_id and mpl.overdue_days_for_npa is not null "
-                + "WHERE loan2.loan_status_id = 300 and mpl.account_moves_out_of_npa_only_on_arrears_completion = false"
+                + "WHERE (loan2.loan_status_id = 300 and mpl.account_moves_out_of_npa_only_on_arrears_completion = false"
                 + " or (mpl.account_moves_out_of_npa_only_on_arrears_completion = true"
-                + " and laa.overdue_since_date_derived is null)) sl";
+                + " and laa.overdue_since_date_derived is null))" + (loanIds == null ? "" : " and loan2.id IN (:loanIds)") + ") sl";
         String wherePart = " where loan.id = sl.id ";
 
         if (databaseTypeResolver.isMySQL()) {
             resetNPASqlBuilder.append(", ").append(fromPart).append(" set loan.is_npa = false")
-                    .append(", loan.last_modified_by = ?, loan.last_modified_on_utc = ? ").append(wherePart);
+                    .append(", loan.last_modified_by = :userId, loan.last_modified_on_utc = :modifiedOn ").append(wherePart);
         } else {
-            resetNPASqlBuilder.append("set is_npa = false").append(", last_modified_by = ?, last_modified_on_utc = ? ").append(" FROM ")
-                    .append(fromPart).append(wherePart);
+            resetNPASqlBuilder.append("set is_npa = false").append(", last_modified_by = :userId, last_modified_on_utc = :modifiedOn ")
+                    .append(" FROM ").append(fromPart).append(wherePart);
         }
-        jdbcTemplate.update(resetNPASqlBuilder.toString(), user.getId(), DateUtils.getAuditOffsetDateTime());
+        namedJdbcTemplate.update(resetNPASqlBuilder.toString(), parameters);
 
         final StringBuilder updateSqlBuilder = new StringBuilder(900);
 
@@ -71,20 +124,17 @@ public class UpdateNpaTasklet implements Tasklet {
                 + " INNER JOIN m_product_loan mpl on mpl.id = loan.product_id AND mpl.overdue_days_for_npa is not null "
                 + "WHERE loan.loan_status_id = 300 and " + "laa.overdue_since_date_derived < "
                 + sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(mpl.overdue_days_for_npa, 0)", "day")
-                + " group by loan.id) as sl ";
+                + (loanIds == null ? "" : " and loan.id IN (:loanIds)") + " group by loan.id) as sl ";
         wherePart = " where ml.id=sl.id ";
         updateSqlBuilder.append("UPDATE m_loan as ml ");
         if (databaseTypeResolver.isMySQL()) {
             updateSqlBuilder.append(", ").append(fromPart).append(" SET ml.is_npa = true")
-                    .append(", ml.last_modified_by = ?, ml.last_modified_on_utc = ? ").append(wherePart);
+                    .append(", ml.last_modified_by = :userId, ml.last_modified_on_utc = :modifiedOn ").append(wherePart);
         } else {
-            updateSqlBuilder.append(" SET is_npa = true").append(", last_modified_by = ?, last_modified_on_utc = ? ").append(" FROM ")
-                    .append(fromPart).append(wherePart);
+            updateSqlBuilder.append(" SET is_npa = true").append(", last_modified_by = :userId, last_modified_on_utc = :modifiedOn ")
+                    .append(" FROM ").append(fromPart).append(wherePart);
         }
 
-        final int result = jdbcTemplate.update(updateSqlBuilder.toString(), user.getId(), DateUtils.getAuditOffsetDateTime());
-
-        log.debug("{}: Records affected by updateNPA: {}", ThreadLocalContextUtil.getTenant().getName(), result);
-        return RepeatStatus.FINISHED;
+        return namedJdbcTemplate.update(updateSqlBuilder.toString(), parameters);
     }
 }
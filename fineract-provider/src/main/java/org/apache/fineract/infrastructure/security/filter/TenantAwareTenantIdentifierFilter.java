@@ -130,7 +130,9 @@ public class TenantAwareTenantIdentifierFilter extends GenericFilterBean {
                     System.setProperty("baseUrl", baseUrl);
 
                     final boolean ehcacheEnabled = configurationDomainService.isEhcacheEnabled();
-                    if (ehcacheEnabled) {
+                    if (configurationDomainService.isDistributedCacheEnabled()) {
+                        cacheWritePlatformService.switchToCache(CacheType.MULTI_NODE);
+                    } else if (ehcacheEnabled) {
                         cacheWritePlatformService.switchToCache(CacheType.SINGLE_NODE);
                     } else {
                         cacheWritePlatformService.switchToCache(CacheType.NO_CACHE);
@@ -26,6 +26,8 @@ public interface PropertyService {
 
     Integer getRetryLimit(String jobName);
 
+    Integer getSkipLimit(String jobName);
+
     Integer getThreadPoolCorePoolSize(String jobName);
 
     Integer getThreadPoolMaxPoolSize(String jobName);
@@ -33,4 +35,8 @@ public interface PropertyService {
     Integer getThreadPoolQueueCapacity(String jobName);
 
     Integer getPollInterval(String jobName);
+
+    Boolean getCostBalancedPartitioning(String jobName);
+
+    Boolean getPrefetchEnabled(String jobName);
 }
@@ -45,6 +45,12 @@ public class PropertyServiceImpl implements PropertyService {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getRetryLimit);
     }
 
+    @Override
+    public Integer getSkipLimit(String jobName) {
+        // nothing is skipped unless the job is configured to
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getSkipLimit, 0);
+    }
+
     @Override
     public Integer getThreadPoolCorePoolSize(String jobName) {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getThreadPoolCorePoolSize);
@@ -65,13 +71,27 @@ public class PropertyServiceImpl implements PropertyService {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPollInterval);
     }
 
+    @Override
+    public Boolean getCostBalancedPartitioning(String jobName) {
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getCostBalancedPartitioning, false);
+    }
+
+    @Override
+    public Boolean getPrefetchEnabled(String jobName) {
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPrefetchEnabled, false);
+    }
+
     private Integer getProperty(String jobName, Function<? super FineractProperties.PartitionedJobProperty, Integer> function) {
+        return getProperty(jobName, function, 1);
+    }
+
+    private <T> T getProperty(String jobName, Function<? super FineractProperties.PartitionedJobProperty, T> function, T defaultValue) {
         List<FineractProperties.PartitionedJobProperty> jobProperties = fineractProperties.getPartitionedJob()
                 .getPartitionedJobProperties();
         return jobProperties.stream() //
                 .filter(jobProperty -> jobName.equals(jobProperty.getJobName())) //
                 .findFirst() //
                 .map(function) //
-                .orElse(1);
+                .orElse(defaultValue);
     }
 }
@@ -38,6 +38,7 @@ import org.apache.fineract.organisation.monetary.serialization.CurrencyCommandFr
 import org.apache.fineract.portfolio.charge.service.ChargeReadPlatformService;
 import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
 import org.apache.fineract.portfolio.savings.service.SavingsProductReadPlatformService;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -53,6 +54,7 @@ public class CurrencyWritePlatformServiceJpaRepositoryImpl implements CurrencyWr
 
     @Transactional
     @Override
+    @CacheEvict(value = "currencies", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('oc')")
     public CommandProcessingResult updateAllowedCurrencies(final JsonCommand command) {
 
         this.context.authenticatedUser();
@@ -22,6 +22,7 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
 import org.apache.fineract.organisation.monetary.domain.OrganisationCurrencyRepository;
 import org.apache.fineract.organisation.monetary.serialization.CurrencyCommandFromApiJsonDeserializer;
+import org.apache.fineract.organisation.monetary.service.AllowedCurrencyReadService;
 import org.apache.fineract.organisation.monetary.service.CurrencyReadPlatformService;
 import org.apache.fineract.organisation.monetary.service.CurrencyReadPlatformServiceImpl;
 import org.apache.fineract.organisation.monetary.service.CurrencyWritePlatformService;
@@ -39,10 +40,17 @@ import org.springframework.jdbc.core.JdbcTemplate;
 @Configuration
 public class OrganisationMonetaryConfiguration {
 
+    @Bean
+    @ConditionalOnMissingBean(AllowedCurrencyReadService.class)
+    public AllowedCurrencyReadService allowedCurrencyReadService(JdbcTemplate jdbcTemplate) {
+        return new AllowedCurrencyReadService(jdbcTemplate);
+    }
+
     @Bean
     @ConditionalOnMissingBean(CurrencyReadPlatformService.class)
-    public CurrencyReadPlatformService currencyReadPlatformService(PlatformSecurityContext context, JdbcTemplate jdbcTemplate) {
-        return new CurrencyReadPlatformServiceImpl(context, jdbcTemplate);
+    public CurrencyReadPlatformService currencyReadPlatformService(PlatformSecurityContext context, JdbcTemplate jdbcTemplate,
+            AllowedCurrencyReadService allowedCurrencyReadService) {
+        return new CurrencyReadPlatformServiceImpl(context, jdbcTemplate, allowedCurrencyReadService);
     }
 
     @Bean
@@ -18,6 +18,9 @@
  */
 package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
 
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
@@ -32,7 +35,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 public class ExecuteStandingInstructionsConfig {
@@ -49,6 +55,8 @@ public class ExecuteStandingInstructionsConfig {
     private DatabaseSpecificSQLGenerator sqlGenerator;
     @Autowired
     private AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     protected Step executeStandingInstructionsStep() {
@@ -64,7 +72,24 @@ public class ExecuteStandingInstructionsConfig {
 
     @Bean
     public ExecuteStandingInstructionsTasklet executeStandingInstructionsTasklet() {
+        // every transfer and history batch commits on its own, a failed transfer must not roll back the others
+        TransactionTemplate transferTransactionTemplate = new TransactionTemplate(transactionManager);
+        transferTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         return new ExecuteStandingInstructionsTasklet(standingInstructionReadPlatformService, jdbcTemplate, sqlGenerator,
-                accountTransfersWritePlatformService);
+                accountTransfersWritePlatformService, transferTransactionTemplate, executeStandingInstructionsTaskExecutor());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor executeStandingInstructionsTaskExecutor() {
+        // every transfer group is submitted at once, so the queue is unbounded and the pool size limits the parallel groups
+        int poolSize = Math.max(1, fineractProperties.getJob().getStandingInstructionThreads());
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("execute-standing-instructions-");
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setTaskDecorator(new ContextAwareTaskDecorator(true));
+        VirtualThreadSupport.configure(taskExecutor, fineractProperties, "execute-standing-instructions-");
+        return taskExecutor;
     }
 }
@@ -21,21 +21,29 @@ package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.exception.AbstractPlatformServiceUnavailableException;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
 import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
 import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
-import org.apache.fineract.portfolio.account.domain.StandingInstructionStatus;
 import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
 import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
 import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
@@ -49,90 +57,223 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Executes the standing instructions due on the business date. The candidates are selected in SQL and the dues of the
+ * target loans are fetched together. A later instruction into a loan that already receives a transfer reads the dues
+ * again right before it runs, the earlier transfer changes them. Transfers sharing an account run one after the other in
+ * priority order, the independent groups run on the threads of the job's executor and every transfer commits on its own
+ * together with the last run date of its instruction. The history rows are written in batches, each in its own
+ * transaction, so they are kept when the step fails.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class ExecuteStandingInstructionsTasklet implements Tasklet {
 
+    private static final int HISTORY_BATCH_SIZE = 500;
+
+    // loans without an unpaid installment due have no dues
+    private static final StandingInstructionDuesData NO_DUES = new StandingInstructionDuesData(null, BigDecimal.ZERO);
+
+    private static final String UPDATE_LAST_RUN_DATE_SQL = """
+                UPDATE m_account_transfer_standing_instructions SET last_run_date = ? where id = ?
+            """;
+
     private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
     private final JdbcTemplate jdbcTemplate;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    // starts a new transaction, used for every transfer and every history batch
+    private final TransactionTemplate transactionTemplate;
+    // runs the tasks as the job user in the tenant of the job
+    private final ThreadPoolTaskExecutor taskExecutor;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        Collection<StandingInstructionData> instructionData = standingInstructionReadPlatformService
-                .retrieveAll(StandingInstructionStatus.ACTIVE.getValue());
-        List<Throwable> errors = new ArrayList<>();
-        for (StandingInstructionData data : instructionData) {
-            boolean isDueForTransfer = false;
-            AccountTransferRecurrenceType recurrenceType = data.recurrenceType();
-            StandingInstructionType instructionType = data.instructionType();
-            LocalDate transactionDate = DateUtils.getBusinessLocalDate();
-            if (recurrenceType.isPeriodicRecurrence()) {
-                final ScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
-                PeriodFrequencyType frequencyType = data.recurrenceFrequency();
-                LocalDate startDate = data.validFrom();
-                if (frequencyType.isMonthly()) {
-                    startDate = startDate.withDayOfMonth(data.recurrenceOnDay());
-                    if (DateUtils.isBefore(startDate, data.validFrom())) {
-                        startDate = startDate.plusMonths(1);
-                    }
-                } else if (frequencyType.isYearly()) {
-                    startDate = startDate.withDayOfMonth(data.recurrenceOnDay()).withMonth(data.recurrenceOnMonth());
-                    if (DateUtils.isBefore(startDate, data.validFrom())) {
-                        startDate = startDate.plusYears(1);
-                    }
-                }
-                isDueForTransfer = scheduledDateGenerator.isDateFallsInSchedule(frequencyType, data.recurrenceInterval(), startDate,
-                        transactionDate);
+        final LocalDate transactionDate = DateUtils.getBusinessLocalDate();
+        final List<StandingInstructionData> instructionData = new ArrayList<>(
+                standingInstructionReadPlatformService.retrieveAllDueForTransfer(transactionDate));
+        final boolean[] isDueForPeriodicTransfer = new boolean[instructionData.size()];
+        final List<Long> loanIds = new ArrayList<>();
+        for (int i = 0; i < instructionData.size(); i++) {
+            final StandingInstructionData data = instructionData.get(i);
+            isDueForPeriodicTransfer[i] = isDueForPeriodicTransfer(data, transactionDate);
+            if (isLoanDuesNeeded(data, isDueForPeriodicTransfer[i])) {
+                loanIds.add(data.toAccount().getId());
+            }
+        }
+        final Map<Long, StandingInstructionDuesData> loanDues = loanIds.isEmpty() ? Map.of()
+                : standingInstructionReadPlatformService.retrieveLoanDuesData(loanIds);
 
+        final List<StandingInstructionTransfer> transfers = new ArrayList<>();
+        final Set<Long> loansWithTransfer = new HashSet<>();
+        for (int i = 0; i < instructionData.size(); i++) {
+            final StandingInstructionData data = instructionData.get(i);
+            final boolean isDueForTransfer = isDueForPeriodicTransfer[i];
+            if (isLoanDuesNeeded(data, isDueForTransfer) && loansWithTransfer.contains(data.toAccount().getId())) {
+                // the earlier transfer into the loan changes its dues, they are read again once it is done
+                transfers.add(
+                        new StandingInstructionTransfer(data.getId(), toAccountTransferDTO(data, transactionDate, data.amount()), data));
+                continue;
             }
-            BigDecimal transactionAmount = data.amount();
-            if (data.toAccountType().isLoanAccount()
-                    && (recurrenceType.isDuesRecurrence() || (isDueForTransfer && instructionType.isDuesAmoutTransfer()))) {
-                StandingInstructionDuesData standingInstructionDuesData = standingInstructionReadPlatformService
-                        .retriveLoanDuesData(data.toAccount().getId());
-                if (data.instructionType().isDuesAmoutTransfer()) {
-                    transactionAmount = standingInstructionDuesData.totalDueAmount();
-                }
-                if (recurrenceType.isDuesRecurrence()) {
-                    isDueForTransfer = isDueForTransfer(standingInstructionDuesData);
+            final AccountTransferDTO accountTransferDTO = isLoanDuesNeeded(data, isDueForTransfer)
+                    ? toLoanDuesTransferDTO(data, loanDues.getOrDefault(data.toAccount().getId(), NO_DUES), transactionDate)
+                    : toTransferDTO(data, isDueForTransfer, data.amount(), transactionDate);
+            if (accountTransferDTO != null) {
+                transfers.add(new StandingInstructionTransfer(data.getId(), accountTransferDTO, null));
+                if (data.toAccountType().isLoanAccount()) {
+                    loansWithTransfer.add(data.toAccount().getId());
                 }
             }
+        }
 
-            if (isDueForTransfer && transactionAmount != null && transactionAmount.compareTo(BigDecimal.ZERO) > 0) {
-                final SavingsAccount fromSavingsAccount = null;
-                final boolean isRegularTransaction = true;
-                final boolean isExceptionForBalanceCheck = false;
-                AccountTransferDTO accountTransferDTO = new AccountTransferDTO(transactionDate, transactionAmount, data.fromAccountType(),
-                        data.toAccountType(), data.fromAccount().getId(), data.toAccount().getId(),
-                        data.name() + " Standing instruction trasfer ", null, null, null, null, data.toTransferType(), null, null,
-                        data.transferType().getValue(), null, null, ExternalId.empty(), null, null, fromSavingsAccount,
-                        isRegularTransaction, isExceptionForBalanceCheck);
-                final boolean transferCompleted = transferAmount(errors, accountTransferDTO, data.getId());
-
-                if (transferCompleted) {
-                    final String updateQuery = "UPDATE m_account_transfer_standing_instructions SET last_run_date = ? where id = ?";
-                    jdbcTemplate.update(updateQuery, transactionDate, data.getId());
-                }
-
+        final long startedAt = System.nanoTime();
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger transferred = new AtomicInteger();
+        final StandingInstructionHistoryWriter historyWriter = new StandingInstructionHistoryWriter(jdbcTemplate, transactionTemplate,
+                sqlGenerator, HISTORY_BATCH_SIZE);
+        final List<List<StandingInstructionTransfer>> groups = groupByAccounts(transfers);
+        final List<Future<?>> results = new ArrayList<>(groups.size());
+        try {
+            for (List<StandingInstructionTransfer> group : groups) {
+                results.add(taskExecutor.submit(() -> {
+                    for (StandingInstructionTransfer transfer : group) {
+                        final AccountTransferDTO accountTransferDTO = transfer.loanDuesInstruction() == null
+                                ? transfer.accountTransferDTO()
+                                : toLoanDuesTransferDTO(transfer.loanDuesInstruction(), transactionDate);
+                        if (accountTransferDTO != null
+                                && transferAmount(errors, historyWriter, accountTransferDTO, transfer.instructionId())) {
+                            transferred.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
             }
+        } finally {
+            // no-op for the finished groups, stops the others if a group failed
+            results.forEach(result -> result.cancel(true));
+            historyWriter.flush();
         }
+        contribution.incrementWriteCount(transferred.get());
+
+        final long millis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), 1L);
+        log.info("{}: {} standing instructions transferred in {} groups on {} threads in {} ms, {} failed",
+                ThreadLocalContextUtil.getTenant().getName(), transferred.get(), groups.size(), taskExecutor.getMaxPoolSize(), millis,
+                errors.size());
         if (!errors.isEmpty()) {
             throw new JobExecutionException(errors);
         }
         return RepeatStatus.FINISHED;
     }
 
-    private boolean transferAmount(final List<Throwable> errors, final AccountTransferDTO accountTransferDTO, final Long instructionId) {
-        boolean transferCompleted = true;
+    private boolean isDueForPeriodicTransfer(final StandingInstructionData data, final LocalDate transactionDate) {
+        if (!data.recurrenceType().isPeriodicRecurrence()) {
+            return false;
+        }
+        final ScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+        PeriodFrequencyType frequencyType = data.recurrenceFrequency();
+        LocalDate startDate = data.validFrom();
+        if (frequencyType.isMonthly()) {
+            startDate = startDate.withDayOfMonth(data.recurrenceOnDay());
+            if (DateUtils.isBefore(startDate, data.validFrom())) {
+                startDate = startDate.plusMonths(1);
+            }
+        } else if (frequencyType.isYearly()) {
+            startDate = startDate.withDayOfMonth(data.recurrenceOnDay()).withMonth(data.recurrenceOnMonth());
+            if (DateUtils.isBefore(startDate, data.validFrom())) {
+                startDate = startDate.plusYears(1);
+            }
+        }
+        return scheduledDateGenerator.isDateFallsInSchedule(frequencyType, data.recurrenceInterval(), startDate, transactionDate);
+    }
+
+    private AccountTransferDTO toLoanDuesTransferDTO(final StandingInstructionData data, final LocalDate transactionDate) {
+        final Long loanId = data.toAccount().getId();
+        final StandingInstructionDuesData standingInstructionDuesData = standingInstructionReadPlatformService
+                .retrieveLoanDuesData(List.of(loanId)).getOrDefault(loanId, NO_DUES);
+        return toLoanDuesTransferDTO(data, standingInstructionDuesData, transactionDate);
+    }
+
+    private AccountTransferDTO toLoanDuesTransferDTO(final StandingInstructionData data,
+            final StandingInstructionDuesData standingInstructionDuesData, final LocalDate transactionDate) {
+        // instructions into a loan needing its dues are either due by their period or transfer as per dues
+        final BigDecimal transactionAmount = data.instructionType().isDuesAmoutTransfer() ? standingInstructionDuesData.totalDueAmount()
+                : data.amount();
+        final boolean isDueForTransfer = !data.recurrenceType().isDuesRecurrence() || isDueForTransfer(standingInstructionDuesData);
+        return toTransferDTO(data, isDueForTransfer, transactionAmount, transactionDate);
+    }
+
+    private AccountTransferDTO toTransferDTO(final StandingInstructionData data, final boolean isDueForTransfer,
+            final BigDecimal transactionAmount, final LocalDate transactionDate) {
+        if (!isDueForTransfer || transactionAmount == null || transactionAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            return null;
+        }
+        return toAccountTransferDTO(data, transactionDate, transactionAmount);
+    }
+
+    private AccountTransferDTO toAccountTransferDTO(final StandingInstructionData data, final LocalDate transactionDate,
+            final BigDecimal transactionAmount) {
+        final SavingsAccount fromSavingsAccount = null;
+        final boolean isRegularTransaction = true;
+        final boolean isExceptionForBalanceCheck = false;
+        return new AccountTransferDTO(transactionDate, transactionAmount, data.fromAccountType(), data.toAccountType(),
+                data.fromAccount().getId(), data.toAccount().getId(), data.name() + " Standing instruction trasfer ", null, null, null,
+                null, data.toTransferType(), null, null, data.transferType().getValue(), null, null, ExternalId.empty(), null, null,
+                fromSavingsAccount, isRegularTransaction, isExceptionForBalanceCheck);
+    }
+
+    private boolean isLoanDuesNeeded(final StandingInstructionData data, final boolean isDueForTransfer) {
+        AccountTransferRecurrenceType recurrenceType = data.recurrenceType();
+        StandingInstructionType instructionType = data.instructionType();
+        return data.toAccountType().isLoanAccount()
+                && (recurrenceType.isDuesRecurrence() || (isDueForTransfer && instructionType.isDuesAmoutTransfer()));
+    }
+
+    /**
+     * Groups the transfers connected through a source or target account, keeping the priority order within a group. The
+     * transfers of a group must not run concurrently, they would update the same account.
+     */
+    static List<List<StandingInstructionTransfer>> groupByAccounts(final List<StandingInstructionTransfer> transfers) {
+        final int[] parent = new int[transfers.size()];
+        final Map<String, Integer> firstTransferOfAccount = new HashMap<>();
+        for (int i = 0; i < transfers.size(); i++) {
+            parent[i] = i;
+            final AccountTransferDTO accountTransferDTO = transfers.get(i).accountTransferDTO();
+            for (String account : List.of(accountTransferDTO.getFromAccountType() + ":" + accountTransferDTO.getFromAccountId(),
+                    accountTransferDTO.getToAccountType() + ":" + accountTransferDTO.getToAccountId())) {
+                final Integer other = firstTransferOfAccount.putIfAbsent(account, i);
+                if (other != null) {
+                    parent[root(parent, i)] = root(parent, other);
+                }
+            }
+        }
+        final Map<Integer, List<StandingInstructionTransfer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < transfers.size(); i++) {
+            groups.computeIfAbsent(root(parent, i), key -> new ArrayList<>()).add(transfers.get(i));
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static int root(final int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private boolean transferAmount(final List<Throwable> errors, final StandingInstructionHistoryWriter historyWriter,
+            final AccountTransferDTO accountTransferDTO, final Long instructionId) {
         StringBuilder errorLog = new StringBuilder();
-        StringBuilder updateQuery = new StringBuilder(
-                "INSERT INTO m_account_transfer_standing_instructions_history (standing_instruction_id, " + sqlGenerator.escape("status")
-                        + ", amount,execution_time, error_log) VALUES (");
         try {
-            accountTransfersWritePlatformService.transferFunds(accountTransferDTO);
+            transactionTemplate.executeWithoutResult(status -> {
+                accountTransfersWritePlatformService.transferFunds(accountTransferDTO);
+                jdbcTemplate.update(UPDATE_LAST_RUN_DATE_SQL, accountTransferDTO.getTransactionDate(), instructionId);
+            });
         } catch (final PlatformApiDataValidationException e) {
             errors.add(new Exception("Validation exception while transfering funds for standing Instruction id" + instructionId + " from "
                     + accountTransferDTO.getFromAccountId() + " to " + accountTransferDTO.getToAccountId(), e));
@@ -151,17 +292,8 @@ public class ExecuteStandingInstructionsTasklet implements Tasklet {
             errorLog.append("Exception while trasfering funds ").append(e.getMessage());
 
         }
-        updateQuery.append(instructionId).append(",");
-        if (errorLog.length() > 0) {
-            transferCompleted = false;
-            updateQuery.append("'failed'").append(",");
-        } else {
-            updateQuery.append("'success'").append(",");
-        }
-        updateQuery.append(accountTransferDTO.getTransactionAmount().doubleValue());
-        updateQuery.append(", now(),");
-        updateQuery.append("'").append(errorLog).append("')");
-        jdbcTemplate.update(updateQuery.toString());
+        final boolean transferCompleted = errorLog.length() == 0;
+        historyWriter.add(instructionId, transferCompleted, accountTransferDTO.getTransactionAmount(), errorLog.toString());
         return transferCompleted;
     }
 
@@ -169,4 +301,12 @@ public class ExecuteStandingInstructionsTasklet implements Tasklet {
         return standingInstructionDuesData.dueDate() != null
                 && !standingInstructionDuesData.dueDate().isAfter(LocalDate.now(DateUtils.getDateTimeZoneOfTenant()));
     }
+
+    /**
+     * A transfer of the run. The amount and the due state of a transfer with a {@code loanDuesInstruction} are taken from
+     * the dues of its loan read right before it runs, the {@code accountTransferDTO} only places it into its group.
+     */
+    record StandingInstructionTransfer(Long instructionId, AccountTransferDTO accountTransferDTO,
+            StandingInstructionData loanDuesInstruction) {
+    }
 }
@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Collects the history rows of the executed standing instructions from all transfer threads and inserts them with
+ * batch inserts once the batch size is reached. Every batch commits on its own, like the transfers it records, so the
+ * rows of failed transfers are kept when the job fails.
+ */
+public class StandingInstructionHistoryWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String insertSql;
+    private final int batchSize;
+
+    private List<HistoryRow> rows = new ArrayList<>();
+
+    /**
+     * @param transactionTemplate
+     *            starting a new transaction for every batch
+     */
+    public StandingInstructionHistoryWriter(final JdbcTemplate jdbcTemplate, final TransactionTemplate transactionTemplate,
+            final DatabaseSpecificSQLGenerator sqlGenerator, final int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.insertSql = "INSERT INTO m_account_transfer_standing_instructions_history (standing_instruction_id, "
+                + sqlGenerator.escape("status") + ", amount, execution_time, error_log) VALUES (?, ?, ?, ?, ?)";
+        this.batchSize = batchSize;
+    }
+
+    public void add(final Long instructionId, final boolean transferCompleted, final BigDecimal amount, final String errorLog) {
+        final List<HistoryRow> fullBatch;
+        synchronized (this) {
+            rows.add(new HistoryRow(instructionId, transferCompleted ? "success" : "failed", amount, DateUtils.getLocalDateTimeOfSystem(),
+                    errorLog));
+            if (rows.size() < batchSize) {
+                return;
+            }
+            fullBatch = rows;
+            rows = new ArrayList<>();
+        }
+        write(fullBatch);
+    }
+
+    public void flush() {
+        final List<HistoryRow> remainingRows;
+        synchronized (this) {
+            remainingRows = rows;
+            rows = new ArrayList<>();
+        }
+        write(remainingRows);
+    }
+
+    private void write(final List<HistoryRow> historyRows) {
+        if (historyRows.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(insertSql, historyRows, historyRows.size(), (ps, row) -> {
+                ps.setLong(1, row.instructionId());
+                ps.setString(2, row.status());
+                ps.setBigDecimal(3, row.amount());
+                ps.setObject(4, row.executionTime());
+                ps.setString(5, row.errorLog());
+            });
+        });
+    }
+
+    private record HistoryRow(Long instructionId, String status, BigDecimal amount, LocalDateTime executionTime, String errorLog) {
+    }
+}
@@ -18,7 +18,9 @@
  */
 package org.apache.fineract.portfolio.account.service;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
@@ -37,4 +39,16 @@ public interface StandingInstructionReadPlatformService {
 
     StandingInstructionDuesData retriveLoanDuesData(Long loanId);
 
+    /**
+     * Active instructions that can be due on the business date: dues based instructions of loans with an unpaid
+     * installment due and periodic instructions whose recurrence can fall on the date.
+     */
+    Collection<StandingInstructionData> retrieveAllDueForTransfer(LocalDate transactionDate);
+
+    /**
+     * Dues of the unpaid installments due up to the business date, keyed by loan id. Loans without such an installment
+     * are left out.
+     */
+    Map<Long, StandingInstructionDuesData> retrieveLoanDuesData(Collection<Long> loanIds);
+
 }
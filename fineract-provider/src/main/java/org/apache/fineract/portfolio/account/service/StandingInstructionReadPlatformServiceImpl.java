@@ -25,6 +25,7 @@ import static org.apache.fineract.portfolio.account.service.AccountTransferEnume
 import static org.apache.fineract.portfolio.account.service.AccountTransferEnumerations.standingInstructionType;
 import static org.apache.fineract.portfolio.account.service.AccountTransferEnumerations.transferType;
 
+import com.google.common.collect.Lists;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -33,7 +34,10 @@ import java.time.MonthDay;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -58,15 +62,19 @@ import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
 import org.apache.fineract.portfolio.account.exception.AccountTransferNotFoundException;
 import org.apache.fineract.portfolio.client.data.ClientData;
 import org.apache.fineract.portfolio.client.service.ClientReadPlatformService;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
 import org.apache.fineract.portfolio.common.service.CommonEnumerations;
 import org.apache.fineract.portfolio.common.service.DropdownReadPlatformService;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.util.CollectionUtils;
 
 public class StandingInstructionReadPlatformServiceImpl implements StandingInstructionReadPlatformService {
 
+    private static final int LOAN_DUES_BATCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
     private final ColumnValidator columnValidator;
     private final ClientReadPlatformService clientReadPlatformService;
@@ -341,6 +349,32 @@ public class StandingInstructionReadPlatformServiceImpl implements StandingInstr
         return this.jdbcTemplate.query(sqlBuilder.toString(), this.standingInstructionMapper, status);
     }
 
+    @Override
+    public Collection<StandingInstructionData> retrieveAllDueForTransfer(final LocalDate transactionDate) {
+        final String businessDate = sqlGenerator.currentBusinessDate();
+        final String daysSinceValidFrom = sqlGenerator.castInteger(sqlGenerator.dateDiff(businessDate, "atsi.valid_from"));
+        // the monthly and yearly recurrence of a day missing in the month falls on the last day of the month
+        final int lastRecurrenceOnDay = transactionDate.getDayOfMonth() == transactionDate.lengthOfMonth() ? 31
+                : transactionDate.getDayOfMonth();
+        // necessary conditions only, the schedule of the periodic instructions is checked exactly by the caller
+        final String sql = "select " + this.standingInstructionMapper.schema() + " where atsi.status=? and " + businessDate
+                + " >= atsi.valid_from and (atsi.valid_till IS NULL or " + businessDate + " < atsi.valid_till) "
+                + " and (atsi.last_run_date <> " + businessDate + " or atsi.last_run_date IS NULL)"
+                + " and ((atsi.recurrence_type = ? and exists (select ls.id from m_loan_repayment_schedule ls"
+                + " where ls.loan_id = atd.to_loan_account_id and ls.duedate <= " + businessDate + " and ls.completed_derived <> 1))"
+                + " or (atsi.recurrence_type = ? and ((atsi.recurrence_frequency = ? and MOD(" + daysSinceValidFrom
+                + ", atsi.recurrence_interval) = 0)" //
+                + " or (atsi.recurrence_frequency = ? and MOD(" + daysSinceValidFrom + ", 7 * atsi.recurrence_interval) = 0)"
+                + " or (atsi.recurrence_frequency = ? and atsi.recurrence_on_day between ? and ?)"
+                + " or (atsi.recurrence_frequency = ? and atsi.recurrence_on_month = ? and atsi.recurrence_on_day between ? and ?))))"
+                + " ORDER BY atsi.priority DESC";
+        return this.jdbcTemplate.query(sql, this.standingInstructionMapper, StandingInstructionStatus.ACTIVE.getValue(),
+                AccountTransferRecurrenceType.AS_PER_DUES.getValue(), AccountTransferRecurrenceType.PERIODIC.getValue(),
+                PeriodFrequencyType.DAYS.getValue(), PeriodFrequencyType.WEEKS.getValue(), PeriodFrequencyType.MONTHS.getValue(),
+                transactionDate.getDayOfMonth(), lastRecurrenceOnDay, PeriodFrequencyType.YEARS.getValue(),
+                transactionDate.getMonthValue(), transactionDate.getDayOfMonth(), lastRecurrenceOnDay);
+    }
+
     @Override
     public StandingInstructionData retrieveOne(final Long instructionId) {
 
@@ -361,6 +395,20 @@ public class StandingInstructionReadPlatformServiceImpl implements StandingInstr
         return this.jdbcTemplate.queryForObject(sql, rm, new Object[] { loanId }); // NOSONAR
     }
 
+    @Override
+    public Map<Long, StandingInstructionDuesData> retrieveLoanDuesData(final Collection<Long> loanIds) {
+        final StandingInstructionLoanDuesMapper rm = new StandingInstructionLoanDuesMapper();
+        final Map<Long, StandingInstructionDuesData> loanDues = new HashMap<>();
+        for (List<Long> batch : Lists.partition(new ArrayList<>(loanIds), LOAN_DUES_BATCH_SIZE)) {
+            final String sql = "select ls.loan_id as loanId, " + rm.schema() + " where ls.loan_id in ("
+                    + String.join(",", Collections.nCopies(batch.size(), "?")) + ") and ls.duedate <= "
+                    + sqlGenerator.currentBusinessDate() + " and ls.completed_derived <> 1 group by ls.loan_id";
+            this.jdbcTemplate.query(sql, (RowCallbackHandler) rs -> loanDues.put(rs.getLong("loanId"), rm.mapRow(rs, 0)),
+                    batch.toArray());
+        }
+        return loanDues;
+    }
+
     private static final class StandingInstructionMapper implements RowMapper<StandingInstructionData> {
 
         private final String schemaSql;
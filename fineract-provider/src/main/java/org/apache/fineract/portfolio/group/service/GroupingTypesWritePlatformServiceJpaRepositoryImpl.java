@@ -51,6 +51,7 @@ import org.apache.fineract.infrastructure.dataqueries.data.StatusEnum;
 import org.apache.fineract.infrastructure.dataqueries.service.EntityDatatableChecksWritePlatformService;
 import org.apache.fineract.infrastructure.event.business.domain.group.CentersCreateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.group.GroupsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsUpdateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.Office;
@@ -437,13 +438,17 @@ public class GroupingTypesWritePlatformServiceJpaRepositoryImpl implements Group
 
             this.groupRepository.saveAndFlush(groupForUpdate);
 
-            return new CommandProcessingResultBuilder() //
+            final CommandProcessingResult commandProcessingResult = new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
                     .withOfficeId(groupForUpdate.officeId()) //
                     .withGroupId(groupForUpdate.getId()) //
                     .withEntityId(groupForUpdate.getId()) //
                     .with(actualChanges) //
                     .build();
+            if (!actualChanges.isEmpty()) {
+                businessEventNotifierService.notifyPostBusinessEvent(new GroupsUpdateBusinessEvent(commandProcessingResult));
+            }
+            return commandProcessingResult;
 
         } catch (final JpaSystemException | DataIntegrityViolationException dve) {
             handleGroupDataIntegrityIssues(command, dve.getMostSpecificCause(), dve, groupingType);
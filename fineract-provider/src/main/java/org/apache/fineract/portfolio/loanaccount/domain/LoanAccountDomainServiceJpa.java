@@ -84,6 +84,7 @@ import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.group.domain.Group;
 import org.apache.fineract.portfolio.group.exception.GroupNotActiveException;
@@ -157,6 +158,7 @@ public class LoanAccountDomainServiceJpa implements LoanAccountDomainService {
     private final LoanRefundService loanRefundService;
     private final LoanAccountService loanAccountService;
     private final ReprocessLoanTransactionsService reprocessLoanTransactionsService;
+    private final LoanDelinquencyStateService loanDelinquencyStateService;
 
     @Transactional
     @Override
@@ -590,6 +592,9 @@ public class LoanAccountDomainServiceJpa implements LoanAccountDomainService {
 
     @Override
     public void setLoanDelinquencyTag(final Loan loan, final LocalDate transactionDate) {
+        // the loan was changed by the caller, the listeners marking the stored delinquency state as stale only run on the
+        // business events raised after the reclassification
+        loanDelinquencyStateService.markStale(loan.getId());
         LoanScheduleDelinquencyData loanDelinquencyData = new LoanScheduleDelinquencyData(loan.getId(), transactionDate, null, loan);
         final List<LoanDelinquencyAction> savedDelinquencyList = delinquencyReadPlatformService
                 .retrieveLoanDelinquencyActions(loan.getId());
@@ -608,16 +613,7 @@ public class LoanAccountDomainServiceJpa implements LoanAccountDomainService {
 
     @Override
     public void setLoanDelinquencyTag(Loan loan, LocalDate transactionDate, List<LoanDelinquencyActionData> effectiveDelinquencyList) {
-        LoanScheduleDelinquencyData loanDelinquencyData = new LoanScheduleDelinquencyData(loan.getId(), transactionDate, null, loan);
-        loanDelinquencyData = this.delinquencyWritePlatformService.calculateDelinquencyData(loanDelinquencyData, effectiveDelinquencyList);
-        log.debug("Processing Loan {} with {} overdue days since date {}", loanDelinquencyData.getLoanId(),
-                loanDelinquencyData.getOverdueDays(), loanDelinquencyData.getOverdueSinceDate());
-        // Set or Unset the Delinquency Classification Tag
-        if (loanDelinquencyData.getOverdueDays() > 0) {
-            this.delinquencyWritePlatformService.applyDelinquencyTagToLoan(loanDelinquencyData, effectiveDelinquencyList);
-        } else {
-            this.delinquencyWritePlatformService.removeDelinquencyTagToLoan(loanDelinquencyData.getLoan());
-        }
+        this.delinquencyWritePlatformService.recalculateDelinquencyTagsOfLoan(loan, effectiveDelinquencyList);
     }
 
     @Override
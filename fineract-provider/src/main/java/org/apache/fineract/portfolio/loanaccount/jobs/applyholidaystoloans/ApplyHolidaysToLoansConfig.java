@@ -18,35 +18,150 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
 
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.VirtualThreadSupport;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.service.LoanUtilService;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.listener.ExecutionContextPromotionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class ApplyHolidaysToLoansConfig {
 
+    private static final String JOB_NAME = JobName.APPLY_HOLIDAYS_TO_LOANS.name();
+
     @Autowired
     private JobRepository jobRepository;
     @Autowired
     private PlatformTransactionManager transactionManager;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private FineractProperties fineractProperties;
+    @Autowired
+    private ConfigurationDomainService configurationDomainService;
+    @Autowired
+    private HolidayRepositoryWrapper holidayRepository;
+    @Autowired
+    private LoanRepositoryWrapper loanRepositoryWrapper;
+    @Autowired
+    private LoanUtilService loanUtilService;
+    @Autowired
+    private BusinessEventNotifierService businessEventNotifierService;
+
+    @Bean
+    public Job applyHolidaysToLoansJob() {
+        return new JobBuilder(JOB_NAME, jobRepository) //
+                .start(applyHolidaysToLoansInitialisationStep()) //
+                .next(applyHolidaysToLoansPartitionerStep()) //
+                .next(markHolidaysProcessedStep()) //
+                .incrementer(new RunIdIncrementer()) //
+                .build();
+    }
+
+    @Bean
+    protected Step applyHolidaysToLoansInitialisationStep() {
+        return new StepBuilder(ApplyHolidaysToLoansConstant.INITIALISATION_STEP, jobRepository)
+                .tasklet(new ApplyHolidaysToLoansInitialisationTasklet(configurationDomainService, holidayRepository), transactionManager)
+                .listener(applyHolidaysToLoansPromotionListener()) //
+                .build();
+    }
+
+    @Bean
+    protected Step applyHolidaysToLoansPartitionerStep() {
+        return new StepBuilder(ApplyHolidaysToLoansConstant.PARTITIONER_STEP, jobRepository)
+                .partitioner(ApplyHolidaysToLoansConstant.WORKER_STEP, applyHolidaysToLoansPartitioner()) //
+                .step(applyHolidaysToLoansWorkerStep()) //
+                .taskExecutor(applyHolidaysToLoansTaskExecutor()) //
+                .build();
+    }
+
+    @Bean
+    protected Step applyHolidaysToLoansWorkerStep() {
+        ApplyHolidaysToLoansProgressListener progressListener = new ApplyHolidaysToLoansProgressListener();
+        return new StepBuilder(ApplyHolidaysToLoansConstant.WORKER_STEP, jobRepository)
+                .<Loan, Loan>chunk(propertyService.getChunkSize(JOB_NAME), transactionManager) //
+                .reader(applyHolidaysToLoansItemReader()) //
+                .processor(applyHolidaysToLoansItemProcessor()) //
+                .writer(applyHolidaysToLoansItemWriter()) //
+                .listener((StepExecutionListener) progressListener) //
+                .listener((ChunkListener) progressListener) //
+                .build();
+    }
+
+    @Bean
+    protected Step markHolidaysProcessedStep() {
+        return new StepBuilder(ApplyHolidaysToLoansConstant.MARK_HOLIDAYS_PROCESSED_STEP, jobRepository)
+                .tasklet(new MarkHolidaysProcessedTasklet(holidayRepository), transactionManager).build();
+    }
+
+    @Bean
+    public ExecutionContextPromotionListener applyHolidaysToLoansPromotionListener() {
+        ExecutionContextPromotionListener listener = new ExecutionContextPromotionListener();
+        listener.setKeys(new String[] { ApplyHolidaysToLoansConstant.HOLIDAY_IDS });
+        return listener;
+    }
+
+    @Bean
+    @StepScope
+    public ApplyHolidaysToLoansPartitioner applyHolidaysToLoansPartitioner() {
+        return new ApplyHolidaysToLoansPartitioner(holidayRepository);
+    }
+
+    @Bean
+    @StepScope
+    public ApplyHolidaysToLoansItemReader applyHolidaysToLoansItemReader() {
+        return new ApplyHolidaysToLoansItemReader(holidayRepository, loanRepositoryWrapper);
+    }
+
+    @Bean
+    @StepScope
+    public ApplyHolidaysToLoansItemProcessor applyHolidaysToLoansItemProcessor() {
+        return new ApplyHolidaysToLoansItemProcessor(holidayRepository, loanUtilService, businessEventNotifierService);
+    }
 
     @Bean
-    protected Step applyHolidaysToLoansStep(ApplyHolidaysToLoansTasklet applyHolidaysToLoansTasklet) {
-        return new StepBuilder(JobName.APPLY_HOLIDAYS_TO_LOANS.name(), jobRepository)
-                .tasklet(applyHolidaysToLoansTasklet, transactionManager).build();
+    @StepScope
+    public ApplyHolidaysToLoansItemWriter applyHolidaysToLoansItemWriter() {
+        return new ApplyHolidaysToLoansItemWriter(loanRepositoryWrapper);
     }
 
     @Bean
-    public Job applyHolidaysToLoansJob(ApplyHolidaysToLoansTasklet applyHolidaysToLoansTasklet) {
-        return new JobBuilder(JobName.APPLY_HOLIDAYS_TO_LOANS.name(), jobRepository)
-                .start(applyHolidaysToLoansStep(applyHolidaysToLoansTasklet)).incrementer(new RunIdIncrementer()).build();
+    public TaskExecutor applyHolidaysToLoansTaskExecutor() {
+        int poolSize = propertyService.getThreadPoolMaxPoolSize(JOB_NAME);
+        if (poolSize == 1) {
+            return new SyncTaskExecutor();
+        }
+        // every office partition is submitted at once, so the queue is unbounded and the pool size limits the parallel workers
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("apply-holidays-to-loans-");
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setTaskDecorator(new ContextAwareTaskDecorator(true));
+        VirtualThreadSupport.configure(taskExecutor, fineractProperties, "apply-holidays-to-loans-");
+        return taskExecutor;
     }
 }
@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Fixes the holidays handled by the current run, so holidays created while the loans are rescheduled are left for the
+ * next run instead of being marked as processed without being applied.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ApplyHolidaysToLoansInitialisationTasklet implements Tasklet {
+
+    private final ConfigurationDomainService configurationDomainService;
+    private final HolidayRepositoryWrapper holidayRepository;
+
+    @Override
+    public RepeatStatus execute(@NotNull StepContribution contribution, @NotNull ChunkContext chunkContext) throws Exception {
+        String holidayIds = "";
+        if (configurationDomainService.isRescheduleRepaymentsOnHolidaysEnabled()) {
+            final List<Holiday> holidays = holidayRepository.findUnprocessed();
+            holidayIds = holidays.stream().map(holiday -> String.valueOf(holiday.getId())).collect(Collectors.joining(","));
+            log.info("Applying {} unprocessed holidays to loans", holidays.size());
+        }
+        // stored as a string, the execution context does not keep the element type of a list of ids
+        contribution.getStepExecution().getExecutionContext().put(ApplyHolidaysToLoansConstant.HOLIDAY_IDS, holidayIds);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -21,80 +21,54 @@ package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
 import static org.apache.fineract.infrastructure.core.service.DateUtils.isDateWithinRange;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.business.domain.loan.LoanRescheduledDueHolidayBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
 import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
-import org.apache.fineract.organisation.office.domain.Office;
 import org.apache.fineract.portfolio.loanaccount.data.ScheduleGeneratorDTO;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
-import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
-import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
 import org.apache.fineract.portfolio.loanaccount.service.LoanUtilService;
-import org.springframework.batch.core.StepContribution;
-import org.springframework.batch.core.scope.context.ChunkContext;
-import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.repeat.RepeatStatus;
-import org.springframework.stereotype.Component;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ItemProcessor;
 
-@Slf4j
+/**
+ * Moves the installments of a loan that fall into the holidays of the partition office, applying the holidays in the
+ * order of the run. Loans left unchanged are filtered out and not written.
+ */
 @RequiredArgsConstructor
-@Component
-public class ApplyHolidaysToLoansTasklet implements Tasklet {
+public class ApplyHolidaysToLoansItemProcessor implements ItemProcessor<Loan, Loan> {
 
-    private final ConfigurationDomainService configurationDomainService;
     private final HolidayRepositoryWrapper holidayRepository;
-    private final LoanRepositoryWrapper loanRepositoryWrapper;
     private final LoanUtilService loanUtilService;
     private final BusinessEventNotifierService businessEventNotifierService;
 
-    @Override
-    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        final boolean isHolidayEnabled = configurationDomainService.isRescheduleRepaymentsOnHolidaysEnabled();
-
-        if (!isHolidayEnabled) {
-            return RepeatStatus.FINISHED;
-        }
+    private List<Holiday> holidays;
 
-        final Collection<Integer> loanStatuses = new ArrayList<>(Arrays.asList(LoanStatus.SUBMITTED_AND_PENDING_APPROVAL.getValue(),
-                LoanStatus.APPROVED.getValue(), LoanStatus.ACTIVE.getValue()));
-        final List<Holiday> holidays = holidayRepository.findUnprocessed();
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        final String holidayIds = stepExecution.getExecutionContext().getString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS);
+        holidays = ApplyHolidaysToLoansPartitioner.parseHolidayIds(holidayIds).stream()
+                .map(holidayRepository::findOneWithNotFoundDetection).toList();
+    }
 
+    @Override
+    public Loan process(@NotNull Loan loan) throws Exception {
+        boolean rescheduled = false;
         for (final Holiday holiday : holidays) {
-            final Set<Office> offices = holiday.getOffices();
-            final Collection<Long> officeIds = new ArrayList<>(offices.size());
-            for (final Office office : offices) {
-                officeIds.add(office.getId());
-            }
-
-            final List<Loan> loans = new ArrayList<>();
-            loans.addAll(loanRepositoryWrapper.findByClientOfficeIdsAndLoanStatus(officeIds, loanStatuses));
-            // FIXME: AA optimize to get all client and group loans belongs to an office id
-            loans.addAll(loanRepositoryWrapper.findByGroupOfficeIdsAndLoanStatus(officeIds, loanStatuses));
-
-            for (final Loan loan : loans) {
-                applyHolidayToRepaymentScheduleDates(loan, holiday);
-            }
-            loanRepositoryWrapper.save(loans);
-            holiday.setProcessed(true);
+            rescheduled |= applyHolidayToRepaymentScheduleDates(loan, holiday);
         }
-        holidayRepository.save(holidays);
-        return RepeatStatus.FINISHED;
+        return rescheduled ? loan : null;
     }
 
-    public void applyHolidayToRepaymentScheduleDates(Loan loan, Holiday holiday) {
+    public boolean applyHolidayToRepaymentScheduleDates(Loan loan, Holiday holiday) {
         LocalDate adjustedRescheduleToDate = null;
         boolean isResheduleToNextRepaymentDate = holiday.getReScheduleType().isResheduleToNextRepaymentDate();
         if (holiday.getReScheduleType().isResheduleToNextRepaymentDate()) {
@@ -110,7 +84,9 @@ public class ApplyHolidaysToLoansTasklet implements Tasklet {
                 adjustRepaymentSchedules(loan, holiday, adjustedRescheduleToDate);
             }
             businessEventNotifierService.notifyPostBusinessEvent(new LoanRescheduledDueHolidayBusinessEvent(loan));
+            return true;
         }
+        return false;
     }
 
     private boolean isRepaymentScheduleAdjustmentNeeded(LocalDate adjustedRescheduleToDate) {
@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+
+/**
+ * Reads the loans of the partition office with at least one installment due within one of its holidays. Only the ids are
+ * kept in memory, every loan is loaded in the transaction of the chunk it belongs to. A loan moved into a later holiday
+ * by an earlier one had an installment within the earlier holiday, so it is read as well.
+ */
+@RequiredArgsConstructor
+public class ApplyHolidaysToLoansItemReader implements ItemReader<Loan> {
+
+    private static final List<Integer> LOAN_STATUSES = List.of(LoanStatus.SUBMITTED_AND_PENDING_APPROVAL.getValue(),
+            LoanStatus.APPROVED.getValue(), LoanStatus.ACTIVE.getValue());
+
+    private final HolidayRepositoryWrapper holidayRepository;
+    private final LoanRepositoryWrapper loanRepositoryWrapper;
+
+    private LinkedBlockingQueue<Long> remainingData;
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        final ExecutionContext executionContext = stepExecution.getExecutionContext();
+        final Long officeId = executionContext.getLong(ApplyHolidaysToLoansConstant.OFFICE_ID);
+        final Set<Long> loanIds = new LinkedHashSet<>();
+        for (final Long holidayId : ApplyHolidaysToLoansPartitioner
+                .parseHolidayIds(executionContext.getString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS))) {
+            final Holiday holiday = holidayRepository.findOneWithNotFoundDetection(holidayId);
+            loanIds.addAll(loanRepositoryWrapper.findIdsByOfficeIdAndLoanStatusAndDueDateBetween(officeId, LOAN_STATUSES,
+                    holiday.getFromDate(), holiday.getToDate()));
+        }
+        executionContext.putLong(ApplyHolidaysToLoansConstant.LOAN_COUNT, loanIds.size());
+        remainingData = new LinkedBlockingQueue<>(loanIds);
+    }
+
+    @Override
+    public Loan read() throws Exception {
+        final Long loanId = remainingData.poll();
+        return loanId == null ? null : loanRepositoryWrapper.findOneWithNotFoundDetection(loanId);
+    }
+}
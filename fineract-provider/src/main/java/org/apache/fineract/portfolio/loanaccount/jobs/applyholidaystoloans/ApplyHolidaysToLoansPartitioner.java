@@ -0,0 +1,88 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Creates one partition for every office of the holidays of the run. The worker of an office applies all holidays of the
+ * office to its loans one after the other, so a loan is only changed by one worker and every holiday sees the dates
+ * shifted by the previous ones.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ApplyHolidaysToLoansPartitioner implements Partitioner {
+
+    private final HolidayRepositoryWrapper holidayRepository;
+
+    @Value("#{jobExecutionContext['holidayIds']}")
+    @Setter
+    private String holidayIds;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        // the holidays of an office are kept in the order of the run
+        final Map<Long, List<Long>> holidayIdsByOffice = new LinkedHashMap<>();
+        for (final Long holidayId : parseHolidayIds(holidayIds)) {
+            final Holiday holiday = holidayRepository.findOneWithNotFoundDetection(holidayId);
+            for (final Office office : holiday.getOffices()) {
+                holidayIdsByOffice.computeIfAbsent(office.getId(), officeId -> new ArrayList<>()).add(holidayId);
+            }
+        }
+        final Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        holidayIdsByOffice.forEach((officeId, officeHolidayIds) -> {
+            final String partitionName = "office_" + officeId;
+            final ExecutionContext executionContext = new ExecutionContext();
+            executionContext.putString(ApplyHolidaysToLoansConstant.PARTITION, partitionName);
+            executionContext.putLong(ApplyHolidaysToLoansConstant.OFFICE_ID, officeId);
+            executionContext.putString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS, formatHolidayIds(officeHolidayIds));
+            partitions.put(partitionName, executionContext);
+        });
+        log.info("Applying holidays to loans in {} office partitions", partitions.size());
+        return partitions;
+    }
+
+    static List<Long> parseHolidayIds(final String holidayIds) {
+        if (StringUtils.isBlank(holidayIds)) {
+            return List.of();
+        }
+        return Arrays.stream(holidayIds.split(",")).map(Long::valueOf).toList();
+    }
+
+    static String formatHolidayIds(final List<Long> holidayIds) {
+        return holidayIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
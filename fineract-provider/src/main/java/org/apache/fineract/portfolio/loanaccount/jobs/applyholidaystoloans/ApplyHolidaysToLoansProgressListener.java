@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+/**
+ * Logs the progress of an office partition after every chunk. The read, write and filter counts of every office are
+ * also kept on its worker step execution.
+ */
+@Slf4j
+public class ApplyHolidaysToLoansProgressListener implements StepExecutionListener, ChunkListener {
+
+    @Override
+    public void afterChunk(@NotNull ChunkContext context) {
+        final StepExecution stepExecution = context.getStepContext().getStepExecution();
+        log.info("Applying holidays {} to office {}: {} of {} loans read, {} rescheduled", holidayIds(stepExecution),
+                officeId(stepExecution), stepExecution.getReadCount(),
+                stepExecution.getExecutionContext().getLong(ApplyHolidaysToLoansConstant.LOAN_COUNT, 0L), stepExecution.getWriteCount());
+    }
+
+    @Override
+    public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        log.info("Applied holidays {} to office {}: {} loans rescheduled, status {}", holidayIds(stepExecution), officeId(stepExecution),
+                stepExecution.getWriteCount(), stepExecution.getStatus());
+        return null;
+    }
+
+    private static String holidayIds(final StepExecution stepExecution) {
+        return stepExecution.getExecutionContext().getString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS);
+    }
+
+    private static long officeId(final StepExecution stepExecution) {
+        return stepExecution.getExecutionContext().getLong(ApplyHolidaysToLoansConstant.OFFICE_ID);
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Only reached when every office partition completed, a failed partition leaves the holiday unprocessed for the next
+ * run.
+ */
+@RequiredArgsConstructor
+public class MarkHolidaysProcessedTasklet implements Tasklet {
+
+    private final HolidayRepositoryWrapper holidayRepository;
+
+    @Override
+    public RepeatStatus execute(@NotNull StepContribution contribution, @NotNull ChunkContext chunkContext) throws Exception {
+        final String holidayIds = (String) chunkContext.getStepContext().getJobExecutionContext()
+                .get(ApplyHolidaysToLoansConstant.HOLIDAY_IDS);
+        final List<Holiday> holidays = new ArrayList<>();
+        for (final Long holidayId : ApplyHolidaysToLoansPartitioner.parseHolidayIds(holidayIds)) {
+            final Holiday holiday = holidayRepository.findOneWithNotFoundDetection(holidayId);
+            holiday.setProcessed(true);
+            holidays.add(holiday);
+        }
+        holidayRepository.save(holidays);
+        return RepeatStatus.FINISHED;
+    }
+}
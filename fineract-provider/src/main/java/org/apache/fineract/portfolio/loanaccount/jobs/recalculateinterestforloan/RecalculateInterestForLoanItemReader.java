@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.recalculateinterestforloan;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ItemReader;
+
+/**
+ * Reads the ids of the loans of the partition which were locked for interest recalculation. The queue is shared by the
+ * chunk threads of the step.
+ */
+@RequiredArgsConstructor
+public class RecalculateInterestForLoanItemReader implements ItemReader<Long> {
+
+    private final LoanLockingService loanLockingService;
+
+    private LinkedBlockingQueue<Long> remainingData;
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        LoanCOBParameter loanIdRange = (LoanCOBParameter) stepExecution.getExecutionContext()
+                .get(RecalculateInterestForLoanConstant.LOAN_ID_RANGE);
+        List<Long> loanIds;
+        if (RecalculateInterestForLoanApplyLockTasklet.isEmptyPartition(loanIdRange)) {
+            loanIds = List.of();
+        } else {
+            loanIds = loanLockingService.findAllByLoanIdBetweenAndLockOwner(loanIdRange.getMinLoanId(), loanIdRange.getMaxLoanId(),
+                    LockOwner.LOAN_INTEREST_RECALCULATION).stream().map(LoanAccountLock::getLoanId).toList();
+        }
+        remainingData = new LinkedBlockingQueue<>(loanIds);
+    }
+
+    @Override
+    public Long read() {
+        return remainingData.poll();
+    }
+}
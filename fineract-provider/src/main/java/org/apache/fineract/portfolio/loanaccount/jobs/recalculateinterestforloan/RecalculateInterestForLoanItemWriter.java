@@ -0,0 +1,44 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.recalculateinterestforloan;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * The loans were saved by the recalculation itself, the writer releases their locks in the same chunk transaction.
+ */
+@RequiredArgsConstructor
+public class RecalculateInterestForLoanItemWriter implements ItemWriter<Long> {
+
+    private final LoanLockingService loanLockingService;
+
+    @Override
+    public void write(@NotNull Chunk<? extends Long> items) throws Exception {
+        if (!items.isEmpty()) {
+            List<Long> loanIds = List.copyOf(items.getItems());
+            loanLockingService.deleteByLoanIdInAndLockOwner(loanIds, LockOwner.LOAN_INTEREST_RECALCULATION);
+        }
+    }
+}
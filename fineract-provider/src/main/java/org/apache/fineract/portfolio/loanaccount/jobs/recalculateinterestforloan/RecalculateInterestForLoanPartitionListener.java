@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.recalculateinterestforloan;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reports the loans which could not be recalculated and releases their locks when the partition is finished, so a
+ * failing loan does not stay blocked for API writes. The processing time and throughput of the partition are logged and
+ * published.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RecalculateInterestForLoanPartitionListener implements StepExecutionListener, SkipListener<Long, Long> {
+
+    private final String partitionName;
+    private final LoanLockingService loanLockingService;
+    private final TransactionTemplate transactionTemplate;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @Override
+    public void onSkipInProcess(@NotNull Long loanId, @NotNull Throwable t) {
+        log.error("Interest recalculation of loan {} failed", loanId, t);
+    }
+
+    @Override
+    public void onSkipInWrite(@NotNull Long loanId, @NotNull Throwable t) {
+        log.error("Releasing the interest recalculation lock of loan {} failed", loanId, t);
+    }
+
+    @Override
+    public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        releaseRemainingLocks(stepExecution);
+        if (stepExecution.getStartTime() == null) {
+            return null;
+        }
+        Duration duration = Duration.between(stepExecution.getStartTime(), LocalDateTime.now());
+        long loans = stepExecution.getWriteCount();
+        long millis = Math.max(duration.toMillis(), 1L);
+        log.info("Interest recalculation partition {} recalculated {} loans, skipped {} loans in {} ms ({} loans/s)", partitionName, loans,
+                stepExecution.getSkipCount(), millis, loans * 1000 / millis);
+        meterRegistry.ifPresent(registry -> Timer.builder("fineract.job.recalculate-interest.partition")
+                .description("Interest recalculation partition processing time") //
+                .tag("tenant", ThreadLocalContextUtil.getTenant().getTenantIdentifier()) //
+                .register(registry) //
+                .record(duration));
+        return null;
+    }
+
+    private void releaseRemainingLocks(StepExecution stepExecution) {
+        LoanCOBParameter loanIdRange = (LoanCOBParameter) stepExecution.getExecutionContext()
+                .get(RecalculateInterestForLoanConstant.LOAN_ID_RANGE);
+        if (RecalculateInterestForLoanApplyLockTasklet.isEmptyPartition(loanIdRange)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> remainingLoanIds = loanLockingService.findAllByLoanIdBetweenAndLockOwner(loanIdRange.getMinLoanId(),
+                    loanIdRange.getMaxLoanId(), LockOwner.LOAN_INTEREST_RECALCULATION).stream().map(LoanAccountLock::getLoanId).toList();
+            if (!remainingLoanIds.isEmpty()) {
+                log.warn("Releasing the locks of {} loans of partition {} which were not recalculated", remainingLoanIds.size(),
+                        partitionName);
+                loanLockingService.deleteByLoanIdInAndLockOwner(remainingLoanIds, LockOwner.LOAN_INTEREST_RECALCULATION);
+            }
+        });
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.recalculateinterestforloan;
+
+import com.google.common.collect.Lists;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.organisation.office.data.OfficeData;
+import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StopWatch;
+
+/**
+ * Splits the loans due for interest recalculation into id ranges of <code>partition-size</code> loans, each range is
+ * processed by one worker step execution. When the job is started with an <code>officeId</code> parameter, only the
+ * loans of that office and its child offices are recalculated.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RecalculateInterestForLoanPartitioner implements Partitioner {
+
+    private final PropertyService propertyService;
+    private final LoanReadPlatformService loanReadPlatformService;
+    private final OfficeReadPlatformService officeReadPlatformService;
+
+    @Value("#{jobParameters['officeId']}")
+    @Setter
+    private String officeId;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        final int partitionSize = propertyService.getPartitionSize(RecalculateInterestForLoanConstant.JOB_NAME);
+        final String officeHierarchy = getOfficeHierarchy();
+        StopWatch sw = new StopWatch();
+        sw.start();
+        final List<Long> loanIds = loanReadPlatformService.fetchLoansForInterestRecalculationBetween(null, null, officeHierarchy);
+        sw.stop();
+
+        final Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        final List<List<Long>> pages = Lists.partition(loanIds, partitionSize);
+        for (int pageNo = 0; pageNo < pages.size(); pageNo++) {
+            final List<Long> page = pages.get(pageNo);
+            partitions.put(RecalculateInterestForLoanConstant.PARTITION_PREFIX + pageNo,
+                    createNewPartition(pageNo, new LoanCOBParameter(page.get(0), page.get(page.size() - 1)), officeHierarchy));
+        }
+        // if there is no loan to be recalculated, we still would like to create at least one partition
+        if (partitions.isEmpty()) {
+            partitions.put(RecalculateInterestForLoanConstant.PARTITION_PREFIX + 0,
+                    createNewPartition(0, new LoanCOBParameter(0L, 0L), officeHierarchy));
+        }
+        log.info(
+                "RecalculateInterestForLoanPartitioner found {} loans to be recalculated. {} partitions were created using partition size {}. The loans were retrieved in {} ms.",
+                loanIds.size(), partitions.size(), partitionSize, sw.getTotalTimeMillis());
+        return partitions;
+    }
+
+    private String getOfficeHierarchy() {
+        if (StringUtils.isBlank(officeId)) {
+            return null;
+        }
+        final OfficeData office = officeReadPlatformService.retrieveOffice(Long.valueOf(officeId));
+        return office.getHierarchy() + "%";
+    }
+
+    private ExecutionContext createNewPartition(int pageNo, LoanCOBParameter loanIdRange, String officeHierarchy) {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put(RecalculateInterestForLoanConstant.LOAN_ID_RANGE, loanIdRange);
+        if (officeHierarchy != null) {
+            executionContext.putString(RecalculateInterestForLoanConstant.OFFICE_HIERARCHY, officeHierarchy);
+        }
+        executionContext.putString(RecalculateInterestForLoanConstant.PARTITION,
+                RecalculateInterestForLoanConstant.PARTITION_PREFIX + pageNo);
+        return executionContext;
+    }
+}
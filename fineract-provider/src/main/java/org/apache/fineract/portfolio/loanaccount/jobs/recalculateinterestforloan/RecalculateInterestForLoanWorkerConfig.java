@@ -0,0 +1,176 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.recalculateinterestforloan;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.apache.fineract.cob.common.ResetContextTasklet;
+import org.apache.fineract.cob.conditions.BatchWorkerCondition;
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanWritePlatformService;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@Conditional(BatchWorkerCondition.class)
+public class RecalculateInterestForLoanWorkerConfig {
+
+    private static final String JOB_NAME = RecalculateInterestForLoanConstant.JOB_NAME;
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private FineractProperties fineractProperties;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private LoanLockingService loanLockingService;
+    @Autowired
+    private LoanReadPlatformService loanReadPlatformService;
+    @Autowired
+    private LoanWritePlatformService loanWritePlatformService;
+    @Autowired
+    private Optional<MeterRegistry> meterRegistry;
+
+    /**
+     * The step execution requests of the partitions are received by the request handler of the loan COB worker step,
+     * which looks up the step by this bean name, so no additional consumer is registered on the inbound channel.
+     */
+    @Bean(name = RecalculateInterestForLoanConstant.WORKER_STEP)
+    public Step recalculateInterestForLoanWorkerStep() {
+        return new StepBuilder("Recalculate interest for loans worker - Step", jobRepository).flow(recalculateInterestForLoanFlow())
+                .build();
+    }
+
+    @Bean
+    public Flow recalculateInterestForLoanFlow() {
+        return new FlowBuilder<Flow>("recalculateInterestForLoanFlow").start(recalculateInterestInitialisationStep(null))
+                .next(recalculateInterestApplyLockStep(null)).next(recalculateInterestBusinessStep(null, null))
+                .next(recalculateInterestResetContextStep(null)).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step recalculateInterestInitialisationStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Recalculate interest initialisation - Step:" + partitionName, jobRepository)
+                .tasklet(new RecalculateInterestForLoanInitialisationTasklet(userRepository), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step recalculateInterestApplyLockStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Recalculate interest apply lock - Step:" + partitionName, jobRepository)
+                .tasklet(new RecalculateInterestForLoanApplyLockTasklet(fineractProperties, loanLockingService, loanReadPlatformService,
+                        recalculateInterestLockTransactionTemplate()), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Step recalculateInterestBusinessStep(@Value("#{stepExecutionContext['partition']}") String partitionName,
+            TaskExecutor recalculateInterestTaskExecutor) {
+        RecalculateInterestForLoanPartitionListener partitionListener = new RecalculateInterestForLoanPartitionListener(partitionName,
+                loanLockingService, recalculateInterestLockTransactionTemplate(), meterRegistry);
+        SimpleStepBuilder<Long, Long> stepBuilder = new StepBuilder("Recalculate interest - Step:" + partitionName, jobRepository)
+                .<Long, Long>chunk(propertyService.getChunkSize(JOB_NAME), transactionManager) //
+                .reader(recalculateInterestForLoanItemReader()) //
+                .processor(new RecalculateInterestForLoanItemProcessor(loanWritePlatformService)) //
+                .writer(new RecalculateInterestForLoanItemWriter(loanLockingService)) //
+                .faultTolerant() //
+                .retry(Exception.class) //
+                .retryLimit(propertyService.getRetryLimit(JOB_NAME)) //
+                // a loan still failing after the retries is skipped and picked up by the next run, the partition fails once
+                // more loans than the skip limit have failed
+                .skip(Exception.class) //
+                .skipLimit(propertyService.getSkipLimit(JOB_NAME)) //
+                .listener((StepExecutionListener) partitionListener) //
+                .listener((SkipListener<Long, Long>) partitionListener) //
+                .transactionManager(transactionManager);
+
+        if (propertyService.getThreadPoolMaxPoolSize(JOB_NAME) > 1) {
+            stepBuilder.taskExecutor(recalculateInterestTaskExecutor);
+        }
+
+        return stepBuilder.build();
+    }
+
+    @Bean
+    @StepScope
+    public Step recalculateInterestResetContextStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Recalculate interest reset context - Step:" + partitionName, jobRepository)
+                .tasklet(new ResetContextTasklet(), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public RecalculateInterestForLoanItemReader recalculateInterestForLoanItemReader() {
+        return new RecalculateInterestForLoanItemReader(loanLockingService);
+    }
+
+    @Bean
+    public TaskExecutor recalculateInterestTaskExecutor() {
+        if (propertyService.getThreadPoolMaxPoolSize(JOB_NAME) == 1) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("Recalculate-Interest-Thread-");
+        taskExecutor.setThreadGroupName("Recalculate-Interest-Thread");
+        taskExecutor.setCorePoolSize(propertyService.getThreadPoolCorePoolSize(JOB_NAME));
+        taskExecutor.setMaxPoolSize(propertyService.getThreadPoolMaxPoolSize(JOB_NAME));
+        taskExecutor.setQueueCapacity(propertyService.getThreadPoolQueueCapacity(JOB_NAME));
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        // the recalculation is audited, so the system user authenticated on the worker is needed on the chunk threads too
+        taskExecutor.setTaskDecorator(new ContextAwareTaskDecorator(true));
+        return taskExecutor;
+    }
+
+    private TransactionTemplate recalculateInterestLockTransactionTemplate() {
+        // the locks are applied and released independently of the step and chunk transactions
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
@@ -102,9 +102,7 @@ public interface LoanReadPlatformService {
 
     LoanTransactionData retrieveLoanChargeOffTemplate(Long loanId);
 
-    Collection<Long> fetchLoansForInterestRecalculation();
-
-    List<Long> fetchLoansForInterestRecalculation(Integer pageSize, Long maxLoanIdInList, String officeHierarchy);
+    List<Long> fetchLoansForInterestRecalculationBetween(Long minLoanId, Long maxLoanId, String officeHierarchy);
 
     LoanTransactionData retrieveLoanPrePaymentTemplate(LoanTransactionType repaymentTransactionType, Long loanId, LocalDate onDate);
 
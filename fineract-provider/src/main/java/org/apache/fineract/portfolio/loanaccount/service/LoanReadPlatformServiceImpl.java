@@ -28,7 +28,6 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -1784,61 +1783,11 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
     }
 
     @Override
-    public Collection<Long> fetchLoansForInterestRecalculation() {
-        final String sql = """
-                SELECT l.id
-                FROM m_loan l
-                INNER JOIN m_loan_repayment_schedule mr ON mr.loan_id = l.id
-                LEFT JOIN m_loan_disbursement_detail dd ON dd.loan_id=l.id AND dd.disbursedon_date IS NULL
-                -- for past due interest recalculation
-                LEFT JOIN m_loan_recalculation_details rcd ON rcd.loan_id = l.id
-                -- For Floating rate changes
-                LEFT JOIN m_product_loan_floating_rates pfr
-                    ON l.product_id = pfr.loan_product_id AND l.is_floating_interest_rate = TRUE
-                LEFT JOIN m_floating_rates fr ON pfr.floating_rates_id = fr.id
-                LEFT JOIN m_floating_rates_periods frp ON fr.id = frp.floating_rates_id
-                LEFT JOIN m_loan_reschedule_request lrr ON lrr.loan_id = l.id
-                -- this is to identify the applicable rates when base rate is changed
-                LEFT JOIN m_floating_rates bfr ON bfr.is_base_lending_rate = TRUE
-                LEFT JOIN m_floating_rates_periods bfrp ON bfr.id = bfrp.floating_rates_id AND bfrp.created_date >= ?
-                WHERE l.loan_status_id = ?
-                  AND l.is_npa = FALSE
-                  AND l.is_charged_off = FALSE
-                  AND dd.is_reversed = FALSE
-                  AND (
-                        (l.interest_recalculation_enabled = TRUE
-                            AND (l.interest_recalcualated_on IS NULL OR l.interest_recalcualated_on <> ?)
-                            AND ((mr.completed_derived IS FALSE AND mr.duedate < ?) OR dd.expected_disburse_date < ?)
-                            AND rcd.disallow_interest_calc_on_past_due = FALSE)
-                       OR
-                        -- float rate changes
-                        (fr.is_active = TRUE
-                            AND frp.is_active = TRUE
-                            AND (frp.created_date >= ?
-                                 OR (bfrp.id IS NOT NULL
-                                     AND frp.is_differential_to_base_lending_rate = TRUE
-                                     AND frp.from_date >= bfrp.from_date))
-                            AND lrr.loan_id IS NULL)
-                  )
-                GROUP BY l.id
-                """;
-        try {
-            LocalDate currentdate = DateUtils.getBusinessLocalDate();
-            // will look only for yesterday modified rates
-            LocalDate yesterday = DateUtils.getBusinessLocalDate().minusDays(1);
-            return this.jdbcTemplate.queryForList(sql, Long.class, yesterday, LoanStatus.ACTIVE.getValue(), currentdate, currentdate,
-                    currentdate, yesterday);
-        } catch (final EmptyResultDataAccessException e) {
-            return null;
-        }
-    }
-
-    @Override
-    public List<Long> fetchLoansForInterestRecalculation(Integer pageSize, Long maxLoanIdInList, String officeHierarchy) {
+    public List<Long> fetchLoansForInterestRecalculationBetween(Long minLoanId, Long maxLoanId, String officeHierarchy) {
         LocalDate currentdate = DateUtils.getBusinessLocalDate();
         // will look only for yesterday modified rates
         LocalDate yesterday = DateUtils.getBusinessLocalDate().minusDays(1);
-        final String sql = """
+        final StringBuilder sql = new StringBuilder("""
                 SELECT l.id
                 FROM m_loan l
                 LEFT JOIN m_client c ON c.id = l.client_id
@@ -1874,17 +1823,23 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
                                       AND frp.from_date >= bfrp.from_date))
                              AND lrr.loan_id IS NULL)
                     )
-                    AND l.id >= ?
-                    AND o.hierarchy like ?
-                GROUP BY l.id
-                LIMIT ?
-                """;
-        try {
-            return Collections.synchronizedList(this.jdbcTemplate.queryForList(sql, Long.class, yesterday, LoanStatus.ACTIVE.getValue(),
-                    currentdate, currentdate, currentdate, yesterday, maxLoanIdInList, officeHierarchy, pageSize));
-        } catch (final EmptyResultDataAccessException e) {
-            return null;
+                """);
+        final List<Object> params = new ArrayList<>(
+                List.of(yesterday, LoanStatus.ACTIVE.getValue(), currentdate, currentdate, currentdate, yesterday));
+        if (minLoanId != null) {
+            sql.append(" AND l.id >= ?");
+            params.add(minLoanId);
+        }
+        if (maxLoanId != null) {
+            sql.append(" AND l.id <= ?");
+            params.add(maxLoanId);
+        }
+        if (officeHierarchy != null) {
+            sql.append(" AND o.hierarchy like ?");
+            params.add(officeHierarchy);
         }
+        sql.append(" GROUP BY l.id ORDER BY l.id");
+        return this.jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
     }
 
     @Override
@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.service;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.charge.data.ChargeData;
+import org.apache.fineract.portfolio.charge.service.ChargeReadPlatformService;
+import org.apache.fineract.portfolio.delinquency.data.DelinquencyBucketData;
+import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.loanproduct.data.AdvancedPaymentData;
+import org.apache.fineract.portfolio.loanproduct.data.CreditAllocationData;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductBorrowerCycleVariationData;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductData;
+import org.apache.fineract.portfolio.loanproduct.exception.LoanProductNotFoundException;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformServiceImpl.AdvancedPaymentDataMapper;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformServiceImpl.CreditAllocationDataMapper;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformServiceImpl.LoanProductBorrowerCycleMapper;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformServiceImpl.LoanProductMapper;
+import org.apache.fineract.portfolio.rate.data.RateData;
+import org.apache.fineract.portfolio.rate.service.RateReadService;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reads a loan product through the cache. It does not check the caller, which is left to
+ * {@link LoanProductReadPlatformService#retrieveLoanProduct(Long)} so it happens on cache hits too.
+ */
+@RequiredArgsConstructor
+public class CachedLoanProductReadService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChargeReadPlatformService chargeReadPlatformService;
+    private final RateReadService rateReadService;
+    private final DelinquencyReadPlatformService delinquencyReadPlatformService;
+
+    @Cacheable(value = "loanProducts", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#loanProductId + 'lp')")
+    public LoanProductData retrieveLoanProduct(final Long loanProductId) {
+        return readLoanProduct(loanProductId);
+    }
+
+    /**
+     * Reads the loan product without the cache, for callers whose result depends on the office of the user.
+     */
+    public LoanProductData readLoanProduct(final Long loanProductId) {
+        try {
+            final Collection<ChargeData> charges = this.chargeReadPlatformService.retrieveLoanProductCharges(loanProductId);
+            final Collection<RateData> rates = this.rateReadService.retrieveProductLoanRates(loanProductId);
+            final Collection<LoanProductBorrowerCycleVariationData> borrowerCycleVariationDatas = retrieveLoanProductBorrowerCycleVariations(
+                    loanProductId);
+            final Collection<AdvancedPaymentData> advancedPaymentData = retrieveAdvancedPaymentData(loanProductId);
+            final Collection<CreditAllocationData> creditAllocationData = retrieveCreditAllocationData(loanProductId);
+            final Collection<DelinquencyBucketData> delinquencyBucketOptions = this.delinquencyReadPlatformService
+                    .retrieveAllDelinquencyBuckets();
+            final LoanProductMapper rm = new LoanProductMapper(charges, borrowerCycleVariationDatas, rates, delinquencyBucketOptions,
+                    advancedPaymentData, creditAllocationData);
+            final String sql = "select " + rm.loanProductSchema() + " where lp.id = ?";
+
+            return this.jdbcTemplate.queryForObject(sql, rm, loanProductId); // NOSONAR
+
+        } catch (final EmptyResultDataAccessException e) {
+            throw new LoanProductNotFoundException(loanProductId, e);
+        }
+    }
+
+    public Collection<LoanProductBorrowerCycleVariationData> retrieveLoanProductBorrowerCycleVariations(final Long loanProductId) {
+        final LoanProductBorrowerCycleMapper rm = new LoanProductBorrowerCycleMapper();
+        final String sql = "select " + rm.schema() + " where bc.loan_product_id=?  order by bc.borrower_cycle_number,bc.value_condition";
+        return this.jdbcTemplate.query(sql, rm, loanProductId); // NOSONAR
+    }
+
+    public List<AdvancedPaymentData> retrieveAdvancedPaymentData(final Long loanProductId) {
+        final AdvancedPaymentDataMapper apdm = new AdvancedPaymentDataMapper();
+        final String sql = "select " + apdm.schema() + " where loan_product_id = ?";
+        return this.jdbcTemplate.query(sql, apdm, loanProductId); // NOSONAR
+    }
+
+    public List<CreditAllocationData> retrieveCreditAllocationData(final Long loanProductId) {
+        final CreditAllocationDataMapper cadm = new CreditAllocationDataMapper();
+        final String sql = "select " + cadm.schema() + " where loan_product_id = ?";
+        return this.jdbcTemplate.query(sql, cadm, loanProductId); // NOSONAR
+    }
+}
@@ -40,10 +40,8 @@ import org.apache.fineract.infrastructure.entityaccess.service.FineractEntityAcc
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.monetary.data.CurrencyData;
 import org.apache.fineract.portfolio.charge.data.ChargeData;
-import org.apache.fineract.portfolio.charge.service.ChargeReadPlatformService;
 import org.apache.fineract.portfolio.common.service.CommonEnumerations;
 import org.apache.fineract.portfolio.delinquency.data.DelinquencyBucketData;
-import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanChargeOffBehaviour;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleProcessingType;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
@@ -61,7 +59,6 @@ import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
 import org.apache.fineract.portfolio.loanproduct.domain.LoanSupportedInterestRefundTypes;
 import org.apache.fineract.portfolio.loanproduct.exception.LoanProductNotFoundException;
 import org.apache.fineract.portfolio.rate.data.RateData;
-import org.apache.fineract.portfolio.rate.service.RateReadService;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -72,34 +69,24 @@ public class LoanProductReadPlatformServiceImpl implements LoanProductReadPlatfo
 
     private final PlatformSecurityContext context;
     private final JdbcTemplate jdbcTemplate;
-    private final ChargeReadPlatformService chargeReadPlatformService;
-    private final RateReadService rateReadService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final FineractEntityAccessUtil fineractEntityAccessUtil;
-    private final DelinquencyReadPlatformService delinquencyReadPlatformService;
     private final LoanProductRepository loanProductRepository;
+    private final CachedLoanProductReadService cachedLoanProductReadService;
 
     @Override
     public LoanProductData retrieveLoanProduct(final Long loanProductId) {
 
-        try {
-            final Collection<ChargeData> charges = this.chargeReadPlatformService.retrieveLoanProductCharges(loanProductId);
-            final Collection<RateData> rates = this.rateReadService.retrieveProductLoanRates(loanProductId);
-            final Collection<LoanProductBorrowerCycleVariationData> borrowerCycleVariationDatas = retrieveLoanProductBorrowerCycleVariations(
-                    loanProductId);
-            final Collection<AdvancedPaymentData> advancedPaymentData = retrieveAdvancedPaymentData(loanProductId);
-            final Collection<CreditAllocationData> creditAllocationData = retrieveCreditAllocationData(loanProductId);
-            final Collection<DelinquencyBucketData> delinquencyBucketOptions = this.delinquencyReadPlatformService
-                    .retrieveAllDelinquencyBuckets();
-            final LoanProductMapper rm = new LoanProductMapper(charges, borrowerCycleVariationDatas, rates, delinquencyBucketOptions,
-                    advancedPaymentData, creditAllocationData);
-            final String sql = "select " + rm.loanProductSchema() + " where lp.id = ?";
-
-            return this.jdbcTemplate.queryForObject(sql, rm, loanProductId); // NOSONAR
+        // checked before the cached lookup, so cache hits are authenticated too
+        this.context.authenticatedUser();
 
-        } catch (final EmptyResultDataAccessException e) {
-            throw new LoanProductNotFoundException(loanProductId, e);
+        // the charges are limited to the office of the user if office specific products are enabled, such a product is not cached
+        final String chargesInClause = this.fineractEntityAccessUtil
+                .getSQLWhereClauseForProductIDsForUserOffice_ifGlobalConfigEnabled(FineractEntityType.CHARGE);
+        if (chargesInClause != null && !chargesInClause.trim().isEmpty()) {
+            return this.cachedLoanProductReadService.readLoanProduct(loanProductId);
         }
+        return this.cachedLoanProductReadService.retrieveLoanProduct(loanProductId);
     }
 
     @Override
@@ -113,23 +100,17 @@ public class LoanProductReadPlatformServiceImpl implements LoanProductReadPlatfo
 
     @Override
     public Collection<LoanProductBorrowerCycleVariationData> retrieveLoanProductBorrowerCycleVariations(final Long loanProductId) {
-        final LoanProductBorrowerCycleMapper rm = new LoanProductBorrowerCycleMapper();
-        final String sql = "select " + rm.schema() + " where bc.loan_product_id=?  order by bc.borrower_cycle_number,bc.value_condition";
-        return this.jdbcTemplate.query(sql, rm, loanProductId); // NOSONAR
+        return this.cachedLoanProductReadService.retrieveLoanProductBorrowerCycleVariations(loanProductId);
     }
 
     @Override
     public List<AdvancedPaymentData> retrieveAdvancedPaymentData(final Long loanProductId) {
-        final AdvancedPaymentDataMapper apdm = new AdvancedPaymentDataMapper();
-        final String sql = "select " + apdm.schema() + " where loan_product_id = ?";
-        return this.jdbcTemplate.query(sql, apdm, loanProductId); // NOSONAR
+        return this.cachedLoanProductReadService.retrieveAdvancedPaymentData(loanProductId);
     }
 
     @Override
     public List<CreditAllocationData> retrieveCreditAllocationData(final Long loanProductId) {
-        final CreditAllocationDataMapper cadm = new CreditAllocationDataMapper();
-        final String sql = "select " + cadm.schema() + " where loan_product_id = ?";
-        return this.jdbcTemplate.query(sql, cadm, loanProductId); // NOSONAR
+        return this.cachedLoanProductReadService.retrieveCreditAllocationData(loanProductId);
     }
 
     @Override
@@ -208,7 +189,7 @@ public class LoanProductReadPlatformServiceImpl implements LoanProductReadPlatfo
         return LoanProductData.sensibleDefaultsForNewLoanProductCreation();
     }
 
-    private static final class LoanProductMapper implements RowMapper<LoanProductData> {
+    static final class LoanProductMapper implements RowMapper<LoanProductData> {
 
         private final Collection<ChargeData> charges;
 
@@ -615,7 +596,7 @@ public class LoanProductReadPlatformServiceImpl implements LoanProductReadPlatfo
         }
     }
 
-    private static final class AdvancedPaymentDataMapper implements RowMapper<AdvancedPaymentData> {
+    static final class AdvancedPaymentDataMapper implements RowMapper<AdvancedPaymentData> {
 
         public String schema() {
             return "transaction_type, allocation_types, future_installment_allocation_rule from m_loan_product_payment_allocation_rule";
@@ -639,7 +620,7 @@ public class LoanProductReadPlatformServiceImpl implements LoanProductReadPlatfo
 
     }
 
-    private static final class CreditAllocationDataMapper implements RowMapper<CreditAllocationData> {
+    static final class CreditAllocationDataMapper implements RowMapper<CreditAllocationData> {
 
         public String schema() {
             return "transaction_type, allocation_types from m_loan_product_credit_allocation_rule";
@@ -662,7 +643,7 @@ public class LoanProductReadPlatformServiceImpl implements LoanProductReadPlatfo
 
     }
 
-    private static final class LoanProductBorrowerCycleMapper implements RowMapper<LoanProductBorrowerCycleVariationData> {
+    static final class LoanProductBorrowerCycleMapper implements RowMapper<LoanProductBorrowerCycleVariationData> {
 
         public String schema() {
             return "bc.id as id,bc.borrower_cycle_number as cycleNumber,bc.value_condition as conditionType,bc.param_type as paramType,"
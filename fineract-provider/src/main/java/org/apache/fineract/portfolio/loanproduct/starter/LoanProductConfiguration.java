@@ -36,6 +36,7 @@ import org.apache.fineract.portfolio.loanproduct.domain.AdvancedPaymentAllocatio
 import org.apache.fineract.portfolio.loanproduct.domain.CreditAllocationsJsonParser;
 import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
 import org.apache.fineract.portfolio.loanproduct.serialization.LoanProductDataValidator;
+import org.apache.fineract.portfolio.loanproduct.service.CachedLoanProductReadService;
 import org.apache.fineract.portfolio.loanproduct.service.LoanDropdownReadPlatformService;
 import org.apache.fineract.portfolio.loanproduct.service.LoanDropdownReadPlatformServiceImpl;
 import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
@@ -59,14 +60,21 @@ public class LoanProductConfiguration {
         return new LoanDropdownReadPlatformServiceImpl(loanRepaymentScheduleTransactionProcessorFactory);
     }
 
+    @Bean
+    @ConditionalOnMissingBean(CachedLoanProductReadService.class)
+    public CachedLoanProductReadService cachedLoanProductReadService(JdbcTemplate jdbcTemplate,
+            ChargeReadPlatformService chargeReadPlatformService, RateReadService rateReadService,
+            DelinquencyReadPlatformService delinquencyReadPlatformService) {
+        return new CachedLoanProductReadService(jdbcTemplate, chargeReadPlatformService, rateReadService, delinquencyReadPlatformService);
+    }
+
     @Bean
     @ConditionalOnMissingBean(LoanProductReadPlatformService.class)
     public LoanProductReadPlatformService loanProductReadPlatformService(PlatformSecurityContext context, JdbcTemplate jdbcTemplate,
-            ChargeReadPlatformService chargeReadPlatformService, RateReadService rateReadService, DatabaseSpecificSQLGenerator sqlGenerator,
-            FineractEntityAccessUtil fineractEntityAccessUtil, DelinquencyReadPlatformService delinquencyReadPlatformService,
-            LoanProductRepository loanProductRepository) {
-        return new LoanProductReadPlatformServiceImpl(context, jdbcTemplate, chargeReadPlatformService, rateReadService, sqlGenerator,
-                fineractEntityAccessUtil, delinquencyReadPlatformService, loanProductRepository);
+            DatabaseSpecificSQLGenerator sqlGenerator, FineractEntityAccessUtil fineractEntityAccessUtil,
+            LoanProductRepository loanProductRepository, CachedLoanProductReadService cachedLoanProductReadService) {
+        return new LoanProductReadPlatformServiceImpl(context, jdbcTemplate, sqlGenerator, fineractEntityAccessUtil, loanProductRepository,
+                cachedLoanProductReadService);
     }
 
     @Bean
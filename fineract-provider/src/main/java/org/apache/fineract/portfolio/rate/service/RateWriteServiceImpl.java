@@ -38,6 +38,7 @@ import org.apache.fineract.portfolio.rate.serialization.RateDefinitionCommandFro
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.apache.fineract.useradministration.domain.AppUserRepository;
 import org.apache.fineract.useradministration.exception.UserNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.transaction.annotation.Transactional;
@@ -83,6 +84,7 @@ public class RateWriteServiceImpl implements RateWriteService {
 
     @Transactional
     @Override
+    @CacheEvict(value = "loanProducts", allEntries = true)
     public CommandProcessingResult updateRate(final Long rateId, final JsonCommand command) {
         try {
             this.context.authenticatedUser();
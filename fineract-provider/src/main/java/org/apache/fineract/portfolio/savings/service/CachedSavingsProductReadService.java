@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.savings.DepositAccountType;
+import org.apache.fineract.portfolio.savings.data.SavingsProductData;
+import org.apache.fineract.portfolio.savings.exception.SavingsProductNotFoundException;
+import org.apache.fineract.portfolio.savings.service.SavingsProductReadPlatformServiceImpl.SavingProductMapper;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reads a savings product through the cache. It does not check the caller, which is left to
+ * {@link SavingsProductReadPlatformService#retrieveOne(Long)} so it happens on cache hits too.
+ */
+@RequiredArgsConstructor
+public class CachedSavingsProductReadService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SavingProductMapper savingsProductRowMapper = new SavingProductMapper();
+
+    @Cacheable(value = "savingsProducts", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#savingProductId + 'sp')")
+    public SavingsProductData retrieveOne(final Long savingProductId) {
+        try {
+            final String sql = "select " + this.savingsProductRowMapper.schema() + " where sp.id = ? and sp.deposit_type_enum = ?";
+            return this.jdbcTemplate.queryForObject(sql, this.savingsProductRowMapper, // NOSONAR
+                    new Object[] { savingProductId, DepositAccountType.SAVINGS_DEPOSIT.getValue() });
+        } catch (final EmptyResultDataAccessException e) {
+            throw new SavingsProductNotFoundException(savingProductId, e);
+        }
+    }
+}
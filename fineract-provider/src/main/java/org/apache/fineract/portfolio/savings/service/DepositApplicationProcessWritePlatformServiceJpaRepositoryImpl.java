@@ -51,6 +51,7 @@ import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidati
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.event.business.domain.deposit.FixedDepositAccountCreateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.deposit.RecurringDepositAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsModifyBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.staff.domain.Staff;
@@ -400,6 +401,9 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                     this.accountAssociationsRepository.save(accountAssociations);
                 }
             }
+            if (!changes.isEmpty()) {
+                businessEventNotifierService.notifyPostBusinessEvent(new SavingsModifyBusinessEvent(account));
+            }
 
             return new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
@@ -471,6 +475,9 @@ public class DepositApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                         repeatsOnDay, null);
                 this.calendarInstanceRepository.save(calendarInstance);
             }
+            if (!changes.isEmpty()) {
+                businessEventNotifierService.notifyPostBusinessEvent(new SavingsModifyBusinessEvent(account));
+            }
 
             return new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
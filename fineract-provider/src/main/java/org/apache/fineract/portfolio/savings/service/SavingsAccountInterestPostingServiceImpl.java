@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.domain.LocalDateInterval;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
@@ -38,6 +39,7 @@ import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.portfolio.savings.DepositAccountType;
 import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
 import org.apache.fineract.portfolio.savings.SavingsInterestCalculationDaysInYearType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationMode;
 import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
 import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
@@ -46,13 +48,16 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountChargesPaidByD
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionDataComparator;
 import org.apache.fineract.portfolio.savings.domain.SavingsHelper;
 import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
+import org.apache.fineract.portfolio.savings.domain.interest.ScaledDayBalances;
 import org.apache.fineract.portfolio.tax.data.TaxComponentData;
 import org.apache.fineract.portfolio.tax.service.TaxUtils;
 
+@Slf4j
 @RequiredArgsConstructor
 public class SavingsAccountInterestPostingServiceImpl implements SavingsAccountInterestPostingService {
 
     private final SavingsHelper savingsHelper;
+    private final SavingsInterestCalculationMode calculationMode;
 
     @Override
     public SavingsAccountData postInterest(final MathContext mc, final LocalDate interestPostingUpToDate, final boolean isInterestTransfer,
@@ -233,8 +238,6 @@ public class SavingsAccountInterestPostingServiceImpl implements SavingsAccountI
                 savingsAccountData.getStartInterestCalculationDate(), upToInterestCalculationDate, postingPeriodType,
                 financialYearBeginningMonth, postedAsOnDates);
 
-        final List<PostingPeriod> allPostingPeriods = new ArrayList<>();
-
         Money periodStartingBalance;
         if (savingsAccountData.getStartInterestCalculationDate() != null
                 && !savingsAccountData.getStartInterestCalculationDate().equals(savingsAccountData.getActivationLocalDate())) {
@@ -261,27 +264,52 @@ public class SavingsAccountInterestPostingServiceImpl implements SavingsAccountI
         final Money minOverdraftForInterestCalculation = Money.of(savingsAccountData.getCurrency(),
                 savingsAccountData.getMinOverdraftForInterestCalculation());
         final MonetaryCurrency monetaryCurrency = MonetaryCurrency.fromCurrencyData(savingsAccountData.getCurrency());
+        final List<SavingsAccountTransactionData> orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactions(
+                savingsAccountData);
 
-        for (final LocalDateInterval periodInterval : postingPeriodIntervals) {
-
-            boolean isUserPosting = false;
-            if (postedAsOnDates.contains(periodInterval.endDate().plusDays(1))) {
-                isUserPosting = true;
+        final PostingPeriodFactory standardPostingPeriodFactory = (periodInterval, periodOpeningBalance,
+                isUserPosting) -> PostingPeriod.createFromDTO(periodInterval, periodOpeningBalance, orderedNonInterestPostingTransactions,
+                        monetaryCurrency, compoundingPeriodType, interestCalculationType, interestRateAsFraction, daysInYearType.getValue(),
+                        upToInterestCalculationDate, interestPostTransactions, isInterestTransfer, minBalanceForInterestCalculation,
+                        isSavingsInterestPostingAtCurrentPeriodEnd, overdraftInterestRateAsFraction, minOverdraftForInterestCalculation,
+                        isUserPosting, financialYearBeginningMonth, savingsAccountData.isAllowOverdraft());
+
+        List<PostingPeriod> scaledPostingPeriods = null;
+        if (!SavingsInterestCalculationMode.STANDARD.equals(this.calculationMode)) {
+            final ScaledDayBalances dayBalances = ScaledDayBalances.from(orderedNonInterestPostingTransactions, monetaryCurrency,
+                    interestPostTransactions);
+            if (dayBalances == null) {
+                log.debug("Savings account {} can not be calculated with scaled day balances, using the standard calculation",
+                        savingsAccountData.getId());
+            } else {
+                final PostingPeriodFactory scaledPostingPeriodFactory = (periodInterval, periodOpeningBalance,
+                        isUserPosting) -> PostingPeriod.createFromScaledDayBalances(periodInterval, periodOpeningBalance, dayBalances,
+                                monetaryCurrency, compoundingPeriodType, interestCalculationType, interestRateAsFraction,
+                                daysInYearType.getValue(), upToInterestCalculationDate, isInterestTransfer,
+                                minBalanceForInterestCalculation, isSavingsInterestPostingAtCurrentPeriodEnd,
+                                overdraftInterestRateAsFraction, minOverdraftForInterestCalculation, isUserPosting,
+                                financialYearBeginningMonth, savingsAccountData.isAllowOverdraft());
+                try {
+                    scaledPostingPeriods = calculatePostingPeriods(scaledPostingPeriodFactory, postingPeriodIntervals, postedAsOnDates,
+                            periodStartingBalance, monetaryCurrency, savingsAccountData);
+                } catch (ArithmeticException e) {
+                    log.warn("Scaled day balances of savings account {} overflowed, using the standard calculation",
+                            savingsAccountData.getId(), e);
+                }
             }
-            final PostingPeriod postingPeriod = PostingPeriod.createFromDTO(periodInterval, periodStartingBalance,
-                    retreiveOrderedNonInterestPostingTransactions(savingsAccountData), monetaryCurrency, compoundingPeriodType,
-                    interestCalculationType, interestRateAsFraction, daysInYearType.getValue(), upToInterestCalculationDate,
-                    interestPostTransactions, isInterestTransfer, minBalanceForInterestCalculation,
-                    isSavingsInterestPostingAtCurrentPeriodEnd, overdraftInterestRateAsFraction, minOverdraftForInterestCalculation,
-                    isUserPosting, financialYearBeginningMonth, savingsAccountData.isAllowOverdraft());
-
-            periodStartingBalance = postingPeriod.closingBalance();
-
-            allPostingPeriods.add(postingPeriod);
         }
 
-        this.savingsHelper.calculateInterestForAllPostingPeriods(monetaryCurrency, allPostingPeriods,
-                getLockedInUntilLocalDate(savingsAccountData), false);
+        final List<PostingPeriod> allPostingPeriods;
+        if (scaledPostingPeriods == null) {
+            allPostingPeriods = calculatePostingPeriods(standardPostingPeriodFactory, postingPeriodIntervals, postedAsOnDates,
+                    periodStartingBalance, monetaryCurrency, savingsAccountData);
+        } else if (SavingsInterestCalculationMode.VERIFY.equals(this.calculationMode)) {
+            allPostingPeriods = calculatePostingPeriods(standardPostingPeriodFactory, postingPeriodIntervals, postedAsOnDates,
+                    periodStartingBalance, monetaryCurrency, savingsAccountData);
+            verifyPostingPeriods(savingsAccountData, allPostingPeriods, scaledPostingPeriods);
+        } else {
+            allPostingPeriods = scaledPostingPeriods;
+        }
 
         savingsAccountData.getSummary().updateFromInterestPeriodSummaries(monetaryCurrency, allPostingPeriods);
 
@@ -297,6 +325,56 @@ public class SavingsAccountInterestPostingServiceImpl implements SavingsAccountI
         return allPostingPeriods;
     }
 
+    private List<PostingPeriod> calculatePostingPeriods(final PostingPeriodFactory postingPeriodFactory,
+            final List<LocalDateInterval> postingPeriodIntervals, final List<LocalDate> postedAsOnDates, final Money periodStartingBalance,
+            final MonetaryCurrency monetaryCurrency, final SavingsAccountData savingsAccountData) {
+        final List<PostingPeriod> allPostingPeriods = new ArrayList<>();
+        Money periodOpeningBalance = periodStartingBalance;
+        for (final LocalDateInterval periodInterval : postingPeriodIntervals) {
+
+            boolean isUserPosting = false;
+            if (postedAsOnDates.contains(periodInterval.endDate().plusDays(1))) {
+                isUserPosting = true;
+            }
+            final PostingPeriod postingPeriod = postingPeriodFactory.create(periodInterval, periodOpeningBalance, isUserPosting);
+
+            periodOpeningBalance = postingPeriod.closingBalance();
+
+            allPostingPeriods.add(postingPeriod);
+        }
+
+        this.savingsHelper.calculateInterestForAllPostingPeriods(monetaryCurrency, allPostingPeriods,
+                getLockedInUntilLocalDate(savingsAccountData), false);
+        return allPostingPeriods;
+    }
+
+    private void verifyPostingPeriods(final SavingsAccountData savingsAccountData, final List<PostingPeriod> expectedPostingPeriods,
+            final List<PostingPeriod> scaledPostingPeriods) {
+        if (expectedPostingPeriods.size() != scaledPostingPeriods.size()) {
+            log.warn("Scaled interest calculation of savings account {} produced {} posting periods instead of {}",
+                    savingsAccountData.getId(), scaledPostingPeriods.size(), expectedPostingPeriods.size());
+            return;
+        }
+        for (int i = 0; i < expectedPostingPeriods.size(); i++) {
+            final PostingPeriod expected = expectedPostingPeriods.get(i);
+            final PostingPeriod scaled = scaledPostingPeriods.get(i);
+            if (!expected.getInterestEarned().isEqualTo(scaled.getInterestEarned())
+                    || !expected.closingBalance().isEqualTo(scaled.closingBalance())
+                    || expected.isInterestTransfered() != scaled.isInterestTransfered()) {
+                log.warn(
+                        "Scaled interest calculation of savings account {} differs for posting period ending {}: interest {} instead of {}, closing balance {} instead of {}",
+                        savingsAccountData.getId(), expected.getPeriodInterval().endDate(), scaled.getInterestEarned(),
+                        expected.getInterestEarned(), scaled.closingBalance(), expected.closingBalance());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface PostingPeriodFactory {
+
+        PostingPeriod create(LocalDateInterval periodInterval, Money periodStartingBalance, boolean isUserPosting);
+    }
+
     private List<SavingsAccountTransactionData> retreiveOrderedNonInterestPostingTransactions(final SavingsAccountData savingsAccountData) {
         final List<SavingsAccountTransactionData> listOfTransactionsSorted = retrieveListOfTransactions(savingsAccountData);
 
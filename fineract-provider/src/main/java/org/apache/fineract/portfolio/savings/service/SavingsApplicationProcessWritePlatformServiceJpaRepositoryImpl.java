@@ -52,6 +52,7 @@ import org.apache.fineract.infrastructure.dataqueries.data.StatusEnum;
 import org.apache.fineract.infrastructure.dataqueries.service.EntityDatatableChecksWritePlatformService;
 import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsApproveBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsModifyBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsRejectBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
@@ -352,6 +353,7 @@ public class SavingsApplicationProcessWritePlatformServiceJpaRepositoryImpl impl
                 }
 
                 this.savingAccountRepository.saveAndFlush(account);
+                businessEventNotifierService.notifyPostBusinessEvent(new SavingsModifyBusinessEvent(account));
             }
 
             return new CommandProcessingResultBuilder() //
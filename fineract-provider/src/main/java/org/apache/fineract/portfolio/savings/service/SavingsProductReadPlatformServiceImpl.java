@@ -32,9 +32,7 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.organisation.monetary.data.CurrencyData;
 import org.apache.fineract.portfolio.savings.DepositAccountType;
 import org.apache.fineract.portfolio.savings.data.SavingsProductData;
-import org.apache.fineract.portfolio.savings.exception.SavingsProductNotFoundException;
 import org.apache.fineract.portfolio.tax.data.TaxGroupData;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -46,6 +44,7 @@ public class SavingsProductReadPlatformServiceImpl implements SavingsProductRead
     private final SavingProductMapper savingsProductRowMapper = new SavingProductMapper();
     private final SavingProductLookupMapper savingsProductLookupsRowMapper = new SavingProductLookupMapper();
     private final FineractEntityAccessUtil fineractEntityAccessUtil;
+    private final CachedSavingsProductReadService cachedSavingsProductReadService;
 
     @Override
     public Collection<SavingsProductData> retrieveAll() {
@@ -84,17 +83,14 @@ public class SavingsProductReadPlatformServiceImpl implements SavingsProductRead
 
     @Override
     public SavingsProductData retrieveOne(final Long savingProductId) {
-        try {
-            this.context.authenticatedUser();
-            final String sql = "select " + this.savingsProductRowMapper.schema() + " where sp.id = ? and sp.deposit_type_enum = ?";
-            return this.jdbcTemplate.queryForObject(sql, this.savingsProductRowMapper, // NOSONAR
-                    new Object[] { savingProductId, DepositAccountType.SAVINGS_DEPOSIT.getValue() });
-        } catch (final EmptyResultDataAccessException e) {
-            throw new SavingsProductNotFoundException(savingProductId, e);
-        }
+
+        // checked before the cached lookup, so cache hits are authenticated too
+        this.context.authenticatedUser();
+
+        return this.cachedSavingsProductReadService.retrieveOne(savingProductId);
     }
 
-    private static final class SavingProductMapper implements RowMapper<SavingsProductData> {
+    static final class SavingProductMapper implements RowMapper<SavingsProductData> {
 
         private final String schemaSql;
 
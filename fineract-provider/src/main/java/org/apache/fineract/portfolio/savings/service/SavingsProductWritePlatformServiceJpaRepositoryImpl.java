@@ -51,6 +51,7 @@ import org.apache.fineract.portfolio.savings.domain.SavingsProductAssembler;
 import org.apache.fineract.portfolio.savings.domain.SavingsProductRepository;
 import org.apache.fineract.portfolio.savings.exception.SavingsProductNotFoundException;
 import org.apache.fineract.portfolio.tax.domain.TaxGroup;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.DataAccessException;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -129,6 +130,7 @@ public class SavingsProductWritePlatformServiceJpaRepositoryImpl implements Savi
 
     @Transactional
     @Override
+    @CacheEvict(value = "savingsProducts", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#productId + 'sp')")
     public CommandProcessingResult update(final Long productId, final JsonCommand command) {
 
         try {
@@ -187,6 +189,7 @@ public class SavingsProductWritePlatformServiceJpaRepositoryImpl implements Savi
 
     @Transactional
     @Override
+    @CacheEvict(value = "savingsProducts", key = "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat(#productId + 'sp')")
     public CommandProcessingResult delete(final Long productId) {
 
         this.context.authenticatedUser();
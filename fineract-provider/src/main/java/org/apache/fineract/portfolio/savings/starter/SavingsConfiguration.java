@@ -24,6 +24,7 @@ import org.apache.fineract.commands.service.CommandProcessingService;
 import org.apache.fineract.infrastructure.accountnumberformat.domain.AccountNumberFormatRepositoryWrapper;
 import org.apache.fineract.infrastructure.codes.service.CodeValueReadPlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.PaginationParametersDataValidator;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
@@ -92,6 +93,7 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionRep
 import org.apache.fineract.portfolio.savings.domain.SavingsHelper;
 import org.apache.fineract.portfolio.savings.domain.SavingsProductAssembler;
 import org.apache.fineract.portfolio.savings.domain.SavingsProductRepository;
+import org.apache.fineract.portfolio.savings.service.CachedSavingsProductReadService;
 import org.apache.fineract.portfolio.savings.service.DepositAccountInterestRateChartReadPlatformService;
 import org.apache.fineract.portfolio.savings.service.DepositAccountInterestRateChartReadPlatformServiceImpl;
 import org.apache.fineract.portfolio.savings.service.DepositAccountOnHoldTransactionReadPlatformService;
@@ -328,8 +330,10 @@ public class SavingsConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(SavingsAccountInterestPostingService.class)
-    public SavingsAccountInterestPostingService savingsAccountInterestPostingService(SavingsHelper savingsHelper) {
-        return new SavingsAccountInterestPostingServiceImpl(savingsHelper);
+    public SavingsAccountInterestPostingService savingsAccountInterestPostingService(SavingsHelper savingsHelper,
+            FineractProperties fineractProperties) {
+        return new SavingsAccountInterestPostingServiceImpl(savingsHelper,
+                fineractProperties.getSavings().getInterest().getCalculationMode());
     }
 
     @Bean
@@ -402,11 +406,17 @@ public class SavingsConfiguration {
         return new SavingsDropdownReadPlatformServiceImpl();
     }
 
+    @Bean
+    @ConditionalOnMissingBean(CachedSavingsProductReadService.class)
+    public CachedSavingsProductReadService cachedSavingsProductReadService(JdbcTemplate jdbcTemplate) {
+        return new CachedSavingsProductReadService(jdbcTemplate);
+    }
+
     @Bean
     @ConditionalOnMissingBean(SavingsProductReadPlatformService.class)
     public SavingsProductReadPlatformService savingsProductReadPlatformService(PlatformSecurityContext context, JdbcTemplate jdbcTemplate,
-            FineractEntityAccessUtil fineractEntityAccessUtil) {
-        return new SavingsProductReadPlatformServiceImpl(context, jdbcTemplate, fineractEntityAccessUtil);
+            FineractEntityAccessUtil fineractEntityAccessUtil, CachedSavingsProductReadService cachedSavingsProductReadService) {
+        return new SavingsProductReadPlatformServiceImpl(context, jdbcTemplate, fineractEntityAccessUtil, cachedSavingsProductReadService);
     }
 
     @Bean
@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.domain;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Entities kept in the global search index, together with the table and the searchable columns the index is built from.
+ * The columns are the ones the SQL search matches with {@code like}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchIndexEntityType {
+
+    CLIENT("m_client", List.of("account_no", "display_name", "external_id", "mobile_no")), //
+    LOAN("m_loan", List.of("account_no", "external_id")), //
+    SAVING("m_savings_account", List.of("account_no", "external_id")), //
+    GROUP("m_group", List.of("account_no", "display_name", "external_id")), //
+    ;
+
+    private final String tableName;
+    private final List<String> searchColumns;
+}
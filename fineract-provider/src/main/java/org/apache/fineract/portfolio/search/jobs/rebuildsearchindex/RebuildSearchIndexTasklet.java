@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.jobs.rebuildsearchindex;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Rebuilds the global search index of every indexed entity type. The index is written in batches committed on their own, so
+ * searches keep being served from the index while it is rebuilt.
+ */
+@RequiredArgsConstructor
+public class RebuildSearchIndexTasklet implements Tasklet {
+
+    private final SearchIndexService searchIndexService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            final long indexed = searchIndexService.rebuild(entityType);
+            contribution.incrementWriteCount(indexed);
+        }
+        return RepeatStatus.FINISHED;
+    }
+}
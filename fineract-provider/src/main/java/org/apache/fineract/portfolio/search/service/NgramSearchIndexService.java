@@ -0,0 +1,221 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Trigram index stored in {@code m_search_index_gram}. Every searchable column value is lower cased and split into its
+ * overlapping three character grams, an entity is a candidate for a query when it has all grams of the query. This answers the
+ * {@code like '%query%'} search with index lookups instead of scanning every searchable table.
+ */
+@Slf4j
+public class NgramSearchIndexService implements SearchIndexService {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final String INSERT_GRAM_SQL = "insert into m_search_index_gram (entity_type, entity_id, gram) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    public NgramSearchIndexService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            DatabaseSpecificSQLGenerator sqlGenerator, PlatformTransactionManager transactionManager,
+            FineractProperties fineractProperties, Optional<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fineractProperties = fineractProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean supports(SearchConditions searchConditions) {
+        if (!getIndexProperties().isEnabled() || Boolean.TRUE.equals(searchConditions.getExactMatch())) {
+            return false;
+        }
+        final String searchQuery = searchConditions.getSearchQuery();
+        // like wildcards typed into the query can not be answered from grams
+        return searchQuery != null && StringUtils.containsNone(searchQuery, '%', '_') && !grams(searchQuery).isEmpty();
+    }
+
+    @Override
+    public Set<SearchIndexEntityType> getBuiltEntityTypes() {
+        final Set<SearchIndexEntityType> builtEntityTypes = EnumSet.noneOf(SearchIndexEntityType.class);
+        for (String entityType : jdbcTemplate.queryForList("select entity_type from m_search_index_status", String.class)) {
+            builtEntityTypes.add(SearchIndexEntityType.valueOf(entityType));
+        }
+        return builtEntityTypes;
+    }
+
+    @Override
+    public List<Long> findCandidateIds(SearchIndexEntityType entityType, String searchQuery, Long beforeId) {
+        final Set<String> grams = grams(searchQuery);
+        final String sql = "select entity_id from m_search_index_gram where entity_type = :entityType and gram in (:grams)"
+                + (beforeId == null ? "" : " and entity_id < :beforeId")
+                + " group by entity_id having count(distinct gram) = :gramCount order by entity_id desc "
+                + sqlGenerator.limit(getIndexProperties().getCandidateLimit());
+        final MapSqlParameterSource params = new MapSqlParameterSource() //
+                .addValue("entityType", entityType.name()) //
+                .addValue("grams", grams) //
+                .addValue("gramCount", grams.size()) //
+                .addValue("beforeId", beforeId);
+        return namedParameterJdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    @Override
+    public void reindex(SearchIndexEntityType entityType, Long entityId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            final List<IndexedEntity> entities = jdbcTemplate.query(selectSql(entityType) + " where id = ?", mapper(entityType), entityId);
+            jdbcTemplate.update("delete from m_search_index_gram where entity_type = ? and entity_id = ?", entityType.name(), entityId);
+            insertGrams(entityType, entities);
+        });
+        meterRegistry.ifPresent(registry -> Counter.builder("fineract.search.index.updates") //
+                .description("Search index entries refreshed from business events") //
+                .tag("tenant", ThreadLocalContextUtil.getTenant().getTenantIdentifier()) //
+                .tag("entityType", entityType.name()) //
+                .register(registry) //
+                .increment());
+    }
+
+    @Override
+    public long rebuild(SearchIndexEntityType entityType) {
+        if (meterRegistry.isEmpty()) {
+            return doRebuild(entityType);
+        }
+        final Timer.Sample sample = Timer.start(meterRegistry.get());
+        try {
+            return doRebuild(entityType);
+        } finally {
+            sample.stop(Timer.builder("fineract.search.index.rebuild").description("Search index rebuild time") //
+                    .tag("tenant", ThreadLocalContextUtil.getTenant().getTenantIdentifier()) //
+                    .tag("entityType", entityType.name()) //
+                    .register(meterRegistry.get()));
+        }
+    }
+
+    private long doRebuild(SearchIndexEntityType entityType) {
+        final String pageSql = selectSql(entityType) + " where id > ? order by id "
+                + sqlGenerator.limit(getIndexProperties().getRebuildBatchSize());
+        long indexed = 0;
+        long lastId = 0;
+        while (true) {
+            final List<IndexedEntity> page = jdbcTemplate.query(pageSql, mapper(entityType), lastId);
+            if (page.isEmpty()) {
+                break;
+            }
+            final long fromId = lastId;
+            final long toId = page.get(page.size() - 1).id();
+            // the id range also covers deleted entities between the pages, their stale entries are dropped with it
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("delete from m_search_index_gram where entity_type = ? and entity_id > ? and entity_id <= ?",
+                        entityType.name(), fromId, toId);
+                insertGrams(entityType, page);
+            });
+            indexed += page.size();
+            lastId = toId;
+        }
+        final long highestId = lastId;
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from m_search_index_gram where entity_type = ? and entity_id > ?", entityType.name(), highestId);
+            // searches of the entity type are answered from the index only once it was completely built
+            jdbcTemplate.update("delete from m_search_index_status where entity_type = ?", entityType.name());
+            jdbcTemplate.update("insert into m_search_index_status (entity_type, built_on) values (?, ?)", entityType.name(),
+                    DateUtils.getAuditOffsetDateTime());
+        });
+        log.info("Rebuilt search index of {} with {} entities", entityType, indexed);
+        return indexed;
+    }
+
+    private void insertGrams(SearchIndexEntityType entityType, List<IndexedEntity> entities) {
+        final List<Object[]> batchArgs = new ArrayList<>();
+        for (IndexedEntity entity : entities) {
+            for (String gram : entity.grams()) {
+                batchArgs.add(new Object[] { entityType.name(), entity.id(), gram });
+            }
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_GRAM_SQL, batchArgs);
+        }
+    }
+
+    private static String selectSql(SearchIndexEntityType entityType) {
+        return "select id, " + String.join(", ", entityType.getSearchColumns()) + " from " + entityType.getTableName();
+    }
+
+    private static RowMapper<IndexedEntity> mapper(SearchIndexEntityType entityType) {
+        return (rs, rowNum) -> {
+            final Set<String> grams = new LinkedHashSet<>();
+            for (String column : entityType.getSearchColumns()) {
+                grams.addAll(grams(rs.getString(column)));
+            }
+            return new IndexedEntity(rs.getLong("id"), grams);
+        };
+    }
+
+    static Set<String> grams(String value) {
+        final Set<String> grams = new LinkedHashSet<>();
+        if (value == null) {
+            return grams;
+        }
+        // grams are built from code points, so a gram never splits a surrogate pair
+        final int[] codePoints = value.toLowerCase(Locale.ROOT).codePoints().toArray();
+        for (int i = 0; i + GRAM_LENGTH <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private FineractProperties.FineractSearchIndexProperties getIndexProperties() {
+        return fineractProperties.getSearch().getIndex();
+    }
+
+    private record IndexedEntity(Long id, Set<String> grams) {
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.deposit.FixedDepositAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.deposit.RecurringDepositAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanModifiedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsModifyBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the search index up to date from the business events of the indexed entities. The entity is reindexed once the
+ * transaction raising the event is committed, so the index never contains values that were rolled back. Changes not raising
+ * an event are picked up by the rebuild job.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SearchIndexBusinessEventListener {
+
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final SearchIndexService searchIndexService;
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @PostConstruct
+    public void addListeners() {
+        if (!fineractProperties.getSearch().getIndex().isEnabled()) {
+            return;
+        }
+        // the client and group events include their update events
+        businessEventNotifierService.addPostBusinessEventListener(ClientBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.CLIENT, event.getAggregateRootId()));
+        businessEventNotifierService.addPostBusinessEventListener(GroupsBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.GROUP, event.getAggregateRootId()));
+        businessEventNotifierService.addPostBusinessEventListener(LoanCreatedBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.LOAN, event.getAggregateRootId()));
+        businessEventNotifierService.addPostBusinessEventListener(LoanModifiedBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.LOAN, event.getAggregateRootId()));
+        businessEventNotifierService.addPostBusinessEventListener(SavingsCreateBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.SAVING, event.getAggregateRootId()));
+        businessEventNotifierService.addPostBusinessEventListener(SavingsModifyBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.SAVING, event.getAggregateRootId()));
+        businessEventNotifierService.addPostBusinessEventListener(FixedDepositAccountCreateBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.SAVING, event.getAggregateRootId()));
+        businessEventNotifierService.addPostBusinessEventListener(RecurringDepositAccountCreateBusinessEvent.class,
+                event -> reindexAfterCommit(SearchIndexEntityType.SAVING, event.getAggregateRootId()));
+    }
+
+    private void reindexAfterCommit(SearchIndexEntityType entityType, Long entityId) {
+        final long raisedAt = System.nanoTime();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    reindex(entityType, entityId, raisedAt);
+                }
+            });
+        } else {
+            reindex(entityType, entityId, raisedAt);
+        }
+    }
+
+    private void reindex(SearchIndexEntityType entityType, Long entityId, long raisedAt) {
+        try {
+            searchIndexService.reindex(entityType, entityId);
+        } catch (RuntimeException e) {
+            // the entity is already committed, a failed index update must not fail the request; the rebuild job repairs it
+            log.warn("Failed to update search index of {} {}", entityType, entityId, e);
+            return;
+        }
+        meterRegistry.ifPresent(registry -> Timer.builder("fineract.search.index.lag") //
+                .description("Time between the business event and the search index update") //
+                .tag("tenant", ThreadLocalContextUtil.getTenant().getTenantIdentifier()) //
+                .tag("entityType", entityType.name()) //
+                .register(registry) //
+                .record(System.nanoTime() - raisedAt, TimeUnit.NANOSECONDS));
+    }
+}
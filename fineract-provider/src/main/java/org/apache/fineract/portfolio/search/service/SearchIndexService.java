@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+
+/**
+ * Index backing the global search. The index only narrows the candidate rows, {@link SearchReadPlatformServiceImpl} still
+ * applies the office hierarchy and the original match on the candidates, so a stale index entry can never surface a row the
+ * SQL search would not return.
+ */
+public interface SearchIndexService {
+
+    /**
+     * @return whether the search can be answered from the index, otherwise the plain SQL search has to be used
+     */
+    boolean supports(SearchConditions searchConditions);
+
+    /**
+     * @return entity types whose index was completely built at least once, the other types have to be searched with plain SQL
+     */
+    Set<SearchIndexEntityType> getBuiltEntityTypes();
+
+    /**
+     * @param beforeId
+     *            id of the last candidate of the previous page, {@code null} for the first page
+     * @return next page of ids of the entities possibly matching the query, highest id first; an empty page once the
+     *         candidates are exhausted
+     */
+    List<Long> findCandidateIds(SearchIndexEntityType entityType, String searchQuery, Long beforeId);
+
+    /**
+     * Replaces the index entries of a single entity with its current column values.
+     */
+    void reindex(SearchIndexEntityType entityType, Long entityId);
+
+    /**
+     * Rebuilds the index of an entity type from scratch.
+     *
+     * @return number of indexed entities
+     */
+    long rebuild(SearchIndexEntityType entityType);
+}
@@ -21,7 +21,15 @@ package org.apache.fineract.portfolio.search.service;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
@@ -43,6 +51,7 @@ import org.apache.fineract.portfolio.search.data.AdHocQuerySearchConditions;
 import org.apache.fineract.portfolio.search.data.AdHocSearchQueryData;
 import org.apache.fineract.portfolio.search.data.SearchConditions;
 import org.apache.fineract.portfolio.search.data.SearchData;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -51,11 +60,14 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 @RequiredArgsConstructor
 public class SearchReadPlatformServiceImpl implements SearchReadPlatformService {
 
+    private static final int MAX_RESULTS = 50;
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final PlatformSecurityContext context;
     private final LoanProductReadPlatformService loanProductReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public Collection<SearchData> retriveMatchingData(final SearchConditions searchConditions) {
@@ -71,26 +83,99 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         } else {
             params.addValue("search", "%" + searchConditions.getSearchQuery() + "%");
         }
-        return namedParameterJdbcTemplate.query(searchSchema(searchConditions), params, rm);
+
+        final Set<SearchIndexEntityType> indexedEntityTypes = findIndexedEntityTypes(searchConditions);
+        if (indexedEntityTypes.isEmpty()) {
+            return namedParameterJdbcTemplate.query(searchSchema(searchConditions), params, rm);
+        }
+
+        // the index candidates are only narrowed by the original match in SQL, so the candidates are read page by page
+        // until enough of them match or the index is exhausted
+        final List<SearchData> matches = new ArrayList<>();
+        final Map<SearchIndexEntityType, Long> lastCandidateIds = new EnumMap<>(SearchIndexEntityType.class);
+        boolean firstPage = true;
+        while (matches.size() < MAX_RESULTS && !indexedEntityTypes.isEmpty()) {
+            final Map<SearchIndexEntityType, List<Long>> candidateIds = new EnumMap<>(SearchIndexEntityType.class);
+            for (Iterator<SearchIndexEntityType> iterator = indexedEntityTypes.iterator(); iterator.hasNext();) {
+                final SearchIndexEntityType entityType = iterator.next();
+                final List<Long> ids = searchIndexService.findCandidateIds(entityType, searchConditions.getSearchQuery(),
+                        lastCandidateIds.get(entityType));
+                candidateIds.put(entityType, ids);
+                params.addValue(candidateIdsParamName(entityType), ids);
+                if (ids.isEmpty()) {
+                    iterator.remove();
+                } else {
+                    lastCandidateIds.put(entityType, ids.get(ids.size() - 1));
+                }
+            }
+            final String sql = searchSchema(searchConditions, candidateIds, firstPage, MAX_RESULTS - matches.size());
+            if (!sql.isEmpty()) {
+                matches.addAll(namedParameterJdbcTemplate.query(sql, params, rm));
+            }
+            firstPage = false;
+        }
+        return matches;
+    }
+
+    /**
+     * @return the searched entity types answered from the search index; the index of an entity type is only used once it was
+     *         completely built, until then the entity type is searched with plain SQL
+     */
+    private Set<SearchIndexEntityType> findIndexedEntityTypes(final SearchConditions searchConditions) {
+        final Set<SearchIndexEntityType> indexedEntityTypes = EnumSet.noneOf(SearchIndexEntityType.class);
+        if (!searchIndexService.supports(searchConditions)) {
+            return indexedEntityTypes;
+        }
+        if (searchConditions.isClientSearch()) {
+            indexedEntityTypes.add(SearchIndexEntityType.CLIENT);
+        }
+        if (searchConditions.isLoanSeach()) {
+            indexedEntityTypes.add(SearchIndexEntityType.LOAN);
+        }
+        if (searchConditions.isSavingSeach()) {
+            indexedEntityTypes.add(SearchIndexEntityType.SAVING);
+        }
+        if (searchConditions.isGroupSearch()) {
+            indexedEntityTypes.add(SearchIndexEntityType.GROUP);
+        }
+        if (!indexedEntityTypes.isEmpty()) {
+            indexedEntityTypes.retainAll(searchIndexService.getBuiltEntityTypes());
+        }
+        return indexedEntityTypes;
     }
 
     public String searchSchema(final SearchConditions searchConditions) {
+        return searchSchema(searchConditions, Map.of(), true, MAX_RESULTS);
+    }
+
+    /**
+     * @param candidateIds
+     *            candidate page of the entity types searched through the index, the other entity types are searched with plain
+     *            SQL
+     * @param firstPage
+     *            whether the entity types searched with plain SQL are included, they are only searched with the first page
+     */
+    private String searchSchema(final SearchConditions searchConditions, final Map<SearchIndexEntityType, List<Long>> candidateIds,
+            final boolean firstPage, final int maxResults) {
 
         final String union = " union ";
         final String clientMatchSql = "( (select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId, c.account_no as entityAccountNo "
                 + " , c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
+                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and "
+                + candidateFilter(candidateIds, SearchIndexEntityType.CLIENT, "c") + "(c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
                 + " order by c.id desc)";
 
         final String loanMatchSql = "( (select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId, l.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name,g.display_name) as parentName, null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
-                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)) "
+                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and "
+                + candidateFilter(candidateIds, SearchIndexEntityType.LOAN, "l") + "(l.account_no like :search or l.external_id like :search)) "
                 + " order by l.id desc)";
 
         final String savingMatchSql = "( (select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, concat(s.deposit_type_enum, '') as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
                 + " from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g ON s.group_id = g.id left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
+                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and "
+                + candidateFilter(candidateIds, SearchIndexEntityType.SAVING, "s") + "(s.account_no like :search or s.external_id like :search)) "
                 + " order by s.id desc)";
 
         final String shareMatchSql = "( (select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
@@ -106,43 +191,67 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
 
         final String groupMatchSql = "( (select CASE WHEN g.level_id=1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName, g.external_id as entityExternalId, g.account_no as entityAccountNo, "
                 + " g.office_id as parentId, o.name as parentName, null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
+                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and "
+                + candidateFilter(candidateIds, SearchIndexEntityType.GROUP, "g") + "(g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
                 + " order by g.id desc)";
 
         final StringBuilder sql = new StringBuilder();
 
-        if (searchConditions.isClientSearch()) {
+        if (searchConditions.isClientSearch() && isSearched(candidateIds, SearchIndexEntityType.CLIENT, firstPage)) {
             sql.append(clientMatchSql).append(union);
         }
 
-        if (searchConditions.isLoanSeach()) {
+        if (searchConditions.isLoanSeach() && isSearched(candidateIds, SearchIndexEntityType.LOAN, firstPage)) {
             sql.append(loanMatchSql).append(union);
         }
 
-        if (searchConditions.isSavingSeach()) {
+        if (searchConditions.isSavingSeach() && isSearched(candidateIds, SearchIndexEntityType.SAVING, firstPage)) {
             sql.append(savingMatchSql).append(union);
         }
 
-        if (searchConditions.isShareSeach()) {
+        if (searchConditions.isShareSeach() && firstPage) {
             sql.append(shareMatchSql).append(union);
         }
 
-        if (searchConditions.isClientIdentifierSearch()) {
+        if (searchConditions.isClientIdentifierSearch() && firstPage) {
             sql.append(clientIdentifierMatchSql).append(union);
         }
 
-        if (searchConditions.isGroupSearch()) {
+        if (searchConditions.isGroupSearch() && isSearched(candidateIds, SearchIndexEntityType.GROUP, firstPage)) {
             sql.append(groupMatchSql).append(union);
         }
 
+        if (sql.length() == 0) {
+            // the page has no candidate in any of the searched entity types
+            return "";
+        }
+
         // remove last occurrence of "union all" string
         sql.replace(sql.lastIndexOf(union), sql.length(), "");
 
-        // only get the first 50 rows in case of searcing
-        sql.append(" ").append(sqlGenerator.limit(50, 0));
+        // only get the first 50 rows in case of searcing, less when earlier candidate pages already matched
+        sql.append(" ").append(sqlGenerator.limit(maxResults, 0));
         return sql.toString();
     }
 
+    private static boolean isSearched(final Map<SearchIndexEntityType, List<Long>> candidateIds, final SearchIndexEntityType entityType,
+            final boolean firstPage) {
+        final List<Long> ids = candidateIds.get(entityType);
+        return ids == null ? firstPage : !ids.isEmpty();
+    }
+
+    private static String candidateFilter(final Map<SearchIndexEntityType, List<Long>> candidateIds,
+            final SearchIndexEntityType entityType, final String alias) {
+        if (!candidateIds.containsKey(entityType)) {
+            return "";
+        }
+        return alias + ".id in (:" + candidateIdsParamName(entityType) + ") and ";
+    }
+
+    private static String candidateIdsParamName(final SearchIndexEntityType entityType) {
+        return entityType.name().toLowerCase(Locale.ROOT) + "CandidateIds";
+    }
+
     private static final class SearchMapper implements RowMapper<SearchData> {
 
         @Override
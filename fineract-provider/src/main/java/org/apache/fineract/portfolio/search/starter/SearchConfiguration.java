@@ -18,16 +18,25 @@
  */
 package org.apache.fineract.portfolio.search.starter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
 import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.service.NgramSearchIndexService;
+import org.apache.fineract.portfolio.search.service.SearchIndexBusinessEventListener;
+import org.apache.fineract.portfolio.search.service.SearchIndexService;
 import org.apache.fineract.portfolio.search.service.SearchReadPlatformService;
 import org.apache.fineract.portfolio.search.service.SearchReadPlatformServiceImpl;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 public class SearchConfiguration {
@@ -36,8 +45,25 @@ public class SearchConfiguration {
     @ConditionalOnMissingBean(SearchReadPlatformService.class)
     public SearchReadPlatformService searchReadPlatformService(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
             PlatformSecurityContext context, LoanProductReadPlatformService loanProductReadPlatformService,
-            OfficeReadPlatformService officeReadPlatformService, DatabaseSpecificSQLGenerator sqlGenerator) {
+            OfficeReadPlatformService officeReadPlatformService, DatabaseSpecificSQLGenerator sqlGenerator,
+            SearchIndexService searchIndexService) {
         return new SearchReadPlatformServiceImpl(namedParameterJdbcTemplate, context, loanProductReadPlatformService,
-                officeReadPlatformService, sqlGenerator);
+                officeReadPlatformService, sqlGenerator, searchIndexService);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SearchIndexService.class)
+    public SearchIndexService searchIndexService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            DatabaseSpecificSQLGenerator sqlGenerator, PlatformTransactionManager transactionManager,
+            FineractProperties fineractProperties, Optional<MeterRegistry> meterRegistry) {
+        return new NgramSearchIndexService(jdbcTemplate, namedParameterJdbcTemplate, sqlGenerator, transactionManager, fineractProperties,
+                meterRegistry);
+    }
+
+    @Bean
+    public SearchIndexBusinessEventListener searchIndexBusinessEventListener(BusinessEventNotifierService businessEventNotifierService,
+            SearchIndexService searchIndexService, FineractProperties fineractProperties, Optional<MeterRegistry> meterRegistry) {
+        return new SearchIndexBusinessEventListener(businessEventNotifierService, searchIndexService, fineractProperties,
+                meterRegistry);
     }
 }
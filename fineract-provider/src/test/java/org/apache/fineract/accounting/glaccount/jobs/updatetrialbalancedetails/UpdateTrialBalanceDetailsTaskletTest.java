@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.glaccount.jobs.updatetrialbalancedetails;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.glaccount.domain.TrialBalance;
+import org.junit.jupiter.api.Test;
+
+public class UpdateTrialBalanceDetailsTaskletTest {
+
+    private static final Long OFFICE_ID = 1L;
+    private static final Long CASH = 10L;
+    private static final Long FEES = 20L;
+    private static final LocalDate DAY_1 = LocalDate.of(2024, 3, 1);
+
+    @Test
+    public void testClosingBalancesStartFromLastClosingBalanceOfTheAccount() {
+        Map<Long, BigDecimal> closingBalances = new HashMap<>(Map.of(CASH, new BigDecimal("1000")));
+        List<TrialBalance> trialBalances = List.of(row(CASH, "250", DAY_1), row(CASH, "-100", DAY_1.plusDays(1)),
+                row(CASH, "40.5", DAY_1.plusDays(2)));
+
+        UpdateTrialBalanceDetailsTasklet.calculateClosingBalances(trialBalances, closingBalances);
+
+        assertEquals(List.of(new BigDecimal("1250"), new BigDecimal("1150"), new BigDecimal("1190.5")),
+                trialBalances.stream().map(TrialBalance::getClosingBalance).toList());
+        assertEquals(new BigDecimal("1190.5"), closingBalances.get(CASH));
+    }
+
+    @Test
+    public void testClosingBalancesOfAccountWithoutPreviousRowsStartFromZero() {
+        Map<Long, BigDecimal> closingBalances = new HashMap<>(Map.of(CASH, new BigDecimal("1000")));
+        List<TrialBalance> trialBalances = List.of(row(CASH, "5", DAY_1), row(FEES, "-30", DAY_1), row(FEES, "-20", DAY_1.plusDays(1)));
+
+        UpdateTrialBalanceDetailsTasklet.calculateClosingBalances(trialBalances, closingBalances);
+
+        assertEquals(List.of(new BigDecimal("1005"), new BigDecimal("-30"), new BigDecimal("-50")),
+                trialBalances.stream().map(TrialBalance::getClosingBalance).toList());
+    }
+
+    private static TrialBalance row(Long accountId, String amount, LocalDate transactionDate) {
+        return TrialBalance.getInstance(OFFICE_ID, accountId, new BigDecimal(amount), transactionDate, transactionDate);
+    }
+}
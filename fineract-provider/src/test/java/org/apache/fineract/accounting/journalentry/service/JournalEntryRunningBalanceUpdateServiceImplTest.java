@@ -0,0 +1,342 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the incremental running balance calculation against an in memory ledger and compares the result with the
+ * balances of the baseline calculation, which recalculated every entry in (entry date, id) order from the beginning.
+ */
+public class JournalEntryRunningBalanceUpdateServiceImplTest {
+
+    private static final Long CASH = 1L;
+    private static final Long SAVINGS = 2L;
+    private static final Long HEAD_OFFICE = 1L;
+    private static final Long BRANCH = 2L;
+    private static final LocalDate DAY_1 = LocalDate.of(2024, 1, 1);
+
+    private final Map<Long, GLAccountType> accountTypes = Map.of(CASH, GLAccountType.ASSET, SAVINGS, GLAccountType.LIABILITY);
+    private final List<Entry> ledger = new ArrayList<>();
+    private final Map<List<Long>, Checkpoint> checkpoints = new HashMap<>();
+    private JournalEntryRunningBalanceUpdateServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class, this::answerJdbc);
+        DatabaseSpecificSQLGenerator sqlGenerator = mock(DatabaseSpecificSQLGenerator.class);
+        when(sqlGenerator.limit(anyInt())).thenReturn("");
+        PlatformSecurityContext platformSecurityContext = mock(PlatformSecurityContext.class);
+        AppUser user = mock(AppUser.class);
+        when(user.getId()).thenReturn(1L);
+        when(platformSecurityContext.authenticatedUser()).thenReturn(user);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        ThreadPoolTaskExecutor taskExecutor = mock(ThreadPoolTaskExecutor.class);
+        when(taskExecutor.submit(any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        underTest = new JournalEntryRunningBalanceUpdateServiceImpl(jdbcTemplate, mock(OfficeRepositoryWrapper.class),
+                mock(JournalEntryDataValidator.class), mock(FromJsonHelper.class), sqlGenerator, platformSecurityContext,
+                transactionTemplate, taskExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testOfficeAndOrganizationRunningBalancesMatchBaseline() {
+        post(CASH, HEAD_OFFICE, DAY_1, JournalEntryType.DEBIT, "100");
+        post(SAVINGS, HEAD_OFFICE, DAY_1, JournalEntryType.CREDIT, "100");
+        post(CASH, BRANCH, DAY_1, JournalEntryType.DEBIT, "50");
+        post(SAVINGS, BRANCH, DAY_1, JournalEntryType.CREDIT, "50");
+        post(CASH, HEAD_OFFICE, DAY_1.plusDays(1), JournalEntryType.CREDIT, "30");
+        post(SAVINGS, HEAD_OFFICE, DAY_1.plusDays(1), JournalEntryType.DEBIT, "30");
+        post(CASH, BRANCH, DAY_1.plusDays(2), JournalEntryType.DEBIT, "20.5");
+        post(SAVINGS, BRANCH, DAY_1.plusDays(2), JournalEntryType.CREDIT, "20.5");
+
+        underTest.updateRunningBalance();
+
+        assertMatchesBaseline();
+        assertEquals(new BigDecimal("70"), entry(5).officeRunningBalance);
+        assertEquals(new BigDecimal("120"), entry(5).organizationRunningBalance);
+        assertEquals(new BigDecimal("70.5"), entry(8).officeRunningBalance);
+        assertEquals(new BigDecimal("140.5"), entry(8).organizationRunningBalance);
+    }
+
+    @Test
+    public void testIncrementalRunContinuesFromCheckpoints() {
+        post(CASH, HEAD_OFFICE, DAY_1, JournalEntryType.DEBIT, "100");
+        post(CASH, BRANCH, DAY_1.plusDays(1), JournalEntryType.DEBIT, "40");
+        underTest.updateRunningBalance();
+
+        post(CASH, HEAD_OFFICE, DAY_1.plusDays(2), JournalEntryType.CREDIT, "25");
+        post(CASH, BRANCH, DAY_1.plusDays(3), JournalEntryType.DEBIT, "5");
+        underTest.updateRunningBalance();
+
+        assertMatchesBaseline();
+        assertEquals(new BigDecimal("120"), entry(4).organizationRunningBalance);
+    }
+
+    @Test
+    public void testBackDatedEntryInTheMiddleOfTheSequenceRecalculatesLaterEntries() {
+        for (int day = 0; day < 6; day++) {
+            post(CASH, day % 2 == 0 ? HEAD_OFFICE : BRANCH, DAY_1.plusDays(day), JournalEntryType.DEBIT, "10");
+            post(SAVINGS, day % 2 == 0 ? HEAD_OFFICE : BRANCH, DAY_1.plusDays(day), JournalEntryType.CREDIT, "10");
+        }
+        underTest.updateRunningBalance();
+
+        // posted later with an entry date between the already calculated entries, on both offices
+        post(CASH, BRANCH, DAY_1.plusDays(2), JournalEntryType.CREDIT, "7");
+        post(SAVINGS, BRANCH, DAY_1.plusDays(2), JournalEntryType.DEBIT, "7");
+        post(CASH, HEAD_OFFICE, DAY_1.plusDays(3), JournalEntryType.DEBIT, "3");
+        underTest.updateRunningBalance();
+
+        assertMatchesBaseline();
+        assertEquals(new BigDecimal("56"), lastEntryOf(CASH).organizationRunningBalance);
+        assertEquals(new BigDecimal("53"), lastEntryOf(SAVINGS).organizationRunningBalance);
+    }
+
+    private void assertMatchesBaseline() {
+        final Map<List<Long>, BigDecimal> officeBalances = new HashMap<>();
+        final Map<Long, BigDecimal> organizationBalances = new HashMap<>();
+        for (Entry entry : sortedLedger()) {
+            BigDecimal amount = signedAmount(entry);
+            BigDecimal officeBalance = officeBalances.merge(List.of(entry.accountId, entry.officeId), amount, BigDecimal::add);
+            BigDecimal organizationBalance = organizationBalances.merge(entry.accountId, amount, BigDecimal::add);
+            assertTrue(entry.calculated, "entry " + entry.id + " is not calculated");
+            assertEquals(0, officeBalance.compareTo(entry.officeRunningBalance), "office running balance of entry " + entry.id);
+            assertEquals(0, organizationBalance.compareTo(entry.organizationRunningBalance),
+                    "organization running balance of entry " + entry.id);
+        }
+    }
+
+    private BigDecimal signedAmount(Entry entry) {
+        boolean debitIncreases = accountTypes.get(entry.accountId).isAssetType() || accountTypes.get(entry.accountId).isExpenseType();
+        return (entry.type == JournalEntryType.DEBIT) == debitIncreases ? entry.amount : entry.amount.negate();
+    }
+
+    private void post(Long accountId, Long officeId, LocalDate entryDate, JournalEntryType type, String amount) {
+        ledger.add(new Entry((long) ledger.size() + 1, accountId, officeId, entryDate, type, new BigDecimal(amount)));
+    }
+
+    private Entry entry(long id) {
+        return ledger.get((int) id - 1);
+    }
+
+    private Entry lastEntryOf(Long accountId) {
+        return sortedLedger().stream().filter(e -> e.accountId.equals(accountId)).reduce((first, second) -> second).orElseThrow();
+    }
+
+    private List<Entry> sortedLedger() {
+        return ledger.stream().sorted(Comparator.comparing((Entry e) -> e.entryDate).thenComparing(e -> e.id)).toList();
+    }
+
+    // Serves the statements of the service from the in memory ledger
+    private Object answerJdbc(InvocationOnMock invocation) throws Exception {
+        final Object[] args = invocation.getRawArguments();
+        final String method = invocation.getMethod().getName();
+        if ("query".equals(method)) {
+            final String sql = (String) args[0];
+            final RowMapper<?> mapper = (RowMapper<?>) args[1];
+            final Object[] params = args.length > 2 ? (Object[]) args[2] : new Object[0];
+            final List<Map<String, Object>> rows;
+            if (sql.contains("group by je.account_id")) {
+                rows = partitions();
+            } else if (sql.contains("acc_gl_running_balance_checkpoint")) {
+                rows = checkpoints.values().stream().filter(c -> c.accountId.equals(params[0])).map(Checkpoint::toRow).toList();
+            } else {
+                rows = entries((Long) params[0], (LocalDate) params[1], (Long) params[3]);
+            }
+            final List<Object> result = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                result.add(mapper.mapRow(resultSet(rows.get(i)), i));
+            }
+            return result;
+        } else if ("queryForList".equals(method)) {
+            final Object[] params = (Object[]) args[2];
+            return sortedLedger().stream().filter(e -> e.accountId.equals(params[0]) && e.officeId.equals(params[1]))
+                    .filter(e -> e.entryDate.isBefore((LocalDate) params[2])).reduce((first, second) -> second)
+                    .map(e -> List.of(e.officeRunningBalance)).orElse(List.of());
+        } else if ("batchUpdate".equals(method)) {
+            for (Object[] params : invocation.<List<Object[]>>getArgument(1)) {
+                Entry entry = entry((Long) params[5]);
+                entry.calculated = (Boolean) params[0];
+                entry.organizationRunningBalance = (BigDecimal) params[1];
+                entry.officeRunningBalance = (BigDecimal) params[2];
+            }
+            return new int[0];
+        } else if ("update".equals(method)) {
+            final String sql = (String) args[0];
+            final Object[] params = (Object[]) args[1];
+            if (sql.startsWith("UPDATE acc_gl_running_balance_checkpoint")) {
+                Checkpoint checkpoint = checkpoints.get(List.of((Long) params[4], (Long) params[3]));
+                if (checkpoint == null) {
+                    return 0;
+                }
+                checkpoint.entryDate = (LocalDate) params[1];
+                checkpoint.runningBalance = (BigDecimal) params[2];
+                return 1;
+            }
+            Checkpoint checkpoint = new Checkpoint((Long) params[1], (Long) params[0], (LocalDate) params[3], (BigDecimal) params[4]);
+            checkpoints.put(List.of(checkpoint.accountId, checkpoint.officeId), checkpoint);
+            return 1;
+        }
+        throw new UnsupportedOperationException(method);
+    }
+
+    private List<Map<String, Object>> partitions() {
+        final Map<Long, LocalDate> firstDates = new TreeMap<>(ledger.stream().filter(e -> !e.calculated)
+                .collect(Collectors.toMap(e -> e.accountId, e -> e.entryDate, (a, b) -> a.isBefore(b) ? a : b)));
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        firstDates.forEach((accountId, entryDate) -> rows.add(row("accountId", accountId, "entryDate", entryDate, "classification",
+                accountTypes.get(accountId).getValue())));
+        return rows;
+    }
+
+    private List<Map<String, Object>> entries(Long accountId, LocalDate lastEntryDate, Long lastEntryId) {
+        return sortedLedger().stream().filter(e -> e.accountId.equals(accountId))
+                .filter(e -> e.entryDate.isAfter(lastEntryDate) || (e.entryDate.equals(lastEntryDate) && e.id > lastEntryId))
+                .map(e -> row("id", e.id, "officeId", e.officeId, "entryDate", e.entryDate, "entryType", e.type.getValue(), "amount",
+                        e.amount))
+                .toList();
+    }
+
+    private static Map<String, Object> row(Object... keyValues) {
+        final Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            row.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return row;
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) {
+        final List<String> columns = new ArrayList<>(row.keySet());
+        return mock(ResultSet.class, invocation -> {
+            final Object argument = invocation.getArguments().length == 0 ? null : invocation.getArgument(0);
+            final Object value = argument instanceof Integer index ? row.get(columns.get(index - 1)) : row.get(argument);
+            return switch (invocation.getMethod().getName()) {
+                case "findColumn" -> columns.indexOf(argument) + 1;
+                case "getLong" -> ((Number) value).longValue();
+                case "getInt" -> ((Number) value).intValue();
+                case "getBigDecimal" -> value;
+                case "getDate" -> value == null ? null : Date.valueOf((LocalDate) value);
+                case "getObject" -> value;
+                case "wasNull" -> false;
+                default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+            };
+        });
+    }
+
+    private static final class Entry {
+
+        private final Long id;
+        private final Long accountId;
+        private final Long officeId;
+        private final LocalDate entryDate;
+        private final JournalEntryType type;
+        private final BigDecimal amount;
+        private boolean calculated;
+        private BigDecimal officeRunningBalance;
+        private BigDecimal organizationRunningBalance;
+
+        private Entry(Long id, Long accountId, Long officeId, LocalDate entryDate, JournalEntryType type, BigDecimal amount) {
+            this.id = id;
+            this.accountId = accountId;
+            this.officeId = officeId;
+            this.entryDate = entryDate;
+            this.type = type;
+            this.amount = amount;
+        }
+    }
+
+    private static final class Checkpoint {
+
+        private final Long accountId;
+        private final Long officeId;
+        private LocalDate entryDate;
+        private BigDecimal runningBalance;
+
+        private Checkpoint(Long accountId, Long officeId, LocalDate entryDate, BigDecimal runningBalance) {
+            this.accountId = accountId;
+            this.officeId = officeId;
+            this.entryDate = entryDate;
+            this.runningBalance = runningBalance;
+        }
+
+        private Map<String, Object> toRow() {
+            return row("officeId", officeId, "entryDate", entryDate, "runningBalance", runningBalance);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class ContextAwareTaskDecoratorTest {
+
+    private final Authentication authentication = new TestingAuthenticationToken("system", null);
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 15))));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testSecurityContextIsPropagatedWhenRequested() throws Exception {
+        AtomicReference<Authentication> taskAuthentication = new AtomicReference<>();
+
+        runOnOtherThread(new ContextAwareTaskDecorator(true)
+                .decorate(() -> taskAuthentication.set(SecurityContextHolder.getContext().getAuthentication())));
+
+        assertSame(authentication, taskAuthentication.get());
+    }
+
+    @Test
+    public void testSecurityContextIsNotPropagatedByDefault() throws Exception {
+        AtomicReference<Authentication> taskAuthentication = new AtomicReference<>(authentication);
+
+        runOnOtherThread(new ContextAwareTaskDecorator()
+                .decorate(() -> taskAuthentication.set(SecurityContextHolder.getContext().getAuthentication())));
+
+        assertNull(taskAuthentication.get());
+    }
+
+    private void runOnOtherThread(Runnable runnable) throws InterruptedException {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join();
+    }
+}
@@ -82,6 +82,29 @@ class LoanCOBPartitionerTest {
         validatePartitions(partitions, 2, 11,  20);
     }
 
+    @Test
+    public void testLoanCOBPartitionerCostBalanced() {
+        //given
+        when(propertyService.getPartitionSize(LoanCOBConstant.JOB_NAME)).thenReturn(5);
+        when(propertyService.getCostBalancedPartitioning(LoanCOBConstant.JOB_NAME)).thenReturn(true);
+        when(cobBusinessStepService.getCOBBusinessSteps(LoanCOBBusinessStep.class, LoanCOBConstant.LOAN_COB_JOB_NAME))
+                .thenReturn(BUSINESS_STEP_SET);
+        when(retrieveLoanIdService.retrieveCostBalancedLoanCOBPartitions(1L, BUSINESS_DATE, false, 5))
+                .thenReturn(List.of(new LoanCOBPartition(1L,2L, 0L, 2L), new LoanCOBPartition(3L,20L, 1L, 8L)));
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, 1L);
+        loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
+        loanCOBPartitioner.setIsCatchUp(false);
+
+        //when
+        Map<String, ExecutionContext> partitions = loanCOBPartitioner.partition(1);
+
+        //then
+        Assertions.assertEquals(2, partitions.size());
+        validatePartitions(partitions, 0, 1,  2);
+        validatePartitions(partitions, 1, 3,  20);
+        verify(retrieveLoanIdService, times(0)).retrieveLoanCOBPartitions(Mockito.anyLong(), Mockito.any(), Mockito.anyBoolean(), Mockito.anyInt());
+    }
+
     @Test
     public void testLoanCOBPartitionerEmptyBusinessSteps() throws NoSuchJobExecutionException, JobExecutionNotRunningException {
         //given
@@ -32,6 +32,7 @@ import java.time.ZoneId;
 import java.util.Collections;
 import java.util.TreeMap;
 import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
@@ -42,7 +43,9 @@ public class LoanItemProcessorStepDefinitions implements En {
 
     private COBBusinessStepService cobBusinessStepService = mock(COBBusinessStepService.class);
 
-    private LoanItemProcessor loanItemProcessor = new LoanItemProcessor(cobBusinessStepService);
+    private BusinessEventNotifierService businessEventNotifierService = mock(BusinessEventNotifierService.class);
+
+    private LoanItemProcessor loanItemProcessor = new LoanItemProcessor(cobBusinessStepService, businessEventNotifierService);
 
     private Loan loan = mock(Loan.class);
 
@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanItemProcessorTest {
+
+    private static final LocalDate COB_DATE = LocalDate.of(2024, 1, 5);
+
+    @Mock
+    private COBBusinessStepService cobBusinessStepService;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private Loan loan;
+
+    private LoanItemProcessor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, COB_DATE.plusDays(1));
+        businessDates.put(BusinessDateType.COB_DATE, COB_DATE);
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+        underTest = new LoanItemProcessor(cobBusinessStepService, businessEventNotifierService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void catchUpWritesTheEventsOfEachCOBDateBeforeClosingTheNextOne() throws Exception {
+        underTest.beforeStep(stepExecution(true));
+        when(loan.getLastClosedBusinessDate()).thenReturn(COB_DATE.minusDays(3));
+        List<LocalDate> closedDates = new ArrayList<>();
+        when(cobBusinessStepService.run(any(TreeMap.class), eq(loan))).thenAnswer(invocation -> {
+            closedDates.add(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE));
+            return loan;
+        });
+
+        Loan processedLoan = underTest.process(loan);
+
+        assertEquals(List.of(COB_DATE.minusDays(2), COB_DATE.minusDays(1), COB_DATE), closedDates);
+        InOrder inOrder = inOrder(cobBusinessStepService, businessEventNotifierService);
+        for (int i = 0; i < closedDates.size(); i++) {
+            inOrder.verify(cobBusinessStepService).run(any(TreeMap.class), eq(loan));
+            inOrder.verify(businessEventNotifierService).flushTransactionalBusinessEvents();
+        }
+        verify(processedLoan).setLastClosedBusinessDate(COB_DATE);
+        assertEquals(COB_DATE, ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE));
+    }
+
+    @Test
+    public void singleCOBDateLeavesTheEventsToTheCommit() throws Exception {
+        underTest.beforeStep(stepExecution(false));
+        when(cobBusinessStepService.run(any(TreeMap.class), eq(loan))).thenReturn(loan);
+
+        underTest.process(loan);
+
+        verify(cobBusinessStepService, times(1)).run(any(TreeMap.class), eq(loan));
+        verify(businessEventNotifierService, times(0)).flushTransactionalBusinessEvents();
+    }
+
+    private StepExecution stepExecution(boolean catchUp) {
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.getExecutionContext().put(LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME, COB_DATE.toString());
+        jobExecution.getExecutionContext().put(LoanCOBConstant.IS_CATCH_UP_PARAMETER_NAME, catchUp);
+        StepExecution stepExecution = new StepExecution("test", jobExecution);
+        ExecutionContext stepExecutionContext = new ExecutionContext();
+        stepExecutionContext.put(LoanCOBConstant.BUSINESS_STEPS, Set.of(new BusinessStepNameAndOrder("testStep", 1L)));
+        stepExecution.setExecutionContext(stepExecutionContext);
+        return stepExecution;
+    }
+}
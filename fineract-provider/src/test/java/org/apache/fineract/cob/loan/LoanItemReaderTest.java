@@ -19,23 +19,32 @@
 package org.apache.fineract.cob.loan;
 
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.infrastructure.core.diagnostics.jpa.StatementCounter;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -169,4 +178,63 @@ class LoanItemReaderTest {
 
         Mockito.verifyNoMoreInteractions(loanRepository);
     }
+
+    @Test
+    public void testLoanItemReaderPrefetch() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        loanItemReader.setPrefetchSize(3);
+        loanItemReader.setMeterRegistry(Optional.of(meterRegistry));
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L, 4L, 5L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L, 4L, 5L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        Map<Long, Loan> prefetchedLoans = LongStream.rangeClosed(1, 4).boxed()
+                .collect(Collectors.toMap(Function.identity(), this::mockLoan));
+        StatementCounter statementCounter = new StatementCounter();
+        when(loanRepository.findAllByIdInForCOB(Mockito.<Collection<Long>>any())).thenAnswer(invocation -> {
+            Collection<Long> loanIds = invocation.getArgument(0);
+            // the loans and one batched relation
+            statementCounter.preExecuteCall(null);
+            statementCounter.preExecuteCall(null);
+            // loan 5 is missing from the bulk result and has to be loaded on its own
+            return loanIds.stream().map(prefetchedLoans::get).filter(Objects::nonNull).toList();
+        });
+        when(loanRepository.findById(5L)).thenReturn(Optional.of(loan));
+
+        // when
+        loanItemReader.beforeStep(stepExecution);
+        List<Long> readLoanIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readLoanIds.add(loanItemReader.read().getId());
+        }
+        Loan lastLoan = loanItemReader.read();
+
+        // then
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), readLoanIds);
+        Assertions.assertEquals(loan, lastLoan);
+        Assertions.assertNull(loanItemReader.read());
+        verify(loanRepository, times(1)).findAllByIdInForCOB(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdInForCOB(List.of(4L, 5L));
+        verify(loanRepository, times(1)).findById(5L);
+        verify(loanRepository, never()).findById(1L);
+        Mockito.verifyNoMoreInteractions(loanRepository);
+        // loan 5 was not part of the bulk result, so only 4 of the 5 drained loans count as prefetched
+        Assertions.assertEquals(4.0, meterRegistry.counter("fineract.cob.loan.prefetch.loans").count());
+        Assertions.assertEquals(4.0, meterRegistry.counter("fineract.cob.loan.prefetch.queries").count());
+    }
+
+    private Loan mockLoan(Long loanId) {
+        Loan prefetchedLoan = Mockito.mock(Loan.class);
+        when(prefetchedLoan.getId()).thenReturn(loanId);
+        return prefetchedLoan;
+    }
 }
@@ -23,6 +23,8 @@ import static org.mockito.Mockito.times;
 import java.time.LocalDate;
 import java.util.List;
 import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,8 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
     private LoanRepository loanRepository;
     @Mock
     private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
     @Captor
     private ArgumentCaptor<String> sqlCaptor;
     @Captor
@@ -74,9 +78,48 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
         testRetrieveLoanCOBPartitions(expectedSQL, true);
     }
 
+    @Test
+    public void testRetrieveCostBalancedLoanCOBPartitionsNoCatchup() {
+        String expectedSQL = """
+                select min(id) as min, max(id) as max, page, count(id) as count from
+                  (select floor((sum(cost) over(order by id) - cost) * ceil(count(id) over() * 1.0 / :pageSize) / sum(cost) over()) as page, c.id from
+                        (select id, greatest(coalesce(last_cob_duration_millis, avg(last_cob_duration_millis) over(), 1), 1) as cost
+                         from m_loan where loan_status_id in (:statusIds) and (last_closed_business_date = :businessDate or last_closed_business_date is null) ) c) t
+                 group by page
+                 order by page
+                """;
+        RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
+                namedParameterJdbcTemplate, sqlGenerator, fineractProperties(false));
+        service.retrieveCostBalancedLoanCOBPartitions(1L, LocalDate.parse("2023-06-28"), false, 5);
+        Mockito.verify(namedParameterJdbcTemplate, times(1)).query(sqlCaptor.capture(), paramsCaptor.capture(), rowMapper.capture());
+        Assertions.assertEquals(normalize(expectedSQL), normalize(sqlCaptor.getValue()));
+        Assertions.assertEquals(5, paramsCaptor.getValue().getValue("pageSize"));
+        Assertions.assertEquals(LocalDate.parse("2023-06-27"), paramsCaptor.getValue().getValue("businessDate"));
+    }
+
+    @Test
+    public void testRetrieveCostBalancedLoanCOBPartitionsMultiDateCatchup() {
+        String expectedSQL = """
+                select min(id) as min, max(id) as max, page, count(id) as count from
+                  (select floor((sum(cost) over(order by id) - cost) * ceil(count(id) over() * 1.0 / :pageSize) / sum(cost) over()) as page, c.id from
+                        (select id, greatest(coalesce(last_cob_duration_millis, avg(last_cob_duration_millis) over(), 1), 1) * (DATEDIFF(:businessDate, last_closed_business_date) + 1) as cost
+                         from m_loan where loan_status_id in (:statusIds) and last_closed_business_date <= :businessDate ) c) t
+                 group by page
+                 order by page
+                """;
+        Mockito.when(sqlGenerator.dateDiff(":businessDate", "last_closed_business_date"))
+                .thenReturn("DATEDIFF(:businessDate, last_closed_business_date)");
+        RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
+                namedParameterJdbcTemplate, sqlGenerator, fineractProperties(true));
+        service.retrieveCostBalancedLoanCOBPartitions(1L, LocalDate.parse("2023-06-28"), true, 5);
+        Mockito.verify(namedParameterJdbcTemplate, times(1)).query(sqlCaptor.capture(), paramsCaptor.capture(), rowMapper.capture());
+        Assertions.assertEquals(normalize(expectedSQL), normalize(sqlCaptor.getValue()));
+        Assertions.assertEquals(LocalDate.parse("2023-06-27"), paramsCaptor.getValue().getValue("businessDate"));
+    }
+
     private void testRetrieveLoanCOBPartitions(String expectedSQL, boolean isCatchup) {
         RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
-                namedParameterJdbcTemplate);
+                namedParameterJdbcTemplate, sqlGenerator, fineractProperties(false));
         LocalDate businessDate = LocalDate.parse("2023-06-28");
         service.retrieveLoanCOBPartitions(1L, businessDate, isCatchup, 5);
         Mockito.verify(namedParameterJdbcTemplate, times(1)).query(sqlCaptor.capture(), paramsCaptor.capture(), rowMapper.capture());
@@ -87,6 +130,14 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
 
     }
 
+    private FineractProperties fineractProperties(boolean multiDateCatchUpEnabled) {
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractLoanCobProperties loanCob = new FineractProperties.FineractLoanCobProperties();
+        loanCob.setMultiDateCatchUpEnabled(multiDateCatchUpEnabled);
+        fineractProperties.setLoanCob(loanCob);
+        return fineractProperties;
+    }
+
     private String normalize(String str) {
         return str.replaceAll(" +", " ").replaceAll("\r?\n", "");
     }
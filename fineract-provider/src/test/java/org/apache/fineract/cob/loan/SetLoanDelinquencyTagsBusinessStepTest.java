@@ -29,6 +29,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Constructor;
 import java.time.LocalDate;
@@ -45,6 +46,7 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanAccountDomainService;
 import org.junit.jupiter.api.AfterEach;
@@ -72,6 +74,8 @@ public class SetLoanDelinquencyTagsBusinessStepTest {
     private DelinquencyReadPlatformService delinquencyReadPlatformService;
     @Mock
     private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private LoanDelinquencyStateService loanDelinquencyStateService;
 
     /**
      * The class under test.
@@ -98,7 +102,7 @@ public class SetLoanDelinquencyTagsBusinessStepTest {
         ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()),
                 BusinessDateType.COB_DATE, LocalDate.now(ZoneId.systemDefault()))));
         underTest = new SetLoanDelinquencyTagsBusinessStep(loanAccountDomainService, delinquencyEffectivePauseHelper,
-                delinquencyReadPlatformService, businessEventNotifierService);
+                delinquencyReadPlatformService, businessEventNotifierService, loanDelinquencyStateService);
     }
 
     @AfterEach
@@ -117,6 +121,7 @@ public class SetLoanDelinquencyTagsBusinessStepTest {
         // given
         doNothing().when(loanAccountDomainService).setLoanDelinquencyTag(any(Loan.class), any(LocalDate.class), anyList());
         Loan loanForProcessing = createLoan();
+        when(loanDelinquencyStateService.isClassificationRequired(loanForProcessing)).thenReturn(true);
 
         // when
         Loan processedLoan = underTest.execute(loanForProcessing);
@@ -126,6 +131,26 @@ public class SetLoanDelinquencyTagsBusinessStepTest {
         assertEquals(processedLoan, loanForProcessing);
     }
 
+    /**
+     * Tests {@link SetLoanDelinquencyTagsBusinessStep#execute(Loan)} when the stored delinquency state is up to date.
+     *
+     * @throws Exception
+     *             for any failures.
+     */
+    @Test
+    public void testExecuteWhenDelinquencyStateIsUpToDate() throws Exception {
+        // given
+        Loan loanForProcessing = createLoan();
+        when(loanDelinquencyStateService.isClassificationRequired(loanForProcessing)).thenReturn(false);
+
+        // when
+        Loan processedLoan = underTest.execute(loanForProcessing);
+
+        // then
+        verifyNoInteractions(loanAccountDomainService, delinquencyReadPlatformService, businessEventNotifierService);
+        assertEquals(processedLoan, loanForProcessing);
+    }
+
     /**
      * Tests {@link SetLoanDelinquencyTagsBusinessStep#execute(Loan)} when loan is null.
      *
@@ -157,6 +182,7 @@ public class SetLoanDelinquencyTagsBusinessStepTest {
         doThrow(new RuntimeException()).when(loanAccountDomainService).setLoanDelinquencyTag(any(Loan.class), any(LocalDate.class),
                 anyList());
         Loan loanForProcessing = createLoan();
+        when(loanDelinquencyStateService.isClassificationRequired(loanForProcessing)).thenReturn(true);
 
         // when
         final Throwable thrownException = assertThrows(RuntimeException.class, () -> underTest.execute(loanForProcessing));
@@ -0,0 +1,129 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.cob.data.SavingsCOBParameter;
+import org.apache.fineract.cob.data.SavingsCOBPartition;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobExecutionNotRunningException;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsCOBPartitionerTest {
+
+    private static final Set<BusinessStepNameAndOrder> BUSINESS_STEP_SET = Set.of(new BusinessStepNameAndOrder("Business step", 1L));
+    @Mock
+    private PropertyService propertyService;
+    @Mock
+    private COBBusinessStepService cobBusinessStepService;
+    @Mock
+    private RetrieveSavingsIdService retrieveSavingsIdService;
+    @Mock
+    private JobOperator jobOperator;
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @Test
+    public void testSavingsCOBPartitioner() {
+        //given
+        when(propertyService.getPartitionSize(SavingsCOBConstant.JOB_NAME)).thenReturn(5);
+        when(cobBusinessStepService.getCOBBusinessSteps(SavingsCOBBusinessStep.class, SavingsCOBConstant.SAVINGS_COB_JOB_NAME))
+                .thenReturn(BUSINESS_STEP_SET);
+        when(retrieveSavingsIdService.retrieveSavingsCOBPartitions(5))
+                .thenReturn(List.of(new SavingsCOBPartition(1L,10L, 1L, 5L), new SavingsCOBPartition(11L,20L, 2L, 4L)));
+        SavingsCOBPartitioner savingsCOBPartitioner = new SavingsCOBPartitioner(propertyService, cobBusinessStepService,
+                retrieveSavingsIdService, jobOperator, jobExplorer);
+
+        //when
+        Map<String, ExecutionContext> partitions = savingsCOBPartitioner.partition(1);
+
+        //then
+        Assertions.assertEquals(2, partitions.size());
+        validatePartitions(partitions, 1, 1,  10);
+        validatePartitions(partitions, 2, 11,  20);
+    }
+
+    @Test
+    public void testSavingsCOBPartitionerEmptyBusinessSteps() throws NoSuchJobExecutionException, JobExecutionNotRunningException {
+        //given
+        when(propertyService.getPartitionSize(SavingsCOBConstant.JOB_NAME)).thenReturn(5);
+        when(cobBusinessStepService.getCOBBusinessSteps(SavingsCOBBusinessStep.class, SavingsCOBConstant.SAVINGS_COB_JOB_NAME))
+                .thenReturn(Set.of());
+        JobExecution jobExecution = Mockito.mock(JobExecution.class);
+        when(jobExecution.getId()).thenReturn(123L);
+        when(jobExplorer.findRunningJobExecutions(JobName.SAVINGS_COB.name())).thenReturn(Set.of(jobExecution));
+        SavingsCOBPartitioner savingsCOBPartitioner = new SavingsCOBPartitioner(propertyService, cobBusinessStepService,
+                retrieveSavingsIdService, jobOperator, jobExplorer);
+
+        //when
+        Map<String, ExecutionContext> partitions = savingsCOBPartitioner.partition(1);
+
+        //then
+        Assertions.assertEquals(0, partitions.size());
+        verify(jobExplorer, times(1)).findRunningJobExecutions(JobName.SAVINGS_COB.name());
+        verify(jobOperator, times(1)).stop(123L);
+        verify(retrieveSavingsIdService, times(0)).retrieveSavingsCOBPartitions(Mockito.anyInt());
+    }
+
+    @Test
+    public void testSavingsCOBPartitionerNoSavingsAccountsFound() {
+        //given
+        when(propertyService.getPartitionSize(SavingsCOBConstant.JOB_NAME)).thenReturn(5);
+        when(cobBusinessStepService.getCOBBusinessSteps(SavingsCOBBusinessStep.class, SavingsCOBConstant.SAVINGS_COB_JOB_NAME))
+                .thenReturn(BUSINESS_STEP_SET);
+        when(retrieveSavingsIdService.retrieveSavingsCOBPartitions(5)).thenReturn(List.of());
+        SavingsCOBPartitioner savingsCOBPartitioner = new SavingsCOBPartitioner(propertyService, cobBusinessStepService,
+                retrieveSavingsIdService, jobOperator, jobExplorer);
+
+        //when
+        Map<String, ExecutionContext> partitions = savingsCOBPartitioner.partition(1);
+
+        //then
+        Assertions.assertEquals(1, partitions.size());
+        validatePartitions(partitions, 1, 0,  0);
+    }
+
+    private void validatePartitions(Map<String, ExecutionContext> partitions, int index, long min, long max) {
+        Assertions.assertEquals(BUSINESS_STEP_SET,
+                partitions.get(SavingsCOBPartitioner.PARTITION_PREFIX + index).get(SavingsCOBConstant.BUSINESS_STEPS));
+        Assertions.assertEquals(new SavingsCOBParameter(min, max),
+                partitions.get(SavingsCOBPartitioner.PARTITION_PREFIX + index).get(SavingsCOBConstant.SAVINGS_COB_PARAMETER));
+        Assertions.assertEquals("partition_" + index, partitions.get(SavingsCOBPartitioner.PARTITION_PREFIX + index).get("partition"));
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+public class SavingsItemProcessorTest {
+
+    private static final LocalDate COB_DATE = LocalDate.of(2024, 1, 5);
+
+    @Mock
+    private COBBusinessStepService cobBusinessStepService;
+    @Mock
+    private SavingsAccount savingsAccount;
+    @Mock
+    private StepExecution stepExecution;
+
+    private SavingsItemProcessor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, COB_DATE.plusDays(1));
+        businessDates.put(BusinessDateType.COB_DATE, COB_DATE);
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+        underTest = new SavingsItemProcessor(cobBusinessStepService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void processedSavingsAccountIsClosedForTheCOBDate() throws Exception {
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.put(SavingsCOBConstant.BUSINESS_STEPS, Set.of(new BusinessStepNameAndOrder("UPDATE_SAVINGS_DORMANCY", 1L)));
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        underTest.beforeStep(stepExecution);
+        when(cobBusinessStepService.run(any(TreeMap.class), eq(savingsAccount))).thenReturn(savingsAccount);
+
+        SavingsAccount processedSavingsAccount = underTest.process(savingsAccount);
+
+        assertSame(savingsAccount, processedSavingsAccount);
+        verify(savingsAccount).setLastClosedBusinessDate(COB_DATE);
+    }
+}
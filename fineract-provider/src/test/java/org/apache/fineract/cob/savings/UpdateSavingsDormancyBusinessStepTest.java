@@ -0,0 +1,177 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountSubStatusEnum;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
+import org.apache.fineract.portfolio.savings.domain.SavingsProduct;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+public class UpdateSavingsDormancyBusinessStepTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 31);
+    private static final Long SAVINGS_ID = 1L;
+
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    private SavingsProduct savingsProduct;
+    private UpdateSavingsDormancyBusinessStep underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        savingsAccountWritePlatformService = mock(SavingsAccountWritePlatformService.class);
+        savingsProduct = mock(SavingsProduct.class);
+        when(savingsProduct.isDormancyTrackingActive()).thenReturn(true);
+        underTest = new UpdateSavingsDormancyBusinessStep(savingsAccountWritePlatformService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testExecute_WhenDormancyTrackingIsNotActive_ShouldNotChangeSubStatus() {
+        SavingsAccount savingsAccount = savingsAccount(SavingsAccountSubStatusEnum.NONE, BUSINESS_DATE.minusDays(100), List.of());
+        when(savingsProduct.isDormancyTrackingActive()).thenReturn(false);
+
+        SavingsAccount result = underTest.execute(savingsAccount);
+
+        assertSame(savingsAccount, result);
+        verifyNoInteractions(savingsAccountWritePlatformService);
+    }
+
+    @Test
+    public void testExecute_WhenInactivityPeriodReached_ShouldSetSubStatusInactive() {
+        SavingsAccount savingsAccount = savingsAccount(SavingsAccountSubStatusEnum.NONE, BUSINESS_DATE.minusDays(100), List.of());
+        when(savingsProduct.getDaysToInactive()).thenReturn(30L);
+        when(savingsProduct.getDaysToDormancy()).thenReturn(200L);
+
+        underTest.execute(savingsAccount);
+
+        verify(savingsAccountWritePlatformService).setSubStatusInactive(SAVINGS_ID);
+        verify(savingsAccountWritePlatformService, never()).setSubStatusDormant(anyLong());
+    }
+
+    @Test
+    public void testExecute_WhenRecentDepositExists_ShouldNotSetSubStatusInactive() {
+        SavingsAccountTransaction deposit = transaction(BUSINESS_DATE.minusDays(10), true, false);
+        SavingsAccount savingsAccount = savingsAccount(SavingsAccountSubStatusEnum.NONE, BUSINESS_DATE.minusDays(100), List.of(deposit));
+        when(savingsProduct.getDaysToInactive()).thenReturn(30L);
+
+        underTest.execute(savingsAccount);
+
+        verify(savingsAccountWritePlatformService, never()).setSubStatusInactive(anyLong());
+    }
+
+    @Test
+    public void testExecute_WhenReversedDepositIsTheLastActivity_ShouldIgnoreIt() {
+        SavingsAccountTransaction reversedDeposit = transaction(BUSINESS_DATE.minusDays(10), true, true);
+        SavingsAccount savingsAccount = savingsAccount(SavingsAccountSubStatusEnum.INACTIVE, BUSINESS_DATE.minusDays(100),
+                List.of(reversedDeposit));
+        when(savingsProduct.getDaysToDormancy()).thenReturn(60L);
+        when(savingsProduct.getDaysToEscheat()).thenReturn(365L);
+
+        underTest.execute(savingsAccount);
+
+        verify(savingsAccountWritePlatformService).setSubStatusDormant(SAVINGS_ID);
+    }
+
+    @Test
+    public void testExecute_WhenEscheatPeriodReached_ShouldEscheat() {
+        SavingsAccount savingsAccount = savingsAccount(SavingsAccountSubStatusEnum.DORMANT, BUSINESS_DATE.minusDays(400), List.of());
+        when(savingsProduct.getDaysToEscheat()).thenReturn(365L);
+
+        underTest.execute(savingsAccount);
+
+        verify(savingsAccountWritePlatformService).escheat(SAVINGS_ID);
+    }
+
+    @Test
+    public void testExecute_WhenEveryPeriodReached_ShouldMoveThroughEveryStage() {
+        SavingsAccount savingsAccount = savingsAccount(SavingsAccountSubStatusEnum.NONE, BUSINESS_DATE.minusDays(400), List.of());
+        when(savingsProduct.getDaysToInactive()).thenReturn(30L);
+        when(savingsProduct.getDaysToDormancy()).thenReturn(60L);
+        when(savingsProduct.getDaysToEscheat()).thenReturn(365L);
+
+        underTest.execute(savingsAccount);
+
+        InOrder inOrder = inOrder(savingsAccountWritePlatformService);
+        inOrder.verify(savingsAccountWritePlatformService).setSubStatusInactive(SAVINGS_ID);
+        inOrder.verify(savingsAccountWritePlatformService).setSubStatusDormant(SAVINGS_ID);
+        inOrder.verify(savingsAccountWritePlatformService).escheat(SAVINGS_ID);
+    }
+
+    @Test
+    public void testExecute_WhenOnlyDormancyPeriodReached_ShouldStopAtDormant() {
+        SavingsAccount savingsAccount = savingsAccount(SavingsAccountSubStatusEnum.NONE, BUSINESS_DATE.minusDays(100), List.of());
+        when(savingsProduct.getDaysToInactive()).thenReturn(30L);
+        when(savingsProduct.getDaysToDormancy()).thenReturn(60L);
+        when(savingsProduct.getDaysToEscheat()).thenReturn(365L);
+
+        underTest.execute(savingsAccount);
+
+        verify(savingsAccountWritePlatformService).setSubStatusInactive(SAVINGS_ID);
+        verify(savingsAccountWritePlatformService).setSubStatusDormant(SAVINGS_ID);
+        verify(savingsAccountWritePlatformService, never()).escheat(anyLong());
+    }
+
+    private SavingsAccount savingsAccount(SavingsAccountSubStatusEnum subStatus, LocalDate activationDate,
+            List<SavingsAccountTransaction> transactions) {
+        SavingsAccount savingsAccount = mock(SavingsAccount.class);
+        when(savingsAccount.getId()).thenReturn(SAVINGS_ID);
+        when(savingsAccount.savingsProduct()).thenReturn(savingsProduct);
+        when(savingsAccount.getSubStatus()).thenReturn(subStatus.getValue());
+        when(savingsAccount.getActivationDate()).thenReturn(activationDate);
+        when(savingsAccount.getTransactions()).thenReturn(transactions);
+        return savingsAccount;
+    }
+
+    private SavingsAccountTransaction transaction(LocalDate transactionDate, boolean deposit, boolean reversed) {
+        SavingsAccountTransaction transaction = mock(SavingsAccountTransaction.class);
+        when(transaction.getTransactionDate()).thenReturn(transactionDate);
+        when(transaction.isDeposit()).thenReturn(deposit);
+        when(transaction.isReversed()).thenReturn(reversed);
+        return transaction;
+    }
+}
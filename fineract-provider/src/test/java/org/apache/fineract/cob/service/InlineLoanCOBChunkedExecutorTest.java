@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.cob.data.InlineLoanCOBLoanOutcomeData;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class InlineLoanCOBChunkedExecutorTest {
+
+    private static final String JOB_NAME = "INLINE_LOAN_COB";
+
+    @Mock
+    private InlineLoanCOBExecutionTracker executionTracker;
+
+    private HashMap<BusinessDateType, LocalDate> businessDates;
+    private InlineLoanCOBChunkedExecutor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 2));
+        businessDates.put(BusinessDateType.COB_DATE, LocalDate.of(2024, 1, 1));
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+
+        FineractProperties.FineractInlineLoanCobProperties properties = new FineractProperties.FineractInlineLoanCobProperties();
+        properties.setChunkSize(2);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setInlineLoanCob(properties);
+        underTest = new InlineLoanCOBChunkedExecutor(executionTracker, new SyncTaskExecutor(), fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void shouldExecuteLoansInChunksAndRecordTheirOutcome() {
+        when(executionTracker.create(JOB_NAME, List.of(1L, 2L, 3L))).thenReturn(7L);
+        List<List<Long>> executedChunks = new ArrayList<>();
+
+        Long executionId = underTest.start(JOB_NAME, List.of(1L, 2L, 3L, 2L), chunk -> {
+            executedChunks.add(chunk);
+            return chunk.contains(2L) ? Map.of(2L, "Loan (id: 2) processing is failed") : Map.of();
+        });
+
+        assertThat(executionId).isEqualTo(7L);
+        assertThat(executedChunks).containsExactly(List.of(1L, 2L), List.of(3L));
+        assertThat(recordedOutcomes()).containsExactly(
+                new InlineLoanCOBLoanOutcomeData(1L, InlineLoanCOBExecutionTracker.LOAN_STATUS_SUCCEEDED, null),
+                new InlineLoanCOBLoanOutcomeData(2L, InlineLoanCOBExecutionTracker.LOAN_STATUS_FAILED, "Loan (id: 2) processing is failed"),
+                new InlineLoanCOBLoanOutcomeData(3L, InlineLoanCOBExecutionTracker.LOAN_STATUS_SUCCEEDED, null));
+        verify(executionTracker).complete(7L);
+    }
+
+    @Test
+    void shouldFailAllLoansOfAChunkWhenItsJobFails() {
+        when(executionTracker.create(JOB_NAME, List.of(1L, 2L, 3L))).thenReturn(7L);
+
+        underTest.start(JOB_NAME, List.of(1L, 2L, 3L), chunk -> {
+            if (chunk.contains(1L)) {
+                throw new IllegalStateException("Job execution failed for job with name: " + JOB_NAME);
+            }
+            return Map.of();
+        });
+
+        assertThat(recordedOutcomes()).extracting(InlineLoanCOBLoanOutcomeData::getStatus).containsExactly(
+                InlineLoanCOBExecutionTracker.LOAN_STATUS_FAILED, InlineLoanCOBExecutionTracker.LOAN_STATUS_FAILED,
+                InlineLoanCOBExecutionTracker.LOAN_STATUS_SUCCEEDED);
+        verify(executionTracker).complete(7L);
+    }
+
+    @Test
+    void shouldGiveEveryChunkItsOwnBusinessDates() {
+        when(executionTracker.create(JOB_NAME, List.of(1L, 2L, 3L))).thenReturn(7L);
+
+        underTest.start(JOB_NAME, List.of(1L, 2L, 3L), chunk -> {
+            ThreadLocalContextUtil.getBusinessDates().put(BusinessDateType.COB_DATE, LocalDate.of(2023, 12, 1));
+            return Map.of();
+        });
+
+        assertThat(businessDates).containsEntry(BusinessDateType.COB_DATE, LocalDate.of(2024, 1, 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<InlineLoanCOBLoanOutcomeData> recordedOutcomes() {
+        ArgumentCaptor<List<InlineLoanCOBLoanOutcomeData>> outcomes = ArgumentCaptor.forClass(List.class);
+        verify(executionTracker, times(2)).recordOutcomes(eq(7L), outcomes.capture());
+        return outcomes.getAllValues().stream().flatMap(List::stream).toList();
+    }
+}
@@ -20,12 +20,16 @@ package org.apache.fineract.commands.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Map;
+import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSource;
 import org.apache.fineract.commands.domain.CommandWrapper;
@@ -34,11 +38,15 @@ import org.apache.fineract.commands.provider.CommandHandlerProvider;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
+import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
+import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
+import org.apache.fineract.infrastructure.hooks.event.HookEvent;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -47,6 +55,8 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -85,6 +95,15 @@ public class SynchronousCommandProcessingServiceTest {
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
     }
 
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        BatchRequestContextHolder.resetIsReplayedOnFailure();
+        BatchRequestContextHolder.resetIsEnclosingTransaction();
+    }
+
     @Test
     public void testExecuteCommandSuccess() {
         CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
@@ -174,6 +193,77 @@ public class SynchronousCommandProcessingServiceTest {
         verify(commandSourceService).generateErrorInfo(runtimeException);
     }
 
+    @Test
+    public void hookEventOfReplayedChunkIsPublishedAfterCommit() {
+        CommandWrapper commandWrapper = hookCommandWrapper();
+        JsonCommand jsonCommand = hookJsonCommand();
+        CommandSource commandSource = stubHookCommandSource();
+        when(commandSourceService.saveResultSameTransaction(commandSource)).thenReturn(commandSource);
+        when(commandSourceService.processCommand(any(), any(), any(), any(), any(Boolean.class), any(Boolean.class)))
+                .thenReturn(new CommandProcessingResultBuilder().withEntityId(1L).build());
+
+        BatchRequestContextHolder.setIsEnclosingTransaction(true);
+        BatchRequestContextHolder.setIsReplayedOnFailure(true);
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        verify(applicationContext, never()).publishEvent(any(HookEvent.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(applicationContext).publishEvent(any(HookEvent.class));
+    }
+
+    @Test
+    public void hookEventOfEnclosingBatchRequestIsPublishedImmediately() {
+        CommandWrapper commandWrapper = hookCommandWrapper();
+        JsonCommand jsonCommand = hookJsonCommand();
+        CommandSource commandSource = stubHookCommandSource();
+        when(commandSourceService.saveResultSameTransaction(commandSource)).thenReturn(commandSource);
+        when(commandSourceService.processCommand(any(), any(), any(), any(), any(Boolean.class), any(Boolean.class)))
+                .thenReturn(new CommandProcessingResultBuilder().withEntityId(1L).build());
+
+        BatchRequestContextHolder.setIsEnclosingTransaction(true);
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        verify(applicationContext).publishEvent(any(HookEvent.class));
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    public void hookErrorEventIsLeftToTheReplayOfTheCommand() {
+        CommandWrapper commandWrapper = hookCommandWrapper();
+        JsonCommand jsonCommand = hookJsonCommand();
+        stubHookCommandSource();
+        when(commandSourceService.processCommand(any(), any(), any(), any(), any(Boolean.class), any(Boolean.class)))
+                .thenThrow(new RuntimeException("foo"));
+        when(commandSourceService.generateErrorInfo(any())).thenReturn(new ErrorInfo(400, 1, "{}", null));
+
+        BatchRequestContextHolder.setIsEnclosingTransaction(true);
+        BatchRequestContextHolder.setIsReplayedOnFailure(true);
+        assertThrows(RuntimeException.class, () -> underTest.executeCommand(commandWrapper, jsonCommand, false));
+        verify(applicationContext, never()).publishEvent(any(HookEvent.class));
+
+        BatchRequestContextHolder.resetIsReplayedOnFailure();
+        BatchRequestContextHolder.resetIsEnclosingTransaction();
+        assertThrows(RuntimeException.class, () -> underTest.executeCommand(commandWrapper, jsonCommand, false));
+        verify(applicationContext).publishEvent(any(HookEvent.class));
+    }
+
+    @Test
+    public void hookErrorEventOfEnclosingBatchRequestIsPublished() {
+        CommandWrapper commandWrapper = hookCommandWrapper();
+        JsonCommand jsonCommand = hookJsonCommand();
+        stubHookCommandSource();
+        when(commandSourceService.processCommand(any(), any(), any(), any(), any(Boolean.class), any(Boolean.class)))
+                .thenThrow(new RuntimeException("foo"));
+        when(commandSourceService.generateErrorInfo(any())).thenReturn(new ErrorInfo(400, 1, "{}", null));
+
+        BatchRequestContextHolder.setIsEnclosingTransaction(true);
+        assertThrows(RuntimeException.class, () -> underTest.executeCommand(commandWrapper, jsonCommand, false));
+
+        verify(applicationContext).publishEvent(any(HookEvent.class));
+    }
+
     @Test
     public void publishHookEventHandlesInvalidJson() {
         String entityName = "entity";
@@ -187,4 +277,31 @@ public class SynchronousCommandProcessingServiceTest {
             underTest.publishHookEvent(entityName, actionName, command, Object.class);
         });
     }
+
+    private static CommandWrapper hookCommandWrapper() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        when(commandWrapper.entityName()).thenReturn("LOAN");
+        when(commandWrapper.actionName()).thenReturn("REPAYMENT");
+        return commandWrapper;
+    }
+
+    private static JsonCommand hookJsonCommand() {
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(1L);
+        when(jsonCommand.json()).thenReturn("{}");
+        return jsonCommand;
+    }
+
+    private CommandSource stubHookCommandSource() {
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+        when(idempotencyKeyResolver.resolve(any(CommandWrapper.class))).thenReturn("idk");
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(1L);
+        when(commandSourceService.getCommandSource(1L)).thenReturn(commandSource);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        when(context.authenticatedUser()).thenReturn(appUser);
+        return commandSource;
+    }
 }
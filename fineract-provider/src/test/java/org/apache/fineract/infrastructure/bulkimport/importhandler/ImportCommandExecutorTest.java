@@ -0,0 +1,211 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.commands.domain.CommandSource;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.handler.NewCommandSourceHandler;
+import org.apache.fineract.commands.provider.CommandHandlerProvider;
+import org.apache.fineract.commands.service.CommandSourceService;
+import org.apache.fineract.commands.service.CommandWrapperBuilder;
+import org.apache.fineract.commands.service.IdempotencyKeyGenerator;
+import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportCommandExecutor.ImportCommand;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportCommandExecutor.ImportCommandResult;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportCommandExecutorTest {
+
+    private static final FineractContext CONTEXT = new FineractContext("default",
+            new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null), null, new HashMap<>(), ActionContext.DEFAULT);
+
+    @Mock
+    private PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private CommandHandlerProvider commandHandlerProvider;
+    @Mock
+    private CommandSourceService commandSourceService;
+    @Mock
+    private IdempotencyKeyGenerator idempotencyKeyGenerator;
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testFailedChunkIsExecutedRowByRow() {
+        ImportCommandExecutor underTest = executor(1, 3);
+        CommandWrapper failing = repayment(1L);
+        when(commandsSourceWritePlatformService.logCommandSource(failing))
+                .thenThrow(new GeneralPlatformDomainRuleException("error.msg.test", "Repayment failed"));
+        List<ImportCommand> commands = List.of(new ImportCommand(1, 1L, repayment(1L)), new ImportCommand(2, 1L, failing),
+                new ImportCommand(3, 1L, repayment(1L)));
+        List<int[]> progress = new ArrayList<>();
+
+        List<ImportCommandResult> results = underTest.execute(commands,
+                (successCount, errorCount) -> progress.add(new int[] { successCount, errorCount }));
+
+        assertThat(results).extracting(ImportCommandResult::rowIndex).containsExactly(1, 2, 3);
+        assertThat(results).extracting(ImportCommandResult::isSuccess).containsExactly(true, false, true);
+        // once within the rolled back chunk and once on its own
+        verify(commandsSourceWritePlatformService, times(2)).logCommandSource(failing);
+        assertThat(progress).containsExactly(new int[] { 2, 1 });
+    }
+
+    @Test
+    public void testGroupsKeepRowOrderWhenExecutedInParallel() {
+        ThreadLocalContextUtil.init(CONTEXT);
+        ImportCommandExecutor underTest = executor(4, 2);
+        Map<CommandWrapper, Integer> rowsByCommand = new HashMap<>();
+        List<ImportCommand> commands = new ArrayList<>();
+        for (int rowIndex = 1; rowIndex <= 20; rowIndex++) {
+            long loanId = rowIndex % 5;
+            CommandWrapper commandWrapper = repayment(loanId);
+            rowsByCommand.put(commandWrapper, rowIndex);
+            commands.add(new ImportCommand(rowIndex, loanId, commandWrapper));
+        }
+        Map<Long, List<Integer>> executedRowsByLoan = Collections.synchronizedMap(new HashMap<>());
+        doAnswer(invocation -> {
+            CommandWrapper commandWrapper = invocation.getArgument(0);
+            executedRowsByLoan.computeIfAbsent(commandWrapper.getLoanId(), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(rowsByCommand.get(commandWrapper));
+            return null;
+        }).when(commandsSourceWritePlatformService).logCommandSource(any(CommandWrapper.class));
+
+        List<ImportCommandResult> results = underTest.execute(commands, ImportProgressListener.NONE);
+
+        assertThat(results).hasSize(20).allMatch(ImportCommandResult::isSuccess);
+        assertThat(executedRowsByLoan).hasSize(5);
+        executedRowsByLoan.values().forEach(rows -> assertThat(rows).isSorted().hasSize(4));
+    }
+
+    @Test
+    public void testDefaultThreadPoolSizeImportsEveryGroup() {
+        ThreadLocalContextUtil.init(CONTEXT);
+        ImportCommandExecutor underTest = executor(0, 2);
+        List<ImportCommand> commands = new ArrayList<>();
+        for (int rowIndex = 1; rowIndex <= 10; rowIndex++) {
+            long loanId = rowIndex % 5;
+            commands.add(new ImportCommand(rowIndex, loanId, repayment(loanId)));
+        }
+
+        List<ImportCommandResult> results = underTest.execute(commands, ImportProgressListener.NONE);
+
+        assertThat(results).hasSize(10).allMatch(ImportCommandResult::isSuccess);
+        verify(commandsSourceWritePlatformService, times(10)).logCommandSource(any(CommandWrapper.class));
+    }
+
+    @Test
+    public void testChunkIsRecordedAsOneCommandSourceWhenRowsAreNotAudited() {
+        ImportCommandExecutor underTest = executor(1, 3, false);
+        AppUser user = mock(AppUser.class);
+        when(context.authenticatedUser()).thenReturn(user);
+        CommandSource commandSource = mock(CommandSource.class);
+        when(commandSourceService.getInitialCommandSource(any(CommandWrapper.class), any(), eq(user), any())).thenReturn(commandSource);
+        NewCommandSourceHandler handler = mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler("LOAN", "REPAYMENT")).thenReturn(handler);
+        List<ImportCommand> commands = List.of(new ImportCommand(1, 1L, repayment(1L)), new ImportCommand(2, 1L, repayment(1L)),
+                new ImportCommand(3, 1L, repayment(1L)));
+
+        List<ImportCommandResult> results = underTest.execute(commands, ImportProgressListener.NONE);
+
+        assertThat(results).hasSize(3).allMatch(ImportCommandResult::isSuccess);
+        verify(user).validateHasPermissionTo("REPAYMENT_LOAN");
+        verify(commandSourceService, times(3)).processCommand(eq(handler), any(), eq(commandSource), eq(user), anyBoolean(),
+                anyBoolean());
+        verify(commandSource).setCommandAsJson("[{},{},{}]");
+        verify(commandSourceService).saveResultSameTransaction(commandSource);
+        verify(commandsSourceWritePlatformService, never()).logCommandSource(any(CommandWrapper.class));
+    }
+
+    @Test
+    public void testMakerCheckerChunkIsAuditedPerRow() {
+        ImportCommandExecutor underTest = executor(1, 3, false);
+        when(configurationDomainService.isMakerCheckerEnabledForTask(anyString())).thenReturn(true);
+        List<ImportCommand> commands = List.of(new ImportCommand(1, 1L, repayment(1L)), new ImportCommand(2, 1L, repayment(1L)));
+
+        List<ImportCommandResult> results = underTest.execute(commands, ImportProgressListener.NONE);
+
+        assertThat(results).hasSize(2).allMatch(ImportCommandResult::isSuccess);
+        verify(commandsSourceWritePlatformService, times(2)).logCommandSource(any(CommandWrapper.class));
+        verify(commandSourceService, never()).saveResultSameTransaction(any());
+    }
+
+    private ImportCommandExecutor executor(int threadPoolSize, int chunkSize) {
+        return executor(threadPoolSize, chunkSize, true);
+    }
+
+    private ImportCommandExecutor executor(int threadPoolSize, int chunkSize, boolean auditEachRow) {
+        FineractProperties.FineractBulkImportProperties bulkImportProperties = new FineractProperties.FineractBulkImportProperties();
+        bulkImportProperties.setThreadPoolSize(threadPoolSize);
+        bulkImportProperties.setChunkSize(chunkSize);
+        bulkImportProperties.setAuditEachRow(auditEachRow);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBulkImport(bulkImportProperties);
+        return new ImportCommandExecutor(commandsSourceWritePlatformService, transactionManager, entityManager, fineractProperties, context,
+                configurationDomainService, commandHandlerProvider, commandSourceService, idempotencyKeyGenerator, new FromJsonHelper());
+    }
+
+    private static CommandWrapper repayment(Long loanId) {
+        return new CommandWrapperBuilder().loanRepaymentTransaction(loanId).withJson("{}").build();
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.filters;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.RoutingDataSourceService;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TenantConnectionAdmissionFilterTest {
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @Mock
+    private FilterChain filterChain;
+
+    @Mock
+    private RoutingDataSourceService routingDataSourceService;
+
+    @Mock
+    private DataSource dataSource;
+
+    private TenantConnectionAdmissionFilter underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractVirtualThreadsProperties virtualThreads = new FineractProperties.FineractVirtualThreadsProperties();
+        virtualThreads.setEnabled(true);
+        virtualThreads.setMaxConcurrentRequestsPerPool(1);
+        virtualThreads.setAdmissionTimeoutMillis(0);
+        fineractProperties.setVirtualThreads(virtualThreads);
+        given(routingDataSourceService.retrieveDataSource()).willReturn(dataSource);
+        underTest = new TenantConnectionAdmissionFilter(fineractProperties, routingDataSourceService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testDoFilterInternalShouldProceedWithoutTenant() throws Exception {
+        // when
+        underTest.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(routingDataSourceService);
+    }
+
+    @Test
+    void testDoFilterInternalShouldRejectWhenAllPermitsOfThePoolAreTaken() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        HttpServletResponse rejectedResponse = mock(HttpServletResponse.class);
+        StringWriter body = new StringWriter();
+        given(rejectedResponse.getWriter()).willReturn(new PrintWriter(body));
+        FilterChain rejectedFilterChain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+            underTest.doFilterInternal(request, rejectedResponse, rejectedFilterChain);
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // when
+        underTest.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(rejectedFilterChain, never()).doFilter(any(), any());
+        verify(rejectedResponse).setStatus(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        assertTrue(body.toString().contains("error.msg.platform.connection.pool.busy"));
+    }
+
+    @Test
+    void testDoFilterInternalShouldReleaseThePermitAfterTheRequest() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+
+        // when
+        underTest.doFilterInternal(request, response, filterChain);
+        underTest.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(filterChain, times(2)).doFilter(request, response);
+        verify(response, never()).setStatus(HttpStatus.SC_SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.service.export.JsonDatatableReportExportService;
+import org.apache.fineract.infrastructure.dataqueries.service.export.ResponseHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class JsonDatatableReportExportServiceTest {
+
+    private static final List<ResultsetColumnHeaderData> COLUMN_HEADERS = List.of(
+            ResultsetColumnHeaderData.basic("id", "BIGINT", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("name", "VARCHAR", DatabaseType.MYSQL));
+
+    @Mock
+    private ReadReportingService readReportingService;
+
+    @Mock
+    private GenericDataService genericDataService;
+
+    private JsonDatatableReportExportService underTest;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        underTest = new JsonDatatableReportExportService(readReportingService, genericDataService);
+        doAnswer(invocation -> {
+            GenericResultsetStreamHandler handler = invocation.getArgument(4);
+            handler.handleColumnHeaders(COLUMN_HEADERS);
+            handler.handleRow(Arrays.asList(1L, "first"));
+            handler.handleRow(Arrays.asList(2L, "second"));
+            return null;
+        }).when(readReportingService).streamGenericResultset(eq("report"), anyString(), anyMap(), anyBoolean(), any());
+    }
+
+    @Test
+    public void exportStreamsGenericResultset() throws Exception {
+        JsonObject json = JsonParser.parseString(export(new MultivaluedHashMap<>())).getAsJsonObject();
+
+        assertEquals(2, json.getAsJsonArray("columnHeaders").size());
+        assertEquals("name", json.getAsJsonArray("columnHeaders").get(1).getAsJsonObject().get("columnName").getAsString());
+        JsonArray data = json.getAsJsonArray("data");
+        assertEquals(2, data.size());
+        assertEquals("second", data.get(1).getAsJsonObject().getAsJsonArray("row").get(1).getAsString());
+    }
+
+    @Test
+    public void exportStreamsPlainRows() throws Exception {
+        when(genericDataService.generateJsonFromResultsetRow(eq(COLUMN_HEADERS), any()))
+                .thenAnswer(invocation -> "\n{\"id\": " + invocation.<List<Object>>getArgument(1).get(0) + "}");
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("genericResultSet", "false");
+
+        JsonArray rows = JsonParser.parseString(export(queryParams)).getAsJsonArray();
+
+        assertEquals(2, rows.size());
+        assertEquals(2L, rows.get(1).getAsJsonObject().get("id").getAsLong());
+    }
+
+    private String export(MultivaluedMap<String, String> queryParams) throws Exception {
+        ResponseHolder response = underTest.export("report", queryParams, Map.of(), false, "report");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.entity()).write(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -23,23 +23,29 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -64,9 +70,17 @@ class BusinessEventNotifierServiceImplTest {
     @Mock
     private TransactionHelper transactionHelper;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
     private BusinessEventNotifierServiceImpl underTest;
 
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new BusinessEventNotifierServiceImpl(externalEventService, fineractProperties, transactionHelper,
+                externalBusinessEventConfigurationService, Optional.of(meterRegistry));
+    }
+
     @Test
     public void testNotifyPostBusinessEventShouldCollectEventsWithinTransaction() {
         // given
@@ -86,7 +100,7 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
         // simulate finish transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyTransactionalEventsPosted(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -125,10 +139,11 @@ class BusinessEventNotifierServiceImplTest {
         // simulate commit nested transaction
         underTest.beforeCommit(mockTransaction);
         underTest.afterCommit(mockTransaction, null);
-        verify(externalEventService).postEvent(nestedEvent);
+        verifyTransactionalEventsPosted(nestedEvent);
+        Mockito.clearInvocations(externalEventService);
         // simulate commit outer transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyTransactionalEventsPosted(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -162,7 +177,7 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
         // simulate commit outer transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyTransactionalEventsPosted(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -279,6 +294,58 @@ class BusinessEventNotifierServiceImplTest {
         assertThat(capturedEvent.get().get(1)).isEqualTo(event2);
     }
 
+    @Test
+    public void testStopExternalEventRecordingShouldPostTheBulkExternalEventAtCommitWithinTransaction() {
+        // given
+        setBusinessDate();
+        configureExternalEventsProperties(true);
+        when(externalBusinessEventConfigurationService.isExternalEventConfiguredForPosting(Mockito.any())).thenReturn(true);
+        when(transactionHelper.hasTransaction()).thenReturn(true);
+        MockBusinessEvent event = new MockBusinessEvent();
+        MockBusinessEvent event2 = new MockBusinessEvent();
+        TransactionExecution mockTransaction = mock(TransactionExecution.class);
+        underTest.afterBegin(mockTransaction, null);
+        underTest.startExternalEventRecording();
+        underTest.notifyPostBusinessEvent(event);
+        underTest.notifyPostBusinessEvent(event2);
+        // when
+        underTest.stopExternalEventRecording();
+        // then
+        verifyNoInteractions(externalEventService);
+        underTest.beforeCommit(mockTransaction);
+        ArgumentCaptor<List<BusinessEventWithContext>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(externalEventService).postEvents(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue()).hasSize(1);
+        BulkBusinessEvent capturedEvent = (BulkBusinessEvent) argumentCaptor.getValue().get(0).getEvent();
+        assertThat(capturedEvent.get()).containsExactly(event, event2);
+        underTest.afterCommit(mockTransaction, null);
+    }
+
+    @Test
+    public void testFlushTransactionalBusinessEventsShouldPostTheEventsRaisedSoFarOnlyOnce() {
+        // given
+        setBusinessDate();
+        configureExternalEventsProperties(true);
+        when(externalBusinessEventConfigurationService.isExternalEventConfiguredForPosting(Mockito.any())).thenReturn(true);
+        when(transactionHelper.hasTransaction()).thenReturn(true);
+        MockBusinessEvent event = new MockBusinessEvent();
+        MockBusinessEvent event2 = new MockBusinessEvent();
+        TransactionExecution mockTransaction = mock(TransactionExecution.class);
+        underTest.afterBegin(mockTransaction, null);
+        underTest.notifyPostBusinessEvent(event);
+        // when
+        underTest.flushTransactionalBusinessEvents();
+        // then
+        ArgumentCaptor<List<BusinessEventWithContext>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(externalEventService).postEvents(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue()).extracting(BusinessEventWithContext::getEvent).containsExactly(event);
+        underTest.notifyPostBusinessEvent(event2);
+        underTest.beforeCommit(mockTransaction);
+        verify(externalEventService, times(2)).postEvents(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue()).extracting(BusinessEventWithContext::getEvent).containsExactly(event2);
+        underTest.afterCommit(mockTransaction, null);
+    }
+
     @Test
     public void testNotifyPreBusinessEventShouldNotifyPreListeners() {
         // given
@@ -324,6 +391,69 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
     }
 
+    @Test
+    public void testNotifyPostBusinessEventShouldNotifyListenersRegisteredForSuperType() {
+        // given
+        configureExternalEventsProperties(false);
+
+        MockBusinessEvent event = new MockBusinessEvent();
+        BusinessEventListener<BusinessEvent> postListener = (BusinessEventListener<BusinessEvent>) mock(BusinessEventListener.class);
+        underTest.addPostBusinessEventListener(BusinessEvent.class, postListener);
+        // when
+        underTest.notifyPostBusinessEvent(event);
+        // then
+        verify(postListener).onBusinessEvent(event);
+    }
+
+    @Test
+    public void testNotifyPostBusinessEventShouldNotifyListenerRegisteredAfterFirstDispatch() {
+        // given
+        configureExternalEventsProperties(false);
+
+        MockBusinessEvent event = new MockBusinessEvent();
+        MockBusinessEvent event2 = new MockBusinessEvent();
+        BusinessEventListener<MockBusinessEvent> postListener = mockListener();
+        BusinessEventListener<MockBusinessEvent> latePostListener = mockListener();
+        underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
+        underTest.notifyPostBusinessEvent(event);
+        // when
+        underTest.addPostBusinessEventListener(MockBusinessEvent.class, latePostListener);
+        underTest.notifyPostBusinessEvent(event2);
+        // then
+        verify(postListener).onBusinessEvent(event);
+        verify(postListener).onBusinessEvent(event2);
+        verify(latePostListener, never()).onBusinessEvent(event);
+        verify(latePostListener).onBusinessEvent(event2);
+    }
+
+    @Test
+    public void testNotifyBusinessEventShouldRecordDispatchTimePerEventType() {
+        // given
+        configureExternalEventsProperties(false);
+
+        underTest.addPreBusinessEventListener(MockBusinessEvent.class, mockListener());
+        underTest.addPostBusinessEventListener(MockBusinessEvent.class, mockListener());
+        // when
+        underTest.notifyPreBusinessEvent(new MockBusinessEvent());
+        underTest.notifyPostBusinessEvent(new MockBusinessEvent());
+        underTest.notifyPostBusinessEvent(new MockBusinessEvent());
+        // then
+        Timer preTimer = meterRegistry.find("fineract.events.business.dispatch").tags("type", "MockBusinessEvent", "phase", "pre")
+                .timer();
+        Timer postTimer = meterRegistry.find("fineract.events.business.dispatch").tags("type", "MockBusinessEvent", "phase", "post")
+                .timer();
+        assertThat(preTimer).isNotNull();
+        assertThat(preTimer.count()).isEqualTo(1);
+        assertThat(postTimer).isNotNull();
+        assertThat(postTimer.count()).isEqualTo(2);
+    }
+
+    private void verifyTransactionalEventsPosted(BusinessEvent<?>... events) {
+        ArgumentCaptor<List<BusinessEventWithContext>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(externalEventService).postEvents(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue()).extracting(BusinessEventWithContext::getEvent).containsExactly(events);
+    }
+
     private void configureExternalEventsProperties(boolean isExternalEventsEnabled) {
         FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
         FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
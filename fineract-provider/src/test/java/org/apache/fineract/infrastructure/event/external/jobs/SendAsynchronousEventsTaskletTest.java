@@ -25,6 +25,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -33,8 +34,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
@@ -95,6 +98,8 @@ class SendAsynchronousEventsTaskletTest {
     private TransactionStatus transactionStatus;
     private SendAsynchronousEventsTasklet underTest;
     private RepeatStatus resultStatus;
+    private ThreadPoolTaskExecutor taskExecutor;
+    private FineractProperties.FineractExternalEventsProperties externalProperties;
 
     private Random rnd = new Random();
 
@@ -105,13 +110,13 @@ class SendAsynchronousEventsTaskletTest {
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
         configureExternalEventsProducerReadBatchSizeProperty();
-        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor = new ThreadPoolTaskExecutor();
         taskExecutor.setMaxPoolSize(2);
         taskExecutor.initialize();
         when(transactionTemplate.execute(ArgumentMatchers.any()))
                 .thenAnswer(invocation -> invocation.<TransactionCallback<Boolean>>getArgument(0).doInTransaction(transactionStatus));
         underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
-                configurationDomainService, transactionTemplate, taskExecutor);
+                configurationDomainService, transactionTemplate, taskExecutor, Optional.empty());
     }
 
     @AfterEach
@@ -121,7 +126,7 @@ class SendAsynchronousEventsTaskletTest {
 
     private void configureExternalEventsProducerReadBatchSizeProperty() {
         FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
-        FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
+        externalProperties = new FineractProperties.FineractExternalEventsProperties();
         FineractProperties.FineractExternalEventsProducerProperties externalEventsProducerProperties = new FineractProperties.FineractExternalEventsProducerProperties();
         FineractProperties.FineractExternalEventsProducerJmsProperties externalEventsProducerJMSProperties = new FineractProperties.FineractExternalEventsProducerJmsProperties();
         externalEventsProducerJMSProperties.setEnabled(true);
@@ -235,6 +240,42 @@ class SendAsynchronousEventsTaskletTest {
         assertThat(externalEventPageSizeArgumentCaptor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    @Test
+    public void givenStreamingEnabledWhenTaskExecutionThenQueueIsDrainedByKeysetPages() throws Exception {
+        // given
+        FineractProperties.FineractExternalEventsStreamingProperties streamingProperties = new FineractProperties.FineractExternalEventsStreamingProperties();
+        streamingProperties.setEnabled(true);
+        streamingProperties.setInFlightWindow(1);
+        streamingProperties.setMaxDurationInSeconds(60);
+        externalProperties.setStreaming(streamingProperties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
+                configurationDomainService, transactionTemplate, taskExecutor, Optional.of(meterRegistry));
+        List<ExternalEventView> firstPage = IntStream.range(0, 10)
+                .mapToObj(i -> createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", (long) i % 3))
+                .toList();
+        List<ExternalEventView> secondPage = Arrays.asList(
+                createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L),
+                createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", null));
+        MessageV1 dummyMessage = new MessageV1(1L, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
+        when(repository.findByStatusOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any())).thenReturn(firstPage);
+        when(repository.findByStatusAfterKeyOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(secondPage);
+        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(repository).findByStatusAfterKeyOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any(),
+                Mockito.eq(firstPage.get(9).getId()), Mockito.any());
+        verify(eventProducer, times(2)).sendEvents(Mockito.any());
+        verify(repository).markEventsSent(Mockito.eq(firstPage.stream().map(ExternalEventView::getId).toList()), Mockito.any());
+        verify(repository).markEventsSent(Mockito.eq(secondPage.stream().map(ExternalEventView::getId).toList()), Mockito.any());
+        assertEquals(12.0, meterRegistry.get("fineract.events.external.sent").counter().count());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     private ExternalEventView createExternalEventView(String type, String category, String schema, byte[] data, String idempotencyKey,
             Long aggregateRootId) {
         ExternalEventView result = Mockito.mock(ExternalEventView.class);
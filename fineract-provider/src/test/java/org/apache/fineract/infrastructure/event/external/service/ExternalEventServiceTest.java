@@ -24,6 +24,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import jakarta.persistence.EntityManager;
@@ -47,6 +48,7 @@ import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
@@ -86,6 +88,8 @@ class ExternalEventServiceTest {
     @Mock
     private EntityManager entityManager;
     @Mock
+    private ExternalEventBatchWriter batchWriter;
+    @Mock
     private LoanAccountDataV1Enricher loanAccountDataV1Enricher;
     @Mock
     private LoanTransactionAdjustmentDataV1Enricher loanTransactionAdjustmentDataV1Enricher;
@@ -103,7 +107,7 @@ class ExternalEventServiceTest {
         DataEnricherProcessor dataEnricherProcessor = new DataEnricherProcessor(
                 Optional.of(List.of(loanAccountDataV1Enricher, loanTransactionAdjustmentDataV1Enricher, loanTransactionDataV1Enricher)));
         underTest = new ExternalEventService(repository, idempotencyKeyGenerator, serializerFactory, byteBufferConverter,
-                bulkMessageItemFactory, dataEnricherProcessor);
+                bulkMessageItemFactory, dataEnricherProcessor, batchWriter);
         underTest.setEntityManager(entityManager);
         FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
         ThreadLocalContextUtil.setTenant(tenant);
@@ -171,6 +175,32 @@ class ExternalEventServiceTest {
         assertThat(externalEvent.getSchema()).isEqualTo(eventSchema);
     }
 
+    @Test
+    public void testPostEventsShouldFlushOnceAndWriteAllEventsWithOneBatch() {
+        // given
+        ArgumentCaptor<List<ExternalEvent>> externalEventsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        BusinessEvent event = mock(BusinessEvent.class);
+        BusinessEvent event2 = mock(BusinessEvent.class);
+        BusinessEventSerializer eventSerializer = mock(BusinessEventSerializer.class);
+        byte[] data = new byte[0];
+
+        given(event.getType()).willReturn("TestType");
+        given(event2.getType()).willReturn("TestType2");
+        given(idempotencyKeyGenerator.generate(any(BusinessEvent.class))).willReturn("key");
+        given(serializerFactory.create(any(BusinessEvent.class))).willReturn(eventSerializer);
+        given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(eventSerializer.toAvroDTO(any(BusinessEvent.class))).willReturn(new LoanAccountDataV1());
+        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
+        // when
+        underTest.postEvents(List.of(new BusinessEventWithContext(event, ThreadLocalContextUtil.getContext()),
+                new BusinessEventWithContext(event2, ThreadLocalContextUtil.getContext())));
+        // then
+        verify(entityManager).flush();
+        verify(repository, never()).save(any());
+        verify(batchWriter).insert(externalEventsArgumentCaptor.capture());
+        assertThat(externalEventsArgumentCaptor.getValue()).extracting(ExternalEvent::getType).containsExactly("TestType", "TestType2");
+    }
+
     @Test
     public void testPostEventShouldWorkWithBulkEvent() throws IOException {
         // given
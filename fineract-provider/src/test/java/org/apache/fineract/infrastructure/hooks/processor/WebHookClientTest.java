@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.hooks.data.WebHookDelivery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WebHookClientTest {
+
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private volatile int responseStatus = 200;
+    private WebHookClient underTest;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/hook", this::handle);
+        server.start();
+
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setClientConnectTimeout(5);
+        fineractProperties.setClientReadTimeout(5);
+        fineractProperties.setClientWriteTimeout(5);
+        underTest = new WebHookClient(new ProcessorHelper(), fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testJsonPayloadIsSentUnchangedWithFineractHeaders() throws IOException {
+        underTest.send(delivery("json", "{\"clientId\":1}"), "default", "https://fineract.example/api");
+
+        assertThat(requests).hasSize(1);
+        RecordedRequest request = requests.get(0);
+        assertThat(request.body()).isEqualTo("{\"clientId\":1}");
+        assertThat(request.contentType()).startsWith("application/json");
+        assertThat(request.exchangeHeader(WebHookService.ENTITY_HEADER)).isEqualTo("CLIENT");
+        assertThat(request.exchangeHeader(WebHookService.ACTION_HEADER)).isEqualTo("CREATE");
+        assertThat(request.exchangeHeader(WebHookService.TENANT_HEADER)).isEqualTo("default");
+        assertThat(request.exchangeHeader(WebHookService.ENDPOINT_HEADER)).isEqualTo("https://fineract.example/api");
+    }
+
+    @Test
+    public void testFormPayloadIsSentAsFormFields() throws IOException {
+        underTest.send(delivery("form", "{\"clientId\":\"1\",\"officeId\":\"2\"}"), "default", null);
+
+        assertThat(requests).hasSize(1);
+        RecordedRequest request = requests.get(0);
+        assertThat(request.body()).isEqualTo("clientId=1&officeId=2");
+        assertThat(request.contentType()).startsWith("application/x-www-form-urlencoded");
+        assertThat(request.exchangeHeader(WebHookService.ENDPOINT_HEADER)).isNull();
+    }
+
+    @Test
+    public void testUnsuccessfulStatusFailsTheDelivery() {
+        responseStatus = 503;
+
+        assertThatThrownBy(() -> underTest.send(delivery("json", "{}"), "default", null)).isInstanceOf(IOException.class)
+                .hasMessageContaining("503");
+    }
+
+    private WebHookDelivery delivery(String contentType, String payload) {
+        return new WebHookDelivery(1L, 1L, "http://localhost:" + server.getAddress().getPort() + "/hook/", contentType, "CLIENT", "CREATE",
+                payload, 0, OffsetDateTime.now(), OffsetDateTime.now());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        requests.add(new RecordedRequest(exchange, new String(body, StandardCharsets.UTF_8)));
+        exchange.sendResponseHeaders(responseStatus, -1);
+        exchange.close();
+    }
+
+    private record RecordedRequest(HttpExchange exchange, String body) {
+
+        String exchangeHeader(String name) {
+            return exchange.getRequestHeaders().getFirst(name);
+        }
+
+        String contentType() {
+            return exchangeHeader("Content-Type");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.hooks.data.WebHookDelivery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class WebHookDeliveryOutboxTest {
+
+    private static final int SENDERS = 8;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    @InjectMocks
+    private WebHookDeliveryOutbox underTest;
+
+    private final OffsetDateTime now = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+    private final WebHookDelivery due = new WebHookDelivery(11L, 7L, "http://localhost/hook/", "json", "CLIENT", "CREATE", "{}", 0,
+            now.minusMinutes(1), now.minusSeconds(1));
+    // next attempt of the stored row, updated the way the database applies the conditional update
+    private OffsetDateTime storedNextAttemptAt = due.nextAttemptAt();
+
+    @BeforeEach
+    public void setUp() {
+        when(jdbcTemplate.update(eq("UPDATE m_hook_delivery SET next_attempt_at = ? WHERE id = ? AND status = ? AND next_attempt_at = ?"),
+                any(Object[].class))).thenAnswer(invocation -> conditionalUpdate(invocation.getArgument(1), invocation.getArgument(4)));
+    }
+
+    @Test
+    public void testDueDeliveryIsClaimedByOneOfTheConcurrentSenders() throws Exception {
+        when(sqlGenerator.limit(anyInt())).thenReturn("LIMIT 10");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(due));
+        ExecutorService executor = Executors.newFixedThreadPool(SENDERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<WebHookDelivery>>> claims = new ArrayList<>();
+            for (int i = 0; i < SENDERS; i++) {
+                final OffsetDateTime leaseUntil = now.plusSeconds(30 + i);
+                claims.add(executor.submit(() -> {
+                    start.await();
+                    return underTest.claimDue(now, leaseUntil, 10);
+                }));
+            }
+            start.countDown();
+
+            List<WebHookDelivery> claimed = new ArrayList<>();
+            for (Future<List<WebHookDelivery>> claim : claims) {
+                claimed.addAll(claim.get());
+            }
+            assertThat(claimed).hasSize(1);
+            assertThat(claimed.get(0).nextAttemptAt()).isEqualTo(storedNextAttemptAt);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDeliveryClaimedOnceIsNotClaimedAgainWithTheSameAttempt() {
+        assertThat(underTest.claim(due, now.plusSeconds(30))).isTrue();
+        assertThat(underTest.claim(due, now.plusSeconds(60))).isFalse();
+    }
+
+    private synchronized int conditionalUpdate(OffsetDateTime leaseUntil, OffsetDateTime expectedNextAttemptAt) {
+        if (!storedNextAttemptAt.equals(expectedNextAttemptAt)) {
+            return 0;
+        }
+        storedNextAttemptAt = leaseUntil;
+        return 1;
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.data.WebHookDelivery;
+import org.apache.fineract.infrastructure.hooks.processor.WebHookClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class WebHookDeliveryServiceTest {
+
+    private static final FineractContext CONTEXT = new FineractContext("default",
+            new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null), null, new HashMap<>(), ActionContext.DEFAULT);
+
+    @Mock
+    private WebHookDeliveryOutbox outbox;
+    @Mock
+    private WebHookClient webHookClient;
+
+    private FineractProperties.FineractHooksDeliveryProperties deliveryProperties;
+    private WebHookDeliveryService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        deliveryProperties = new FineractProperties.FineractHooksDeliveryProperties();
+        deliveryProperties.setMaxAttempts(3);
+        FineractProperties.FineractHooksProperties hooksProperties = new FineractProperties.FineractHooksProperties();
+        hooksProperties.setDelivery(deliveryProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setHooks(hooksProperties);
+        underTest = new WebHookDeliveryService(outbox, webHookClient, new SyncTaskExecutor(), fineractProperties, Optional.empty());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testEnqueuedDeliveryIsSentAndRemovedFromTheOutbox() throws IOException {
+        WebHookDelivery delivery = delivery(0);
+        when(outbox.insert(eq(7L), anyString(), anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(delivery);
+        when(outbox.claim(eq(delivery), any())).thenReturn(true);
+
+        underTest.enqueue(7L, delivery.url(), "json", "CLIENT", "CREATE", "{}", CONTEXT);
+
+        verify(webHookClient).send(argThat(sent -> sent.id().equals(delivery.id())), eq("default"), any());
+        verify(outbox).deleteDelivered(List.of(delivery.id()));
+        verify(outbox).updateFailed(List.of());
+    }
+
+    @Test
+    public void testEnqueuedDeliveryTakenOverByTheRetryJobIsNotSent() {
+        WebHookDelivery delivery = delivery(0);
+        when(outbox.insert(eq(7L), anyString(), anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(delivery);
+        when(outbox.claim(eq(delivery), any())).thenReturn(false);
+
+        underTest.enqueue(7L, delivery.url(), "json", "CLIENT", "CREATE", "{}", CONTEXT);
+
+        verifyNoInteractions(webHookClient);
+        verify(outbox).deleteDelivered(List.of());
+    }
+
+    @Test
+    public void testDeliveryEnqueuedInTransactionIsSentAfterCommit() throws IOException {
+        WebHookDelivery delivery = delivery(0);
+        when(outbox.insert(eq(7L), anyString(), anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(delivery);
+        TransactionSynchronizationManager.initSynchronization();
+
+        underTest.enqueue(7L, delivery.url(), "json", "CLIENT", "CREATE", "{}", CONTEXT);
+
+        verify(outbox, never()).claim(any(), any());
+        verifyNoInteractions(webHookClient);
+
+        when(outbox.claim(eq(delivery), any())).thenReturn(true);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(webHookClient).send(argThat(sent -> sent.id().equals(delivery.id())), eq("default"), any());
+        verify(outbox).deleteDelivered(List.of(delivery.id()));
+    }
+
+    @Test
+    public void testFailedDeliveryIsRescheduledWithBackoff() throws IOException {
+        WebHookDelivery delivery = delivery(0);
+        when(outbox.insert(eq(7L), anyString(), anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(delivery);
+        when(outbox.claim(eq(delivery), any())).thenReturn(true);
+        doThrow(new IOException("Connection refused")).when(webHookClient).send(any(), anyString(), any());
+
+        OffsetDateTime before = OffsetDateTime.now();
+        underTest.enqueue(7L, delivery.url(), "json", "CLIENT", "CREATE", "{}", CONTEXT);
+
+        WebHookDeliveryOutbox.FailedAttempt failed = captureFailedAttempt();
+        assertThat(failed.status()).isEqualTo(WebHookDeliveryOutbox.STATUS_PENDING);
+        assertThat(failed.attempts()).isEqualTo(1);
+        assertThat(failed.nextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(deliveryProperties.getInitialBackoffInSeconds()));
+        assertThat(failed.error()).isEqualTo("Connection refused");
+        verify(outbox).deleteDelivered(List.of());
+    }
+
+    @Test
+    public void testDeliveryIsFailedAfterTheLastAttempt() throws IOException {
+        ThreadLocalContextUtil.init(CONTEXT);
+        WebHookDelivery delivery = delivery(2);
+        when(outbox.claimDue(any(), any(), anyInt())).thenReturn(List.of(delivery), List.of());
+        doThrow(new IOException("HTTP 500")).when(webHookClient).send(eq(delivery), anyString(), any());
+
+        assertThat(underTest.deliverDue()).isZero();
+
+        WebHookDeliveryOutbox.FailedAttempt failed = captureFailedAttempt();
+        assertThat(failed.status()).isEqualTo(WebHookDeliveryOutbox.STATUS_FAILED);
+        assertThat(failed.attempts()).isEqualTo(3);
+        assertThat(failed.nextAttemptAt()).isNull();
+    }
+
+    @Test
+    public void testBackoffDoublesUpToTheMaximum() {
+        deliveryProperties.setInitialBackoffInSeconds(30);
+        deliveryProperties.setMaxBackoffInSeconds(300);
+
+        assertThat(WebHookDeliveryService.backoffInSeconds(1, deliveryProperties)).isEqualTo(30);
+        assertThat(WebHookDeliveryService.backoffInSeconds(2, deliveryProperties)).isEqualTo(60);
+        assertThat(WebHookDeliveryService.backoffInSeconds(4, deliveryProperties)).isEqualTo(240);
+        assertThat(WebHookDeliveryService.backoffInSeconds(5, deliveryProperties)).isEqualTo(300);
+        assertThat(WebHookDeliveryService.backoffInSeconds(64, deliveryProperties)).isEqualTo(300);
+    }
+
+    @SuppressWarnings("unchecked")
+    private WebHookDeliveryOutbox.FailedAttempt captureFailedAttempt() {
+        ArgumentCaptor<List<WebHookDeliveryOutbox.FailedAttempt>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outbox).updateFailed(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        return captor.getValue().get(0);
+    }
+
+    private static WebHookDelivery delivery(int attempts) {
+        return new WebHookDelivery(11L, 7L, "http://localhost/hook/", "json", "CLIENT", "CREATE", "{}", attempts, OffsetDateTime.now(),
+                OffsetDateTime.now());
+    }
+}
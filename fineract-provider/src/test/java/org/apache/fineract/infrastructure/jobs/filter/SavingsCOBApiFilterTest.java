@@ -0,0 +1,175 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import static org.apache.fineract.infrastructure.jobs.filter.SavingsCOBFilterHelper.SAVINGS_PATH_PATTERN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.fineract.cob.savings.SavingsLockingService;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepository;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsCOBApiFilterTest {
+
+    private static final Long SAVINGS_ID = 12L;
+
+    private SavingsCOBApiFilter testObj;
+    @InjectMocks
+    private SavingsCOBFilterHelper helper;
+    @Mock
+    private SavingsLockingService savingsLockingService;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private SavingsAccountRepository savingsAccountRepository;
+    @Mock
+    private AppUser appUser;
+    @Mock
+    private FilterChain filterChain;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        helper.afterPropertiesSet();
+        testObj = new SavingsCOBApiFilter(helper);
+    }
+
+    @Test
+    void shouldSavingsAccountPathsMatch() {
+        assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts/12").matches());
+        assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts/12?command=approve").matches());
+        assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts/12/transactions?command=deposit").matches());
+        assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts/external-id/abc").matches());
+        assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/fixeddepositaccounts/12/transactions").matches());
+        assertTrue(SAVINGS_PATH_PATTERN.matcher("/v1/recurringdepositaccounts/12").matches());
+        assertFalse(SAVINGS_PATH_PATTERN.matcher("/v1/savingsaccounts").matches());
+        assertFalse(SAVINGS_PATH_PATTERN.matcher("/v1/loans/12").matches());
+    }
+
+    @Test
+    void shouldProceedWhenUrlDoesNotMatch() throws ServletException, IOException {
+        testObj.doFilterInternal(request("POST", "/v1/loans/12", null), response, filterChain);
+
+        verify(filterChain).doFilter(any(ServletRequest.class), any());
+        verifyNoInteractions(savingsLockingService, context);
+    }
+
+    @Test
+    void shouldProceedWhenUserHasBypassPermission() throws ServletException, IOException {
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(appUser.isBypassUser()).willReturn(true);
+
+        testObj.doFilterInternal(request("POST", "/v1/savingsaccounts/12/transactions", null), response, filterChain);
+
+        verify(filterChain).doFilter(any(ServletRequest.class), any());
+        verifyNoInteractions(savingsLockingService);
+    }
+
+    @Test
+    void shouldRejectWhenSavingsAccountIsLocked() throws ServletException, IOException {
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(savingsLockingService.isSavingsAccountHardLocked(SAVINGS_ID)).willReturn(true);
+
+        testObj.doFilterInternal(request("POST", "/v1/savingsaccounts/12/transactions", null), response, filterChain);
+
+        verify(filterChain, never()).doFilter(any(ServletRequest.class), any());
+        assertEquals(HttpStatus.SC_CONFLICT, response.getStatus());
+        assertTrue(response.getContentAsString().contains("error.msg.savings.account.locked"));
+    }
+
+    @Test
+    void shouldRejectWhenSavingsAccountOfExternalIdIsLocked() throws ServletException, IOException {
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(savingsAccountRepository.findIdByExternalId(new ExternalId("abc"))).willReturn(SAVINGS_ID);
+        given(savingsLockingService.isSavingsAccountHardLocked(SAVINGS_ID)).willReturn(true);
+
+        testObj.doFilterInternal(request("PUT", "/v1/savingsaccounts/external-id/abc", null), response, filterChain);
+
+        verify(filterChain, never()).doFilter(any(ServletRequest.class), any());
+        assertEquals(HttpStatus.SC_CONFLICT, response.getStatus());
+    }
+
+    @Test
+    void shouldProceedWhenLockIsLeftBehindByFailedCob() throws ServletException, IOException {
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(savingsLockingService.isSavingsAccountHardLocked(SAVINGS_ID)).willReturn(true);
+        given(savingsLockingService.isLockOverrulable(SAVINGS_ID)).willReturn(true);
+
+        testObj.doFilterInternal(request("POST", "/v1/savingsaccounts/12/transactions", null), response, filterChain);
+
+        verify(filterChain).doFilter(any(ServletRequest.class), any());
+    }
+
+    @Test
+    void shouldProceedWhenSavingsAccountIsNotLocked() throws ServletException, IOException {
+        given(context.authenticatedUser()).willReturn(appUser);
+
+        testObj.doFilterInternal(request("POST", "/v1/savingsaccounts/12/transactions", null), response, filterChain);
+
+        verify(filterChain).doFilter(any(ServletRequest.class), any());
+    }
+
+    @Test
+    void shouldRejectBatchRequestWhenSavingsAccountIsLocked() throws ServletException, IOException {
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(savingsLockingService.isSavingsAccountHardLocked(SAVINGS_ID)).willReturn(true);
+        String body = """
+                [{"requestId":1,"relativeUrl":"savingsaccounts/12/transactions?command=deposit","method":"POST","body":"{}"}]
+                """;
+
+        testObj.doFilterInternal(request("POST", "/v1/batches", body), response, filterChain);
+
+        verify(filterChain, never()).doFilter(any(ServletRequest.class), any());
+        assertEquals(HttpStatus.SC_CONFLICT, response.getStatus());
+    }
+
+    private static MockHttpServletRequest request(String method, String pathInfo, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/fineract-provider/api" + pathInfo);
+        request.setPathInfo(pathInfo);
+        if (body != null) {
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.account.PortfolioAccountType;
+import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
+import org.apache.fineract.portfolio.account.data.PortfolioAccountData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
+import org.apache.fineract.portfolio.account.domain.AccountTransferType;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
+import org.apache.fineract.portfolio.account.jobs.executestandinginstructions.ExecuteStandingInstructionsTasklet.StandingInstructionTransfer;
+import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ExecuteStandingInstructionsTaskletTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 15);
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testSecondDuesInstructionIntoTheSameLoanTransfersWhatTheFirstLeftDue() throws Exception {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        StandingInstructionReadPlatformService standingInstructionReadPlatformService = mock(StandingInstructionReadPlatformService.class);
+        AccountTransfersWritePlatformService accountTransfersWritePlatformService = mock(AccountTransfersWritePlatformService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setTaskDecorator(new ContextAwareTaskDecorator(true));
+        taskExecutor.initialize();
+        // both instructions of the loan transfer as per its dues, the first pays 60 of the 100 due
+        when(standingInstructionReadPlatformService.retrieveAllDueForTransfer(BUSINESS_DATE))
+                .thenReturn(List.of(duesInstruction(1L, 10L, 20L), duesInstruction(2L, 11L, 20L)));
+        when(standingInstructionReadPlatformService.retrieveLoanDuesData(any()))
+                .thenReturn(Map.of(20L, new StandingInstructionDuesData(BUSINESS_DATE.minusDays(5), BigDecimal.valueOf(100))))
+                .thenReturn(Map.of(20L, new StandingInstructionDuesData(BUSINESS_DATE.minusDays(5), BigDecimal.valueOf(40))));
+        ExecuteStandingInstructionsTasklet tasklet = new ExecuteStandingInstructionsTasklet(standingInstructionReadPlatformService,
+                mock(JdbcTemplate.class), mock(DatabaseSpecificSQLGenerator.class), accountTransfersWritePlatformService,
+                transactionTemplate, taskExecutor);
+
+        try {
+            tasklet.execute(mock(StepContribution.class), null);
+        } finally {
+            taskExecutor.shutdown();
+        }
+
+        ArgumentCaptor<AccountTransferDTO> transfers = ArgumentCaptor.forClass(AccountTransferDTO.class);
+        verify(accountTransfersWritePlatformService, times(2)).transferFunds(transfers.capture());
+        assertEquals(List.of(10L, 11L), transfers.getAllValues().stream().map(AccountTransferDTO::getFromAccountId).toList());
+        assertEquals(List.of(BigDecimal.valueOf(100), BigDecimal.valueOf(40)),
+                transfers.getAllValues().stream().map(AccountTransferDTO::getTransactionAmount).toList());
+        verify(standingInstructionReadPlatformService).retrieveLoanDuesData(List.of(20L));
+        // the two transfers and the batch of their history rows
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+    }
+
+    @Test
+    public void testTransfersOfIndependentAccountsAreSeparateGroups() {
+        List<List<StandingInstructionTransfer>> groups = ExecuteStandingInstructionsTasklet.groupByAccounts(
+                List.of(transfer(1L, 10L, 20L), transfer(2L, 11L, 21L), transfer(3L, 12L, 22L)));
+
+        assertEquals(3, groups.size());
+    }
+
+    @Test
+    public void testTransfersSharingAnAccountKeepPriorityOrder() {
+        // 1 and 3 share the source account, 3 and 4 share the target loan, 2 is independent
+        List<List<StandingInstructionTransfer>> groups = ExecuteStandingInstructionsTasklet.groupByAccounts(List.of(
+                transfer(1L, 10L, 20L), transfer(2L, 11L, 21L), transfer(3L, 10L, 22L), transfer(4L, 13L, 22L)));
+
+        assertEquals(2, groups.size());
+        assertEquals(List.of(1L, 3L, 4L), groups.get(0).stream().map(StandingInstructionTransfer::instructionId).toList());
+        assertEquals(List.of(2L), groups.get(1).stream().map(StandingInstructionTransfer::instructionId).toList());
+    }
+
+    @Test
+    public void testSameIdOfDifferentAccountTypesIsNotShared() {
+        List<List<StandingInstructionTransfer>> groups = ExecuteStandingInstructionsTasklet
+                .groupByAccounts(List.of(transfer(1L, 10L, 20L), transfer(2L, 20L, 30L)));
+
+        assertEquals(2, groups.size());
+    }
+
+    private StandingInstructionData duesInstruction(Long instructionId, Long fromSavingsAccountId, Long toLoanId) {
+        StandingInstructionData data = mock(StandingInstructionData.class);
+        when(data.getId()).thenReturn(instructionId);
+        when(data.name()).thenReturn("instruction " + instructionId);
+        when(data.instructionType()).thenReturn(StandingInstructionType.DUES);
+        when(data.recurrenceType()).thenReturn(AccountTransferRecurrenceType.AS_PER_DUES);
+        when(data.transferType()).thenReturn(AccountTransferType.LOAN_REPAYMENT);
+        when(data.fromAccountType()).thenReturn(PortfolioAccountType.SAVINGS);
+        when(data.fromAccount()).thenReturn(PortfolioAccountData.lookup(fromSavingsAccountId, null));
+        when(data.toAccountType()).thenReturn(PortfolioAccountType.LOAN);
+        when(data.toAccount()).thenReturn(PortfolioAccountData.lookup(toLoanId, null));
+        return data;
+    }
+
+    private StandingInstructionTransfer transfer(Long instructionId, Long fromSavingsAccountId, Long toLoanId) {
+        AccountTransferDTO accountTransferDTO = new AccountTransferDTO(LocalDate.of(2024, 1, 1), BigDecimal.TEN,
+                PortfolioAccountType.SAVINGS, PortfolioAccountType.LOAN, fromSavingsAccountId, toLoanId, "transfer", null, null, null,
+                null, null, null, null, 1, null, null, ExternalId.empty(), null, null, null, true, false);
+        return new StandingInstructionTransfer(instructionId, accountTransferDTO, null);
+    }
+}
@@ -67,6 +67,8 @@ import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatform
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformServiceHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformServiceImpl;
 import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyDomainService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
+import org.apache.fineract.portfolio.delinquency.service.LoanInstallmentDelinquencyTagBatchWriter;
 import org.apache.fineract.portfolio.delinquency.validator.DelinquencyActionParseAndValidator;
 import org.apache.fineract.portfolio.delinquency.validator.DelinquencyBucketParseAndValidator;
 import org.apache.fineract.portfolio.delinquency.validator.DelinquencyRangeParseAndValidator;
@@ -122,6 +124,10 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
     private LoanDelinquencyActionRepository loanDelinquencyActionRepository;
     @Mock
     private DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
+    @Mock
+    private LoanInstallmentDelinquencyTagBatchWriter loanInstallmentDelinquencyTagBatchWriter;
+    @Mock
+    private LoanDelinquencyStateService loanDelinquencyStateService;
 
     private DelinquencyWritePlatformServiceHelper delinquencyWritePlatformServiceHelper;
 
@@ -135,12 +141,13 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
 
         delinquencyWritePlatformServiceHelper = Mockito.spy(new DelinquencyWritePlatformServiceHelper(businessEventNotifierService,
-                loanDelinquencyTagRepository, repositoryRange, loanInstallmentDelinquencyTagRepository));
+                loanDelinquencyTagRepository, repositoryRange, loanInstallmentDelinquencyTagRepository,
+                loanInstallmentDelinquencyTagBatchWriter));
         underTest = new DelinquencyWritePlatformServiceImpl(dataValidatorBucket, dataValidatorRange, repositoryRange, repositoryBucket,
                 repositoryBucketMappings, loanDelinquencyTagRepository, loanRepository, loanProductRepository, loanDelinquencyDomainService,
                 loanInstallmentDelinquencyTagRepository, delinquencyReadPlatformService, loanDelinquencyActionRepository,
                 delinquencyActionParseAndValidator, delinquencyEffectivePauseHelper, businessEventNotifierService,
-                delinquencyWritePlatformServiceHelper);
+                delinquencyWritePlatformServiceHelper, loanDelinquencyStateService);
     }
 
     @AfterEach
@@ -241,8 +248,6 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
         when(loanDelinquencyTagRepository.findByLoanAndLiftedOnDate(any(), any())).thenReturn(Optional.empty());
         when(loanDelinquencyDomainService.getLoanDelinquencyData(loanForProcessing, effectiveDelinquencyList))
                 .thenReturn(loanDelinquencyData);
-        when(loanInstallmentDelinquencyTagRepository.findByLoanAndInstallment(loanForProcessing, repaymentScheduleInstallments.get(0)))
-                .thenReturn(Optional.empty());
 
         // when
         underTest.applyDelinquencyTagToLoan(loanScheduleDelinquencyData, effectiveDelinquencyList);
@@ -370,15 +375,13 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
         when(loanDelinquencyTagRepository.findByLoanAndLiftedOnDate(any(), any())).thenReturn(Optional.empty());
         when(loanDelinquencyDomainService.getLoanDelinquencyData(loanForProcessing, effectiveDelinquencyList))
                 .thenReturn(loanDelinquencyData);
-        when(loanInstallmentDelinquencyTagRepository.findByLoanAndInstallment(loanForProcessing, repaymentScheduleInstallments.get(0)))
-                .thenReturn(Optional.empty());
 
         // when
         underTest.applyDelinquencyTagToLoan(loanScheduleDelinquencyData, effectiveDelinquencyList);
 
         // then
         verify(loanDelinquencyTagRepository, times(1)).saveAllAndFlush(anyIterable());
-        verify(loanInstallmentDelinquencyTagRepository, times(1)).saveAllAndFlush(loanInstallmentDelinquencyTagsArgumentCaptor.capture());
+        verify(loanInstallmentDelinquencyTagBatchWriter, times(1)).insert(loanInstallmentDelinquencyTagsArgumentCaptor.capture());
 
         List<LoanInstallmentDelinquencyTag> installmentDelinquencyTags = loanInstallmentDelinquencyTagsArgumentCaptor.getValue();
         assertEquals(1, installmentDelinquencyTags.size());
@@ -396,8 +399,8 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
     public void givenLoanAccountWithOverdueInstallmentAndEnableInstallmentThenDelinquencyRangeChangesForInstallmentTest() {
         ArgumentCaptor<List<LoanInstallmentDelinquencyTag>> loanInstallmentDelinquencyTagsArgumentCaptor = ArgumentCaptor
                 .forClass(List.class);
-        ArgumentCaptor<LoanInstallmentDelinquencyTag> loanInstallmentDelinquencyTagArgumentCaptorForDelete = ArgumentCaptor
-                .forClass(LoanInstallmentDelinquencyTag.class);
+        ArgumentCaptor<List<LoanInstallmentDelinquencyTag>> loanInstallmentDelinquencyTagArgumentCaptorForDelete = ArgumentCaptor
+                .forClass(List.class);
 
         ArgumentCaptor<LoanDelinquencyRangeChangeBusinessEvent> loanDelinquencyRangeChangeEvent = ArgumentCaptor
                 .forClass(LoanDelinquencyRangeChangeBusinessEvent.class);
@@ -441,6 +444,7 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
 
         LoanInstallmentDelinquencyTag previousInstallmentTag = new LoanInstallmentDelinquencyTag();
         previousInstallmentTag.setDelinquencyRange(range1);
+        previousInstallmentTag.setInstallment(installment);
 
         when(loanForProcessing.getLoanProduct()).thenReturn(loanProduct);
         when(loanProduct.getDelinquencyBucket()).thenReturn(delinquencyBucket);
@@ -450,16 +454,15 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
         when(loanDelinquencyTagRepository.findByLoanAndLiftedOnDate(any(), any())).thenReturn(Optional.empty());
         when(loanDelinquencyDomainService.getLoanDelinquencyData(loanForProcessing, effectiveDelinquencyList))
                 .thenReturn(loanDelinquencyData);
-        when(loanInstallmentDelinquencyTagRepository.findByLoanAndInstallment(loanForProcessing, repaymentScheduleInstallments.get(0)))
-                .thenReturn(Optional.of(previousInstallmentTag));
+        when(loanInstallmentDelinquencyTagRepository.findByLoanId(any())).thenReturn(List.of(previousInstallmentTag));
 
         // when
         underTest.applyDelinquencyTagToLoan(loanScheduleDelinquencyData, effectiveDelinquencyList);
 
         // then
         verify(loanDelinquencyTagRepository, times(1)).saveAllAndFlush(anyIterable());
-        verify(loanInstallmentDelinquencyTagRepository, times(1)).saveAllAndFlush(loanInstallmentDelinquencyTagsArgumentCaptor.capture());
-        verify(loanInstallmentDelinquencyTagRepository, times(1)).delete(loanInstallmentDelinquencyTagArgumentCaptorForDelete.capture());
+        verify(loanInstallmentDelinquencyTagBatchWriter, times(1)).insert(loanInstallmentDelinquencyTagsArgumentCaptor.capture());
+        verify(loanInstallmentDelinquencyTagRepository, times(1)).deleteAll(loanInstallmentDelinquencyTagArgumentCaptorForDelete.capture());
 
         List<LoanInstallmentDelinquencyTag> installmentDelinquencyTags = loanInstallmentDelinquencyTagsArgumentCaptor.getValue();
         assertEquals(1, installmentDelinquencyTags.size());
@@ -467,7 +470,10 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
         assertEquals(2, installmentDelinquencyTags.get(0).getDelinquencyRange().getId());
         assertEquals(installmentPrincipalAmount, installmentDelinquencyTags.get(0).getOutstandingAmount());
 
-        LoanInstallmentDelinquencyTag deletedInstallmentDelinquencyTag = loanInstallmentDelinquencyTagArgumentCaptorForDelete.getValue();
+        List<LoanInstallmentDelinquencyTag> deletedInstallmentDelinquencyTags = loanInstallmentDelinquencyTagArgumentCaptorForDelete
+                .getValue();
+        assertEquals(1, deletedInstallmentDelinquencyTags.size());
+        LoanInstallmentDelinquencyTag deletedInstallmentDelinquencyTag = deletedInstallmentDelinquencyTags.get(0);
         assertNotNull(deletedInstallmentDelinquencyTag);
         assertEquals(previousInstallmentTag, deletedInstallmentDelinquencyTag);
 
@@ -480,8 +486,8 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
 
     @Test
     public void givenLoanAccountWithOverdueInstallmentsAndEnableInstallmentThenDelinquencyRangeChangesEventWhenOneOfInstallmentIsOutOfDelinquencyTest() {
-        ArgumentCaptor<LoanInstallmentDelinquencyTag> loanInstallmentDelinquencyTagArgumentCaptorForDelete = ArgumentCaptor
-                .forClass(LoanInstallmentDelinquencyTag.class);
+        ArgumentCaptor<List<LoanInstallmentDelinquencyTag>> loanInstallmentDelinquencyTagArgumentCaptorForDelete = ArgumentCaptor
+                .forClass(List.class);
 
         ArgumentCaptor<LoanDelinquencyRangeChangeBusinessEvent> loanDelinquencyRangeChangeEvent = ArgumentCaptor
                 .forClass(LoanDelinquencyRangeChangeBusinessEvent.class);
@@ -533,9 +539,11 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
 
         LoanInstallmentDelinquencyTag previousInstallmentTag_1 = new LoanInstallmentDelinquencyTag();
         previousInstallmentTag_1.setDelinquencyRange(range2);
+        previousInstallmentTag_1.setInstallment(installment_1);
 
         LoanInstallmentDelinquencyTag previousInstallmentTag = new LoanInstallmentDelinquencyTag();
         previousInstallmentTag.setDelinquencyRange(range1);
+        previousInstallmentTag.setInstallment(installment_2);
 
         when(loanForProcessing.getLoanProduct()).thenReturn(loanProduct);
         when(loanProduct.getDelinquencyBucket()).thenReturn(delinquencyBucket);
@@ -545,19 +553,20 @@ public class DelinquencyWritePlatformServiceRangeChangeEventTest {
         when(loanDelinquencyTagRepository.findByLoanAndLiftedOnDate(any(), any())).thenReturn(Optional.empty());
         when(loanDelinquencyDomainService.getLoanDelinquencyData(loanForProcessing, effectiveDelinquencyList))
                 .thenReturn(loanDelinquencyData);
-        when(loanInstallmentDelinquencyTagRepository.findByLoanAndInstallment(loanForProcessing, repaymentScheduleInstallments.get(0)))
-                .thenReturn(Optional.of(previousInstallmentTag_1));
-        when(loanInstallmentDelinquencyTagRepository.findByLoanAndInstallment(loanForProcessing, repaymentScheduleInstallments.get(1)))
-                .thenReturn(Optional.of(previousInstallmentTag));
+        when(loanInstallmentDelinquencyTagRepository.findByLoanId(any()))
+                .thenReturn(List.of(previousInstallmentTag_1, previousInstallmentTag));
 
         // when
         underTest.applyDelinquencyTagToLoan(loanScheduleDelinquencyData, effectiveDelinquencyList);
 
         // then
         verify(loanDelinquencyTagRepository, times(1)).saveAllAndFlush(anyIterable());
-        verify(loanInstallmentDelinquencyTagRepository, times(1)).delete(loanInstallmentDelinquencyTagArgumentCaptorForDelete.capture());
+        verify(loanInstallmentDelinquencyTagRepository, times(1)).deleteAll(loanInstallmentDelinquencyTagArgumentCaptorForDelete.capture());
 
-        LoanInstallmentDelinquencyTag deletedInstallmentDelinquencyTag = loanInstallmentDelinquencyTagArgumentCaptorForDelete.getValue();
+        List<LoanInstallmentDelinquencyTag> deletedInstallmentDelinquencyTags = loanInstallmentDelinquencyTagArgumentCaptorForDelete
+                .getValue();
+        assertEquals(1, deletedInstallmentDelinquencyTags.size());
+        LoanInstallmentDelinquencyTag deletedInstallmentDelinquencyTag = deletedInstallmentDelinquencyTags.get(0);
         assertNotNull(deletedInstallmentDelinquencyTag);
         assertEquals(previousInstallmentTag, deletedInstallmentDelinquencyTag);
 
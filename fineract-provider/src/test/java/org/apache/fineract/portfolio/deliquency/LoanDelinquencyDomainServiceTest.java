@@ -19,7 +19,9 @@
 package org.apache.fineract.portfolio.deliquency;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -42,6 +44,7 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
 import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.delinquency.data.LoanDelinquencyStateData;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyDomainServiceImpl;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
@@ -305,4 +308,50 @@ public class LoanDelinquencyDomainServiceTest {
 
     }
 
+    @Test
+    public void givenLoanAccountWithOverdueThenDelinquencyStateIsValidUntilNextDueDate() {
+        // given
+        final List<LoanDelinquencyActionData> effectiveDelinquencyList = Collections.emptyList();
+        final Long daysDiff = 2L;
+        final LocalDate overdueDueDate = businessDate.minusDays(daysDiff);
+        final LocalDate nextDueDate = overdueDueDate.plusMonths(1);
+        LoanRepaymentScheduleInstallment overdueInstallment = new LoanRepaymentScheduleInstallment(loan, 1, overdueDueDate.minusMonths(1),
+                overdueDueDate, principal, zeroAmount, zeroAmount, zeroAmount, false, new HashSet<>(), zeroAmount);
+        LoanRepaymentScheduleInstallment nextInstallment = new LoanRepaymentScheduleInstallment(loan, 2, overdueDueDate, nextDueDate,
+                principal, zeroAmount, zeroAmount, zeroAmount, false, new HashSet<>(), zeroAmount);
+        List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments = Arrays.asList(overdueInstallment, nextInstallment);
+
+        // when
+        when(loanProductRelatedDetail.getGraceOnArrearsAgeing()).thenReturn(0);
+        when(loan.getLoanProductRelatedDetail()).thenReturn(loanProductRelatedDetail);
+        when(loan.getRepaymentScheduleInstallments()).thenReturn(repaymentScheduleInstallments);
+        when(loanTransactionReadService.fetchLoanTransactionsByType(loan.getId(), null, LoanTransactionType.CHARGEBACK.getValue()))
+                .thenReturn(Collections.emptyList());
+        when(loan.getLastLoanRepaymentScheduleInstallment()).thenReturn(nextInstallment);
+        when(loan.getCurrency()).thenReturn(currency);
+        when(loan.getStatus()).thenReturn(LoanStatus.ACTIVE);
+        when(delinquencyEffectivePauseHelper.getPausedDaysBeforeDate(effectiveDelinquencyList, businessDate)).thenReturn(0L);
+
+        LoanDelinquencyStateData state = underTest.calculateDelinquencyState(loan);
+        LoanDelinquencyData stateDelinquencyData = underTest.getLoanDelinquencyData(loan, state, effectiveDelinquencyList);
+        LoanDelinquencyData rescannedDelinquencyData = underTest.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+
+        // then
+        assertEquals(overdueDueDate, state.getOverdueSinceDate());
+        assertEquals(businessDate, state.getCalculatedOnDate());
+        assertEquals(nextDueDate, state.getValidUntilDate());
+        assertEquals(2, state.getInstallments().size());
+        assertEquals(0, principal.compareTo(state.getDelinquentAmount()));
+        assertTrue(state.isValidOn(nextDueDate));
+        assertFalse(state.isValidOn(nextDueDate.plusDays(1)));
+        assertTrue(state.hasSameDelinquencyAs(underTest.calculateDelinquencyState(loan)));
+
+        CollectionData loanCollectionData = stateDelinquencyData.getLoanCollectionData();
+        assertEquals(daysDiff, loanCollectionData.getDelinquentDays());
+        assertEquals(overdueDueDate, loanCollectionData.getDelinquentDate());
+        assertEquals(rescannedDelinquencyData.getLoanCollectionData().getDelinquentDays(), loanCollectionData.getDelinquentDays());
+        assertEquals(0,
+                rescannedDelinquencyData.getLoanCollectionData().getDelinquentAmount().compareTo(loanCollectionData.getDelinquentAmount()));
+    }
+
 }
@@ -0,0 +1,287 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.deliquency;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.delinquency.data.LoanDelinquencyStateData;
+import org.apache.fineract.portfolio.delinquency.data.LoanInstallmentDelinquencyStateData;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyDomainService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateServiceImpl;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateStore;
+import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanDelinquencyData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LoanDelinquencyStateServiceTest {
+
+    private static final Long LOAN_ID = 1L;
+
+    @Mock
+    private LoanDelinquencyDomainService loanDelinquencyDomainService;
+    @Mock
+    private LoanDelinquencyStateStore loanDelinquencyStateStore;
+    @Mock
+    private Loan loan;
+
+    private final List<LoanDelinquencyActionData> effectiveDelinquencyList = Collections.emptyList();
+    private final LoanDelinquencyData loanDelinquencyData = new LoanDelinquencyData(CollectionData.template(), new HashMap<>());
+    private FineractProperties fineractProperties;
+    private LoanDelinquencyStateServiceImpl underTest;
+    private LocalDate businessDate;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        businessDate = DateUtils.getBusinessLocalDate();
+
+        fineractProperties = new FineractProperties();
+        fineractProperties.setDelinquency(new FineractProperties.FineractDelinquencyProperties());
+        fineractProperties.getDelinquency().setIncrementalStateEnabled(true);
+        underTest = new LoanDelinquencyStateServiceImpl(loanDelinquencyDomainService, loanDelinquencyStateStore, fineractProperties);
+
+        LoanRepaymentScheduleInstallment installment = new LoanRepaymentScheduleInstallment(loan, 1, businessDate.minusMonths(1),
+                businessDate.plusDays(1), BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, false, new HashSet<>(),
+                BigDecimal.ZERO);
+        when(loan.getId()).thenReturn(LOAN_ID);
+        when(loan.getStatus()).thenReturn(LoanStatus.ACTIVE);
+        when(loan.getRepaymentScheduleInstallments()).thenReturn(List.of(installment));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void givenIncrementalStateDisabledThenLoanIsRescanned() {
+        // given
+        fineractProperties.getDelinquency().setIncrementalStateEnabled(false);
+        when(loanDelinquencyDomainService.getLoanDelinquencyData(loan, effectiveDelinquencyList)).thenReturn(loanDelinquencyData);
+
+        // when
+        LoanDelinquencyData result = underTest.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+
+        // then
+        assertSame(loanDelinquencyData, result);
+        verify(loanDelinquencyStateStore, never()).find(any());
+        verify(loanDelinquencyStateStore, never()).save(any());
+    }
+
+    @Test
+    public void givenValidStoredStateThenLoanIsNotRescanned() {
+        // given
+        LoanDelinquencyStateData storedState = state(businessDate.minusDays(1), businessDate.plusDays(1), businessDate.minusDays(1));
+        when(loanDelinquencyStateStore.find(LOAN_ID)).thenReturn(Optional.of(storedState));
+        when(loanDelinquencyDomainService.getLoanDelinquencyData(loan, storedState, effectiveDelinquencyList))
+                .thenReturn(loanDelinquencyData);
+
+        // when
+        LoanDelinquencyData result = underTest.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+
+        // then
+        assertSame(loanDelinquencyData, result);
+        verify(loanDelinquencyDomainService, never()).calculateDelinquencyState(loan);
+        verify(loanDelinquencyStateStore, never()).save(any());
+    }
+
+    @Test
+    public void givenExpiredStoredStateThenLoanIsRescanned() {
+        // given
+        LoanDelinquencyStateData storedState = state(businessDate.minusDays(2), businessDate.minusDays(1), businessDate.minusDays(2));
+        LoanDelinquencyStateData calculatedState = state(businessDate, businessDate.plusDays(1), businessDate);
+        when(loanDelinquencyStateStore.find(LOAN_ID)).thenReturn(Optional.of(storedState));
+        when(loanDelinquencyDomainService.calculateDelinquencyState(loan)).thenReturn(calculatedState);
+        when(loanDelinquencyDomainService.getLoanDelinquencyData(loan, calculatedState, effectiveDelinquencyList))
+                .thenReturn(loanDelinquencyData);
+
+        // when
+        LoanDelinquencyData result = underTest.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+
+        // then
+        assertSame(loanDelinquencyData, result);
+        verify(loanDelinquencyStateStore).save(calculatedState);
+    }
+
+    @Test
+    public void givenStoredStateDueForVerificationThenLoanIsRescanned() {
+        // given
+        LoanDelinquencyStateData storedState = state(businessDate.minusDays(7), businessDate.plusDays(1), businessDate.minusDays(7));
+        LoanDelinquencyStateData calculatedState = state(businessDate, businessDate.plusDays(1), businessDate);
+        when(loanDelinquencyStateStore.find(LOAN_ID)).thenReturn(Optional.of(storedState));
+        when(loanDelinquencyDomainService.calculateDelinquencyState(loan)).thenReturn(calculatedState);
+        when(loanDelinquencyDomainService.getLoanDelinquencyData(loan, calculatedState, effectiveDelinquencyList))
+                .thenReturn(loanDelinquencyData);
+
+        // when
+        LoanDelinquencyData result = underTest.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+
+        // then
+        assertSame(loanDelinquencyData, result);
+        verify(loanDelinquencyStateStore).save(calculatedState);
+    }
+
+    @Test
+    public void givenPartialRepaymentThenStoredStateIsNotReused() {
+        // given
+        InMemoryLoanDelinquencyStateStore stateStore = new InMemoryLoanDelinquencyStateStore();
+        underTest = new LoanDelinquencyStateServiceImpl(loanDelinquencyDomainService, stateStore, fineractProperties);
+        LoanDelinquencyStateData stateBeforeRepayment = state(businessDate, businessDate.plusDays(1), businessDate, BigDecimal.TEN);
+        LoanDelinquencyStateData stateAfterRepayment = state(businessDate, businessDate.plusDays(1), businessDate, BigDecimal.ONE);
+        when(loanDelinquencyDomainService.calculateDelinquencyState(loan)).thenReturn(stateBeforeRepayment);
+        underTest.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+
+        // when the repayment leaves the same installments unpaid
+        when(loanDelinquencyDomainService.calculateDelinquencyState(loan)).thenReturn(stateAfterRepayment);
+        when(loanDelinquencyDomainService.getLoanDelinquencyData(loan, stateAfterRepayment, effectiveDelinquencyList))
+                .thenReturn(loanDelinquencyData);
+        underTest.markStale(LOAN_ID);
+        LoanDelinquencyData result = underTest.getLoanDelinquencyData(loan, effectiveDelinquencyList);
+
+        // then
+        assertSame(loanDelinquencyData, result);
+        verify(loanDelinquencyDomainService, times(1)).getLoanDelinquencyData(loan, stateBeforeRepayment, effectiveDelinquencyList);
+        assertSame(stateAfterRepayment, stateStore.find(LOAN_ID).orElseThrow());
+    }
+
+    @Test
+    public void givenCurrentStateWithoutDelinquencyThenClassificationIsNotRequired() {
+        // given
+        when(loanDelinquencyStateStore.hasCurrentStateWithoutDelinquency(LOAN_ID, businessDate, businessDate.minusDays(7)))
+                .thenReturn(true);
+
+        // when
+        boolean result = underTest.isClassificationRequired(loan);
+
+        // then
+        assertFalse(result);
+        verify(loan, never()).getRepaymentScheduleInstallments();
+    }
+
+    @Test
+    public void givenStaleOrDelinquentStateThenClassificationIsRequired() {
+        // given
+        when(loanDelinquencyStateStore.hasCurrentStateWithoutDelinquency(LOAN_ID, businessDate, businessDate.minusDays(7)))
+                .thenReturn(false);
+
+        // when
+        boolean result = underTest.isClassificationRequired(loan);
+
+        // then
+        assertTrue(result);
+    }
+
+    @Test
+    public void givenIncrementalStateDisabledThenClassificationIsRequired() {
+        // given
+        fineractProperties.getDelinquency().setIncrementalStateEnabled(false);
+
+        // when
+        boolean result = underTest.isClassificationRequired(loan);
+
+        // then
+        assertTrue(result);
+        verify(loanDelinquencyStateStore, never()).hasCurrentStateWithoutDelinquency(any(), any(), any());
+    }
+
+    private LoanDelinquencyStateData state(LocalDate calculatedOnDate, LocalDate validUntilDate, LocalDate verifiedOnDate) {
+        return state(calculatedOnDate, validUntilDate, verifiedOnDate, BigDecimal.ZERO);
+    }
+
+    private LoanDelinquencyStateData state(LocalDate calculatedOnDate, LocalDate validUntilDate, LocalDate verifiedOnDate,
+            BigDecimal delinquentAmount) {
+        return new LoanDelinquencyStateData(LOAN_ID, null, delinquentAmount, delinquentAmount, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, Map.of(1, new LoanInstallmentDelinquencyStateData(null, delinquentAmount)), calculatedOnDate,
+                validUntilDate, verifiedOnDate);
+    }
+
+    /**
+     * Keeps the states the way the table does, a stale state is not found anymore.
+     */
+    private static final class InMemoryLoanDelinquencyStateStore extends LoanDelinquencyStateStore {
+
+        private final Map<Long, LoanDelinquencyStateData> states = new HashMap<>();
+        private final Set<Long> staleLoanIds = new HashSet<>();
+
+        private InMemoryLoanDelinquencyStateStore() {
+            super(null);
+        }
+
+        @Override
+        public Optional<LoanDelinquencyStateData> find(Long loanId) {
+            return staleLoanIds.contains(loanId) ? Optional.empty() : Optional.ofNullable(states.get(loanId));
+        }
+
+        @Override
+        public void save(LoanDelinquencyStateData state) {
+            states.put(state.getLoanId(), state);
+            staleLoanIds.remove(state.getLoanId());
+        }
+
+        @Override
+        public void markStale(Long loanId) {
+            staleLoanIds.add(loanId);
+        }
+
+        @Override
+        public void delete(Long loanId) {
+            states.remove(loanId);
+            staleLoanIds.remove(loanId);
+        }
+    }
+}
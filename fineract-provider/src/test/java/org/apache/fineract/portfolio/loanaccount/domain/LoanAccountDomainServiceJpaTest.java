@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
+import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
+import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleDelinquencyData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanAccountDomainServiceJpaTest {
+
+    private static final Long LOAN_ID = 1L;
+
+    @Mock
+    private DelinquencyWritePlatformService delinquencyWritePlatformService;
+    @Mock
+    private DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
+    @Mock
+    private DelinquencyReadPlatformService delinquencyReadPlatformService;
+    @Mock
+    private LoanDelinquencyStateService loanDelinquencyStateService;
+    @Mock
+    private Loan loan;
+
+    @InjectMocks
+    private LoanAccountDomainServiceJpa underTest;
+
+    @Test
+    public void givenLoanChangedThenDelinquencyStateIsMarkedStaleBeforeReclassification() {
+        // given a partial repayment, the listeners on its business events only run after the reclassification
+        LocalDate transactionDate = LocalDate.of(2024, 1, 15);
+        when(loan.getId()).thenReturn(LOAN_ID);
+        when(delinquencyWritePlatformService.calculateDelinquencyData(any(), any()))
+                .thenReturn(new LoanScheduleDelinquencyData(LOAN_ID, null, 0L, loan));
+
+        // when
+        underTest.setLoanDelinquencyTag(loan, transactionDate);
+
+        // then
+        InOrder inOrder = inOrder(loanDelinquencyStateService, delinquencyWritePlatformService);
+        inOrder.verify(loanDelinquencyStateService).markStale(LOAN_ID);
+        inOrder.verify(delinquencyWritePlatformService).calculateDelinquencyData(any(), any());
+        inOrder.verify(delinquencyWritePlatformService).removeDelinquencyTagToLoan(loan);
+    }
+}
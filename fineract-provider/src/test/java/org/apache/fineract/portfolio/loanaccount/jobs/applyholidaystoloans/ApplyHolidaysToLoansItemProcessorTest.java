@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.service.LoanUtilService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+public class ApplyHolidaysToLoansItemProcessorTest {
+
+    private final Holiday firstHoliday = mock(Holiday.class);
+    private final Holiday secondHoliday = mock(Holiday.class);
+    private final Loan loan = mock(Loan.class);
+    private ApplyHolidaysToLoansItemProcessor processor;
+
+    @BeforeEach
+    public void setUp() {
+        HolidayRepositoryWrapper holidayRepository = mock(HolidayRepositoryWrapper.class);
+        when(holidayRepository.findOneWithNotFoundDetection(1L)).thenReturn(firstHoliday);
+        when(holidayRepository.findOneWithNotFoundDetection(2L)).thenReturn(secondHoliday);
+        processor = spy(new ApplyHolidaysToLoansItemProcessor(holidayRepository, mock(LoanUtilService.class),
+                mock(BusinessEventNotifierService.class)));
+        StepExecution stepExecution = new StepExecution(ApplyHolidaysToLoansConstant.WORKER_STEP, new JobExecution(1L));
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong(ApplyHolidaysToLoansConstant.OFFICE_ID, 10L);
+        executionContext.putString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS, "2,1");
+        stepExecution.setExecutionContext(executionContext);
+        processor.beforeStep(stepExecution);
+    }
+
+    @Test
+    public void testAppliesTheHolidaysOfTheOfficeInOrderToTheSameLoan() throws Exception {
+        doReturn(true).when(processor).applyHolidayToRepaymentScheduleDates(loan, secondHoliday);
+        doReturn(false).when(processor).applyHolidayToRepaymentScheduleDates(loan, firstHoliday);
+
+        assertSame(loan, processor.process(loan));
+
+        InOrder inOrder = inOrder(processor);
+        inOrder.verify(processor).applyHolidayToRepaymentScheduleDates(loan, secondHoliday);
+        inOrder.verify(processor).applyHolidayToRepaymentScheduleDates(loan, firstHoliday);
+    }
+
+    @Test
+    public void testFiltersOutLoansNoHolidayApplies() throws Exception {
+        doReturn(false).when(processor).applyHolidayToRepaymentScheduleDates(loan, secondHoliday);
+        doReturn(false).when(processor).applyHolidayToRepaymentScheduleDates(loan, firstHoliday);
+
+        assertNull(processor.process(loan));
+    }
+}
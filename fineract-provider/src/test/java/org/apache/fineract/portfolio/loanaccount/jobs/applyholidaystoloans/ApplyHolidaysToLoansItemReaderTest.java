@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+public class ApplyHolidaysToLoansItemReaderTest {
+
+    private static final Long OFFICE_ID = 10L;
+
+    private HolidayRepositoryWrapper holidayRepository;
+    private LoanRepositoryWrapper loanRepositoryWrapper;
+    private ApplyHolidaysToLoansItemReader reader;
+
+    @BeforeEach
+    public void setUp() {
+        holidayRepository = mock(HolidayRepositoryWrapper.class);
+        loanRepositoryWrapper = mock(LoanRepositoryWrapper.class);
+        reader = new ApplyHolidaysToLoansItemReader(holidayRepository, loanRepositoryWrapper);
+    }
+
+    @Test
+    public void testReadsTheLoansOfAllHolidaysOfTheOfficeOnce() throws Exception {
+        Holiday christmas = holiday(LocalDate.of(2024, 12, 24), LocalDate.of(2024, 12, 26));
+        Holiday newYear = holiday(LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 1));
+        when(holidayRepository.findOneWithNotFoundDetection(1L)).thenReturn(christmas);
+        when(holidayRepository.findOneWithNotFoundDetection(2L)).thenReturn(newYear);
+        when(loanRepositoryWrapper.findIdsByOfficeIdAndLoanStatusAndDueDateBetween(eq(OFFICE_ID), anyCollection(),
+                eq(christmas.getFromDate()), eq(christmas.getToDate()))).thenReturn(List.of(100L, 101L));
+        when(loanRepositoryWrapper.findIdsByOfficeIdAndLoanStatusAndDueDateBetween(eq(OFFICE_ID), anyCollection(),
+                eq(newYear.getFromDate()), eq(newYear.getToDate()))).thenReturn(List.of(101L, 102L));
+        Loan loan100 = mock(Loan.class);
+        Loan loan101 = mock(Loan.class);
+        Loan loan102 = mock(Loan.class);
+        when(loanRepositoryWrapper.findOneWithNotFoundDetection(100L)).thenReturn(loan100);
+        when(loanRepositoryWrapper.findOneWithNotFoundDetection(101L)).thenReturn(loan101);
+        when(loanRepositoryWrapper.findOneWithNotFoundDetection(102L)).thenReturn(loan102);
+        StepExecution stepExecution = stepExecution("1,2");
+
+        reader.beforeStep(stepExecution);
+
+        assertEquals(3L, stepExecution.getExecutionContext().getLong(ApplyHolidaysToLoansConstant.LOAN_COUNT));
+        assertSame(loan100, reader.read());
+        assertSame(loan101, reader.read());
+        assertSame(loan102, reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void testReadsNothingWithoutLoansInTheHolidays() throws Exception {
+        Holiday holiday = holiday(LocalDate.of(2024, 12, 24), LocalDate.of(2024, 12, 26));
+        when(holidayRepository.findOneWithNotFoundDetection(1L)).thenReturn(holiday);
+        when(loanRepositoryWrapper.findIdsByOfficeIdAndLoanStatusAndDueDateBetween(eq(OFFICE_ID), anyCollection(),
+                eq(holiday.getFromDate()), eq(holiday.getToDate()))).thenReturn(List.of());
+        StepExecution stepExecution = stepExecution("1");
+
+        reader.beforeStep(stepExecution);
+
+        assertEquals(0L, stepExecution.getExecutionContext().getLong(ApplyHolidaysToLoansConstant.LOAN_COUNT));
+        assertNull(reader.read());
+    }
+
+    private StepExecution stepExecution(String holidayIds) {
+        StepExecution stepExecution = new StepExecution(ApplyHolidaysToLoansConstant.WORKER_STEP, new JobExecution(1L));
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong(ApplyHolidaysToLoansConstant.OFFICE_ID, OFFICE_ID);
+        executionContext.putString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS, holidayIds);
+        stepExecution.setExecutionContext(executionContext);
+        return stepExecution;
+    }
+
+    private Holiday holiday(LocalDate fromDate, LocalDate toDate) {
+        Holiday holiday = mock(Holiday.class);
+        when(holiday.getFromDate()).thenReturn(fromDate);
+        when(holiday.getToDate()).thenReturn(toDate);
+        return holiday;
+    }
+}
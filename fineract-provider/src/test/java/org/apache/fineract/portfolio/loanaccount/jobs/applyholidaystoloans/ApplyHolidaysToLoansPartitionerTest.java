@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+public class ApplyHolidaysToLoansPartitionerTest {
+
+    private HolidayRepositoryWrapper holidayRepository;
+    private ApplyHolidaysToLoansPartitioner partitioner;
+
+    @BeforeEach
+    public void setUp() {
+        holidayRepository = mock(HolidayRepositoryWrapper.class);
+        partitioner = new ApplyHolidaysToLoansPartitioner(holidayRepository);
+    }
+
+    @Test
+    public void testPartitionPerOfficeWithItsHolidaysInOrder() {
+        when(holidayRepository.findOneWithNotFoundDetection(2L)).thenReturn(holiday(10L, 11L));
+        when(holidayRepository.findOneWithNotFoundDetection(1L)).thenReturn(holiday(10L));
+        partitioner.setHolidayIds("2,1");
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertEquals(2, partitions.size());
+        ExecutionContext partition = partitions.get("office_10");
+        assertEquals(10L, partition.getLong(ApplyHolidaysToLoansConstant.OFFICE_ID));
+        assertEquals("2,1", partition.getString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS));
+        assertEquals("office_10", partition.getString(ApplyHolidaysToLoansConstant.PARTITION));
+        assertEquals("2", partitions.get("office_11").getString(ApplyHolidaysToLoansConstant.HOLIDAY_IDS));
+    }
+
+    @Test
+    public void testNoPartitionWithoutHolidays() {
+        partitioner.setHolidayIds("");
+
+        assertTrue(partitioner.partition(1).isEmpty());
+        verifyNoInteractions(holidayRepository);
+    }
+
+    @Test
+    public void testParseHolidayIds() {
+        assertEquals(List.of(3L, 5L), ApplyHolidaysToLoansPartitioner.parseHolidayIds("3,5"));
+        assertTrue(ApplyHolidaysToLoansPartitioner.parseHolidayIds(null).isEmpty());
+    }
+
+    private Holiday holiday(Long... officeIds) {
+        Set<Office> offices = new LinkedHashSet<>();
+        for (Long officeId : officeIds) {
+            Office office = mock(Office.class);
+            when(office.getId()).thenReturn(officeId);
+            offices.add(office);
+        }
+        Holiday holiday = mock(Holiday.class);
+        when(holiday.getOffices()).thenReturn(offices);
+        return holiday;
+    }
+}
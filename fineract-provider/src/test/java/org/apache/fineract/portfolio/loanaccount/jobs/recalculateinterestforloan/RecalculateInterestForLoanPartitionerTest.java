@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.recalculateinterestforloan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.organisation.office.data.OfficeData;
+import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+public class RecalculateInterestForLoanPartitionerTest {
+
+    private PropertyService propertyService;
+    private LoanReadPlatformService loanReadPlatformService;
+    private OfficeReadPlatformService officeReadPlatformService;
+    private RecalculateInterestForLoanPartitioner partitioner;
+
+    @BeforeEach
+    public void setUp() {
+        propertyService = mock(PropertyService.class);
+        loanReadPlatformService = mock(LoanReadPlatformService.class);
+        officeReadPlatformService = mock(OfficeReadPlatformService.class);
+        partitioner = new RecalculateInterestForLoanPartitioner(propertyService, loanReadPlatformService, officeReadPlatformService);
+        when(propertyService.getPartitionSize(RecalculateInterestForLoanConstant.JOB_NAME)).thenReturn(2);
+    }
+
+    @Test
+    public void testIdRangePartitions() {
+        when(loanReadPlatformService.fetchLoansForInterestRecalculationBetween(null, null, null)).thenReturn(List.of(3L, 8L, 9L, 15L, 20L));
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertEquals(3, partitions.size());
+        assertEquals(new LoanCOBParameter(3L, 8L), partitions.get("partition_0").get(RecalculateInterestForLoanConstant.LOAN_ID_RANGE));
+        assertEquals(new LoanCOBParameter(9L, 15L), partitions.get("partition_1").get(RecalculateInterestForLoanConstant.LOAN_ID_RANGE));
+        assertEquals(new LoanCOBParameter(20L, 20L), partitions.get("partition_2").get(RecalculateInterestForLoanConstant.LOAN_ID_RANGE));
+        assertEquals("partition_1", partitions.get("partition_1").getString(RecalculateInterestForLoanConstant.PARTITION));
+        assertFalse(partitions.get("partition_0").containsKey(RecalculateInterestForLoanConstant.OFFICE_HIERARCHY));
+        verifyNoInteractions(officeReadPlatformService);
+    }
+
+    @Test
+    public void testOfficeHierarchyIsPassedToPartitions() {
+        OfficeData office = new OfficeData(2L, "Branch", null, null, null, ".2.", 1L, null, null);
+        when(officeReadPlatformService.retrieveOffice(2L)).thenReturn(office);
+        when(loanReadPlatformService.fetchLoansForInterestRecalculationBetween(null, null, ".2.%")).thenReturn(List.of(5L));
+        partitioner.setOfficeId("2");
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertEquals(1, partitions.size());
+        assertEquals(".2.%", partitions.get("partition_0").getString(RecalculateInterestForLoanConstant.OFFICE_HIERARCHY));
+        assertEquals(new LoanCOBParameter(5L, 5L), partitions.get("partition_0").get(RecalculateInterestForLoanConstant.LOAN_ID_RANGE));
+    }
+
+    @Test
+    public void testEmptyPartitionWithoutLoans() {
+        when(loanReadPlatformService.fetchLoansForInterestRecalculationBetween(null, null, null)).thenReturn(List.of());
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        assertEquals(1, partitions.size());
+        LoanCOBParameter loanIdRange = (LoanCOBParameter) partitions.get("partition_0")
+                .get(RecalculateInterestForLoanConstant.LOAN_ID_RANGE);
+        assertEquals(new LoanCOBParameter(0L, 0L), loanIdRange);
+        assertTrue(RecalculateInterestForLoanApplyLockTasklet.isEmptyPartition(loanIdRange));
+    }
+}
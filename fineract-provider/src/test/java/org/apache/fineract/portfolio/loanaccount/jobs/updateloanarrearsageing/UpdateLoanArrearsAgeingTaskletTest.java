@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingLoans;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+public class UpdateLoanArrearsAgeingTaskletTest {
+
+    // id 41 is not visible yet, it must be left for the next run
+    private static final PendingLoans PENDING_LOANS = new PendingLoans(List.of(40L, 42L), new TreeSet<>(Set.of(3L, 1L)));
+
+    private LoanArrearsAgeingUpdateHandler loanArrearsAgeingUpdateHandler;
+    private LoanArrearsAgeingTracker loanArrearsAgeingTracker;
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+    private UpdateLoanArrearsAgeingTasklet tasklet;
+    private LocalDate businessDate;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        businessDate = LocalDate.now(ZoneId.systemDefault());
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate)));
+
+        loanArrearsAgeingUpdateHandler = mock(LoanArrearsAgeingUpdateHandler.class);
+        loanArrearsAgeingTracker = mock(LoanArrearsAgeingTracker.class);
+        contribution = mock(StepContribution.class);
+        chunkContext = mock(ChunkContext.class);
+
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setQuery(new FineractProperties.FineractQueryProperties());
+        fineractProperties.getQuery().setInClauseParameterSizeLimit(2);
+        when(loanArrearsAgeingTracker.findPending(PendingQueue.ARREARS_AGEING)).thenReturn(PENDING_LOANS);
+
+        tasklet = new UpdateLoanArrearsAgeingTasklet(loanArrearsAgeingUpdateHandler, loanArrearsAgeingTracker, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testExecute_WhenFullReconciliationIsDue_ShouldRebuildAllLoans() throws Exception {
+        when(loanArrearsAgeingTracker.findIncrementalStartDate(JobName.UPDATE_LOAN_ARREARS_AGEING, businessDate))
+                .thenReturn(Optional.empty());
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertEquals(RepeatStatus.FINISHED, status);
+        verify(loanArrearsAgeingUpdateHandler).updateLoanArrearsAgeingDetailsForAllLoans();
+        verify(loanArrearsAgeingUpdateHandler, never()).updateLoanArrearsAgeingDetails(anyList());
+        verify(loanArrearsAgeingTracker).resetCheckpoint(JobName.UPDATE_NPA);
+        verify(loanArrearsAgeingTracker).deletePending(PendingQueue.ARREARS_AGEING, PENDING_LOANS);
+        verify(loanArrearsAgeingTracker).saveCheckpoint(JobName.UPDATE_LOAN_ARREARS_AGEING, businessDate, true);
+    }
+
+    @Test
+    public void testExecute_WhenIncremental_ShouldUpdateChangedAndNewlyOverdueLoansInBatches() throws Exception {
+        LocalDate lastBusinessDate = businessDate.minusDays(1);
+        when(loanArrearsAgeingTracker.findIncrementalStartDate(JobName.UPDATE_LOAN_ARREARS_AGEING, businessDate))
+                .thenReturn(Optional.of(lastBusinessDate));
+        when(loanArrearsAgeingUpdateHandler.retrieveLoansBecomingOverdueSince(lastBusinessDate)).thenReturn(List.of(2L, 3L));
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertEquals(RepeatStatus.FINISHED, status);
+        verify(loanArrearsAgeingUpdateHandler, never()).updateLoanArrearsAgeingDetailsForAllLoans();
+        verify(loanArrearsAgeingUpdateHandler).updateLoanArrearsAgeingDetails(List.of(1L, 2L));
+        verify(loanArrearsAgeingUpdateHandler).updateLoanArrearsAgeingDetails(List.of(3L));
+        verify(loanArrearsAgeingTracker).markPending(PendingQueue.NPA, List.of(1L, 2L));
+        verify(loanArrearsAgeingTracker).markPending(PendingQueue.NPA, List.of(3L));
+        verify(loanArrearsAgeingTracker, never()).resetCheckpoint(JobName.UPDATE_NPA);
+        verify(loanArrearsAgeingTracker).deletePending(PendingQueue.ARREARS_AGEING, PENDING_LOANS);
+        verify(loanArrearsAgeingTracker).saveCheckpoint(JobName.UPDATE_LOAN_ARREARS_AGEING, businessDate, false);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service.listener;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanApprovedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanDelinquencyRangeChangeBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.delinquency.service.LoanDelinquencyStateService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker;
+import org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing.LoanArrearsAgeingTracker.PendingQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanChangeTrackingListenerTest {
+
+    @Mock
+    private LoanDelinquencyStateService loanDelinquencyStateService;
+    @Mock
+    private LoanArrearsAgeingTracker loanArrearsAgeingTracker;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+
+    @Captor
+    private ArgumentCaptor<BusinessEventListener<LoanBusinessEvent>> listenerCaptor;
+
+    @InjectMocks
+    private LoanChangeTrackingListener underTest;
+
+    private final Loan loan = mock(Loan.class);
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        underTest.afterPropertiesSet();
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(LoanBusinessEvent.class), listenerCaptor.capture());
+    }
+
+    @Test
+    public void testLoanChangeMarksTheDelinquencyStateStaleAndQueuesTheArrearsAgeing() {
+        when(loan.getId()).thenReturn(1L);
+
+        listenerCaptor.getValue().onBusinessEvent(new LoanApprovedBusinessEvent(loan));
+
+        verify(loanDelinquencyStateService).markStale(1L);
+        verify(loanArrearsAgeingTracker).markPending(PendingQueue.ARREARS_AGEING, 1L);
+    }
+
+    @Test
+    public void testIgnoredEventIsNotTracked() {
+        listenerCaptor.getValue().onBusinessEvent(new LoanDelinquencyRangeChangeBusinessEvent(loan));
+
+        verifyNoInteractions(loanDelinquencyStateService, loanArrearsAgeingTracker);
+    }
+}
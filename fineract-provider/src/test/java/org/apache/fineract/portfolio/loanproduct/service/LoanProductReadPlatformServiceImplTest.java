@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.entityaccess.domain.FineractEntityType;
+import org.apache.fineract.infrastructure.entityaccess.service.FineractEntityAccessUtil;
+import org.apache.fineract.infrastructure.security.exception.NoAuthorizationException;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductData;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LoanProductReadPlatformServiceImplTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private FineractEntityAccessUtil fineractEntityAccessUtil;
+    @Mock
+    private LoanProductRepository loanProductRepository;
+    @Mock
+    private CachedLoanProductReadService cachedLoanProductReadService;
+
+    private LoanProductReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new LoanProductReadPlatformServiceImpl(context, jdbcTemplate, sqlGenerator, fineractEntityAccessUtil,
+                loanProductRepository, cachedLoanProductReadService);
+    }
+
+    @Test
+    void loanProductIsReadThroughTheCacheAfterTheUserIsAuthenticated() {
+        LoanProductData product = mock(LoanProductData.class);
+        when(fineractEntityAccessUtil.getSQLWhereClauseForProductIDsForUserOffice_ifGlobalConfigEnabled(FineractEntityType.CHARGE))
+                .thenReturn("");
+        when(cachedLoanProductReadService.retrieveLoanProduct(PRODUCT_ID)).thenReturn(product);
+
+        assertThat(underTest.retrieveLoanProduct(PRODUCT_ID)).isSameAs(product);
+
+        InOrder inOrder = inOrder(context, cachedLoanProductReadService);
+        inOrder.verify(context).authenticatedUser();
+        inOrder.verify(cachedLoanProductReadService).retrieveLoanProduct(PRODUCT_ID);
+    }
+
+    @Test
+    void loanProductWithOfficeSpecificChargesIsNotCached() {
+        LoanProductData product = mock(LoanProductData.class);
+        when(fineractEntityAccessUtil.getSQLWhereClauseForProductIDsForUserOffice_ifGlobalConfigEnabled(FineractEntityType.CHARGE))
+                .thenReturn("1,2");
+        when(cachedLoanProductReadService.readLoanProduct(PRODUCT_ID)).thenReturn(product);
+
+        assertThat(underTest.retrieveLoanProduct(PRODUCT_ID)).isSameAs(product);
+
+        verify(cachedLoanProductReadService).readLoanProduct(PRODUCT_ID);
+    }
+
+    @Test
+    void loanProductIsNotReadForUnauthenticatedCallers() {
+        when(context.authenticatedUser()).thenThrow(new NoAuthorizationException("not authenticated"));
+
+        assertThatThrownBy(() -> underTest.retrieveLoanProduct(PRODUCT_ID)).isInstanceOf(NoAuthorizationException.class);
+        verifyNoInteractions(cachedLoanProductReadService);
+    }
+}
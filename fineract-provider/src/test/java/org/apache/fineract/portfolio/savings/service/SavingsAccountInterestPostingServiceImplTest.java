@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
+import org.apache.fineract.portfolio.savings.DepositAccountType;
+import org.apache.fineract.portfolio.savings.SavingsAccountTransactionType;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationDaysInYearType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationMode;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountApplicationTimelineData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountSummaryData;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountSubStatusEnum;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionDataSummaryWrapper;
+import org.apache.fineract.portfolio.savings.domain.SavingsHelper;
+import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
+import org.apache.fineract.portfolio.savings.domain.interest.ScaledDayBalances;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SavingsAccountInterestPostingServiceImplTest {
+
+    private static final MockedStatic<MoneyHelper> MONEY_HELPER = Mockito.mockStatic(MoneyHelper.class);
+    private static final MathContext MATH_CONTEXT = new MathContext(12, RoundingMode.HALF_EVEN);
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "US Dollar", 2, null, "USD", "$");
+    private static final LocalDate ACTIVATED_ON = LocalDate.of(2020, 1, 1);
+    private static final LocalDate POSTING_UP_TO = LocalDate.of(2020, 12, 31);
+
+    @Mock
+    private AccountTransfersReadPlatformService accountTransfersReadPlatformService;
+
+    @BeforeAll
+    public static void init() {
+        MONEY_HELPER.when(MoneyHelper::getMathContext).thenReturn(MATH_CONTEXT);
+        MONEY_HELPER.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+    }
+
+    @AfterAll
+    public static void destruct() {
+        MONEY_HELPER.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, POSTING_UP_TO.plusDays(1))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    private static Stream<Arguments> interestSettings() {
+        return Stream.of(
+                Arguments.of(SavingsCompoundingInterestPeriodType.DAILY, SavingsPostingInterestPeriodType.MONTHLY,
+                        SavingsInterestCalculationType.DAILY_BALANCE),
+                Arguments.of(SavingsCompoundingInterestPeriodType.MONTHLY, SavingsPostingInterestPeriodType.QUATERLY,
+                        SavingsInterestCalculationType.DAILY_BALANCE),
+                Arguments.of(SavingsCompoundingInterestPeriodType.MONTHLY, SavingsPostingInterestPeriodType.MONTHLY,
+                        SavingsInterestCalculationType.AVERAGE_DAILY_BALANCE),
+                Arguments.of(SavingsCompoundingInterestPeriodType.QUATERLY, SavingsPostingInterestPeriodType.ANNUAL,
+                        SavingsInterestCalculationType.AVERAGE_DAILY_BALANCE),
+                Arguments.of(SavingsCompoundingInterestPeriodType.ANNUAL, SavingsPostingInterestPeriodType.ANNUAL,
+                        SavingsInterestCalculationType.DAILY_BALANCE));
+    }
+
+    @ParameterizedTest
+    @MethodSource("interestSettings")
+    public void testScaledCalculationMatchesStandardCalculation(SavingsCompoundingInterestPeriodType compoundingType,
+            SavingsPostingInterestPeriodType postingType, SavingsInterestCalculationType calculationType) {
+        List<PostingPeriod> standard = calculateInterest(SavingsInterestCalculationMode.STANDARD, compoundingType, postingType,
+                calculationType, BigDecimal.valueOf(35_00L, 2));
+        List<PostingPeriod> scaled = calculateInterest(SavingsInterestCalculationMode.SCALED, compoundingType, postingType,
+                calculationType, BigDecimal.valueOf(35_00L, 2));
+
+        assertFalse(standard.isEmpty());
+        assertEquals(standard.size(), scaled.size());
+        for (int i = 0; i < standard.size(); i++) {
+            PostingPeriod expected = standard.get(i);
+            PostingPeriod actual = scaled.get(i);
+            assertEquals(expected.getPeriodInterval().startDate(), actual.getPeriodInterval().startDate());
+            assertEquals(expected.getPeriodInterval().endDate(), actual.getPeriodInterval().endDate());
+            assertEquals(expected.dateOfPostingTransaction(), actual.dateOfPostingTransaction());
+            assertEquals(expected.getInterestEarned().getAmount(), actual.getInterestEarned().getAmount());
+            assertEquals(expected.closingBalance().getAmount(), actual.closingBalance().getAmount());
+            assertEquals(expected.isInterestTransfered(), actual.isInterestTransfered());
+        }
+    }
+
+    @Test
+    public void testScaledCalculationFallsBackForAmountsBeyondCurrencyPrecision() {
+        SavingsHelper savingsHelper = new SavingsHelper(accountTransfersReadPlatformService);
+        SavingsAccountData account = savingsAccount(savingsHelper, SavingsCompoundingInterestPeriodType.DAILY,
+                SavingsPostingInterestPeriodType.MONTHLY, SavingsInterestCalculationType.DAILY_BALANCE, new BigDecimal("10.005"));
+        List<PostingPeriod> standard = new SavingsAccountInterestPostingServiceImpl(savingsHelper, SavingsInterestCalculationMode.STANDARD)
+                .calculateInterestUsing(MATH_CONTEXT, POSTING_UP_TO, false, false, 1, null, false, account);
+
+        // the balances are calculated now, only the withdrawal amount prevents the scaled representation
+        assertNull(ScaledDayBalances.from(account.getSavingsAccountTransactionData(), new MonetaryCurrency(CURRENCY), List.of()));
+
+        List<PostingPeriod> scaled = calculateInterest(SavingsInterestCalculationMode.SCALED, SavingsCompoundingInterestPeriodType.DAILY,
+                SavingsPostingInterestPeriodType.MONTHLY, SavingsInterestCalculationType.DAILY_BALANCE, new BigDecimal("10.005"));
+        assertEquals(standard.size(), scaled.size());
+        for (int i = 0; i < standard.size(); i++) {
+            assertEquals(standard.get(i).getInterestEarned().getAmount(), scaled.get(i).getInterestEarned().getAmount());
+        }
+    }
+
+    private List<PostingPeriod> calculateInterest(SavingsInterestCalculationMode mode, SavingsCompoundingInterestPeriodType compoundingType,
+            SavingsPostingInterestPeriodType postingType, SavingsInterestCalculationType calculationType, BigDecimal withdrawalAmount) {
+        SavingsHelper savingsHelper = new SavingsHelper(accountTransfersReadPlatformService);
+        SavingsAccountData account = savingsAccount(savingsHelper, compoundingType, postingType, calculationType, withdrawalAmount);
+        return new SavingsAccountInterestPostingServiceImpl(savingsHelper, mode).calculateInterestUsing(MATH_CONTEXT, POSTING_UP_TO, false,
+                false, 1, null, false, account);
+    }
+
+    private SavingsAccountData savingsAccount(SavingsHelper savingsHelper, SavingsCompoundingInterestPeriodType compoundingType,
+            SavingsPostingInterestPeriodType postingType, SavingsInterestCalculationType calculationType, BigDecimal withdrawalAmount) {
+        Long accountId = 1L;
+        String accountNo = "000000001";
+        SavingsAccountApplicationTimelineData timeline = new SavingsAccountApplicationTimelineData(ACTIVATED_ON, null, null, null, null,
+                null, null, null, null, null, null, null, ACTIVATED_ON, null, null, null, ACTIVATED_ON, null, null, null, null, null, null,
+                null);
+        SavingsAccountSummaryData summary = new SavingsAccountSummaryData(CURRENCY, null, null, null, null, null, BigDecimal.ZERO,
+                BigDecimal.ZERO, null, null, BigDecimal.ZERO, null, BigDecimal.ZERO, null, BigDecimal.ZERO, null);
+        SavingsAccountData account = SavingsAccountData.instance(accountId, accountNo,
+                SavingsEnumerations.depositType(DepositAccountType.SAVINGS_DEPOSIT), null, null, null, null, null, 1L, null, null, null,
+                SavingsEnumerations.status(SavingsAccountStatusType.ACTIVE),
+                SavingsEnumerations.subStatus(SavingsAccountSubStatusEnum.NONE), null, timeline, CURRENCY, BigDecimal.valueOf(7.25),
+                SavingsEnumerations.compoundingInterestPeriodType(compoundingType),
+                SavingsEnumerations.interestPostingPeriodType(postingType), SavingsEnumerations.interestCalculationType(calculationType),
+                SavingsEnumerations.interestCalculationDaysInYearType(SavingsInterestCalculationDaysInYearType.DAYS_365), null, null, null,
+                false, summary, false, null, null, false, null, false, null, null, null, null, false, null, null, false, null, null, null,
+                null);
+        account.setHelpers(new SavingsAccountTransactionDataSummaryWrapper(), savingsHelper);
+
+        // irregular deposits and withdrawals with a gap without any transaction in the middle of the year
+        long transactionId = 1;
+        for (int day = 0; day < 360; day += 3 + day % 7) {
+            if (day >= 150 && day < 190) {
+                continue;
+            }
+            BigDecimal amount = BigDecimal.valueOf(100_00L + day * 37L, 2);
+            addTransaction(account, transactionId++, SavingsAccountTransactionType.DEPOSIT, ACTIVATED_ON.plusDays(day), amount);
+            if (day % 4 == 1) {
+                addTransaction(account, transactionId++, SavingsAccountTransactionType.WITHDRAWAL, ACTIVATED_ON.plusDays(day),
+                        withdrawalAmount);
+            }
+        }
+        return account;
+    }
+
+    private void addTransaction(SavingsAccountData account, long id, SavingsAccountTransactionType type, LocalDate date,
+            BigDecimal amount) {
+        account.setSavingsAccountTransactionData(SavingsAccountTransactionData.create(id, SavingsEnumerations.transactionType(type), null,
+                account.getId(), account.getAccountNo(), date, CURRENCY, amount, null, BigDecimal.ZERO, false, date, false,
+                BigDecimal.ZERO, date));
+    }
+}
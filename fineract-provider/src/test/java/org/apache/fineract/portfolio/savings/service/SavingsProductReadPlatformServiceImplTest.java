@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.apache.fineract.infrastructure.entityaccess.service.FineractEntityAccessUtil;
+import org.apache.fineract.infrastructure.security.exception.NoAuthorizationException;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.data.SavingsProductData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsProductReadPlatformServiceImplTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private FineractEntityAccessUtil fineractEntityAccessUtil;
+    @Mock
+    private CachedSavingsProductReadService cachedSavingsProductReadService;
+
+    @Test
+    void savingsProductIsReadAfterTheUserIsAuthenticated() {
+        SavingsProductData product = mock(SavingsProductData.class);
+        when(cachedSavingsProductReadService.retrieveOne(PRODUCT_ID)).thenReturn(product);
+        SavingsProductReadPlatformServiceImpl underTest = new SavingsProductReadPlatformServiceImpl(context, jdbcTemplate,
+                fineractEntityAccessUtil, cachedSavingsProductReadService);
+
+        assertThat(underTest.retrieveOne(PRODUCT_ID)).isSameAs(product);
+
+        InOrder inOrder = inOrder(context, cachedSavingsProductReadService);
+        inOrder.verify(context).authenticatedUser();
+        inOrder.verify(cachedSavingsProductReadService).retrieveOne(PRODUCT_ID);
+    }
+
+    @Test
+    void savingsProductIsNotReadForUnauthenticatedCallers() {
+        when(context.authenticatedUser()).thenThrow(new NoAuthorizationException("not authenticated"));
+        SavingsProductReadPlatformServiceImpl underTest = new SavingsProductReadPlatformServiceImpl(context, jdbcTemplate,
+                fineractEntityAccessUtil, cachedSavingsProductReadService);
+
+        assertThatThrownBy(() -> underTest.retrieveOne(PRODUCT_ID)).isInstanceOf(NoAuthorizationException.class);
+        verifyNoInteractions(cachedSavingsProductReadService);
+    }
+}
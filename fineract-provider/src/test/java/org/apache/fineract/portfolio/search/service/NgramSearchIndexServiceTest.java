@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class NgramSearchIndexServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FineractProperties.FineractSearchIndexProperties indexProperties;
+    private NgramSearchIndexService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        indexProperties = new FineractProperties.FineractSearchIndexProperties();
+        indexProperties.setEnabled(true);
+        FineractProperties.FineractSearchProperties searchProperties = new FineractProperties.FineractSearchProperties();
+        searchProperties.setIndex(indexProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSearch(searchProperties);
+        underTest = new NgramSearchIndexService(jdbcTemplate, namedParameterJdbcTemplate, sqlGenerator, transactionManager,
+                fineractProperties, Optional.empty());
+    }
+
+    @Test
+    public void testGramsAreLowerCasedAndDistinct() {
+        assertThat(NgramSearchIndexService.grams("AbAbA")).containsExactly("aba", "bab");
+        assertThat(NgramSearchIndexService.grams("ab")).isEmpty();
+        assertThat(NgramSearchIndexService.grams(null)).isEmpty();
+    }
+
+    @Test
+    public void testSupportsOnlyContainsQueriesAnswerableFromGrams() {
+        assertThat(underTest.supports(new SearchConditions("smith", null, false))).isTrue();
+        assertThat(underTest.supports(new SearchConditions("smith", null, true))).isFalse();
+        assertThat(underTest.supports(new SearchConditions("sm", null, false))).isFalse();
+        assertThat(underTest.supports(new SearchConditions("sm%th", null, false))).isFalse();
+        assertThat(underTest.supports(new SearchConditions("sm_th", null, false))).isFalse();
+
+        indexProperties.setEnabled(false);
+        assertThat(underTest.supports(new SearchConditions("smith", null, false))).isFalse();
+    }
+
+    @Test
+    public void testFindCandidateIdsRequiresEveryGramOfTheQuery() {
+        when(sqlGenerator.limit(anyInt())).thenReturn("LIMIT 0,500");
+        when(namedParameterJdbcTemplate.queryForList(anyString(), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(7L, 3L));
+
+        List<Long> candidateIds = underTest.findCandidateIds(SearchIndexEntityType.CLIENT, "Smith", null);
+
+        assertThat(candidateIds).containsExactly(7L, 3L);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).queryForList(anyString(), params.capture(), eq(Long.class));
+        assertThat(params.getValue().getValue("entityType")).isEqualTo("CLIENT");
+        assertThat(params.getValue().getValue("gramCount")).isEqualTo(3);
+        assertThat((Iterable<?>) params.getValue().getValue("grams")).containsExactly("smi", "mit", "ith");
+        verify(sqlGenerator).limit(500);
+    }
+
+    @Test
+    public void testFindCandidateIdsContinuesBelowThePreviousPage() {
+        when(sqlGenerator.limit(anyInt())).thenReturn("LIMIT 0,500");
+        when(namedParameterJdbcTemplate.queryForList(anyString(), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenReturn(List.of(2L));
+
+        underTest.findCandidateIds(SearchIndexEntityType.CLIENT, "Smith", 3L);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).queryForList(sql.capture(), params.capture(), eq(Long.class));
+        assertThat(sql.getValue()).contains("entity_id < :beforeId");
+        assertThat(params.getValue().getValue("beforeId")).isEqualTo(3L);
+    }
+
+    @Test
+    public void testRebuildMarksTheIndexBuilt() {
+        when(sqlGenerator.limit(anyInt())).thenReturn("LIMIT 0,1000");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList("select entity_type from m_search_index_status", String.class)).thenReturn(List.of("CLIENT"));
+
+        underTest.rebuild(SearchIndexEntityType.CLIENT);
+
+        verify(jdbcTemplate).update(eq("delete from m_search_index_status where entity_type = ?"), eq("CLIENT"));
+        verify(jdbcTemplate).update(eq("insert into m_search_index_status (entity_type, built_on) values (?, ?)"), eq("CLIENT"),
+                any(OffsetDateTime.class));
+        assertThat(underTest.getBuiltEntityTypes()).containsExactly(SearchIndexEntityType.CLIENT);
+    }
+}
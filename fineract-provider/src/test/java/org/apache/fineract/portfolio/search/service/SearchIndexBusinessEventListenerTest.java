@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientUpdateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanModifiedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsModifyBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchIndexBusinessEventListenerTest {
+
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Captor
+    private ArgumentCaptor<BusinessEventListener<ClientBusinessEvent>> clientListenerCaptor;
+    @Captor
+    private ArgumentCaptor<BusinessEventListener<LoanModifiedBusinessEvent>> loanListenerCaptor;
+    @Captor
+    private ArgumentCaptor<BusinessEventListener<SavingsModifyBusinessEvent>> savingsListenerCaptor;
+
+    private FineractProperties.FineractSearchIndexProperties indexProperties;
+    private SearchIndexBusinessEventListener underTest;
+
+    @BeforeEach
+    public void setUp() {
+        indexProperties = new FineractProperties.FineractSearchIndexProperties();
+        indexProperties.setEnabled(true);
+        FineractProperties.FineractSearchProperties searchProperties = new FineractProperties.FineractSearchProperties();
+        searchProperties.setIndex(indexProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSearch(searchProperties);
+        underTest = new SearchIndexBusinessEventListener(businessEventNotifierService, searchIndexService, fineractProperties,
+                Optional.empty());
+    }
+
+    @Test
+    public void testRenamedClientIsReindexed() {
+        underTest.addListeners();
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(ClientBusinessEvent.class), clientListenerCaptor.capture());
+        Client client = mock(Client.class);
+        when(client.getId()).thenReturn(3L);
+
+        clientListenerCaptor.getValue().onBusinessEvent(new ClientUpdateBusinessEvent(client));
+
+        verify(searchIndexService).reindex(SearchIndexEntityType.CLIENT, 3L);
+    }
+
+    @Test
+    public void testLoanWithChangedExternalIdIsReindexed() {
+        underTest.addListeners();
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(LoanModifiedBusinessEvent.class),
+                loanListenerCaptor.capture());
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(5L);
+
+        loanListenerCaptor.getValue().onBusinessEvent(new LoanModifiedBusinessEvent(loan));
+
+        verify(searchIndexService).reindex(SearchIndexEntityType.LOAN, 5L);
+    }
+
+    @Test
+    public void testSavingsAccountWithChangedExternalIdIsReindexed() {
+        underTest.addListeners();
+        verify(businessEventNotifierService).addPostBusinessEventListener(eq(SavingsModifyBusinessEvent.class),
+                savingsListenerCaptor.capture());
+        SavingsAccount savingsAccount = mock(SavingsAccount.class);
+        when(savingsAccount.getId()).thenReturn(7L);
+
+        savingsListenerCaptor.getValue().onBusinessEvent(new SavingsModifyBusinessEvent(savingsAccount));
+
+        verify(searchIndexService).reindex(SearchIndexEntityType.SAVING, 7L);
+    }
+
+    @Test
+    public void testNoListenerIsRegisteredWhenTheIndexIsDisabled() {
+        indexProperties.setEnabled(false);
+
+        underTest.addListeners();
+
+        verify(businessEventNotifierService, never()).addPostBusinessEventListener(any(), any());
+    }
+}
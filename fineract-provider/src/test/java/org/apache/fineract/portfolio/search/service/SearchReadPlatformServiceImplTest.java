@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.portfolio.search.data.SearchData;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchReadPlatformServiceImplTest {
+
+    private static final SearchConditions CLIENT_SEARCH = new SearchConditions("smith", "clients", false);
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private LoanProductReadPlatformService loanProductReadPlatformService;
+    @Mock
+    private OfficeReadPlatformService officeReadPlatformService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @InjectMocks
+    private SearchReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        AppUser user = mock(AppUser.class);
+        Office office = mock(Office.class);
+        when(context.authenticatedUser()).thenReturn(user);
+        when(user.getOffice()).thenReturn(office);
+        when(office.getHierarchy()).thenReturn(".");
+    }
+
+    @Test
+    public void testUnbuiltIndexFallsBackToSqlSearch() {
+        SearchData match = mock(SearchData.class);
+        when(searchIndexService.supports(CLIENT_SEARCH)).thenReturn(true);
+        when(searchIndexService.getBuiltEntityTypes()).thenReturn(EnumSet.noneOf(SearchIndexEntityType.class));
+        when(sqlGenerator.limit(anyInt(), anyInt())).thenReturn("LIMIT 50");
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(match));
+
+        Collection<SearchData> result = underTest.retriveMatchingData(CLIENT_SEARCH);
+
+        assertThat(result).containsExactly(match);
+        verify(searchIndexService, never()).findCandidateIds(any(), anyString(), any());
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(namedParameterJdbcTemplate).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertThat(sql.getValue()).doesNotContain("clientCandidateIds");
+    }
+
+    @Test
+    public void testCandidatePagesAreReadUntilACandidateMatches() {
+        SearchData match = mock(SearchData.class);
+        // the first page only holds trigram false positives, the real match is on the second page
+        List<Long> falsePositives = LongStream.rangeClosed(501, 1000).map(id -> 1501 - id).boxed().toList();
+        when(searchIndexService.supports(CLIENT_SEARCH)).thenReturn(true);
+        when(searchIndexService.getBuiltEntityTypes()).thenReturn(EnumSet.allOf(SearchIndexEntityType.class));
+        when(searchIndexService.findCandidateIds(SearchIndexEntityType.CLIENT, "smith", null)).thenReturn(falsePositives);
+        when(searchIndexService.findCandidateIds(SearchIndexEntityType.CLIENT, "smith", 501L)).thenReturn(List.of(3L));
+        when(searchIndexService.findCandidateIds(SearchIndexEntityType.CLIENT, "smith", 3L)).thenReturn(List.of());
+        when(sqlGenerator.limit(anyInt(), anyInt())).thenReturn("LIMIT 50");
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(), List.of(match));
+
+        Collection<SearchData> result = underTest.retriveMatchingData(CLIENT_SEARCH);
+
+        assertThat(result).containsExactly(match);
+        verify(namedParameterJdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+        verify(sqlGenerator, times(2)).limit(eq(50), eq(0));
+    }
+
+    @Test
+    public void testNoSqlSearchWhenTheIndexHasNoCandidate() {
+        when(searchIndexService.supports(CLIENT_SEARCH)).thenReturn(true);
+        when(searchIndexService.getBuiltEntityTypes()).thenReturn(EnumSet.allOf(SearchIndexEntityType.class));
+        when(searchIndexService.findCandidateIds(SearchIndexEntityType.CLIENT, "smith", null)).thenReturn(List.of());
+
+        Collection<SearchData> result = underTest.retriveMatchingData(CLIENT_SEARCH);
+
+        assertThat(result).isEmpty();
+        verify(namedParameterJdbcTemplate, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+}
@@ -91,6 +91,26 @@ public class SearchResourcesTest {
         assertEquals("Client name comparation", getClientResponse.getDisplayName(), searchResponse.get(0).getEntityName());
     }
 
+    @Test
+    public void searchOverClientResourcesAfterExternalIdChange() {
+        final List<String> resources = Arrays.asList("clients");
+
+        final String externalId = Utils.randomStringGenerator("SRCH", 12);
+        final String jsonPayload = ClientHelper.getBasicClientAsJSON(ClientHelper.DEFAULT_OFFICE_ID, ClientHelper.LEGALFORM_ID_PERSON,
+                externalId);
+        ClientHelper.addClientAsPerson(requestSpec, responseSpec, jsonPayload);
+        final String changedExternalId = Utils.randomStringGenerator("SRCH", 12);
+        ClientHelper.updateClient(requestSpec, responseSpec, externalId, "{\"externalId\": \"" + changedExternalId + "\"}");
+
+        final ArrayList<GetSearchResponse> changedSearchResponse = SearchHelper.getSearch(requestSpec, responseSpec, changedExternalId,
+                Boolean.FALSE, getResources(resources));
+        assertEquals(1, changedSearchResponse.size());
+        assertEquals(changedExternalId, changedSearchResponse.get(0).getEntityExternalId());
+        final ArrayList<GetSearchResponse> previousSearchResponse = SearchHelper.getSearch(requestSpec, responseSpec, externalId,
+                Boolean.FALSE, getResources(resources));
+        assertEquals(0, previousSearchResponse.size());
+    }
+
     @Test
     public void searchAnyValueOverLoanResources() {
         final List<String> resources = Arrays.asList("loans");
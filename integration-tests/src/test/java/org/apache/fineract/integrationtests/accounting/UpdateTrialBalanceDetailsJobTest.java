@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.integrationtests.accounting;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import java.time.LocalDate;
+import org.apache.fineract.integrationtests.common.OfficeHelper;
+import org.apache.fineract.integrationtests.common.SchedulerJobHelper;
+import org.apache.fineract.integrationtests.common.Utils;
+import org.apache.fineract.integrationtests.common.accounting.Account;
+import org.apache.fineract.integrationtests.common.accounting.AccountHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UpdateTrialBalanceDetailsJobTest {
+
+    private static final String JOB_NAME = "Update Trial Balance Details";
+    private static final String JOURNAL_ENTRIES_URL = "/fineract-provider/api/v1/journalentries?" + Utils.TENANT_IDENTIFIER;
+
+    private ResponseSpecification responseSpec;
+    private RequestSpecification requestSpec;
+
+    private AccountHelper accountHelper;
+    private OfficeHelper officeHelper;
+    private SchedulerJobHelper schedulerJobHelper;
+
+    @BeforeEach
+    public void setup() {
+        Utils.initializeRESTAssured();
+
+        requestSpec = new RequestSpecBuilder().setContentType(ContentType.JSON).build();
+        requestSpec.header("Authorization", "Basic " + Utils.loginIntoServerAndGetBase64EncodedAuthenticationKey());
+        responseSpec = new ResponseSpecBuilder().expectStatusCode(200).build();
+
+        accountHelper = new AccountHelper(requestSpec, responseSpec);
+        officeHelper = new OfficeHelper(requestSpec, responseSpec);
+        schedulerJobHelper = new SchedulerJobHelper(requestSpec);
+    }
+
+    @Test
+    public void testTrialBalanceIsUpdatedOnTopOfThePreviousRun() {
+        // given a new office, so the job has pending transactions regardless of earlier runs
+        final LocalDate today = Utils.getLocalDateOfTenant();
+        final Integer officeId = officeHelper.createOffice(Utils.dateFormatter.format(today.minusDays(10)));
+        final Account cash = accountHelper.createAssetAccount();
+        final Account income = accountHelper.createIncomeAccount();
+        createJournalEntry(officeId, today.minusDays(3), cash, income, "100");
+
+        // when the office has no trial balance rows yet
+        schedulerJobHelper.executeAndAwaitJob(JOB_NAME);
+
+        // then the next run starts from the closing balances of the first one
+        createJournalEntry(officeId, today.minusDays(2), cash, income, "25");
+        schedulerJobHelper.executeAndAwaitJob(JOB_NAME);
+    }
+
+    private void createJournalEntry(Integer officeId, LocalDate transactionDate, Account debit, Account credit, String amount) {
+        final String json = """
+                {"officeId": %d, "transactionDate": "%s", "dateFormat": "%s", "locale": "en", "currencyCode": "USD",
+                 "debits": [{"glAccountId": %d, "amount": %s}], "credits": [{"glAccountId": %d, "amount": %s}]}
+                """.formatted(officeId, Utils.dateFormatter.format(transactionDate), Utils.DATE_FORMAT, debit.getAccountID(), amount,
+                credit.getAccountID(), amount);
+        Utils.performServerPost(requestSpec, responseSpec, JOURNAL_ENTRIES_URL, json);
+    }
+}